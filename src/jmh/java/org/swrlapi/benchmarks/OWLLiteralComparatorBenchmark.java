@@ -0,0 +1,66 @@
+package org.swrlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.swrlapi.literal.OWLLiteralComparator;
+import org.swrlapi.test.SyntheticWorkloadGenerator;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to sort literals of one datatype with {@link OWLLiteralComparator}.
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MICROSECONDS) @Fork(1)
+@Warmup(iterations = 5) @Measurement(iterations = 10)
+public class OWLLiteralComparatorBenchmark
+{
+  private static final int NUMBER_OF_LITERALS = 10000;
+
+  @Param({ "int", "double", "string" }) private String datatype;
+
+  private OWLLiteral[] literals;
+
+  @Setup public void setUp()
+  {
+    OWLDataFactory dataFactory = OWLManager.getOWLDataFactory();
+    Random random = new Random(SyntheticWorkloadGenerator.DEFAULT_SEED);
+
+    this.literals = new OWLLiteral[NUMBER_OF_LITERALS];
+
+    for (int i = 0; i < NUMBER_OF_LITERALS; i++) {
+      switch (this.datatype) {
+      case "int":
+        this.literals[i] = dataFactory.getOWLLiteral(random.nextInt());
+        break;
+      case "double":
+        this.literals[i] = dataFactory.getOWLLiteral(random.nextDouble());
+        break;
+      default:
+        this.literals[i] = dataFactory.getOWLLiteral("s" + random.nextInt(NUMBER_OF_LITERALS));
+      }
+    }
+  }
+
+  @Benchmark public OWLLiteral[] sort()
+  {
+    OWLLiteral[] sortedLiterals = Arrays.copyOf(this.literals, this.literals.length);
+
+    Arrays.sort(sortedLiterals, OWLLiteralComparator.COMPARATOR);
+
+    return sortedLiterals;
+  }
+}
@@ -0,0 +1,53 @@
+package org.swrlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.test.SyntheticWorkloadGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to reprocess an ontology of generated assertions, rules and queries with
+ * {@link SWRLAPIOWLOntology#processOntology()}.
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g") @Warmup(iterations = 3) @Measurement(iterations = 5)
+public class ProcessOntologyBenchmark
+{
+  private static final int NUMBER_OF_RULES = 100;
+  private static final int NUMBER_OF_QUERIES = 20;
+
+  @Param({ "10000", "100000", "1000000" }) private int numberOfAxioms;
+
+  private SWRLAPIOWLOntology swrlapiOWLOntology;
+
+  @Setup public void setUp() throws OWLOntologyCreationException, SQWRLException, SWRLParseException
+  {
+    // Each individual has a declaration, a class assertion, an object property assertion and a data property assertion
+    SyntheticWorkloadGenerator.Parameters parameters = new SyntheticWorkloadGenerator.Parameters()
+      .setNumberOfIndividuals(Math.max(1, this.numberOfAxioms / 4)).setNumberOfRules(NUMBER_OF_RULES)
+      .setNumberOfQueries(NUMBER_OF_QUERIES);
+
+    this.swrlapiOWLOntology = new SyntheticWorkloadGenerator(parameters).createSWRLAPIOWLOntology();
+  }
+
+  @Benchmark public SWRLAPIOWLOntology processOntology() throws SQWRLException
+  {
+    this.swrlapiOWLOntology.processOntology();
+
+    return this.swrlapiOWLOntology;
+  }
+}
@@ -0,0 +1,91 @@
+package org.swrlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.swrlapi.core.IRIResolver;
+import org.swrlapi.factory.SQWRLResultValueFactory;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.sqwrl.SQWRLNames;
+import org.swrlapi.sqwrl.SQWRLResultManager;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.sqwrl.values.SQWRLResultValue;
+import org.swrlapi.test.SyntheticWorkloadGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for {@link SQWRLResultManager#prepared()} to apply the distinct, aggregate, or order by operator to a result of
+ * generated rows. A new result is filled before each invocation.
+ */
+@State(Scope.Thread) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.MILLISECONDS) @Fork(1)
+@Warmup(iterations = 5) @Measurement(iterations = 10)
+public class SQWRLResultBenchmark
+{
+  private static final int NUMBER_OF_DISTINCT_VALUES = 1000;
+
+  @Param({ "distinct", "aggregate", "orderBy" }) private String operator;
+
+  @Param({ "10000", "100000" }) private int numberOfRows;
+
+  private List<List<SQWRLResultValue>> rows;
+  private IRIResolver iriResolver;
+  private SQWRLResultManager resultManager;
+
+  @Setup(Level.Trial) public void generateRows()
+  {
+    this.iriResolver = SWRLAPIFactory.createIRIResolver();
+
+    SQWRLResultValueFactory valueFactory = SWRLAPIFactory.createSQWRLResultValueFactory(this.iriResolver);
+    Random random = new Random(SyntheticWorkloadGenerator.DEFAULT_SEED);
+
+    this.rows = new ArrayList<>(this.numberOfRows);
+
+    for (int i = 0; i < this.numberOfRows; i++)
+      this.rows.add(Arrays.asList(valueFactory.getLiteralValue("s" + random.nextInt(NUMBER_OF_DISTINCT_VALUES)),
+        valueFactory.getLiteralValue(random.nextInt(NUMBER_OF_DISTINCT_VALUES))));
+  }
+
+  @Setup(Level.Invocation) public void fillResult() throws SQWRLException
+  {
+    this.resultManager = SWRLAPIFactory.createSQWRLResultManager(this.iriResolver);
+
+    this.resultManager.addColumn("s");
+    switch (this.operator) {
+    case "distinct":
+      this.resultManager.addColumn("i");
+      this.resultManager.setIsDistinct();
+      break;
+    case "aggregate":
+      this.resultManager.addAggregateColumn("i", SQWRLNames.MaxAggregateFunction);
+      break;
+    default:
+      this.resultManager.addColumn("i");
+      this.resultManager.setOrderByColumn(1, true);
+    }
+    this.resultManager.configured();
+
+    for (List<SQWRLResultValue> row : this.rows)
+      this.resultManager.addRow(row);
+  }
+
+  @Benchmark public SQWRLResultManager prepared() throws SQWRLException
+  {
+    this.resultManager.prepared();
+
+    return this.resultManager;
+  }
+}
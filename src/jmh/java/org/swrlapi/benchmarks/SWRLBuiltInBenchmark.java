@@ -0,0 +1,88 @@
+package org.swrlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.bridge.SWRLBridge;
+import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.exceptions.SWRLBuiltInBridgeException;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.factory.SWRLBuiltInArgumentFactory;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.test.SyntheticWorkloadGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per invocation of a swrlb built-in through the bridge and
+ * {@link org.swrlapi.builtins.SWRLBuiltInLibraryManager}. All arguments are bound, so each invocation evaluates to true
+ * without binding results.
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.NANOSECONDS) @Fork(1)
+@Warmup(iterations = 5) @Measurement(iterations = 10)
+public class SWRLBuiltInBenchmark
+{
+  @Param({ "swrlb:lessThan", "swrlb:add", "swrlb:multiply", "swrlb:stringConcat", "swrlb:upperCase",
+    "swrlb:matches" }) private String builtInName;
+
+  private SWRLBridge bridge;
+  private List<SWRLBuiltInArgument> arguments;
+
+  @Setup public void setUp() throws OWLOntologyCreationException, SQWRLException, SWRLBuiltInBridgeException
+  {
+    OWLOntology ontology = new SyntheticWorkloadGenerator(
+      new SyntheticWorkloadGenerator.Parameters().setNumberOfIndividuals(1)).createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+    SWRLBuiltInArgumentFactory argumentFactory = swrlapiOWLOntology.getSWRLAPIOWLDataFactory()
+      .getSWRLBuiltInArgumentFactory();
+
+    this.bridge = SWRLAPIFactory
+      .createSWRLBridge(swrlapiOWLOntology, SWRLAPIFactory.createOWL2RLPersistenceLayer(ontology));
+
+    switch (this.builtInName) {
+    case "swrlb:lessThan":
+      this.arguments = Arrays.asList(argumentFactory.getLiteralBuiltInArgument(1),
+        argumentFactory.getLiteralBuiltInArgument(2));
+      break;
+    case "swrlb:add":
+      this.arguments = Arrays.asList(argumentFactory.getLiteralBuiltInArgument(3),
+        argumentFactory.getLiteralBuiltInArgument(1), argumentFactory.getLiteralBuiltInArgument(2));
+      break;
+    case "swrlb:multiply":
+      this.arguments = Arrays.asList(argumentFactory.getLiteralBuiltInArgument(6.0),
+        argumentFactory.getLiteralBuiltInArgument(2.0), argumentFactory.getLiteralBuiltInArgument(3.0));
+      break;
+    case "swrlb:stringConcat":
+      this.arguments = Arrays.asList(argumentFactory.getLiteralBuiltInArgument("abcdef"),
+        argumentFactory.getLiteralBuiltInArgument("abc"), argumentFactory.getLiteralBuiltInArgument("def"));
+      break;
+    case "swrlb:upperCase":
+      this.arguments = Arrays.asList(argumentFactory.getLiteralBuiltInArgument("ABCDEF"),
+        argumentFactory.getLiteralBuiltInArgument("abcdef"));
+      break;
+    default:
+      this.arguments = Arrays.asList(argumentFactory.getLiteralBuiltInArgument("abcdef"),
+        argumentFactory.getLiteralBuiltInArgument("a.c.*"));
+    }
+  }
+
+  @Benchmark public List<List<SWRLBuiltInArgument>> invokeSWRLBuiltIn() throws SWRLBuiltInException
+  {
+    return this.bridge.invokeSWRLBuiltIn("r", this.builtInName, 0, false, new ArrayList<>(this.arguments));
+  }
+}
@@ -0,0 +1,57 @@
+package org.swrlapi.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.parser.SWRLParser;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.test.SyntheticWorkloadGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link SWRLParser#parseSWRLRule(String, boolean, String, String)} over a fixed set of generated rules.
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.Throughput) @OutputTimeUnit(TimeUnit.SECONDS) @Fork(1)
+@Warmup(iterations = 5) @Measurement(iterations = 10)
+public class SWRLParserBenchmark
+{
+  private static final int NUMBER_OF_RULES = 1000;
+
+  private SWRLParser parser;
+  private List<String> ruleTexts;
+
+  @Setup public void setUp() throws OWLOntologyCreationException, SQWRLException
+  {
+    SyntheticWorkloadGenerator generator = new SyntheticWorkloadGenerator(
+      new SyntheticWorkloadGenerator.Parameters().setNumberOfIndividuals(1).setNumberOfRules(NUMBER_OF_RULES));
+
+    this.parser = SWRLAPIFactory.createSWRLAPIOntology(generator.createOntology()).createSWRLParser();
+    this.ruleTexts = new ArrayList<>(generator.createSWRLRules().values());
+  }
+
+  @Benchmark public void parseSWRLRule(Blackhole blackhole) throws SWRLParseException
+  {
+    for (String ruleText : this.ruleTexts)
+      blackhole.consume(this.parser.parseSWRLRule(ruleText, false, "r", ""));
+  }
+
+  @Benchmark public void parseSWRLRuleInteractively(Blackhole blackhole) throws SWRLParseException
+  {
+    for (String ruleText : this.ruleTexts)
+      blackhole.consume(this.parser.parseSWRLRule(ruleText, true, "r", ""));
+  }
+}
@@ -3,7 +3,9 @@ package org.swrlapi.bridge;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
+import org.swrlapi.builtins.temporal.ValidPeriodIndex;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLObjectDictionary;
 import org.swrlapi.core.OWLObjectResolver;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 import org.swrlapi.exceptions.SWRLRuleEngineBridgeException;
@@ -102,6 +104,14 @@ public interface SWRLRuleEngineBridge
    */
   @NonNull OWLObjectResolver getOWLObjectResolver();
 
+  /**
+   * An OWL object dictionary can be used by a target rule engine to refer to entities and literals by integer
+   * identifiers.
+   *
+   * @return An OWL object dictionary
+   */
+  @NonNull OWLObjectDictionary getOWLObjectDictionary();
+
   /**
    * Get the underlying persistence layer for the OWL 2 RL reasoner used by the rule and query engine.
    *
@@ -109,6 +119,14 @@ public interface SWRLRuleEngineBridge
    */
   @NonNull OWL2RLPersistenceLayer getOWL2RLPersistenceLayer();
 
+  /**
+   * A target rule engine can use the valid period index to generate candidate argument pairs for temporal built-ins
+   * relating two unbound period variables using an interval join instead of invoking the built-in on every pair.
+   *
+   * @return An index over the valid times asserted in the active ontology
+   */
+  @NonNull ValidPeriodIndex getValidPeriodIndex();
+
   /**
    * See if the active ontology has changed since last execution.
    *
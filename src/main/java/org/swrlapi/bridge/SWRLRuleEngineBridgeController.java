@@ -2,7 +2,9 @@ package org.swrlapi.bridge;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.swrlapi.core.SWRLRuleStatistics;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -23,4 +25,10 @@ public interface SWRLRuleEngineBridgeController
    * @return A set of inferred OWL axioms
    */
   @NonNull Set<@NonNull OWLAxiom> getInferredOWLAxioms();
+
+  /**
+   * @return Statistics for each rule that invoked a built-in since the bridge was last reset, in decreasing order of
+   * time spent in built-ins
+   */
+  @NonNull List<@NonNull SWRLRuleStatistics> getSWRLRuleStatistics();
 }
@@ -2,14 +2,17 @@ package org.swrlapi.bridge.converters;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLLiteral;
 import org.swrlapi.bridge.SWRLRuleEngineBridge;
+import org.swrlapi.core.OWLObjectDictionary;
 import org.swrlapi.core.OWLObjectResolver;
 
 import java.util.Optional;
 
 /**
  * This interface provides gives target rule engines access to {@link OWLObjectResolver} and the ability to resolve an
- * IRI to a prefixed name.
+ * IRI to a prefixed name. It also gives access to the integer identifiers of IRIs and literals in the
+ * {@link OWLObjectDictionary}.
  */
 public abstract class TargetRuleEngineConverterBase implements TargetRuleEngineConverter
 {
@@ -30,6 +33,21 @@ public abstract class TargetRuleEngineConverterBase implements TargetRuleEngineC
       throw new IllegalArgumentException("could not get prefixed name for IRI " + iri);
   }
 
+  protected int iri2ID(@NonNull IRI iri)
+  {
+    return getOWLObjectDictionary().getID(iri);
+  }
+
+  protected int literal2ID(@NonNull OWLLiteral literal)
+  {
+    return getOWLObjectDictionary().getID(literal);
+  }
+
+  @NonNull protected OWLObjectDictionary getOWLObjectDictionary()
+  {
+    return this.bridge.getOWLObjectDictionary();
+  }
+
   @NonNull protected OWLObjectResolver getOWLObjectResolver()
   {
     return this.bridge.getOWLObjectResolver();
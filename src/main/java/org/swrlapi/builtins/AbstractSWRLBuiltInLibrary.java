@@ -20,6 +20,7 @@ import org.swrlapi.builtins.arguments.SWRLDataPropertyBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLDatatypeBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLLiteralBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLMultiValueVariableBuiltInArgument;
+import org.swrlapi.builtins.arguments.SWRLNamedBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLNamedIndividualBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLObjectPropertyBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLPropertyBuiltInArgument;
@@ -47,9 +48,10 @@ import java.math.BigInteger;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A class that must be subclassed by a class implementing a library of SWRL built-in methods.
@@ -76,8 +78,8 @@ public abstract class AbstractSWRLBuiltInLibrary
   // from within a built-in; the invokingBridge method is valid only in built-ins and in the reset method.
   @Nullable private SWRLBuiltInBridge invokingBridge;
   @NonNull private String invokingRuleName = "";
-  @NonNull private Long invocationPatternID;
-  @NonNull private Map<@NonNull String, @NonNull Long> invocationPatternMap;
+  @NonNull private AtomicLong invocationPatternID;
+  @NonNull private ConcurrentMap<@NonNull SWRLBuiltInInvocationPattern, @NonNull Long> invocationPatternMap;
 
   private int invokingBuiltInIndex = -1;
   private boolean isInConsequent = false;
@@ -86,8 +88,8 @@ public abstract class AbstractSWRLBuiltInLibrary
   {
     this.invokingBridge = null;
     this.libraryName = libraryName;
-    this.invocationPatternID = 0L;
-    this.invocationPatternMap = new HashMap<>();
+    this.invocationPatternID = new AtomicLong();
+    this.invocationPatternMap = new ConcurrentHashMap<>();
   }
 
   @NonNull @Override public String getLibraryName()
@@ -162,8 +164,8 @@ public abstract class AbstractSWRLBuiltInLibrary
 
       reset();
 
-      this.invocationPatternID = 0L;
-      this.invocationPatternMap = new HashMap<>();
+      this.invocationPatternID = new AtomicLong();
+      this.invocationPatternMap = new ConcurrentHashMap<>();
 
       this.invokingBridge = null;
     }
@@ -218,27 +220,29 @@ public abstract class AbstractSWRLBuiltInLibrary
 
   /**
    * Create a string that represents a key of a unique invocation pattern for a built-in for a
-   * bridge/rule/built-in/arguments combination.
+   * bridge/rule/built-in/arguments combination. The string is a number allocated to each distinct invocation pattern.
    */
   @NonNull @Override public String createInvocationPattern(@NonNull SWRLBuiltInBridge bridge, @NonNull String ruleName,
     int builtInIndex, boolean inConsequent, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
     throws SWRLBuiltInException
   {
-    String pattern = "" + bridge.hashCode() + "." + ruleName + "." + builtInIndex + "." + inConsequent;
-    String result;
+    SWRLBuiltInInvocationPattern pattern = getInvocationPattern(bridge, ruleName, builtInIndex, inConsequent,
+      arguments);
+    AtomicLong patternIDs = this.invocationPatternID;
 
-    for (int i = 0; i < arguments.size(); i++)
-      pattern += "." + getArgumentAsAPropertyValue(i, arguments);
+    return this.invocationPatternMap.computeIfAbsent(pattern, p -> patternIDs.getAndIncrement()).toString();
+  }
 
-    if (this.invocationPatternMap.containsKey(pattern))
-      result = this.invocationPatternMap.get(pattern).toString();
-    else {
-      this.invocationPatternMap.put(pattern, this.invocationPatternID);
-      result = this.invocationPatternID.toString();
-      this.invocationPatternID++;
-    }
+  @NonNull @Override public SWRLBuiltInInvocationPattern getInvocationPattern(@NonNull SWRLBuiltInBridge bridge,
+    @NonNull String ruleName, int builtInIndex, boolean inConsequent,
+    @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
+  {
+    Object[] argumentIdentities = new Object[arguments.size()];
 
-    return result;
+    for (int argumentNumber = 0; argumentNumber < arguments.size(); argumentNumber++)
+      argumentIdentities[argumentNumber] = getArgumentIdentity(argumentNumber, arguments);
+
+    return new SWRLBuiltInInvocationPattern(bridge, ruleName, builtInIndex, inConsequent, argumentIdentities);
   }
 
   @NonNull @Override public IRI createIRI(@NonNull String fullName) throws SWRLBuiltInException
@@ -1358,6 +1362,24 @@ public abstract class AbstractSWRLBuiltInLibrary
       throw new SWRLBuiltInException("argument " + argument + " of unknown type " + argument.getClass());
   }
 
+  /**
+   * Named arguments are identified by their IRI and literal arguments by their OWL literal.
+   */
+  @NonNull private Object getArgumentIdentity(int argumentNumber, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
+    throws SWRLBuiltInException
+  {
+    checkThatArgumentIsBound(argumentNumber, arguments);
+
+    SWRLBuiltInArgument argument = arguments.get(argumentNumber);
+
+    if (argument instanceof SWRLNamedBuiltInArgument)
+      return ((SWRLNamedBuiltInArgument)argument).getIRI();
+    else if (argument instanceof SWRLLiteralBuiltInArgument)
+      return ((SWRLLiteralBuiltInArgument)argument).getLiteral();
+    else
+      throw new SWRLBuiltInException("argument " + argument + " of unknown type " + argument.getClass());
+  }
+
   @Override public void checkForUnboundArguments(@NonNull String ruleName, @NonNull String builtInName,
     @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
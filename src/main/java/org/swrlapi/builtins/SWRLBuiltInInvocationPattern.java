@@ -0,0 +1,88 @@
+package org.swrlapi.builtins;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.dataflow.qual.SideEffectFree;
+
+import java.util.Arrays;
+
+/**
+ * An immutable key that identifies an invocation of a built-in by its bridge, rule, position in the rule and the
+ * identities of its arguments. Classes, properties and individuals are identified by their IRI and literals by their
+ * OWL literal. The hash code is computed once on creation so that invocation patterns can be used cheaply as keys in
+ * hash maps by built-ins that memoize their results.
+ *
+ * @see org.swrlapi.builtins.SWRLBuiltInLibrary#getInvocationPattern(SWRLBuiltInBridge, String, int, boolean,
+ * java.util.List)
+ */
+public final class SWRLBuiltInInvocationPattern
+{
+  @NonNull private final SWRLBuiltInBridge bridge;
+  @NonNull private final String ruleName;
+  private final int builtInIndex;
+  private final boolean inConsequent;
+  @NonNull private final Object @NonNull [] argumentIdentities;
+  private final int hashCode;
+
+  public SWRLBuiltInInvocationPattern(@NonNull SWRLBuiltInBridge bridge, @NonNull String ruleName, int builtInIndex,
+    boolean inConsequent, @NonNull Object @NonNull [] argumentIdentities)
+  {
+    this.bridge = bridge;
+    this.ruleName = ruleName;
+    this.builtInIndex = builtInIndex;
+    this.inConsequent = inConsequent;
+    this.argumentIdentities = argumentIdentities.clone();
+
+    int result = System.identityHashCode(bridge);
+    result = 31 * result + ruleName.hashCode();
+    result = 31 * result + builtInIndex;
+    result = 31 * result + (inConsequent ? 1 : 0);
+    result = 31 * result + Arrays.hashCode(this.argumentIdentities);
+    this.hashCode = result;
+  }
+
+  @NonNull public String getRuleName()
+  {
+    return this.ruleName;
+  }
+
+  public int getBuiltInIndex()
+  {
+    return this.builtInIndex;
+  }
+
+  public boolean isInConsequent()
+  {
+    return this.inConsequent;
+  }
+
+  public int getNumberOfArguments()
+  {
+    return this.argumentIdentities.length;
+  }
+
+  @Override public boolean equals(@Nullable Object o)
+  {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+
+    SWRLBuiltInInvocationPattern that = (SWRLBuiltInInvocationPattern)o;
+
+    return this.hashCode == that.hashCode && this.bridge == that.bridge && this.builtInIndex == that.builtInIndex
+      && this.inConsequent == that.inConsequent && this.ruleName.equals(that.ruleName) && Arrays
+      .equals(this.argumentIdentities, that.argumentIdentities);
+  }
+
+  @Override public int hashCode()
+  {
+    return this.hashCode;
+  }
+
+  @SideEffectFree @NonNull @Override public String toString()
+  {
+    return this.ruleName + "." + this.builtInIndex + "." + this.inConsequent + Arrays
+      .toString(this.argumentIdentities);
+  }
+}
@@ -67,6 +67,22 @@ public interface SWRLBuiltInLibrary extends SWRLBuiltInContext
       int invokingBuiltInIndex, boolean isInConsequent, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
       throws SWRLBuiltInException;
 
+  /**
+   * Get a key that identifies an invocation pattern for a built-in for a bridge/rule/built-in/arguments combination.
+   * Built-ins that memoize results per invocation pattern can use the key directly in a hash map.
+   *
+   * @param invokingBridge       The built-in bridge invoking the built-in
+   * @param invokingRuleName     The name of the rule invoking the built-in
+   * @param invokingBuiltInIndex The 0-based index of the built-in in the rule
+   * @param isInConsequent       Is the built-in in the rule consequent
+   * @param arguments            The arguments to the built-in
+   * @return The invocation pattern
+   * @throws SWRLBuiltInException If the parameters are invalid
+   */
+  @NonNull SWRLBuiltInInvocationPattern getInvocationPattern(@NonNull SWRLBuiltInBridge invokingBridge,
+      @NonNull String invokingRuleName, int invokingBuiltInIndex, boolean isInConsequent,
+      @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException;
+
   /**
    * @return A SQWRL result value factory
    * @throws SWRLBuiltInLibraryException If an error occurs during factory retrieval
@@ -52,6 +52,8 @@ public class SWRLBuiltInLibraryManager
    * combination of arguments that evaluates to true.
    * <p>
    * If the built-in evaluates to false, it will return an empty argument pattern list.
+   * <p>
+   * The duration of each invocation is reported to the instrumentation of the bridge's ontology.
    *
    * @param bridge         The built-in bridge
    * @param ruleName       The name of the invoking rule
@@ -65,6 +67,20 @@ public class SWRLBuiltInLibraryManager
   @NonNull public List<@NonNull List<@NonNull SWRLBuiltInArgument>> invokeSWRLBuiltIn(@NonNull SWRLBuiltInBridge bridge,
       @NonNull String ruleName, @NonNull String builtInName, int builtInIndex, boolean isInConsequent,
       @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
+  {
+    long startTime = System.nanoTime();
+
+    try {
+      return invokeSWRLBuiltInImpl(bridge, ruleName, builtInName, builtInIndex, isInConsequent, arguments);
+    } finally {
+      bridge.getSWRLAPIOWLOntology().getInstrumentation()
+          .swrlBuiltInInvoked(builtInName, System.nanoTime() - startTime);
+    }
+  }
+
+  @NonNull private List<@NonNull List<@NonNull SWRLBuiltInArgument>> invokeSWRLBuiltInImpl(
+      @NonNull SWRLBuiltInBridge bridge, @NonNull String ruleName, @NonNull String builtInName, int builtInIndex,
+      boolean isInConsequent, @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
     String prefix = getPrefix(builtInName);
     String implementationClassName = getBuiltInLibraryImplementationClassName(prefix);
@@ -9,4 +9,11 @@ import org.semanticweb.owlapi.model.SWRLLiteralArgument;
  */
 public interface SWRLLiteralBuiltInArgument extends SWRLBuiltInArgument, SWRLLiteralArgument
 {
+  /**
+   * Identifiers of literals created during rule execution are assigned only when this method is called.
+   *
+   * @return The identifier of the literal in the ontology's {@link org.swrlapi.core.OWLObjectDictionary}, or
+   * {@link org.swrlapi.core.OWLObjectDictionary#UNKNOWN_ID} if the argument was deserialized
+   */
+  int getID();
 }
\ No newline at end of file
@@ -20,4 +20,10 @@ public interface SWRLNamedBuiltInArgument extends SWRLBuiltInArgument, SWRLVaria
 {
   @NonNull @Override
   IRI getIRI();
+
+  /**
+   * @return The identifier of the entity's IRI in the ontology's {@link org.swrlapi.core.OWLObjectDictionary}, or
+   * {@link org.swrlapi.core.OWLObjectDictionary#UNKNOWN_ID} if the argument was deserialized
+   */
+  int getID();
 }
@@ -0,0 +1,64 @@
+package org.swrlapi.builtins.swrlb;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Binary arithmetic operations on the exact <code>xsd:decimal</code> values used by the swrlb math built-ins. Integer
+ * operands of {@link #DIVIDE} and floating point operands of {@link #INTEGER_DIVIDE} are computed with this type.
+ * Divisors are checked for zero by the caller.
+ *
+ * @see org.swrlapi.builtins.swrlb.IntegerOperation
+ */
+enum DecimalOperation
+{
+  ADD {
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a, @NonNull BigDecimal b) { return a.add(b); }
+  },
+
+  SUBTRACT {
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a, @NonNull BigDecimal b) { return a.subtract(b); }
+  },
+
+  MULTIPLY {
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a, @NonNull BigDecimal b) { return a.multiply(b); }
+  },
+
+  DIVIDE {
+    @Override boolean hasDivisor() { return true; }
+
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a, @NonNull BigDecimal b)
+    {
+      return a.divide(b, MathContext.DECIMAL128).stripTrailingZeros();
+    }
+  },
+
+  // Integer division truncates towards zero and produces an integral value
+  INTEGER_DIVIDE {
+    @Override boolean hasDivisor() { return true; }
+
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a, @NonNull BigDecimal b)
+    {
+      return a.divideToIntegralValue(b);
+    }
+  },
+
+  // The sign of the result is the sign of the dividend
+  MOD {
+    @Override boolean hasDivisor() { return true; }
+
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a, @NonNull BigDecimal b) { return a.remainder(b); }
+  };
+
+  /**
+   * @return True if the second operand is a divisor, which must be non zero
+   */
+  boolean hasDivisor()
+  {
+    return false;
+  }
+
+  @NonNull abstract BigDecimal apply(@NonNull BigDecimal a, @NonNull BigDecimal b);
+}
@@ -0,0 +1,45 @@
+package org.swrlapi.builtins.swrlb;
+
+/**
+ * Binary arithmetic operations on the <code>xsd:float</code> and <code>xsd:double</code> values used by the swrlb math
+ * built-ins. These follow IEEE 754 semantics, so division by zero produces an infinity or NaN rather than an error.
+ *
+ * @see org.swrlapi.builtins.swrlb.IntegerOperation
+ */
+enum FloatingPointOperation
+{
+  ADD {
+    @Override float apply(float a, float b) { return a + b; }
+
+    @Override double apply(double a, double b) { return a + b; }
+  },
+
+  SUBTRACT {
+    @Override float apply(float a, float b) { return a - b; }
+
+    @Override double apply(double a, double b) { return a - b; }
+  },
+
+  MULTIPLY {
+    @Override float apply(float a, float b) { return a * b; }
+
+    @Override double apply(double a, double b) { return a * b; }
+  },
+
+  DIVIDE {
+    @Override float apply(float a, float b) { return a / b; }
+
+    @Override double apply(double a, double b) { return a / b; }
+  },
+
+  // The sign of the result is the sign of the dividend
+  MOD {
+    @Override float apply(float a, float b) { return a % b; }
+
+    @Override double apply(double a, double b) { return a % b; }
+  };
+
+  abstract float apply(float a, float b);
+
+  abstract double apply(double a, double b);
+}
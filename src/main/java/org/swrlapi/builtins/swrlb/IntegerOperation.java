@@ -0,0 +1,68 @@
+package org.swrlapi.builtins.swrlb;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigInteger;
+
+/**
+ * Binary arithmetic operations on the integral types used by the swrlb math built-ins. The <code>long</code>
+ * implementations throw an {@link java.lang.ArithmeticException} on overflow so that the caller can repeat the
+ * operation with <code>BigInteger</code> operands. Divisors are checked for zero by the caller.
+ *
+ * @see org.swrlapi.builtins.swrlb.NumericType#isIntegral()
+ */
+enum IntegerOperation
+{
+  ADD {
+    @Override long apply(long a, long b) { return Math.addExact(a, b); }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a, @NonNull BigInteger b) { return a.add(b); }
+  },
+
+  SUBTRACT {
+    @Override long apply(long a, long b) { return Math.subtractExact(a, b); }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a, @NonNull BigInteger b) { return a.subtract(b); }
+  },
+
+  MULTIPLY {
+    @Override long apply(long a, long b) { return Math.multiplyExact(a, b); }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a, @NonNull BigInteger b) { return a.multiply(b); }
+  },
+
+  // Integer division truncates towards zero
+  INTEGER_DIVIDE {
+    @Override boolean hasDivisor() { return true; }
+
+    @Override long apply(long a, long b)
+    {
+      if (a == Long.MIN_VALUE && b == -1)
+        throw new ArithmeticException("long overflow");
+      return a / b;
+    }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a, @NonNull BigInteger b) { return a.divide(b); }
+  },
+
+  // The sign of the result is the sign of the dividend
+  MOD {
+    @Override boolean hasDivisor() { return true; }
+
+    @Override long apply(long a, long b) { return a % b; }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a, @NonNull BigInteger b) { return a.remainder(b); }
+  };
+
+  /**
+   * @return True if the second operand is a divisor, which must be non zero
+   */
+  boolean hasDivisor()
+  {
+    return false;
+  }
+
+  abstract long apply(long a, long b);
+
+  @NonNull abstract BigInteger apply(@NonNull BigInteger a, @NonNull BigInteger b);
+}
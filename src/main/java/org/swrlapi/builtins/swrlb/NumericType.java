@@ -0,0 +1,138 @@
+package org.swrlapi.builtins.swrlb;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.vocab.XSDVocabulary;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The numeric types used by the swrlb math built-ins, ordered from narrowest to widest. The type of an operation is the
+ * widest type of its operands, following XPath numeric type promotion; the types up to and including
+ * {@link #DECIMAL} are exact.
+ * <p>
+ * The derived XML Schema integer types are mapped to the narrowest of these types that can hold all their values.
+ *
+ * @see org.swrlapi.builtins.swrlb.IntegerOperation
+ */
+enum NumericType
+{
+  BYTE, SHORT, INT, LONG, INTEGER, DECIMAL, FLOAT, DOUBLE;
+
+  @NonNull private static final Map<@NonNull IRI, @NonNull NumericType> datatype2NumericType = new HashMap<>();
+
+  static {
+    datatype2NumericType.put(XSDVocabulary.BYTE.getIRI(), BYTE);
+    datatype2NumericType.put(XSDVocabulary.SHORT.getIRI(), SHORT);
+    datatype2NumericType.put(XSDVocabulary.UNSIGNED_BYTE.getIRI(), SHORT);
+    datatype2NumericType.put(XSDVocabulary.INT.getIRI(), INT);
+    datatype2NumericType.put(XSDVocabulary.UNSIGNED_SHORT.getIRI(), INT);
+    datatype2NumericType.put(XSDVocabulary.LONG.getIRI(), LONG);
+    datatype2NumericType.put(XSDVocabulary.UNSIGNED_INT.getIRI(), LONG);
+    datatype2NumericType.put(XSDVocabulary.INTEGER.getIRI(), INTEGER);
+    datatype2NumericType.put(XSDVocabulary.UNSIGNED_LONG.getIRI(), INTEGER);
+    datatype2NumericType.put(XSDVocabulary.POSITIVE_INTEGER.getIRI(), INTEGER);
+    datatype2NumericType.put(XSDVocabulary.NEGATIVE_INTEGER.getIRI(), INTEGER);
+    datatype2NumericType.put(XSDVocabulary.NON_NEGATIVE_INTEGER.getIRI(), INTEGER);
+    datatype2NumericType.put(XSDVocabulary.NON_POSITIVE_INTEGER.getIRI(), INTEGER);
+    datatype2NumericType.put(XSDVocabulary.DECIMAL.getIRI(), DECIMAL);
+    datatype2NumericType.put(XSDVocabulary.FLOAT.getIRI(), FLOAT);
+    datatype2NumericType.put(XSDVocabulary.DOUBLE.getIRI(), DOUBLE);
+  }
+
+  /**
+   * @param literal An OWL literal
+   * @return The numeric type of the literal, or null if it is not numeric
+   */
+  @Nullable public static NumericType getNumericType(@NonNull OWLLiteral literal)
+  {
+    return datatype2NumericType.get(literal.getDatatype().getIRI());
+  }
+
+  @NonNull public NumericType widen(@NonNull NumericType other)
+  {
+    return other.ordinal() > ordinal() ? other : this;
+  }
+
+  /**
+   * @return True if values of this type are held in a <code>long</code>
+   */
+  public boolean isPrimitiveIntegral()
+  {
+    return ordinal() <= LONG.ordinal();
+  }
+
+  public boolean isIntegral()
+  {
+    return ordinal() <= INTEGER.ordinal();
+  }
+
+  public boolean isExact()
+  {
+    return ordinal() <= DECIMAL.ordinal();
+  }
+
+  /**
+   * @param value         An integral value
+   * @param narrowestType The narrowest acceptable type
+   * @return The narrowest primitive integral type at least as wide as the supplied type that can hold the value
+   */
+  @NonNull public static NumericType getNarrowestPrimitiveIntegralType(long value, @NonNull NumericType narrowestType)
+  {
+    if (narrowestType == BYTE && value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+      return BYTE;
+    else if (narrowestType.ordinal() <= SHORT.ordinal() && value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+      return SHORT;
+    else if (narrowestType.ordinal() <= INT.ordinal() && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE)
+      return INT;
+    else
+      return LONG;
+  }
+
+  // XML Schema lexical forms for special floating point values differ from Java's
+
+  public static double parseDouble(@NonNull String lexicalForm) throws NumberFormatException
+  {
+    switch (lexicalForm.trim()) {
+    case "INF":
+      return Double.POSITIVE_INFINITY;
+    case "-INF":
+      return Double.NEGATIVE_INFINITY;
+    case "NaN":
+      return Double.NaN;
+    default:
+      return Double.parseDouble(lexicalForm);
+    }
+  }
+
+  public static float parseFloat(@NonNull String lexicalForm) throws NumberFormatException
+  {
+    switch (lexicalForm.trim()) {
+    case "INF":
+      return Float.POSITIVE_INFINITY;
+    case "-INF":
+      return Float.NEGATIVE_INFINITY;
+    case "NaN":
+      return Float.NaN;
+    default:
+      return Float.parseFloat(lexicalForm);
+    }
+  }
+
+  /**
+   * @param lexicalForm The lexical form of a numeric literal
+   * @return The exact decimal value, or null if the value is not finite
+   */
+  @Nullable public static BigDecimal parseDecimal(@NonNull String lexicalForm)
+  {
+    try {
+      return new BigDecimal(lexicalForm.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
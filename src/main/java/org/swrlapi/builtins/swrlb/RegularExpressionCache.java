@@ -0,0 +1,111 @@
+package org.swrlapi.builtins.swrlb;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A bounded, thread-safe cache of compiled regular expressions used by the swrlb string built-ins. Patterns are keyed
+ * by expression and flags so that a regular expression supplied as a constant in a rule is compiled once rather than on
+ * every built-in invocation.
+ *
+ * @see org.swrlapi.builtins.swrlb.SWRLBuiltInLibraryImpl#matches(java.util.List)
+ * @see org.swrlapi.builtins.swrlb.SWRLBuiltInLibraryImpl#replace(java.util.List)
+ */
+class RegularExpressionCache
+{
+  private static final int MAXIMUM_NUMBER_OF_PATTERNS = 1024;
+
+  @NonNull private final Cache<@NonNull PatternKey, @NonNull Pattern> patterns;
+
+  public RegularExpressionCache()
+  {
+    this.patterns = CacheBuilder.newBuilder().maximumSize(MAXIMUM_NUMBER_OF_PATTERNS).build();
+  }
+
+  /**
+   * @param regex A regular expression
+   * @param flags Match flags, a bit mask of the {@link java.util.regex.Pattern} flag constants
+   * @return The compiled pattern
+   * @throws PatternSyntaxException If the expression's syntax is invalid
+   */
+  @NonNull public Pattern getPattern(@NonNull String regex, int flags) throws PatternSyntaxException
+  {
+    PatternKey key = new PatternKey(regex, flags);
+    @Nullable Pattern pattern = this.patterns.getIfPresent(key);
+
+    if (pattern == null) { // Concurrent misses may compile the same pattern twice, which is harmless
+      pattern = Pattern.compile(regex, flags);
+      this.patterns.put(key, pattern);
+    }
+    return pattern;
+  }
+
+  /**
+   * Convert XPath regular expression flags (see <a href="http://www.w3.org/TR/xpath-functions/#flags">here</a>) to a
+   * {@link java.util.regex.Pattern} flag bit mask.
+   *
+   * @param flags The XPath flags string
+   * @return A bit mask of {@link java.util.regex.Pattern} flags
+   * @throws IllegalArgumentException If the string contains an unknown flag
+   */
+  public static int xpathFlags2PatternFlags(@NonNull String flags)
+  {
+    int patternFlags = 0;
+
+    for (int i = 0; i < flags.length(); i++) {
+      switch (flags.charAt(i)) {
+      case 's':
+        patternFlags |= Pattern.DOTALL;
+        break;
+      case 'm':
+        patternFlags |= Pattern.MULTILINE;
+        break;
+      case 'i':
+        patternFlags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        break;
+      case 'x':
+        patternFlags |= Pattern.COMMENTS;
+        break;
+      default:
+        throw new IllegalArgumentException("unknown regular expression flag '" + flags.charAt(i) + "'");
+      }
+    }
+    return patternFlags;
+  }
+
+  private static class PatternKey
+  {
+    @NonNull private final String regex;
+    private final int flags;
+    private final int hashCode;
+
+    public PatternKey(@NonNull String regex, int flags)
+    {
+      this.regex = regex;
+      this.flags = flags;
+      this.hashCode = 31 * regex.hashCode() + flags;
+    }
+
+    @Override public boolean equals(@Nullable Object o)
+    {
+      if (this == o)
+        return true;
+      if (o == null || getClass() != o.getClass())
+        return false;
+
+      PatternKey that = (PatternKey)o;
+
+      return this.flags == that.flags && this.regex.equals(that.regex);
+    }
+
+    @Override public int hashCode()
+    {
+      return this.hashCode;
+    }
+  }
+}
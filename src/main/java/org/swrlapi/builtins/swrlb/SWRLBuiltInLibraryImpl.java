@@ -4,12 +4,12 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.vocab.XSDVocabulary;
 import org.swrlapi.builtins.AbstractSWRLBuiltInLibrary;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLLiteralBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLMultiValueVariableBuiltInArgument;
 import org.swrlapi.exceptions.InvalidSWRLBuiltInArgumentException;
-import org.swrlapi.exceptions.InvalidSWRLBuiltInNameException;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 import org.swrlapi.exceptions.SWRLBuiltInNotImplementedException;
 import org.swrlapi.literal.OWLLiteralComparator;
@@ -19,11 +19,14 @@ import org.swrlapi.literal.XSDDuration;
 import org.swrlapi.literal.XSDTime;
 import org.swrlapi.literal.XSDTimeUtil;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.StringTokenizer;
 import java.util.TimeZone;
+import java.util.function.DoubleUnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -37,25 +40,14 @@ import java.util.regex.PatternSyntaxException;
 public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
 {
   private static final String SWRLBLibraryName = "SWRLCoreBuiltIns";
-  private static final String SWRLBPrefix = "swrlb:";
-
-  private static final String SWRLB_ADD = SWRLBPrefix + "add";
-  private static final String SWRLB_SUBTRACT = SWRLBPrefix + "subtract";
-  private static final String SWRLB_MULTIPLY = SWRLBPrefix + "multiply";
-  private static final String SWRLB_DIVIDE = SWRLBPrefix + "divide";
-  private static final String SWRLB_INTEGER_DIVIDE = SWRLBPrefix + "integerDivide";
-  private static final String SWRLB_MOD = SWRLBPrefix + "mod";
-  private static final String SWRLB_POW = SWRLBPrefix + "pow";
-  private static final String SWRLB_UNARY_PLUS = SWRLBPrefix + "unaryPlus";
-  private static final String SWRLB_UNARY_MINUS = SWRLBPrefix + "unaryMinus";
-  private static final String SWRLB_ABS = SWRLBPrefix + "abs";
-  private static final String SWRLB_CEILING = SWRLBPrefix + "ceiling";
-  private static final String SWRLB_FLOOR = SWRLBPrefix + "floor";
-  private static final String SWRLB_ROUND = SWRLBPrefix + "round";
-  private static final String SWRLB_ROUND_HALF_TO_EVEN = SWRLBPrefix + "roundHalfToEven";
-  private static final String SWRLB_SIN = SWRLBPrefix + "sin";
-  private static final String SWRLB_COS = SWRLBPrefix + "cos";
-  private static final String SWRLB_TAN = SWRLBPrefix + "tan";
+
+  // Larger exponents fall back to xsd:double rather than computing very large exact powers
+  private static final BigInteger MAXIMUM_EXACT_EXPONENT = BigInteger.valueOf(4096);
+
+  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+  // Shared by all library instances; compiled patterns are immutable and safe to use concurrently
+  private static final RegularExpressionCache regularExpressionCache = new RegularExpressionCache();
 
   public SWRLBuiltInLibraryImpl()
   {
@@ -231,7 +223,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsAtLeast(2, arguments.size());
 
-    return mathOperation(SWRLB_ADD, arguments);
+    return numericOperation(IntegerOperation.ADD, DecimalOperation.ADD, FloatingPointOperation.ADD, arguments);
   }
 
   /**
@@ -243,7 +235,8 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    return mathOperation(SWRLB_SUBTRACT, arguments);
+    return numericOperation(IntegerOperation.SUBTRACT, DecimalOperation.SUBTRACT, FloatingPointOperation.SUBTRACT,
+      arguments);
   }
 
   /**
@@ -255,7 +248,8 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsAtLeast(2, arguments.size());
 
-    return mathOperation(SWRLB_MULTIPLY, arguments);
+    return numericOperation(IntegerOperation.MULTIPLY, DecimalOperation.MULTIPLY, FloatingPointOperation.MULTIPLY,
+      arguments);
   }
 
   /**
@@ -266,8 +260,15 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   public boolean divide(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
+    checkForUnboundNonFirstArguments(arguments); // Only supports binding of first argument
+
+    OWLLiteral[] operands = getNumericOperands(arguments);
+    NumericType operandType = getWidestNumericType(operands);
 
-    return mathOperation(SWRLB_DIVIDE, arguments);
+    if (operandType.isExact()) // Division of integers produces an xsd:decimal
+      return decimalOperation(DecimalOperation.DIVIDE, operands, arguments);
+    else
+      return floatingPointOperation(FloatingPointOperation.DIVIDE, operandType, operands, arguments);
   }
 
   /**
@@ -278,8 +279,19 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   public boolean integerDivide(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
+    checkForUnboundNonFirstArguments(arguments); // Only supports binding of first argument
+
+    OWLLiteral[] operands = getNumericOperands(arguments);
+    NumericType operandType = getWidestNumericType(operands);
+
+    if (operandType.isIntegral())
+      return integerOperation(IntegerOperation.INTEGER_DIVIDE, operandType, operands, arguments);
+    else { // Non-integer operands are divided as xsd:decimal values and produce an xsd:integer
+      checkDivisor(operands);
 
-    return mathOperation(SWRLB_INTEGER_DIVIDE, arguments);
+      return processNumericResult(arguments,
+        applyToDecimals(DecimalOperation.INTEGER_DIVIDE, operands).toBigInteger(), NumericType.INTEGER);
+    }
   }
 
   /**
@@ -291,7 +303,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    return mathOperation(SWRLB_MOD, arguments);
+    return numericOperation(IntegerOperation.MOD, DecimalOperation.MOD, FloatingPointOperation.MOD, arguments);
   }
 
   /**
@@ -302,8 +314,38 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   public boolean pow(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
+    checkForUnboundNonFirstArguments(arguments); // Only supports binding of first argument
 
-    return mathOperation(SWRLB_POW, arguments);
+    OWLLiteral[] operands = getNumericOperands(arguments);
+    NumericType baseType = getNumericType(operands, 0);
+    NumericType exponentType = getNumericType(operands, 1);
+    NumericType operandType = baseType.widen(exponentType);
+
+    if (baseType.isExact() && exponentType.isIntegral()) { // Exact result for non negative integer exponents
+      BigInteger exponent = getOperandAsAnInteger(operands, 1);
+
+      if (exponent.signum() >= 0 && exponent.compareTo(MAXIMUM_EXACT_EXPONENT) <= 0) {
+        if (baseType.isIntegral()) {
+          BigInteger result = getOperandAsAnInteger(operands, 0).pow(exponent.intValue());
+
+          if (operandType.isPrimitiveIntegral() && result.bitLength() < Long.SIZE) {
+            long longResult = result.longValue();
+            return processNumericResult(arguments, longResult,
+              NumericType.getNarrowestPrimitiveIntegralType(longResult, operandType));
+          } else
+            return processNumericResult(arguments, result, NumericType.INTEGER);
+        } else
+          return processNumericResult(arguments, getOperandAsADecimal(operands, 0).pow(exponent.intValue()),
+            NumericType.DECIMAL);
+      }
+    }
+
+    double result = java.lang.Math.pow(getOperandAsADouble(operands, 0), getOperandAsADouble(operands, 1));
+
+    if (operandType == NumericType.FLOAT)
+      return processNumericResult(arguments, (float)result, NumericType.FLOAT);
+    else
+      return processNumericResult(arguments, result, NumericType.DOUBLE);
   }
 
   /**
@@ -315,7 +357,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(2, arguments.size());
 
-    return mathOperation(SWRLB_UNARY_PLUS, arguments);
+    return unaryNumericOperation(UnaryNumericOperation.UNARY_PLUS, arguments);
   }
 
   /**
@@ -327,7 +369,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(2, arguments.size());
 
-    return mathOperation(SWRLB_UNARY_MINUS, arguments);
+    return unaryNumericOperation(UnaryNumericOperation.UNARY_MINUS, arguments);
   }
 
   /**
@@ -339,7 +381,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(2, arguments.size());
 
-    return mathOperation(SWRLB_ABS, arguments);
+    return unaryNumericOperation(UnaryNumericOperation.ABS, arguments);
   }
 
   /**
@@ -351,7 +393,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(2, arguments.size());
 
-    return mathOperation(SWRLB_CEILING, arguments);
+    return unaryNumericOperation(UnaryNumericOperation.CEILING, arguments);
   }
 
   /**
@@ -363,7 +405,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(2, arguments.size());
 
-    return mathOperation(SWRLB_FLOOR, arguments);
+    return unaryNumericOperation(UnaryNumericOperation.FLOOR, arguments);
   }
 
   /**
@@ -375,7 +417,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(2, arguments.size());
 
-    return mathOperation(SWRLB_ROUND, arguments);
+    return unaryNumericOperation(UnaryNumericOperation.ROUND, arguments);
   }
 
   /**
@@ -387,7 +429,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(2, arguments.size());
 
-    return mathOperation(SWRLB_ROUND_HALF_TO_EVEN, arguments);
+    return unaryNumericOperation(UnaryNumericOperation.ROUND_HALF_TO_EVEN, arguments);
   }
 
   /**
@@ -399,7 +441,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(2, arguments.size());
 
-    return mathOperation(SWRLB_SIN, arguments);
+    return trigonometricOperation(Math::sin, arguments);
   }
 
   /**
@@ -411,7 +453,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(2, arguments.size());
 
-    return mathOperation(SWRLB_COS, arguments);
+    return trigonometricOperation(Math::cos, arguments);
   }
 
   /**
@@ -423,7 +465,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(2, arguments.size());
 
-    return mathOperation(SWRLB_TAN, arguments);
+    return trigonometricOperation(Math::tan, arguments);
   }
 
   // Built-ins for Booleans. cf. Section 8.3 of http://www.daml.org/2004/04/swrl/builtins.html
@@ -693,17 +735,12 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean matches(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    checkNumberOfArgumentsEqualTo(2, arguments.size());
+    checkNumberOfArgumentsInRange(2, 3, arguments.size());
 
     String argument1 = getArgumentAsAString(0, arguments);
-    String argument2 = getArgumentAsAString(1, arguments);
+    Pattern pattern = getArgumentsAsAPattern(1, 2, arguments);
 
-    try {
-      return Pattern.matches(argument2, argument1);
-    } catch (PatternSyntaxException e) {
-      throw new InvalidSWRLBuiltInArgumentException(1,
-        "invalid regular expression '" + argument2 + "': " + e.getMessage(), e);
-    }
+    return pattern.matcher(argument1).matches();
   }
 
   /**
@@ -713,14 +750,13 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean replace(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    checkNumberOfArgumentsEqualTo(4, arguments.size());
+    checkNumberOfArgumentsInRange(4, 5, arguments.size());
 
     String input = getArgumentAsAString(1, arguments);
-    String regex = getArgumentAsAString(2, arguments);
+    Pattern pattern = getArgumentsAsAPattern(2, 4, arguments);
     String replacement = getArgumentAsAString(3, arguments);
 
-    Pattern p = Pattern.compile(regex);
-    Matcher m = p.matcher(input);
+    Matcher m = pattern.matcher(input);
     String operationResult = m.replaceAll(replacement);
 
     return processResultArgument(arguments, 0, operationResult);
@@ -737,8 +773,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
 
     String input = getArgumentAsAString(1, arguments);
 
-    Pattern p = Pattern.compile("\\s+");
-    Matcher m = p.matcher(input);
+    Matcher m = WHITESPACE_PATTERN.matcher(input);
     String operationResult = m.replaceAll(" ").trim();
 
     return processResultArgument(arguments, 0, operationResult);
@@ -774,6 +809,34 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
     return !multiValueBuiltInArgument.hasNoArguments();
   }
 
+  /**
+   * Get a compiled regular expression from a pattern argument and an optional XPath flags argument. Patterns are
+   * cached so a constant regular expression in a rule is compiled only once.
+   */
+  @NonNull private Pattern getArgumentsAsAPattern(int patternArgumentNumber, int flagsArgumentNumber,
+    @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
+  {
+    String regex = getArgumentAsAString(patternArgumentNumber, arguments);
+    int flags = 0;
+
+    if (flagsArgumentNumber < arguments.size()) {
+      String flagsString = getArgumentAsAString(flagsArgumentNumber, arguments);
+      try {
+        flags = RegularExpressionCache.xpathFlags2PatternFlags(flagsString);
+      } catch (IllegalArgumentException e) {
+        throw new InvalidSWRLBuiltInArgumentException(flagsArgumentNumber,
+          "invalid regular expression flags '" + flagsString + "': " + e.getMessage(), e);
+      }
+    }
+
+    try {
+      return regularExpressionCache.getPattern(regex, flags);
+    } catch (PatternSyntaxException e) {
+      throw new InvalidSWRLBuiltInArgumentException(patternArgumentNumber,
+        "invalid regular expression '" + regex + "': " + e.getMessage(), e);
+    }
+  }
+
   // Built-ins for date, time and duration.
 
   /**
@@ -1392,89 +1455,313 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
     return OWLLiteralComparator.COMPARATOR.compare(literal1, literal2);
   }
 
-  private boolean mathOperation(@NonNull String builtInName, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
+  private boolean numericOperation(@NonNull IntegerOperation integerOperation,
+    @NonNull DecimalOperation decimalOperation, @NonNull FloatingPointOperation floatingPointOperation,
+    @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
+  {
+    checkForUnboundNonFirstArguments(arguments); // Only supports binding of first argument
+
+    // Argument number checking will have been performed by invoking method.
+    OWLLiteral[] operands = getNumericOperands(arguments);
+    NumericType operandType = getWidestNumericType(operands);
+
+    if (operandType.isIntegral())
+      return integerOperation(integerOperation, operandType, operands, arguments);
+    else if (operandType == NumericType.DECIMAL)
+      return decimalOperation(decimalOperation, operands, arguments);
+    else
+      return floatingPointOperation(floatingPointOperation, operandType, operands, arguments);
+  }
+
+  private boolean integerOperation(@NonNull IntegerOperation operation, @NonNull NumericType operandType,
+    @NonNull OWLLiteral @NonNull [] operands, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
     throws SWRLBuiltInException
   {
-    double argument1 = 0.0, argument2, argument3, operationResult;
-    boolean hasUnbound1stArgument = false;
+    if (operation.hasDivisor())
+      checkDivisor(operands);
 
-    checkForUnboundNonFirstArguments(arguments); // Only supports binding of first argument
+    if (operandType.isPrimitiveIntegral()) {
+      try {
+        long result = getOperandAsALong(operands, 0);
+        for (int operandNumber = 1; operandNumber < operands.length; operandNumber++)
+          result = operation.apply(result, getOperandAsALong(operands, operandNumber));
 
-    if (isUnboundArgument(0, arguments))
-      hasUnbound1stArgument = true;
+        return processNumericResult(arguments, result,
+          NumericType.getNarrowestPrimitiveIntegralType(result, operandType));
+      } catch (ArithmeticException e) {
+        // Overflow - repeat the operation with xsd:integer operands
+      }
+    }
 
-    // Argument number checking will have been performed by invoking method.
-    if (!hasUnbound1stArgument)
-      argument1 = getArgumentAsADouble(0, arguments);
-    argument2 = getArgumentAsADouble(1, arguments);
-
-    if (builtInName.equalsIgnoreCase(SWRLB_ADD)) {
-      operationResult = 0.0;
-      for (int argumentNumber = 1; argumentNumber < arguments.size(); argumentNumber++) {
-        operationResult += getArgumentAsADouble(argumentNumber, arguments);
+    BigInteger result = getOperandAsAnInteger(operands, 0);
+    for (int operandNumber = 1; operandNumber < operands.length; operandNumber++)
+      result = operation.apply(result, getOperandAsAnInteger(operands, operandNumber));
+
+    return processNumericResult(arguments, result, NumericType.INTEGER);
+  }
+
+  private boolean decimalOperation(@NonNull DecimalOperation operation, @NonNull OWLLiteral @NonNull [] operands,
+    @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
+  {
+    if (operation.hasDivisor())
+      checkDivisor(operands);
+
+    return processNumericResult(arguments, applyToDecimals(operation, operands), NumericType.DECIMAL);
+  }
+
+  private boolean floatingPointOperation(@NonNull FloatingPointOperation operation, @NonNull NumericType operandType,
+    @NonNull OWLLiteral @NonNull [] operands, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
+    throws SWRLBuiltInException
+  {
+    if (operandType == NumericType.FLOAT) {
+      float result = getOperandAsAFloat(operands, 0);
+      for (int operandNumber = 1; operandNumber < operands.length; operandNumber++)
+        result = operation.apply(result, getOperandAsAFloat(operands, operandNumber));
+
+      return processNumericResult(arguments, result, NumericType.FLOAT);
+    } else {
+      double result = getOperandAsADouble(operands, 0);
+      for (int operandNumber = 1; operandNumber < operands.length; operandNumber++)
+        result = operation.apply(result, getOperandAsADouble(operands, operandNumber));
+
+      return processNumericResult(arguments, result, NumericType.DOUBLE);
+    }
+  }
+
+  @NonNull private BigDecimal applyToDecimals(@NonNull DecimalOperation operation,
+    @NonNull OWLLiteral @NonNull [] operands) throws SWRLBuiltInException
+  {
+    BigDecimal result = getOperandAsADecimal(operands, 0);
+    for (int operandNumber = 1; operandNumber < operands.length; operandNumber++)
+      result = operation.apply(result, getOperandAsADecimal(operands, operandNumber));
+
+    return result;
+  }
+
+  private void checkDivisor(@NonNull OWLLiteral @NonNull [] operands) throws SWRLBuiltInException
+  {
+    if (isZeroOperand(operands, 1))
+      throw new InvalidSWRLBuiltInArgumentException(2, "zero passed as divisor");
+  }
+
+  private boolean unaryNumericOperation(@NonNull UnaryNumericOperation operation,
+    @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
+  {
+    checkForUnboundNonFirstArguments(arguments); // Only supports binding of first argument
+
+    OWLLiteral[] operands = getNumericOperands(arguments);
+    NumericType operandType = getNumericType(operands, 0);
+
+    switch (operandType) {
+    case BYTE:
+    case SHORT:
+    case INT:
+    case LONG:
+      try {
+        long result = operation.apply(getOperandAsALong(operands, 0));
+
+        return processNumericResult(arguments, result,
+          NumericType.getNarrowestPrimitiveIntegralType(result, operandType));
+      } catch (ArithmeticException e) {
+        // Overflow - fall through and repeat the operation with an xsd:integer operand
       }
-    } else if (builtInName.equalsIgnoreCase(SWRLB_MULTIPLY)) {
-      operationResult = 1.0;
-      for (int argumentNumber = 1; argumentNumber < arguments.size(); argumentNumber++) {
-        operationResult *= getArgumentAsADouble(argumentNumber, arguments);
+    case INTEGER:
+      return processNumericResult(arguments, operation.apply(getOperandAsAnInteger(operands, 0)),
+        NumericType.INTEGER);
+    case DECIMAL:
+      return processNumericResult(arguments, operation.apply(getOperandAsADecimal(operands, 0)),
+        NumericType.DECIMAL);
+    case FLOAT:
+      return processNumericResult(arguments, operation.apply(getOperandAsAFloat(operands, 0)), NumericType.FLOAT);
+    default:
+      return processNumericResult(arguments, operation.apply(getOperandAsADouble(operands, 0)), NumericType.DOUBLE);
+    }
+  }
+
+  // Use xsd:double for the results of the trigonometric built-ins
+  private boolean trigonometricOperation(@NonNull DoubleUnaryOperator function,
+    @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
+  {
+    checkForUnboundNonFirstArguments(arguments); // Only supports binding of first argument
+
+    OWLLiteral[] operands = getNumericOperands(arguments);
+    getNumericType(operands, 0); // Check that the operand is numeric
+
+    return processNumericResult(arguments, function.applyAsDouble(getOperandAsADouble(operands, 0)),
+      NumericType.DOUBLE);
+  }
+
+  /**
+   * Bind the result to an unbound first argument, or compare it with the numeric value of a bound first argument.
+   */
+  private boolean processNumericResult(@NonNull List<@NonNull SWRLBuiltInArgument> arguments, @NonNull Number result,
+    @NonNull NumericType resultType) throws SWRLBuiltInException
+  {
+    if (isUnboundArgument(0, arguments)) {
+      arguments.get(0).asVariable().setBuiltInResult(createNumericLiteralBuiltInArgument(result, resultType));
+      return true;
+    } else {
+      OWLLiteral literal = getArgumentAsAnOWLLiteral(0, arguments);
+
+      if (NumericType.getNumericType(literal) == null)
+        throw new InvalidSWRLBuiltInArgumentException(0,
+          "expecting numeric value, got " + literal.getLiteral() + " of type " + literal.getDatatype());
+
+      try {
+        if (resultType == NumericType.FLOAT)
+          return NumericType.parseFloat(literal.getLiteral()) == result.floatValue();
+        else if (resultType == NumericType.DOUBLE)
+          return NumericType.parseDouble(literal.getLiteral()) == result.doubleValue();
+        else {
+          @Nullable BigDecimal value = NumericType.parseDecimal(literal.getLiteral());
+          return value != null && value.compareTo(number2BigDecimal(result)) == 0;
+        }
+      } catch (NumberFormatException e) {
+        throw new InvalidSWRLBuiltInArgumentException(0,
+          "invalid numeric value " + literal.getLiteral() + " of type " + literal.getDatatype(), e);
       }
-    } else if (builtInName.equalsIgnoreCase(SWRLB_SUBTRACT)) {
-      argument3 = getArgumentAsADouble(2, arguments);
-      operationResult = argument2 - argument3;
-    } else if (builtInName.equalsIgnoreCase(SWRLB_DIVIDE)) {
-      argument3 = getArgumentAsADouble(2, arguments);
-      operationResult = (argument2 / argument3);
-    } else if (builtInName.equalsIgnoreCase(SWRLB_INTEGER_DIVIDE)) {
-      argument3 = getArgumentAsADouble(2, arguments);
-      if (argument3 == 0)
-        throw new InvalidSWRLBuiltInArgumentException(2, "zero passed as divisor");
-      if (argument3 >= 0)
-        operationResult = argument2 + argument3 + 1 / argument3;
-      else
-        operationResult = argument2 / argument3;
-    } else if (builtInName.equalsIgnoreCase(SWRLB_MOD)) {
-      argument3 = getArgumentAsADouble(2, arguments);
-      operationResult = argument2 % argument3;
-    } else if (builtInName.equalsIgnoreCase(SWRLB_POW)) {
-      argument3 = getArgumentAsADouble(2, arguments);
-      operationResult = java.lang.Math.pow(argument2, argument3);
-    } else if (builtInName.equalsIgnoreCase(SWRLB_UNARY_PLUS))
-      operationResult = +argument2; // TODO Not correct since already a double so xsd:int conversion logic missed
-    else if (builtInName.equalsIgnoreCase(SWRLB_UNARY_MINUS))
-      operationResult = -argument2; // TODO Not correct since already a double so xsd:int conversion logic missed
-    else if (builtInName.equalsIgnoreCase(SWRLB_ABS))
-      operationResult = java.lang.Math.abs(argument2);
-    else if (builtInName.equalsIgnoreCase(SWRLB_CEILING))
-      operationResult = java.lang.Math.ceil(argument2);
-    else if (builtInName.equalsIgnoreCase(SWRLB_FLOOR))
-      operationResult = java.lang.Math.floor(argument2);
-    else if (builtInName.equalsIgnoreCase(SWRLB_ROUND))
-      operationResult = java.lang.Math.rint(argument2);
-    else if (builtInName.equalsIgnoreCase(SWRLB_ROUND_HALF_TO_EVEN))
-      operationResult = java.lang.Math.rint(argument2);
-    else if (builtInName.equalsIgnoreCase(SWRLB_SIN))
-      operationResult = java.lang.Math.sin(argument2);
-    else if (builtInName.equalsIgnoreCase(SWRLB_COS))
-      operationResult = java.lang.Math.cos(argument2);
-    else if (builtInName.equalsIgnoreCase(SWRLB_TAN))
-      operationResult = java.lang.Math.tan(argument2);
+    }
+  }
+
+  @NonNull private SWRLBuiltInArgument createNumericLiteralBuiltInArgument(@NonNull Number value,
+    @NonNull NumericType type)
+  {
+    switch (type) {
+    case BYTE:
+      return createLiteralBuiltInArgument(value.byteValue());
+    case SHORT:
+      return createLiteralBuiltInArgument(value.shortValue());
+    case INT:
+      return createLiteralBuiltInArgument(value.intValue());
+    case LONG:
+      return createLiteralBuiltInArgument(value.longValue());
+    case INTEGER:
+      return createLiteralBuiltInArgument(
+        value instanceof BigInteger ? (BigInteger)value : BigInteger.valueOf(value.longValue()));
+    case DECIMAL:
+      return createLiteralBuiltInArgument(number2BigDecimal(value));
+    case FLOAT:
+      return createLiteralBuiltInArgument(value.floatValue());
+    default:
+      return createLiteralBuiltInArgument(value.doubleValue());
+    }
+  }
+
+  @NonNull private BigDecimal number2BigDecimal(@NonNull Number value)
+  {
+    if (value instanceof BigDecimal)
+      return (BigDecimal)value;
+    else if (value instanceof BigInteger)
+      return new BigDecimal((BigInteger)value);
     else
-      throw new InvalidSWRLBuiltInNameException(builtInName);
-
-    if (hasUnbound1stArgument) { // Bind the result to the first argument.
-      List<@NonNull SWRLBuiltInArgument> boundInputArguments = arguments.subList(1, arguments.size());
-
-      if (builtInName.equalsIgnoreCase(SWRLB_SIN) || builtInName.equalsIgnoreCase(SWRLB_COS) || builtInName
-        .equalsIgnoreCase(SWRLB_TAN)) // Use xsd:double for the trigonometric arguments
-        arguments.get(0).asVariable().setBuiltInResult(createLiteralBuiltInArgument(operationResult));
-      else {
-        SWRLBuiltInArgument resultArgument = createLeastNarrowNumericLiteralBuiltInArgument(operationResult,
-          boundInputArguments);
-        arguments.get(0).asVariable().setBuiltInResult(resultArgument);
-      }
-      return true;
-    } else
-      return (argument1 == operationResult);
+      return BigDecimal.valueOf(value.longValue());
+  }
+
+  /**
+   * Get the literals of the second and subsequent arguments, which are the operands of the math built-ins.
+   */
+  @NonNull private OWLLiteral @NonNull [] getNumericOperands(@NonNull List<@NonNull SWRLBuiltInArgument> arguments)
+    throws SWRLBuiltInException
+  {
+    OWLLiteral[] operands = new OWLLiteral[arguments.size() - 1];
+
+    for (int argumentNumber = 1; argumentNumber < arguments.size(); argumentNumber++)
+      operands[argumentNumber - 1] = getArgumentAsAnOWLLiteral(argumentNumber, arguments);
+
+    return operands;
+  }
+
+  @NonNull private NumericType getWidestNumericType(@NonNull OWLLiteral @NonNull [] operands)
+    throws SWRLBuiltInException
+  {
+    NumericType widestType = getNumericType(operands, 0);
+
+    for (int operandNumber = 1; operandNumber < operands.length; operandNumber++)
+      widestType = widestType.widen(getNumericType(operands, operandNumber));
+
+    return widestType;
+  }
+
+  @NonNull private NumericType getNumericType(@NonNull OWLLiteral @NonNull [] operands, int operandNumber)
+    throws SWRLBuiltInException
+  {
+    OWLLiteral literal = operands[operandNumber];
+    @Nullable NumericType type = NumericType.getNumericType(literal);
+
+    if (type == null)
+      throw new InvalidSWRLBuiltInArgumentException(operandNumber + 1,
+        "expecting numeric value, got " + literal.getLiteral() + " of type " + literal.getDatatype());
+
+    return type;
+  }
+
+  private boolean isZeroOperand(@NonNull OWLLiteral @NonNull [] operands, int operandNumber)
+  {
+    @Nullable BigDecimal value = NumericType.parseDecimal(operands[operandNumber].getLiteral());
+
+    return value != null && value.signum() == 0;
+  }
+
+  private long getOperandAsALong(@NonNull OWLLiteral @NonNull [] operands, int operandNumber)
+    throws SWRLBuiltInException
+  {
+    try {
+      return Long.parseLong(operands[operandNumber].getLiteral().trim());
+    } catch (NumberFormatException e) {
+      throw invalidOperandException(operands, operandNumber, e);
+    }
+  }
+
+  @NonNull private BigInteger getOperandAsAnInteger(@NonNull OWLLiteral @NonNull [] operands, int operandNumber)
+    throws SWRLBuiltInException
+  {
+    try {
+      return new BigInteger(operands[operandNumber].getLiteral().trim());
+    } catch (NumberFormatException e) {
+      throw invalidOperandException(operands, operandNumber, e);
+    }
+  }
+
+  @NonNull private BigDecimal getOperandAsADecimal(@NonNull OWLLiteral @NonNull [] operands, int operandNumber)
+    throws SWRLBuiltInException
+  {
+    @Nullable BigDecimal value = NumericType.parseDecimal(operands[operandNumber].getLiteral());
+
+    if (value == null)
+      throw new InvalidSWRLBuiltInArgumentException(operandNumber + 1,
+        "value " + operands[operandNumber].getLiteral() + " cannot be converted to " + XSDVocabulary.DECIMAL
+          .getPrefixedName());
+
+    return value;
+  }
+
+  private float getOperandAsAFloat(@NonNull OWLLiteral @NonNull [] operands, int operandNumber)
+    throws SWRLBuiltInException
+  {
+    try {
+      return NumericType.parseFloat(operands[operandNumber].getLiteral());
+    } catch (NumberFormatException e) {
+      throw invalidOperandException(operands, operandNumber, e);
+    }
+  }
+
+  private double getOperandAsADouble(@NonNull OWLLiteral @NonNull [] operands, int operandNumber)
+    throws SWRLBuiltInException
+  {
+    try {
+      return NumericType.parseDouble(operands[operandNumber].getLiteral());
+    } catch (NumberFormatException e) {
+      throw invalidOperandException(operands, operandNumber, e);
+    }
+  }
+
+  @NonNull private InvalidSWRLBuiltInArgumentException invalidOperandException(
+    @NonNull OWLLiteral @NonNull [] operands, int operandNumber, @NonNull NumberFormatException cause)
+  {
+    OWLLiteral literal = operands[operandNumber];
+
+    return new InvalidSWRLBuiltInArgumentException(operandNumber + 1,
+      "invalid numeric value " + literal.getLiteral() + " of type " + literal.getDatatype(), cause);
   }
 
   private org.apache.axis.types.Duration getArgumentAsAnAxisDuration(int argumentNumber,
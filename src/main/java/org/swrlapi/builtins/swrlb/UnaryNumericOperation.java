@@ -0,0 +1,121 @@
+package org.swrlapi.builtins.swrlb;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Unary arithmetic operations used by the swrlb math built-ins. The result of each operation has the type of its
+ * operand. The <code>long</code> implementations throw an {@link java.lang.ArithmeticException} on overflow so that
+ * the caller can repeat the operation with a <code>BigInteger</code> operand.
+ *
+ * @see org.swrlapi.builtins.swrlb.IntegerOperation
+ */
+enum UnaryNumericOperation
+{
+  UNARY_PLUS {
+    @Override long apply(long a) { return a; }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a) { return a; }
+
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a) { return a; }
+
+    @Override float apply(float a) { return a; }
+
+    @Override double apply(double a) { return a; }
+  },
+
+  UNARY_MINUS {
+    @Override long apply(long a) { return Math.negateExact(a); }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a) { return a.negate(); }
+
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a) { return a.negate(); }
+
+    @Override float apply(float a) { return -a; }
+
+    @Override double apply(double a) { return -a; }
+  },
+
+  ABS {
+    @Override long apply(long a) { return a < 0 ? Math.negateExact(a) : a; }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a) { return a.abs(); }
+
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a) { return a.abs(); }
+
+    @Override float apply(float a) { return Math.abs(a); }
+
+    @Override double apply(double a) { return Math.abs(a); }
+  },
+
+  CEILING {
+    @Override long apply(long a) { return a; }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a) { return a; }
+
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a) { return a.setScale(0, RoundingMode.CEILING); }
+
+    @Override float apply(float a) { return (float)Math.ceil(a); }
+
+    @Override double apply(double a) { return Math.ceil(a); }
+  },
+
+  FLOOR {
+    @Override long apply(long a) { return a; }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a) { return a; }
+
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a) { return a.setScale(0, RoundingMode.FLOOR); }
+
+    @Override float apply(float a) { return (float)Math.floor(a); }
+
+    @Override double apply(double a) { return Math.floor(a); }
+  },
+
+  // Halves are rounded towards positive infinity
+  ROUND {
+    @Override long apply(long a) { return a; }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a) { return a; }
+
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a)
+    {
+      return a.setScale(0, a.signum() >= 0 ? RoundingMode.HALF_UP : RoundingMode.HALF_DOWN);
+    }
+
+    @Override float apply(float a) { return (float)apply((double)a); }
+
+    @Override double apply(double a)
+    { // Subtracting the floor is exact, unlike adding one half, which rounds 0.49999999999999994 up to 1
+      double floor = Math.floor(a);
+      double result = a - floor >= 0.5 ? floor + 1 : floor;
+
+      return result == 0 ? Math.copySign(0.0, a) : result; // -0.5 rounds to negative zero
+    }
+  },
+
+  ROUND_HALF_TO_EVEN {
+    @Override long apply(long a) { return a; }
+
+    @NonNull @Override BigInteger apply(@NonNull BigInteger a) { return a; }
+
+    @NonNull @Override BigDecimal apply(@NonNull BigDecimal a) { return a.setScale(0, RoundingMode.HALF_EVEN); }
+
+    @Override float apply(float a) { return (float)Math.rint(a); }
+
+    @Override double apply(double a) { return Math.rint(a); }
+  };
+
+  abstract long apply(long a);
+
+  @NonNull abstract BigInteger apply(@NonNull BigInteger a);
+
+  @NonNull abstract BigDecimal apply(@NonNull BigDecimal a);
+
+  abstract float apply(float a);
+
+  abstract double apply(double a);
+}
@@ -0,0 +1,146 @@
+package org.swrlapi.builtins.swrlm;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.nfunk.jep.JEP;
+import org.nfunk.jep.Node;
+import org.nfunk.jep.ParseException;
+import org.nfunk.jep.Variable;
+import org.nfunk.jep.type.Complex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates mathematical expressions for the <code>swrlm:eval</code> built-in. Each evaluator owns a JEP instance and
+ * a bounded cache of parsed expression trees, so an expression that is a constant in a rule is parsed only once. The
+ * variables used by an expression are resolved to JEP variables at parse time and are then bound by position on each
+ * evaluation.
+ * <p>
+ * JEP parse trees refer to the symbol table of the JEP instance that produced them so an evaluator is not thread-safe;
+ * each thread should use its own instance.
+ *
+ * @see org.swrlapi.builtins.swrlm.SWRLBuiltInLibraryImpl#eval(java.util.List)
+ */
+class ExpressionEvaluator
+{
+  private static final int MAXIMUM_NUMBER_OF_EXPRESSIONS = 256;
+
+  @NonNull private final JEP jep;
+  @NonNull private final Map<@NonNull ExpressionKey, @NonNull CompiledExpression> compiledExpressions;
+
+  public ExpressionEvaluator()
+  {
+    // See. http://www.singularsys.com/jep/doc/javadoc/org/nfunk/jep/JEP.html for JEP API
+    this.jep = new JEP();
+    this.jep.addStandardFunctions();
+    this.jep.addStandardConstants();
+    this.jep.setImplicitMul(true);
+
+    this.compiledExpressions = new LinkedHashMap<ExpressionKey, CompiledExpression>(16, 0.75f, true)
+    {
+      @Override protected boolean removeEldestEntry(Map.Entry<ExpressionKey, CompiledExpression> eldest)
+      {
+        return size() > MAXIMUM_NUMBER_OF_EXPRESSIONS;
+      }
+    };
+  }
+
+  /**
+   * @param expression    A mathematical expression
+   * @param variableNames The names of the variables used by the expression
+   * @param values        The values of the variables, in the same order as their names
+   * @return The value of the expression
+   * @throws ParseException If the expression cannot be parsed or evaluated
+   */
+  public double evaluate(@NonNull String expression, @NonNull List<@NonNull String> variableNames,
+    double @NonNull [] values) throws ParseException
+  {
+    CompiledExpression compiledExpression = getCompiledExpression(expression, variableNames);
+
+    for (int slot = 0; slot < values.length; slot++)
+      compiledExpression.variables[slot].setValue(values[slot]);
+
+    return value2Double(this.jep.evaluate(compiledExpression.node));
+  }
+
+  @NonNull private CompiledExpression getCompiledExpression(@NonNull String expression,
+    @NonNull List<@NonNull String> variableNames) throws ParseException
+  {
+    ExpressionKey key = new ExpressionKey(expression, variableNames);
+    @Nullable CompiledExpression compiledExpression = this.compiledExpressions.get(key);
+
+    if (compiledExpression == null) {
+      Variable[] variables = new Variable[variableNames.size()];
+
+      for (int slot = 0; slot < variables.length; slot++) { // Variables must be declared before parsing
+        String variableName = variableNames.get(slot);
+        this.jep.addVariable(variableName, 0.0);
+        variables[slot] = this.jep.getSymbolTable().getVar(variableName);
+      }
+
+      Node node = this.jep.parse(expression);
+      compiledExpression = new CompiledExpression(node, variables);
+      this.compiledExpressions.put(key, compiledExpression);
+    }
+    return compiledExpression;
+  }
+
+  // Follows the conversion performed by JEP.getValue()
+  private double value2Double(@Nullable Object value)
+  {
+    if (value instanceof Complex) {
+      Complex complex = (Complex)value;
+      return complex.im() != 0.0 ? Double.NaN : complex.re();
+    } else if (value instanceof Number)
+      return ((Number)value).doubleValue();
+    else
+      return 0.0;
+  }
+
+  private static class CompiledExpression
+  {
+    @NonNull private final Node node;
+    @NonNull private final Variable @NonNull [] variables;
+
+    public CompiledExpression(@NonNull Node node, @NonNull Variable @NonNull [] variables)
+    {
+      this.node = node;
+      this.variables = variables;
+    }
+  }
+
+  private static class ExpressionKey
+  {
+    @NonNull private final String expression;
+    @NonNull private final List<@NonNull String> variableNames;
+    private final int hashCode;
+
+    public ExpressionKey(@NonNull String expression, @NonNull List<@NonNull String> variableNames)
+    {
+      this.expression = expression;
+      this.variableNames = Collections.unmodifiableList(new ArrayList<>(variableNames));
+      this.hashCode = 31 * expression.hashCode() + this.variableNames.hashCode();
+    }
+
+    @Override public boolean equals(@Nullable Object o)
+    {
+      if (this == o)
+        return true;
+      if (o == null || getClass() != o.getClass())
+        return false;
+
+      ExpressionKey that = (ExpressionKey)o;
+
+      return this.expression.equals(that.expression) && this.variableNames.equals(that.variableNames);
+    }
+
+    @Override public int hashCode()
+    {
+      return this.hashCode;
+    }
+  }
+}
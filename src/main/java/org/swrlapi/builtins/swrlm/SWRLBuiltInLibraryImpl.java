@@ -1,13 +1,14 @@
 package org.swrlapi.builtins.swrlm;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
-import org.checkerframework.checker.nullness.qual.Nullable;
-import org.nfunk.jep.JEP;
+import org.nfunk.jep.ParseException;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
 import org.swrlapi.builtins.AbstractSWRLBuiltInLibrary;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,16 +19,27 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
 {
   private static final String SWRLMLibraryName = "SWRLAPIMathematicalBuiltIns";
 
-  @Nullable private JEP jep = null;
+  // Parsed expressions are bound to the JEP instance that produced them so each thread gets its own evaluator
+  @NonNull private volatile ThreadLocal<@NonNull ExpressionEvaluator> expressionEvaluators;
 
   public SWRLBuiltInLibraryImpl()
   {
     super(SWRLMLibraryName);
+
+    this.expressionEvaluators = ThreadLocal.withInitial(ExpressionEvaluator::new);
   }
 
   @Override public void reset()
   {
-    this.jep = null;
+    this.expressionEvaluators = ThreadLocal.withInitial(ExpressionEvaluator::new);
+  }
+
+  /**
+   * @return The expression evaluator of the calling thread
+   */
+  @NonNull ExpressionEvaluator getExpressionEvaluator()
+  {
+    return this.expressionEvaluators.get();
   }
 
   /**
@@ -94,6 +106,8 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
     checkNumberOfArgumentsAtLeast(minimumNumberoOfArguments, arguments.size());
 
     String expression = getArgumentAsAString(expressionArgumentIndex, arguments);
+    List<@NonNull String> variableNames = new ArrayList<>();
+    double[] variableValues = new double[arguments.size() - minimumNumberoOfArguments];
 
     if (arguments.size() > minimumNumberoOfArguments) {
       List<@NonNull SWRLBuiltInArgument> variableArguments = arguments
@@ -108,8 +122,8 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
           .getBoundVariableName(); // We have checked that they are all variables
         if (variableName.isPresent()) {
           if (isArgumentConvertibleToDouble(currentVariableArgumentIndex, arguments)) {
-            double variableValue = getArgumentAsADouble(variableArgument);
-            getJEP().addVariable(variableName.get(), variableValue);
+            variableValues[variableNames.size()] = getArgumentAsADouble(variableArgument);
+            variableNames.add(variableName.get());
           } else {
             String message = "exception processing expression '" + expression + "': " +
               "variable ?" + variableName.get() + " with type " + getLiteralArgumentDatatypeName(
@@ -122,15 +136,15 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
       }
     }
 
-    getJEP().parseExpression(expression);
-
-    if (getJEP().hasError())
-      throw new SWRLBuiltInException("exception parsing expression '" + expression + "': " + getJEP().getErrorInfo());
-
-    double value = getJEP().getValue();
-
-    if (getJEP().hasError())
-      throw new SWRLBuiltInException("exception parsing expression '" + expression + "': " + getJEP().getErrorInfo());
+    double value;
+    try {
+      value = getExpressionEvaluator().evaluate(expression, variableNames,
+        variableNames.size() == variableValues.length ?
+          variableValues :
+          Arrays.copyOf(variableValues, variableNames.size()));
+    } catch (ParseException e) {
+      throw new SWRLBuiltInException("exception parsing expression '" + expression + "': " + e.getMessage(), e);
+    }
 
     if (isUnboundArgument(resultArgumentIndex, arguments)) {
       arguments.get(resultArgumentIndex).asVariable().setBuiltInResult(createLiteralBuiltInArgument(value));
@@ -144,17 +158,4 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
           + " cannot be converted to " + XSDVocabulary.DOUBLE.getPrefixedName());
     }
   }
-
-  // See. http://www.singularsys.com/jep/doc/javadoc/org/nfunk/jep/JEP.html for JEP API
-  @NonNull private JEP getJEP()
-  {
-    if (this.jep == null) {
-      this.jep = new JEP();
-
-      this.jep.addStandardFunctions();
-      this.jep.addStandardConstants();
-      this.jep.setImplicitMul(true);
-    }
-    return this.jep;
-  }
 }
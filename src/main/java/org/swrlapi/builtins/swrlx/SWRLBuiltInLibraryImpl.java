@@ -5,12 +5,13 @@ import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.swrlapi.builtins.AbstractSWRLBuiltInLibrary;
+import org.swrlapi.builtins.SWRLBuiltInInvocationPattern;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Implementations library for SWRL Extensions built-ins.
@@ -19,15 +20,16 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
 {
   private static final String SWRLXLibraryName = "SWRLExtensionsBuiltIns";
 
-  @NonNull private final Map<@NonNull String, @NonNull OWLClass> classInvocationMap;
-  @NonNull private final Map<@NonNull String, @NonNull OWLNamedIndividual> individualInvocationMap;
+  @NonNull private final ConcurrentMap<@NonNull SWRLBuiltInInvocationPattern, @NonNull OWLClass> classInvocationMap;
+  @NonNull private final ConcurrentMap<@NonNull SWRLBuiltInInvocationPattern, @NonNull OWLNamedIndividual>
+      individualInvocationMap;
 
   public SWRLBuiltInLibraryImpl()
   {
     super(SWRLXLibraryName);
 
-    this.classInvocationMap = new HashMap<>();
-    this.individualInvocationMap = new HashMap<>();
+    this.classInvocationMap = new ConcurrentHashMap<>();
+    this.individualInvocationMap = new ConcurrentHashMap<>();
   }
 
   @Override public void reset()
@@ -49,17 +51,19 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
     checkNumberOfArgumentsAtLeast(2, arguments.size());
 
     if (isUnboundArgument(0, arguments)) {
-      String createInvocationPattern = createInvocationPattern(getBuiltInBridge(), getInvokingRuleName(),
+      SWRLBuiltInInvocationPattern invocationPattern = getInvocationPattern(getBuiltInBridge(), getInvokingRuleName(),
           getInvokingBuiltInIndex(), getIsInConsequent(), arguments.subList(1, arguments.size()));
-      OWLClass cls;
-
-      if (this.classInvocationMap.containsKey(createInvocationPattern)) {
-        cls = this.classInvocationMap.get(createInvocationPattern);
-      } else {
-        cls = getSWRLAPIOWLDataFactory().getInjectedOWLClass();
-        OWLDeclarationAxiom declarationAxiom = getSWRLAPIOWLDataFactory().getOWLClassDeclarationAxiom(cls);
-        getBuiltInBridge().injectOWLAxiom(declarationAxiom);
-        this.classInvocationMap.put(createInvocationPattern, cls);
+      OWLClass cls = this.classInvocationMap.get(invocationPattern);
+
+      if (cls == null) {
+        OWLClass injectedClass = getSWRLAPIOWLDataFactory().getInjectedOWLClass();
+        cls = this.classInvocationMap.putIfAbsent(invocationPattern, injectedClass);
+
+        if (cls == null) { // Only the invocation that recorded the class injects it
+          cls = injectedClass;
+          OWLDeclarationAxiom declarationAxiom = getSWRLAPIOWLDataFactory().getOWLClassDeclarationAxiom(cls);
+          getBuiltInBridge().injectOWLAxiom(declarationAxiom);
+        }
       }
       arguments.get(0).asVariable().setBuiltInResult(createClassBuiltInArgument(cls)); // Bind the result to the first
       // parameter
@@ -81,17 +85,20 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
     checkNumberOfArgumentsAtLeast(2, arguments.size());
 
     if (isUnboundArgument(0, arguments)) {
-      OWLNamedIndividual individual;
-      String createInvocationPattern = createInvocationPattern(getBuiltInBridge(), getInvokingRuleName(),
+      SWRLBuiltInInvocationPattern invocationPattern = getInvocationPattern(getBuiltInBridge(), getInvokingRuleName(),
           getInvokingBuiltInIndex(), getIsInConsequent(), arguments.subList(1, arguments.size()));
-
-      if (this.individualInvocationMap.containsKey(createInvocationPattern))
-        individual = this.individualInvocationMap.get(createInvocationPattern);
-      else {
-        individual = getSWRLAPIOWLDataFactory().getInjectedOWLNamedIndividual();
-        OWLDeclarationAxiom declarationAxiom = getSWRLAPIOWLDataFactory().getOWLIndividualDeclarationAxiom(individual);
-        getBuiltInBridge().injectOWLAxiom(declarationAxiom);
-        this.individualInvocationMap.put(createInvocationPattern, individual);
+      OWLNamedIndividual individual = this.individualInvocationMap.get(invocationPattern);
+
+      if (individual == null) {
+        OWLNamedIndividual injectedIndividual = getSWRLAPIOWLDataFactory().getInjectedOWLNamedIndividual();
+        individual = this.individualInvocationMap.putIfAbsent(invocationPattern, injectedIndividual);
+
+        if (individual == null) { // Only the invocation that recorded the individual injects it
+          individual = injectedIndividual;
+          OWLDeclarationAxiom declarationAxiom = getSWRLAPIOWLDataFactory()
+              .getOWLIndividualDeclarationAxiom(individual);
+          getBuiltInBridge().injectOWLAxiom(declarationAxiom);
+        }
       }
       arguments.get(0).asVariable().setBuiltInResult(createIndividualBuiltInArgument(individual)); // Bind the result to
       // the first
@@ -0,0 +1,437 @@
+package org.swrlapi.builtins.temporal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A sorted-endpoint index over the valid times recorded in an ontology using the SWRLAPI temporal ontology. Valid
+ * periods (individuals with <code>temporal:hasStartTime</code> and <code>temporal:hasFinishTime</code> values), valid
+ * instants (individuals with a <code>temporal:hasTime</code> value), and extended propositions (individuals with a
+ * <code>temporal:hasValidTime</code> value) are indexed by the start and finish granule counts of their period.
+ * <p>
+ * A target rule engine that encounters a temporal built-in relating two unbound period variables (e.g.,
+ * <code>temporal:overlaps(?t1, ?t2)</code>) can use {@link #join(String, String)} to generate exactly those pairs of
+ * individuals that satisfy the relation instead of invoking the built-in on every pair in the cross product.
+ * <p>
+ * The index reflects the facts asserted when it was created and is not updated afterwards. It is obtained from a bridge
+ * using {@link org.swrlapi.bridge.SWRLRuleEngineBridge#getValidPeriodIndex()}, which creates a new index after the
+ * ontology changes.
+ *
+ * @see org.swrlapi.builtins.temporal.SWRLBuiltInLibraryImpl
+ */
+public class ValidPeriodIndex
+{
+  private static final Logger log = LoggerFactory.getLogger(ValidPeriodIndex.class);
+
+  private static final String Prefix = "temporal:";
+  private static final String Namespace = "http://swrl.stanford.edu/ontologies/built-ins/3.3/temporal.owl#";
+
+  private static final String HasValidTimePropertyName = Namespace + "hasValidTime";
+  private static final String HasTimePropertyName = Namespace + "hasTime";
+  private static final String HasStartTimePropertyName = Namespace + "hasStartTime";
+  private static final String HasFinishTimePropertyName = Namespace + "hasFinishTime";
+
+  private static final String Equals = "equals";
+  private static final String Before = "before";
+  private static final String After = "after";
+  private static final String Meets = "meets";
+  private static final String MetBy = "metBy";
+  private static final String Overlaps = "overlaps";
+  private static final String OverlappedBy = "overlappedBy";
+  private static final String Contains = "contains";
+  private static final String During = "during";
+  private static final String Starts = "starts";
+  private static final String StartedBy = "startedBy";
+  private static final String Finishes = "finishes";
+  private static final String FinishedBy = "finishedBy";
+  private static final String Intersects = "intersects";
+
+  private static final Set<@NonNull String> Relations = new HashSet<>(
+    Arrays.asList(Equals, Before, After, Meets, MetBy, Overlaps, OverlappedBy, Contains, During, Starts, StartedBy,
+      Finishes, FinishedBy, Intersects));
+
+  @NonNull private final Temporal temporal;
+  @NonNull private final Map<@NonNull IRI, @NonNull Period> periods;
+  @NonNull private final Map<@NonNull IRI, @NonNull IRI> validTimes;
+  private final SortedEndpoints[] sortedEndpoints; // Created on demand for each granularity
+
+  public ValidPeriodIndex(@NonNull OWLOntology ontology)
+  {
+    this.temporal = new Temporal(new XSDDateTimeStringProcessor());
+    this.temporal.setNow();
+    this.periods = new LinkedHashMap<>();
+    this.validTimes = new HashMap<>();
+    this.sortedEndpoints = new SortedEndpoints[Temporal.NUMBER_OF_GRANULARITIES];
+
+    indexValidTimes(ontology);
+  }
+
+  /**
+   * @param relation A temporal relation name, with or without the <code>temporal:</code> prefix
+   * @return True if the relation can be evaluated by the {@link #join(String, String)} method
+   */
+  public static boolean isSupportedRelation(@NonNull String relation)
+  {
+    return Relations.contains(stripPrefix(relation));
+  }
+
+  /**
+   * @return The number of indexed individuals
+   */
+  public int size()
+  {
+    return this.periods.size();
+  }
+
+  /**
+   * @return The IRIs of all valid period, valid instant, and extended proposition individuals in the index
+   */
+  @NonNull public Set<@NonNull IRI> getIndexedIndividuals()
+  {
+    return Collections.unmodifiableSet(this.periods.keySet());
+  }
+
+  public boolean isIndexed(@NonNull IRI individualIRI)
+  {
+    return this.periods.containsKey(individualIRI);
+  }
+
+  /**
+   * @param extendedPropositionIRI The IRI of an extended proposition
+   * @return The IRI of the valid time individual of the extended proposition, if any
+   */
+  @NonNull public Optional<@NonNull IRI> getValidTime(@NonNull IRI extendedPropositionIRI)
+  {
+    return Optional.ofNullable(this.validTimes.get(extendedPropositionIRI));
+  }
+
+  /**
+   * Generate all pairs of indexed individuals whose periods satisfy a temporal relation at the finest granularity.
+   *
+   * @param relation A temporal relation name (e.g., <code>overlaps</code> or <code>temporal:overlaps</code>)
+   * @return A list of (first argument, second argument) pairs satisfying the relation
+   * @throws SWRLBuiltInException If the relation is not supported
+   */
+  @NonNull public List<Map.@NonNull Entry<@NonNull IRI, @NonNull IRI>> join(@NonNull String relation)
+    throws SWRLBuiltInException
+  {
+    return join(relation, Temporal.FINEST);
+  }
+
+  /**
+   * Generate all pairs of indexed individuals whose periods satisfy a temporal relation at the specified granularity.
+   * The result is the same as evaluating the corresponding temporal built-in on every pair of indexed individuals.
+   *
+   * @param relation    A temporal relation name (e.g., <code>overlaps</code> or <code>temporal:overlaps</code>)
+   * @param granularity A granularity name (e.g., <code>days</code>)
+   * @return A list of (first argument, second argument) pairs satisfying the relation
+   * @throws SWRLBuiltInException If the relation or granularity is not supported
+   */
+  @NonNull public List<Map.@NonNull Entry<@NonNull IRI, @NonNull IRI>> join(@NonNull String relation,
+    @NonNull String granularity) throws SWRLBuiltInException
+  {
+    try {
+      return join(relation, Temporal.getIntegerGranularityRepresentation(granularity));
+    } catch (TemporalException e) {
+      throw new SWRLBuiltInException(e.getMessage() == null ? "" : e.getMessage(), e);
+    }
+  }
+
+  @NonNull List<Map.@NonNull Entry<@NonNull IRI, @NonNull IRI>> join(@NonNull String relation, int granularity)
+    throws SWRLBuiltInException
+  {
+    String relationName = stripPrefix(relation);
+
+    if (!Relations.contains(relationName))
+      throw new SWRLBuiltInException("unsupported temporal relation " + relation + " for interval join");
+
+    try {
+      return join(relationName, getSortedEndpoints(granularity));
+    } catch (TemporalException e) {
+      throw new SWRLBuiltInException(e.getMessage() == null ? "" : e.getMessage(), e);
+    }
+  }
+
+  @NonNull Optional<@NonNull Period> getPeriod(@NonNull IRI individualIRI)
+  {
+    return Optional.ofNullable(this.periods.get(individualIRI));
+  }
+
+  @NonNull private List<Map.@NonNull Entry<@NonNull IRI, @NonNull IRI>> join(@NonNull String relation,
+    @NonNull SortedEndpoints endpoints)
+  {
+    List<Map.@NonNull Entry<@NonNull IRI, @NonNull IRI>> result = new ArrayList<>();
+    int size = endpoints.iris.length;
+
+    switch (relation) {
+    case Before: // p1.finish < p2.start
+      for (int i = 0; i < size; i++)
+        for (int j = upperBound(endpoints.starts, endpoints.finishes[i]); j < size; j++)
+          result.add(pair(endpoints, i, j));
+      break;
+    case After: // p1.start > p2.finish
+      for (int i = 0; i < size; i++) {
+        int end = lowerBound(endpoints.sortedFinishes, endpoints.starts[i]);
+        for (int k = 0; k < end; k++)
+          result.add(pair(endpoints, i, endpoints.finishOrder[k]));
+      }
+      break;
+    case Meets: // p1.finish + 1 == p2.start
+      for (int i = 0; i < size; i++) {
+        long start = endpoints.finishes[i] + 1;
+        for (int j = lowerBound(endpoints.starts, start); j < size && endpoints.starts[j] == start; j++)
+          result.add(pair(endpoints, i, j));
+      }
+      break;
+    case MetBy: // p2.finish + 1 == p1.start
+      for (int i = 0; i < size; i++) {
+        long finish = endpoints.starts[i] - 1;
+        for (int k = lowerBound(endpoints.sortedFinishes, finish);
+             k < size && endpoints.sortedFinishes[k] == finish; k++)
+          result.add(pair(endpoints, i, endpoints.finishOrder[k]));
+      }
+      break;
+    default: // All remaining relations require the two periods to share at least one granule
+      for (int i = 0; i < size; i++) {
+        for (int j = i; j < size && endpoints.starts[j] <= endpoints.finishes[i]; j++) {
+          if (holds(relation, endpoints, i, j))
+            result.add(pair(endpoints, i, j));
+          if (j != i && holds(relation, endpoints, j, i))
+            result.add(pair(endpoints, j, i));
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Mirrors the semantics of the corresponding {@link Period} predicates.
+   */
+  private static boolean holds(@NonNull String relation, @NonNull SortedEndpoints endpoints, int first, int second)
+  {
+    long s1 = endpoints.starts[first], f1 = endpoints.finishes[first];
+    long s2 = endpoints.starts[second], f2 = endpoints.finishes[second];
+
+    switch (relation) {
+    case Equals:
+      return s1 == s2 && f1 == f2;
+    case Overlaps:
+      return s1 <= s2 && f1 <= f2 && f1 >= s2;
+    case OverlappedBy:
+      return s2 <= s1 && f2 <= f1 && f2 >= s1;
+    case Contains:
+      return s2 >= s1 && f2 <= f1;
+    case During:
+      return s1 >= s2 && f1 <= f2 && !(s1 == s2 && f1 == f2);
+    case Starts:
+      return s1 == s2 && f1 < f2;
+    case StartedBy:
+      return s1 == s2 && f2 < f1;
+    case Finishes:
+      return s1 < s2 && f1 == f2;
+    case FinishedBy:
+      return s2 < s1 && f1 == f2;
+    case Intersects:
+      return s1 == s2 || (s1 < s2 ? f1 > s2 : f2 > s1);
+    default:
+      return false;
+    }
+  }
+
+  private static Map.@NonNull Entry<@NonNull IRI, @NonNull IRI> pair(@NonNull SortedEndpoints endpoints, int first,
+    int second)
+  {
+    return new AbstractMap.SimpleImmutableEntry<>(endpoints.iris[first], endpoints.iris[second]);
+  }
+
+  // Index of the first element greater than or equal to the key
+  private static int lowerBound(long[] values, long key)
+  {
+    int low = 0, high = values.length;
+
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (values[middle] < key)
+        low = middle + 1;
+      else
+        high = middle;
+    }
+    return low;
+  }
+
+  // Index of the first element strictly greater than the key
+  private static int upperBound(long[] values, long key)
+  {
+    int low = 0, high = values.length;
+
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (values[middle] <= key)
+        low = middle + 1;
+      else
+        high = middle;
+    }
+    return low;
+  }
+
+  @NonNull private synchronized SortedEndpoints getSortedEndpoints(int granularity) throws TemporalException
+  {
+    SortedEndpoints endpoints = this.sortedEndpoints[granularity];
+
+    if (endpoints == null) {
+      endpoints = new SortedEndpoints(this.periods, granularity);
+      this.sortedEndpoints[granularity] = endpoints;
+    }
+    return endpoints;
+  }
+
+  private void indexValidTimes(@NonNull OWLOntology ontology)
+  {
+    Map<@NonNull IRI, @NonNull String> startTimes = new HashMap<>();
+    Map<@NonNull IRI, @NonNull String> finishTimes = new HashMap<>();
+    Map<@NonNull IRI, @NonNull String> times = new LinkedHashMap<>();
+    IRI hasStartTimeIRI = IRI.create(HasStartTimePropertyName);
+    IRI hasFinishTimeIRI = IRI.create(HasFinishTimePropertyName);
+    IRI hasTimeIRI = IRI.create(HasTimePropertyName);
+    IRI hasValidTimeIRI = IRI.create(HasValidTimePropertyName);
+
+    for (OWLDataPropertyAssertionAxiom axiom : ontology
+      .getAxioms(AxiomType.DATA_PROPERTY_ASSERTION, Imports.INCLUDED)) {
+      if (axiom.getSubject().isNamed() && !axiom.getProperty().isAnonymous()) {
+        IRI subjectIRI = axiom.getSubject().asOWLNamedIndividual().getIRI();
+        IRI propertyIRI = axiom.getProperty().asOWLDataProperty().getIRI();
+        String value = axiom.getObject().getLiteral();
+
+        if (propertyIRI.equals(hasStartTimeIRI))
+          startTimes.put(subjectIRI, value);
+        else if (propertyIRI.equals(hasFinishTimeIRI))
+          finishTimes.put(subjectIRI, value);
+        else if (propertyIRI.equals(hasTimeIRI))
+          times.put(subjectIRI, value);
+      }
+    }
+
+    for (OWLObjectPropertyAssertionAxiom axiom : ontology
+      .getAxioms(AxiomType.OBJECT_PROPERTY_ASSERTION, Imports.INCLUDED)) {
+      if (axiom.getSubject().isNamed() && axiom.getObject().isNamed() && !axiom.getProperty().isAnonymous() && axiom
+        .getProperty().asOWLObjectProperty().getIRI().equals(hasValidTimeIRI))
+        this.validTimes
+          .put(axiom.getSubject().asOWLNamedIndividual().getIRI(), axiom.getObject().asOWLNamedIndividual().getIRI());
+    }
+
+    for (Map.Entry<@NonNull IRI, @NonNull String> startTime : startTimes.entrySet()) {
+      IRI periodIRI = startTime.getKey();
+      if (finishTimes.containsKey(periodIRI)) {
+        try {
+          this.periods.put(periodIRI,
+            new Period(this.temporal, startTime.getValue(), finishTimes.get(periodIRI), Temporal.FINEST));
+        } catch (TemporalException e) {
+          log.warn("ignoring invalid valid period " + periodIRI + ": " + e.getMessage());
+        }
+      }
+    }
+
+    for (Map.Entry<@NonNull IRI, @NonNull String> time : times.entrySet()) {
+      IRI instantIRI = time.getKey();
+      try {
+        this.periods.put(instantIRI,
+          new Period(this.temporal, new Instant(this.temporal, time.getValue(), Temporal.FINEST), Temporal.FINEST));
+      } catch (TemporalException e) {
+        log.warn("ignoring invalid valid instant " + instantIRI + ": " + e.getMessage());
+      }
+    }
+
+    Map<@NonNull IRI, @NonNull Period> extendedPropositionPeriods = new LinkedHashMap<>();
+    for (Map.Entry<@NonNull IRI, @NonNull IRI> validTime : this.validTimes.entrySet()) {
+      Period period = this.periods.get(validTime.getValue());
+      if (period != null)
+        extendedPropositionPeriods.put(validTime.getKey(), period);
+    }
+    this.periods.putAll(extendedPropositionPeriods);
+  }
+
+  @NonNull private static String stripPrefix(@NonNull String relation)
+  {
+    return relation.startsWith(Prefix) ? relation.substring(Prefix.length()) : relation;
+  }
+
+  /**
+   * Start and finish granule counts of all indexed periods at a particular granularity. Periods are ordered by start;
+   * a second ordering by finish is maintained as a permutation of the start ordering.
+   */
+  private static class SortedEndpoints
+  {
+    @NonNull private final IRI[] iris;
+    @NonNull private final long[] starts;
+    @NonNull private final long[] finishes;
+    @NonNull private final int[] finishOrder;
+    @NonNull private final long[] sortedFinishes;
+
+    public SortedEndpoints(@NonNull Map<@NonNull IRI, @NonNull Period> periods, int granularity)
+      throws TemporalException
+    {
+      int size = periods.size();
+      IRI[] unsortedIRIs = new IRI[size];
+      long[] unsortedStarts = new long[size];
+      long[] unsortedFinishes = new long[size];
+      Integer[] startOrder = new Integer[size];
+      int index = 0;
+
+      for (Map.Entry<@NonNull IRI, @NonNull Period> entry : periods.entrySet()) {
+        unsortedIRIs[index] = entry.getKey();
+        unsortedStarts[index] = entry.getValue().getStartGranuleCount(granularity);
+        unsortedFinishes[index] = entry.getValue().getFinishGranuleCount(granularity);
+        startOrder[index] = index;
+        index++;
+      }
+
+      Arrays.sort(startOrder, Comparator.comparingLong(i -> unsortedStarts[i]));
+
+      IRI[] sortedIRIs = new IRI[size];
+      long[] sortedStarts = new long[size];
+      long[] startOrderedFinishes = new long[size];
+      Integer[] finishOrder = new Integer[size];
+
+      for (int i = 0; i < size; i++) {
+        sortedIRIs[i] = unsortedIRIs[startOrder[i]];
+        sortedStarts[i] = unsortedStarts[startOrder[i]];
+        startOrderedFinishes[i] = unsortedFinishes[startOrder[i]];
+        finishOrder[i] = i;
+      }
+
+      Arrays.sort(finishOrder, Comparator.comparingLong(i -> startOrderedFinishes[i]));
+
+      this.iris = sortedIRIs;
+      this.starts = sortedStarts;
+      this.finishes = startOrderedFinishes;
+      this.finishOrder = new int[size];
+      this.sortedFinishes = new long[size];
+
+      for (int i = 0; i < size; i++) {
+        this.finishOrder[i] = finishOrder[i];
+        this.sortedFinishes[i] = startOrderedFinishes[finishOrder[i]];
+      }
+    }
+  }
+}
@@ -15,6 +15,10 @@ import java.util.Optional;
  */
 public interface IRIResolver
 {
+  /**
+   * Discard autogenerated prefixes and prefixed names. If there are any, cached renderings are discarded too and the
+   * prefix mapping version changes.
+   */
   void reset();
 
   /**
@@ -48,4 +52,11 @@ public interface IRIResolver
    * @param namespace A namespace
    */
   void setPrefix(@NonNull String prefix, @NonNull String namespace);
+
+  /**
+   * Renderings of IRIs may be cached by clients for as long as this version does not change.
+   *
+   * @return A number that changes whenever the prefixed names or short forms of IRIs may change
+   */
+  long getPrefixMappingVersion();
 }
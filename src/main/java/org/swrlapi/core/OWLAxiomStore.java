@@ -0,0 +1,41 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.util.Set;
+
+/**
+ * A set of OWL axioms used to hold the asserted, inferred and injected axioms processed by the SWRLAPI.
+ * <p>
+ * Axioms of commonly occurring types, such as class and property assertions and declarations, are encoded as tuples of
+ * integer identifiers of the entities and literals they refer to. Membership tests on these axioms compare tuples
+ * rather than calling {@link org.semanticweb.owlapi.model.OWLAxiom#hashCode()} or
+ * {@link org.semanticweb.owlapi.model.OWLAxiom#equals(Object)}.
+ * <p>
+ * Stores created with {@link #createOWLAxiomStore()} share their encoding, so that
+ * {@link #addIfAbsent(OWLAxiom, OWLAxiomStore)} can check the membership of an axiom in two stores with a single
+ * encoding of the axiom.
+ *
+ * @see org.swrlapi.core.SWRLAPIOWLOntology#getAssertedOWLAxiomStore()
+ */
+public interface OWLAxiomStore extends Set<@NonNull OWLAxiom>
+{
+  /**
+   * Identifiers for IRIs and literals that are not yet in the dictionary of this store are local to the new store and
+   * are discarded when it is cleared.
+   *
+   * @return A new, empty store that shares the encoding of this store
+   */
+  @NonNull OWLAxiomStore createOWLAxiomStore();
+
+  /**
+   * Add an axiom to this store unless it is already present in this store or in the supplied store, which is not
+   * modified.
+   *
+   * @param axiom An OWL axiom
+   * @param store Another axiom store
+   * @return True if the axiom was added
+   */
+  boolean addIfAbsent(@NonNull OWLAxiom axiom, @NonNull OWLAxiomStore store);
+}
@@ -0,0 +1,56 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLLiteral;
+
+import java.util.Optional;
+
+/**
+ * Assigns dense integer identifiers to the IRIs of OWL entities and to OWL literals. A dictionary is owned by a
+ * {@link org.swrlapi.core.SWRLAPIOWLOntology}, which assigns identifiers to the entities and literals it encounters
+ * when processing its ontology; identifiers for other IRIs and literals are assigned on request.
+ * <p>
+ * Identifiers start at one, are never reused, and remain valid when the ontology is reprocessed. Target rule engines
+ * can use them to key primitive collections and to order entities without comparing IRIs.
+ *
+ * @see org.swrlapi.core.SWRLAPIOWLOntology#getOWLObjectDictionary()
+ * @see org.swrlapi.bridge.converters.TargetRuleEngineConverterBase
+ */
+public interface OWLObjectDictionary
+{
+  int UNKNOWN_ID = 0;
+
+  /**
+   * @param iri An IRI
+   * @return The identifier of the IRI, which is assigned if necessary
+   */
+  int getID(@NonNull IRI iri);
+
+  /**
+   * @param literal An OWL literal
+   * @return The identifier of the literal, which is assigned if necessary
+   */
+  int getID(@NonNull OWLLiteral literal);
+
+  /**
+   * @param iri An IRI
+   * @return The identifier of the IRI, or {@link #UNKNOWN_ID} if none has been assigned
+   */
+  int lookUpID(@NonNull IRI iri);
+
+  /**
+   * @param literal An OWL literal
+   * @return The identifier of the literal, or {@link #UNKNOWN_ID} if none has been assigned
+   */
+  int lookUpID(@NonNull OWLLiteral literal);
+
+  @NonNull Optional<@NonNull IRI> getIRI(int id);
+
+  @NonNull Optional<@NonNull OWLLiteral> getOWLLiteral(int id);
+
+  /**
+   * @return The number of assigned identifiers, which is also the largest assigned identifier
+   */
+  int size();
+}
@@ -0,0 +1,54 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.List;
+
+/**
+ * Classifies IRIs by the kinds of OWL entity they name in the signature of an ontology and its imports closure. Each
+ * lookup is a single hash lookup rather than a series of {@link org.semanticweb.owlapi.model.OWLOntology}
+ * containsXInSignature calls, each of which may walk the imports closure.
+ * <p>
+ * An index is built on first use after it is invalidated and is maintained incrementally from ontology change events.
+ * Lookups may be made concurrently.
+ *
+ * @see org.swrlapi.core.SWRLAPIOWLOntology#getOWLSignatureIndex()
+ */
+public interface OWLSignatureIndex
+{
+  /**
+   * @param iri An IRI
+   * @return True if the IRI names a class in the signature or is owl:Thing or owl:Nothing
+   */
+  boolean isOWLClass(@NonNull IRI iri);
+
+  boolean isOWLNamedIndividual(@NonNull IRI iri);
+
+  boolean isOWLObjectProperty(@NonNull IRI iri);
+
+  boolean isOWLDataProperty(@NonNull IRI iri);
+
+  boolean isOWLAnnotationProperty(@NonNull IRI iri);
+
+  boolean isOWLDatatype(@NonNull IRI iri);
+
+  /**
+   * @param iri An IRI
+   * @return True if the IRI names an entity of any kind in the signature
+   */
+  boolean isOWLEntity(@NonNull IRI iri);
+
+  /**
+   * Update the index with changes that have been applied to the ontology or one of its imports.
+   *
+   * @param changes A list of applied changes
+   */
+  void update(@NonNull List<? extends @NonNull OWLOntologyChange> changes);
+
+  /**
+   * Discard the index so that it is rebuilt from the ontology on the next lookup.
+   */
+  void invalidate();
+}
@@ -0,0 +1,76 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Receives timings and counts from the SWRLAPI as rules are processed, executed and queried. Implementations are set
+ * on a {@link org.swrlapi.core.SWRLAPIOWLOntology} and are called synchronously, possibly from several threads at
+ * once, so they should be thread-safe and cheap. All methods have empty default implementations.
+ * <p>
+ * {@link org.swrlapi.factory.SWRLAPIFactory#createSWRLAPIMetrics()} creates an implementation that aggregates the
+ * reported values into timers with latency histograms.
+ *
+ * @see org.swrlapi.core.SWRLAPIOWLOntology#setInstrumentation(SWRLAPIInstrumentation)
+ * @see org.swrlapi.core.SWRLAPIMetrics
+ */
+public interface SWRLAPIInstrumentation
+{
+  /**
+   * Instrumentation that ignores all reported values
+   */
+  @NonNull SWRLAPIInstrumentation NO_OP = new SWRLAPIInstrumentation()
+  {
+  };
+
+  /**
+   * The timed phases of a rule engine run
+   */
+  enum RuleEnginePhase
+  {
+    /**
+     * Processing of an ontology's axioms, SWRL rules and SQWRL queries by
+     * {@link org.swrlapi.core.SWRLAPIOWLOntology#processOntology()}
+     */
+    PROCESS_ONTOLOGY,
+    /**
+     * Export of OWL axioms, SWRL rules and SQWRL queries to a target rule engine
+     */
+    EXPORT,
+    /**
+     * Execution of the target rule engine by {@link org.swrlapi.bridge.TargetSWRLRuleEngine#runRuleEngine()}
+     */
+    RUN_RULE_ENGINE,
+    /**
+     * Writing of inferred and injected OWL axioms back to the ontology
+     */
+    WRITE_BACK
+  }
+
+  /**
+   * @param phase         The completed phase
+   * @param durationNanos The duration of the phase in nanoseconds
+   */
+  default void ruleEnginePhaseCompleted(@NonNull RuleEnginePhase phase, long durationNanos)
+  {
+  }
+
+  /**
+   * Called after each invocation of a built-in by the {@link org.swrlapi.builtins.SWRLBuiltInLibraryManager},
+   * including invocations that throw an exception.
+   *
+   * @param builtInName   The prefixed name of the built-in
+   * @param durationNanos The duration of the invocation in nanoseconds
+   */
+  default void swrlBuiltInInvoked(@NonNull String builtInName, long durationNanos)
+  {
+  }
+
+  /**
+   * @param queryName     The name of the SQWRL query
+   * @param numberOfRows  The number of rows in the prepared result
+   * @param durationNanos The time taken to prepare the result in nanoseconds
+   */
+  default void sqwrlResultPrepared(@NonNull String queryName, int numberOfRows, long durationNanos)
+  {
+  }
+}
@@ -0,0 +1,77 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Instrumentation that aggregates reported values into meters in the style of Micrometer. Each meter has a name and a
+ * single tag, and keeps a count, a total, a maximum and a histogram of the recorded values. Meters are created when a
+ * value is first recorded for their name and tag.
+ * <p>
+ * The following meters are recorded. Timer values are in nanoseconds.
+ * <ul>
+ * <li>{@link #RULE_ENGINE_PHASE_TIMER}, tagged with {@link #PHASE_TAG}</li>
+ * <li>{@link #SWRL_BUILT_IN_TIMER}, tagged with {@link #BUILT_IN_TAG}</li>
+ * <li>{@link #SQWRL_RESULT_PREPARATION_TIMER} and {@link #SQWRL_RESULT_ROWS}, tagged with {@link #QUERY_TAG}</li>
+ * </ul>
+ *
+ * @see org.swrlapi.factory.SWRLAPIFactory#createSWRLAPIMetrics()
+ */
+public interface SWRLAPIMetrics extends SWRLAPIInstrumentation
+{
+  String RULE_ENGINE_PHASE_TIMER = "swrlapi.rule.engine.phase";
+  String SWRL_BUILT_IN_TIMER = "swrlapi.builtin.invocation";
+  String SQWRL_RESULT_PREPARATION_TIMER = "swrlapi.sqwrl.result.preparation";
+  String SQWRL_RESULT_ROWS = "swrlapi.sqwrl.result.rows";
+
+  String PHASE_TAG = "phase";
+  String BUILT_IN_TAG = "builtin";
+  String QUERY_TAG = "query";
+
+  /**
+   * A meter. Its values are read individually, so they may be mutually inconsistent while values are being recorded.
+   * Histogram bucket <code>i</code> counts the values <code>v</code> with <code>2^(i-1) &lt;= v &lt; 2^i</code>;
+   * bucket zero counts values of zero.
+   */
+  interface Meter
+  {
+    @NonNull String getName();
+
+    @NonNull String getTagKey();
+
+    @NonNull String getTagValue();
+
+    long getCount();
+
+    long getTotal();
+
+    long getMax();
+
+    /**
+     * @return The mean of the recorded values, or zero if no values have been recorded
+     */
+    double getMean();
+
+    @NonNull long[] getHistogram();
+  }
+
+  /**
+   * @param name     The meter name
+   * @param tagValue The value of the meter's tag
+   * @return The meter, if any values have been recorded for it
+   */
+  @NonNull Optional<@NonNull Meter> getMeter(@NonNull String name, @NonNull String tagValue);
+
+  /**
+   * @param name The meter name
+   * @return The meters with the name, keyed by tag value
+   */
+  @NonNull Map<@NonNull String, @NonNull Meter> getMeters(@NonNull String name);
+
+  /**
+   * Discard all meters
+   */
+  void reset();
+}
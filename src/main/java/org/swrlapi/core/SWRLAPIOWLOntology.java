@@ -19,6 +19,9 @@ import org.swrlapi.sqwrl.exceptions.SQWRLException;
 import org.swrlapi.ui.model.SWRLAutoCompleter;
 import org.swrlapi.ui.model.SWRLRuleEngineModel;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -84,6 +87,19 @@ public interface SWRLAPIOWLOntology
   @NonNull SWRLAPIRule createSWRLRule(@NonNull String ruleName, @NonNull String rule, @NonNull String comment,
       boolean isActive) throws SWRLParseException;
 
+  /**
+   * Create several rules and add them to the ontology in a single change, after which the ontology is processed once.
+   * Rules are parsed in parallel when there are many of them. No rule is added if any of them fails to parse or if a
+   * rule with one of the names already exists.
+   *
+   * @param rules A map of rule names to rule text
+   * @return The rule representations, in the iteration order of the map
+   * @throws SWRLParseException If an error occurs parsing a rule or a rule with one of the names already exists
+   * @throws SQWRLException     If an error occurs processing SWRL rules and SQWRL queries
+   */
+  @NonNull List<@NonNull SWRLAPIRule> createSWRLRules(@NonNull Map<@NonNull String, @NonNull String> rules)
+      throws SWRLParseException, SQWRLException;
+
   /**
    *
    * @param originalRuleName The original name of the rule
@@ -153,6 +169,14 @@ public interface SWRLAPIOWLOntology
 
   void processOntology() throws SQWRLException;
 
+  /**
+   * Remove the change listeners that this object and its registered rule engine models hold on the ontology's manager.
+   * Until then the manager keeps this object reachable and updates its indexes on every change, so it should be called
+   * when the object is no longer used, for example before its ontology is removed from a shared manager. Indexes are
+   * no longer maintained after this call and are rebuilt if the ontology is processed again.
+   */
+  void dispose();
+
   // Optimization methods
 
   void startEventFreezeMode(); // Can be used, for example, to switch off notification during bulk conversion.
@@ -163,10 +187,61 @@ public interface SWRLAPIOWLOntology
 
   void resetOntologyChanged();
 
+  /**
+   * Write OWL axioms to the ontology as a single list of changes, so that each ontology change listener is notified
+   * once. This object does not reprocess the ontology on that notification. The asserted axioms and declarations it
+   * holds are updated directly from the written axioms, so the ontology is not reprocessed unless a SWRL rule is among
+   * them.
+   *
+   * @param axioms The axioms to write
+   * @throws SQWRLException If an error occurs reprocessing SWRL rules and SQWRL queries
+   */
+  void addOWLAxioms(@NonNull Collection<? extends @NonNull OWLAxiom> axioms) throws SQWRLException;
+
   // Axiom counting methods
 
   boolean hasAssertedOWLAxiom(OWLAxiom axiom);
 
+  /**
+   * The returned store is owned by this object and must not be modified. It can be used to create stores sharing its
+   * encoding and passed to {@link org.swrlapi.core.OWLAxiomStore#addIfAbsent(OWLAxiom, OWLAxiomStore)} to exclude
+   * asserted axioms.
+   *
+   * @return The asserted OWL axioms
+   */
+  @NonNull OWLAxiomStore getAssertedOWLAxiomStore();
+
+  /**
+   * @return The dictionary of identifiers of the entities and literals in the ontology
+   */
+  @NonNull OWLObjectDictionary getOWLObjectDictionary();
+
+  /**
+   * Values derived from the ontology may be cached by clients for as long as this version does not change. The version
+   * is maintained by the listener that is removed by {@link #dispose()}.
+   *
+   * @return A number that changes whenever changes to the ontology or one of its imports are applied
+   */
+  long getOntologyChangeVersion();
+
+  /**
+   * @return An index of the kinds of entity named by IRIs in the ontology and its imports closure
+   */
+  @NonNull OWLSignatureIndex getOWLSignatureIndex();
+
+  /**
+   * @return The instrumentation that receives timings from processing, rule engines, built-ins and SQWRL results
+   */
+  @NonNull SWRLAPIInstrumentation getInstrumentation();
+
+  /**
+   * Set the instrumentation used by this ontology, by rule engines that use it, and by the SQWRL queries created when
+   * it is next processed.
+   *
+   * @param instrumentation The instrumentation; {@link SWRLAPIInstrumentation#NO_OP} disables instrumentation
+   */
+  void setInstrumentation(@NonNull SWRLAPIInstrumentation instrumentation);
+
   @NonNull Set<@NonNull OWLAxiom> getOWLAxioms();
 
   int getNumberOfSWRLRules();
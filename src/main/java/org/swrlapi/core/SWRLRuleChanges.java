@@ -0,0 +1,34 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The differences between the SWRL rules and SQWRL queries extracted from an ontology before and after it was
+ * processed. Rules are identified by name; a rule is modified if a rule with the same name was extracted on both
+ * occasions but the rules differ. All rules are reported as modified if their renderings may have changed because the
+ * ontology's prefixes changed.
+ *
+ * @see org.swrlapi.ui.model.SWRLRuleEngineModel#updateModel(SWRLRuleChanges)
+ */
+public interface SWRLRuleChanges
+{
+  /**
+   * @return The added rules, keyed by name
+   */
+  @NonNull Map<@NonNull String, @NonNull SWRLAPIRule> getAddedSWRLRules();
+
+  /**
+   * @return The new versions of the modified rules, keyed by name
+   */
+  @NonNull Map<@NonNull String, @NonNull SWRLAPIRule> getModifiedSWRLRules();
+
+  @NonNull Set<@NonNull String> getRemovedSWRLRuleNames();
+
+  /**
+   * @return True if no rules were added, modified, or removed
+   */
+  boolean isEmpty();
+}
@@ -13,6 +13,7 @@ import org.swrlapi.parser.SWRLParser;
 import org.swrlapi.ui.model.SWRLAutoCompleter;
 
 import javax.swing.*;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -190,6 +191,13 @@ public interface SWRLRuleEngine
    */
   @NonNull Set<@NonNull OWLAxiom> getInjectedOWLAxioms();
 
+  /**
+   * @return Statistics for each rule that invoked a built-in during the last run of the rule engine, with the rules
+   * that spent most time in built-ins first
+   * @see org.swrlapi.core.SWRLRuleStatistics
+   */
+  @NonNull List<@NonNull SWRLRuleStatistics> getSWRLRuleStatistics();
+
   /**
    * @return The number of imported SWRL rules
    */
@@ -0,0 +1,30 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Statistics gathered by a SWRL rule engine bridge for a single SWRL rule during a rule engine run. The bridge records
+ * each SWRL built-in invocation that a target rule engine makes on behalf of the rule, together with the time spent in
+ * it. Counters are cleared when the bridge is reset. The statistics returned by a rule engine are a snapshot of the
+ * counters taken when they were requested.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngine#getSWRLRuleStatistics()
+ * @see org.swrlapi.bridge.SWRLRuleEngineBridge#invokeSWRLBuiltIn(String, String, int, boolean, java.util.List)
+ */
+public interface SWRLRuleStatistics
+{
+  /**
+   * @return The name of the rule
+   */
+  @NonNull String getRuleName();
+
+  /**
+   * @return The number of SWRL built-in invocations made by the rule
+   */
+  long getNumberOfSWRLBuiltInInvocations();
+
+  /**
+   * @return The time spent in the rule's SWRL built-in invocations in nanoseconds
+   */
+  long getSWRLBuiltInTimeNanos();
+}
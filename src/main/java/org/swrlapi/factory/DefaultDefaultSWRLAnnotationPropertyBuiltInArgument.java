@@ -5,15 +5,17 @@ import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.swrlapi.builtins.arguments.SWRLAnnotationPropertyBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitor;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitorEx;
+import org.swrlapi.core.OWLObjectDictionary;
 
 class DefaultDefaultSWRLAnnotationPropertyBuiltInArgument extends DefaultSWRLNamedBuiltInArgument
   implements SWRLAnnotationPropertyBuiltInArgument
 {
   private static final long serialVersionUID = 1L;
 
-  public DefaultDefaultSWRLAnnotationPropertyBuiltInArgument(@NonNull OWLAnnotationProperty property)
+  public DefaultDefaultSWRLAnnotationPropertyBuiltInArgument(@NonNull OWLAnnotationProperty property,
+    @NonNull OWLObjectDictionary dictionary)
   {
-    super(property);
+    super(property, dictionary);
   }
 
   @NonNull @Override public OWLAnnotationProperty getOWLAnnotationProperty()
@@ -1,5 +1,7 @@
 package org.swrlapi.factory;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.formats.PrefixDocumentFormat;
@@ -12,20 +14,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.swrlapi.core.IRIResolver;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prefixed names and IRIs may be resolved concurrently, for example by parsers or query threads running in parallel.
+ * Autogenerated prefixes are assigned under a lock.
+ * <p>
+ * The prefixed names and short forms of IRIs are held in bounded caches. Changes to prefixes replace the prefix
+ * manager and the caches rather than modifying them, so a resolution running concurrently with a change may return a
+ * rendering based on the previous prefixes but does not cache it.
+ * <p>
+ * Updates that leave the prefixes unchanged keep the caches, and the prefix mapping version is only incremented when
+ * the caches are replaced. Autogenerated prefixes are kept until the resolver is reset, so reprocessing an ontology
+ * does not reassign them.
+ */
 public class DefaultIRIResolver implements IRIResolver
 {
   private static final Logger log = LoggerFactory.getLogger(DefaultIRIResolver.class);
 
-  @NonNull private final DefaultPrefixManager prefixManager;
+  private static final int MAXIMUM_NUMBER_OF_CACHED_RENDERINGS = 100000;
+
+  @NonNull private volatile DefaultPrefixManager prefixManager;
+  @NonNull private volatile Cache<@NonNull IRI, @NonNull String> prefixedNames = createRenderingCache();
+  @NonNull private volatile Cache<@NonNull IRI, @NonNull String> shortForms = createRenderingCache();
+  private volatile long prefixMappingVersion = 0;
 
-  @NonNull private final Map<@NonNull String, @NonNull String> autogenNamespace2Prefix = new HashMap<>();
-  @NonNull private final Map<@NonNull String, @NonNull String> autogeneratedPrefix2Namespace = new HashMap<>();
-  @NonNull private final Map<@NonNull IRI, @NonNull String> autogenIRI2PrefixedName = new HashMap<>();
-  @NonNull private final Map<@NonNull String, @NonNull IRI> autogenPrefixedName2IRI = new HashMap<>();
+  @NonNull private final Map<@NonNull String, @NonNull String> autogenNamespace2Prefix = new ConcurrentHashMap<>();
+  @NonNull private final Map<@NonNull String, @NonNull String> autogeneratedPrefix2Namespace =
+    new ConcurrentHashMap<>();
+  @NonNull private final Map<@NonNull IRI, @NonNull String> autogenIRI2PrefixedName = new ConcurrentHashMap<>();
+  @NonNull private final Map<@NonNull String, @NonNull IRI> autogenPrefixedName2IRI = new ConcurrentHashMap<>();
 
   private int autogenPrefixNumber = 0;
   private int autogenPrefixedNameNumber = 0;
@@ -44,8 +64,12 @@ public class DefaultIRIResolver implements IRIResolver
     this.defaultPrefix = defaultPrefix;
   }
 
-  @Override public void reset()
+  @Override public synchronized void reset()
   {
+    if (this.autogenNamespace2Prefix.isEmpty() && this.autogenIRI2PrefixedName.isEmpty()
+      && this.autogenPrefixedName2IRI.isEmpty())
+      return; // No autogenerated prefixed names have been rendered
+
     this.autogenNamespace2Prefix.clear();
     this.autogeneratedPrefix2Namespace.clear();
     this.autogenPrefixNumber = 0;
@@ -54,6 +78,8 @@ public class DefaultIRIResolver implements IRIResolver
 
     this.autogenIRI2PrefixedName.clear();
     this.autogenPrefixedNameNumber = 0;
+
+    invalidateRenderingCaches(); // Autogenerated prefixed names may be reassigned
   }
 
   @Override @NonNull public Optional<@NonNull IRI> prefixedName2IRI(@NonNull String prefixedName)
@@ -83,61 +109,118 @@ public class DefaultIRIResolver implements IRIResolver
 
   @Override public Optional<@NonNull String> iri2PrefixedName(@NonNull IRI iri)
   {
-    String existingPrefixedName = this.prefixManager.getPrefixIRI(iri);
-    if (existingPrefixedName != null)
-      return Optional.of(existingPrefixedName);
-    else {
-      String namespace = iri.getNamespace();
-      com.google.common.base.Optional<@NonNull String> remainder = iri.getRemainder();
-      if (remainder.isPresent()) {
-        if (namespace.isEmpty()) {
-          String prefixedName = remainder.get();
-          return Optional.of(prefixedName);
-        } else { // OWLAPI prefix manager does not have a prefixed form. We auto-generate a prefix for each namespace.
-          return Optional.of(autoGeneratePrefixedName(iri, namespace, remainder.get()));
-        }
-      } else { // No remainder - auto-generate a prefixed form
-        return Optional.of(autoGeneratePrefixedName(iri));
-      }
+    Cache<@NonNull IRI, @NonNull String> currentPrefixedNames = this.prefixedNames;
+    @Nullable String prefixedName = currentPrefixedNames.getIfPresent(iri);
+
+    if (prefixedName == null) {
+      prefixedName = generatePrefixedName(iri);
+      currentPrefixedNames.put(iri, prefixedName);
     }
+    return Optional.of(prefixedName);
   }
 
   @Override @NonNull public Optional<@NonNull String> iri2ShortForm(@NonNull IRI iri)
   {
-    String shortForm = this.prefixManager.getShortForm(iri);
+    Cache<@NonNull IRI, @NonNull String> currentShortForms = this.shortForms;
+    @Nullable String shortForm = currentShortForms.getIfPresent(iri);
 
-    if (shortForm == null || shortForm.isEmpty() || shortForm.startsWith("<"))
-      return iri2PrefixedName(iri);
-    else
-      return Optional.of(shortForm);
+    if (shortForm == null) {
+      shortForm = generateShortForm(iri);
+      currentShortForms.put(iri, shortForm);
+    }
+    return Optional.of(shortForm);
   }
 
-  @Override public void setPrefix(@NonNull String prefix, @NonNull String namespace)
+  @Override public synchronized void setPrefix(@NonNull String prefix, @NonNull String namespace)
   {
-    this.prefixManager.setPrefix(prefix, namespace);
+    DefaultPrefixManager newPrefixManager = new DefaultPrefixManager();
+    Map<@NonNull String, String> map = this.prefixManager.getPrefixName2PrefixMap();
+
+    if (namespace.equals(map.get(prefix)))
+      return;
+
+    for (String existingPrefix : map.keySet())
+      newPrefixManager.setPrefix(existingPrefix, map.get(existingPrefix));
+    newPrefixManager.setPrefix(prefix, namespace);
+
+    this.prefixManager = newPrefixManager;
+    invalidateRenderingCaches();
   }
 
-  @Override public void updatePrefixes(@NonNull OWLOntology ontology)
+  @Override public synchronized void updatePrefixes(@NonNull OWLOntology ontology)
   {
     OWLOntologyManager owlOntologyManager = ontology.getOWLOntologyManager();
     OWLDocumentFormat ontologyFormat = owlOntologyManager.getOntologyFormat(ontology);
+    DefaultPrefixManager newPrefixManager = new DefaultPrefixManager();
 
-    this.prefixManager.clear();
     if (this.defaultPrefix != null)
-      this.prefixManager.setDefaultPrefix(this.defaultPrefix);
+      newPrefixManager.setDefaultPrefix(this.defaultPrefix);
 
     if (ontologyFormat != null && ontologyFormat.isPrefixOWLOntologyFormat()) {
       PrefixDocumentFormat prefixOntologyFormat = ontologyFormat.asPrefixOWLOntologyFormat();
 
       Map<@NonNull String, String> map = prefixOntologyFormat.getPrefixName2PrefixMap();
       for (String prefix : map.keySet())
-        this.prefixManager.setPrefix(prefix, map.get(prefix));
+        newPrefixManager.setPrefix(prefix, map.get(prefix));
     }
-    addSWRLAPIPrefixes();
+    addSWRLAPIPrefixes(newPrefixManager);
+
+    if (newPrefixManager.getPrefixName2PrefixMap().equals(this.prefixManager.getPrefixName2PrefixMap()))
+      return; // Typically the ontology is reprocessed after a change that does not affect its prefixes
+
+    this.prefixManager = newPrefixManager;
+    invalidateRenderingCaches();
 
     //log.info("updated prefixes " + prefixManager.getPrefixName2PrefixMap());
   }
 
+  @Override public long getPrefixMappingVersion()
+  {
+    return this.prefixMappingVersion;
+  }
+
+  @NonNull private String generatePrefixedName(@NonNull IRI iri)
+  {
+    String existingPrefixedName = this.prefixManager.getPrefixIRI(iri);
+    if (existingPrefixedName != null)
+      return existingPrefixedName;
+    else {
+      String namespace = iri.getNamespace();
+      com.google.common.base.Optional<@NonNull String> remainder = iri.getRemainder();
+      if (remainder.isPresent()) {
+        if (namespace.isEmpty()) {
+          return remainder.get();
+        } else { // OWLAPI prefix manager does not have a prefixed form. We auto-generate a prefix for each namespace.
+          return autoGeneratePrefixedName(iri, namespace, remainder.get());
+        }
+      } else { // No remainder - auto-generate a prefixed form
+        return autoGeneratePrefixedName(iri);
+      }
+    }
+  }
+
+  @NonNull private String generateShortForm(@NonNull IRI iri)
+  {
+    String shortForm = this.prefixManager.getShortForm(iri);
+
+    if (shortForm == null || shortForm.isEmpty() || shortForm.startsWith("<"))
+      return generatePrefixedName(iri);
+    else
+      return shortForm;
+  }
+
+  private void invalidateRenderingCaches()
+  {
+    this.prefixedNames = createRenderingCache();
+    this.shortForms = createRenderingCache();
+    this.prefixMappingVersion++; // Only written under the lock
+  }
+
+  @NonNull private static Cache<@NonNull IRI, @NonNull String> createRenderingCache()
+  {
+    return CacheBuilder.newBuilder().maximumSize(MAXIMUM_NUMBER_OF_CACHED_RENDERINGS).build();
+  }
+
   @NonNull private String getPrefix(@NonNull String prefixedName)
   {
     int separatorIndex = prefixedName.indexOf(":");
@@ -158,7 +241,7 @@ public class DefaultIRIResolver implements IRIResolver
       return prefixedName;
   }
 
-  @NonNull private String autoGeneratePrefix(@NonNull String namespace)
+  @NonNull private synchronized String autoGeneratePrefix(@NonNull String namespace)
   {
     if (this.autogenNamespace2Prefix.containsKey(namespace))
       return this.autogenNamespace2Prefix.get(namespace);
@@ -171,7 +254,7 @@ public class DefaultIRIResolver implements IRIResolver
     }
   }
 
-  @NonNull private String autoGeneratePrefixedName(@NonNull IRI iri)
+  @NonNull private synchronized String autoGeneratePrefixedName(@NonNull IRI iri)
   {
     if (this.autogenIRI2PrefixedName.containsKey(iri))
       return this.autogenIRI2PrefixedName.get(iri);
@@ -194,15 +277,15 @@ public class DefaultIRIResolver implements IRIResolver
     return autogenPrefixedName;
   }
 
-  private void addSWRLAPIPrefixes()
+  private static void addSWRLAPIPrefixes(@NonNull DefaultPrefixManager prefixManager)
   {
-    this.prefixManager.setPrefix("owl:", "http://www.w3.org/2002/07/owl#");
-    this.prefixManager.setPrefix("swrl:", "http://www.w3.org/2003/11/swrl#");
-    this.prefixManager.setPrefix("swrlb:", "http://www.w3.org/2003/11/swrlb#");
-    this.prefixManager.setPrefix("sqwrl:", "http://sqwrl.stanford.edu/ontologies/built-ins/3.4/sqwrl.owl#");
-    this.prefixManager.setPrefix("swrlm:", "http://swrl.stanford.edu/ontologies/built-ins/3.4/swrlm.owl#");
-    this.prefixManager.setPrefix("temporal:", "http://swrl.stanford.edu/ontologies/built-ins/3.3/temporal.owl#");
-    this.prefixManager.setPrefix("swrlx:", "http://swrl.stanford.edu/ontologies/built-ins/3.3/swrlx.owl#");
-    this.prefixManager.setPrefix("swrla:", "http://swrl.stanford.edu/ontologies/3.3/swrla.owl#");
+    prefixManager.setPrefix("owl:", "http://www.w3.org/2002/07/owl#");
+    prefixManager.setPrefix("swrl:", "http://www.w3.org/2003/11/swrl#");
+    prefixManager.setPrefix("swrlb:", "http://www.w3.org/2003/11/swrlb#");
+    prefixManager.setPrefix("sqwrl:", "http://sqwrl.stanford.edu/ontologies/built-ins/3.4/sqwrl.owl#");
+    prefixManager.setPrefix("swrlm:", "http://swrl.stanford.edu/ontologies/built-ins/3.4/swrlm.owl#");
+    prefixManager.setPrefix("temporal:", "http://swrl.stanford.edu/ontologies/built-ins/3.3/temporal.owl#");
+    prefixManager.setPrefix("swrlx:", "http://swrl.stanford.edu/ontologies/built-ins/3.3/swrlx.owl#");
+    prefixManager.setPrefix("swrla:", "http://swrl.stanford.edu/ontologies/3.3/swrla.owl#");
   }
 }
\ No newline at end of file
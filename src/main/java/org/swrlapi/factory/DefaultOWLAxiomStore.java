@@ -0,0 +1,512 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyExpression;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLDifferentIndividualsAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNaryIndividualAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubDataPropertyOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
+import org.swrlapi.core.OWLAxiomStore;
+import org.swrlapi.core.OWLObjectDictionary;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An axiom store that keeps encoded axioms in an open addressing hash table keyed by their identifier tuples. Each key
+ * is a tag identifying the axiom type followed by up to three identifiers assigned by an
+ * {@link org.swrlapi.core.OWLObjectDictionary}. Annotated axioms and axioms of other types are held in an ordinary
+ * hash set. Removed encoded axioms leave a marker in their slot so that probing and iteration are undisturbed; the
+ * markers are discarded when the table is rebuilt.
+ * <p>
+ * A store created by {@link #createOWLAxiomStore()} does not assign dictionary identifiers. IRIs and literals without
+ * one are given local identifiers, which are negative and are discarded when the store is cleared, so that axioms
+ * inferred in each run do not grow the dictionary. Keys with local identifiers are not comparable between stores.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @see org.swrlapi.core.OWLAxiomStore
+ */
+class DefaultOWLAxiomStore extends AbstractSet<@NonNull OWLAxiom> implements OWLAxiomStore
+{
+  private static final int INITIAL_CAPACITY = 64; // Must be a power of two
+
+  private static final int CLASS_ASSERTION = 1;
+  private static final int OBJECT_PROPERTY_ASSERTION = 2;
+  private static final int DATA_PROPERTY_ASSERTION = 3;
+  private static final int CLASS_DECLARATION = 4;
+  private static final int INDIVIDUAL_DECLARATION = 5;
+  private static final int OBJECT_PROPERTY_DECLARATION = 6;
+  private static final int DATA_PROPERTY_DECLARATION = 7;
+  private static final int ANNOTATION_PROPERTY_DECLARATION = 8;
+  private static final int DATATYPE_DECLARATION = 9;
+  private static final int SUB_CLASS_OF = 10;
+  private static final int SUB_OBJECT_PROPERTY_OF = 11;
+  private static final int SUB_DATA_PROPERTY_OF = 12;
+  private static final int SAME_INDIVIDUAL = 13;
+  private static final int DIFFERENT_INDIVIDUALS = 14;
+
+  private static final int NO_ID = -1; // Fills the unused positions of a key
+  private static final int FIRST_LOCAL_ID = -2; // Local identifiers count down from here
+
+  // Key of an axiom referring to an IRI or literal with no identifier, which therefore cannot be in any store
+  private static final long @NonNull [] ABSENT_KEY = new long[0];
+
+  // First key word of a slot whose axiom has been removed; no axiom type has this tag
+  private static final long REMOVED_KEY = -1L;
+
+  @NonNull private final OWLObjectDictionary dictionary;
+  // Local identifiers of IRIs and literals; null if this store assigns dictionary identifiers
+  @Nullable private final Map<@NonNull Object, @NonNull Integer> localIDs;
+  private int nextLocalID;
+  @NonNull private final Set<@NonNull OWLAxiom> unencodedOWLAxioms;
+
+  // The two words of the key in slot i are at positions 2i and 2i + 1; a slot is free if its axiom is null, and was
+  // vacated by a removal if its first key word is also REMOVED_KEY
+  private long @NonNull [] keys;
+  private @Nullable OWLAxiom @NonNull [] encodedOWLAxioms;
+  private int numberOfEncodedOWLAxioms;
+  private int numberOfRemovedSlots;
+
+  public DefaultOWLAxiomStore(@NonNull OWLObjectDictionary dictionary)
+  {
+    this(dictionary, false);
+  }
+
+  private DefaultOWLAxiomStore(@NonNull OWLObjectDictionary dictionary, boolean hasLocalIDs)
+  {
+    this.dictionary = dictionary;
+    this.localIDs = hasLocalIDs ? new HashMap<>() : null;
+    this.nextLocalID = FIRST_LOCAL_ID;
+    this.unencodedOWLAxioms = new HashSet<>();
+    this.keys = new long[2 * INITIAL_CAPACITY];
+    this.encodedOWLAxioms = new OWLAxiom[INITIAL_CAPACITY];
+    this.numberOfEncodedOWLAxioms = 0;
+    this.numberOfRemovedSlots = 0;
+  }
+
+  @NonNull @Override public OWLAxiomStore createOWLAxiomStore()
+  {
+    return new DefaultOWLAxiomStore(this.dictionary, true);
+  }
+
+  @Override public boolean add(@NonNull OWLAxiom axiom)
+  {
+    long @Nullable [] key = encode(axiom, true);
+
+    if (key == null)
+      return this.unencodedOWLAxioms.add(axiom);
+    else
+      return insert(key[0], key[1], axiom);
+  }
+
+  @Override public boolean addIfAbsent(@NonNull OWLAxiom axiom, @NonNull OWLAxiomStore store)
+  {
+    if (!(store instanceof DefaultOWLAxiomStore) || ((DefaultOWLAxiomStore)store).dictionary != this.dictionary)
+      return !store.contains(axiom) && add(axiom);
+
+    DefaultOWLAxiomStore other = (DefaultOWLAxiomStore)store;
+    long @Nullable [] key = encode(axiom, true);
+
+    if (key == null)
+      return !other.unencodedOWLAxioms.contains(axiom) && this.unencodedOWLAxioms.add(axiom);
+    else if (hasLocalID(key)) // The other store may know the axiom by different identifiers
+      return !other.contains(axiom) && insert(key[0], key[1], axiom);
+    else
+      return !other.containsKey(key[0], key[1]) && insert(key[0], key[1], axiom);
+  }
+
+  @Override public boolean contains(@Nullable Object o)
+  {
+    if (!(o instanceof OWLAxiom))
+      return false;
+
+    OWLAxiom axiom = (OWLAxiom)o;
+    long @Nullable [] key = encode(axiom, false);
+
+    if (key == null)
+      return this.unencodedOWLAxioms.contains(axiom);
+    else if (key == ABSENT_KEY)
+      return false;
+    else
+      return containsKey(key[0], key[1]);
+  }
+
+  @Override public boolean remove(@Nullable Object o)
+  {
+    if (!(o instanceof OWLAxiom))
+      return false;
+
+    OWLAxiom axiom = (OWLAxiom)o;
+    long @Nullable [] key = encode(axiom, false);
+
+    if (key == null)
+      return this.unencodedOWLAxioms.remove(axiom);
+    else if (key == ABSENT_KEY)
+      return false;
+    else {
+      int slot = findSlot(key[0], key[1]);
+
+      if (this.encodedOWLAxioms[slot] == null)
+        return false;
+
+      removeSlot(slot);
+      return true;
+    }
+  }
+
+  @Override public int size()
+  {
+    return this.numberOfEncodedOWLAxioms + this.unencodedOWLAxioms.size();
+  }
+
+  @Override public void clear()
+  {
+    this.unencodedOWLAxioms.clear();
+    this.keys = new long[2 * INITIAL_CAPACITY];
+    this.encodedOWLAxioms = new OWLAxiom[INITIAL_CAPACITY];
+    this.numberOfEncodedOWLAxioms = 0;
+    this.numberOfRemovedSlots = 0;
+
+    if (this.localIDs != null) {
+      this.localIDs.clear();
+      this.nextLocalID = FIRST_LOCAL_ID;
+    }
+  }
+
+  @NonNull @Override public Iterator<@NonNull OWLAxiom> iterator()
+  {
+    return new OWLAxiomIterator();
+  }
+
+  private boolean containsKey(long key1, long key2)
+  {
+    return this.encodedOWLAxioms[findSlot(key1, key2)] != null;
+  }
+
+  private boolean insert(long key1, long key2, @NonNull OWLAxiom axiom)
+  {
+    int slot = findSlot(key1, key2);
+
+    if (this.encodedOWLAxioms[slot] != null)
+      return false;
+
+    if (this.keys[2 * slot] == REMOVED_KEY)
+      this.numberOfRemovedSlots--;
+
+    this.keys[2 * slot] = key1;
+    this.keys[2 * slot + 1] = key2;
+    this.encodedOWLAxioms[slot] = axiom;
+    this.numberOfEncodedOWLAxioms++;
+
+    // Keep the occupied and removed slots at most one half of the table so that every probe reaches an empty slot
+    if ((this.numberOfEncodedOWLAxioms + this.numberOfRemovedSlots) * 2 > this.encodedOWLAxioms.length)
+      resize();
+
+    return true;
+  }
+
+  private void removeSlot(int slot)
+  {
+    this.keys[2 * slot] = REMOVED_KEY;
+    this.keys[2 * slot + 1] = 0;
+    this.encodedOWLAxioms[slot] = null;
+    this.numberOfEncodedOWLAxioms--;
+    this.numberOfRemovedSlots++;
+  }
+
+  /**
+   * @return The slot holding the key or, if the key is absent, the first removed or empty slot at which it should be
+   * inserted
+   */
+  private int findSlot(long key1, long key2)
+  {
+    int mask = this.encodedOWLAxioms.length - 1;
+    int slot = hash(key1, key2) & mask;
+    int firstRemovedSlot = -1;
+
+    while (this.encodedOWLAxioms[slot] != null || this.keys[2 * slot] == REMOVED_KEY) {
+      if (this.encodedOWLAxioms[slot] == null) {
+        if (firstRemovedSlot == -1)
+          firstRemovedSlot = slot;
+      } else if (this.keys[2 * slot] == key1 && this.keys[2 * slot + 1] == key2)
+        return slot;
+      slot = (slot + 1) & mask;
+    }
+    return firstRemovedSlot != -1 ? firstRemovedSlot : slot;
+  }
+
+  // Rebuilds the table without removed slots, doubling its size only if the axioms alone fill more than a quarter of it
+  private void resize()
+  {
+    long[] oldKeys = this.keys;
+    @Nullable OWLAxiom[] oldEncodedOWLAxioms = this.encodedOWLAxioms;
+    int capacity = this.numberOfEncodedOWLAxioms * 4 > oldEncodedOWLAxioms.length ?
+      2 * oldEncodedOWLAxioms.length :
+      oldEncodedOWLAxioms.length;
+
+    this.keys = new long[2 * capacity];
+    this.encodedOWLAxioms = new OWLAxiom[capacity];
+    this.numberOfRemovedSlots = 0;
+
+    for (int i = 0; i < oldEncodedOWLAxioms.length; i++) {
+      if (oldEncodedOWLAxioms[i] != null) {
+        int slot = findSlot(oldKeys[2 * i], oldKeys[2 * i + 1]);
+        this.keys[2 * slot] = oldKeys[2 * i];
+        this.keys[2 * slot + 1] = oldKeys[2 * i + 1];
+        this.encodedOWLAxioms[slot] = oldEncodedOWLAxioms[i];
+      }
+    }
+  }
+
+  private static int hash(long key1, long key2)
+  {
+    long h = (key1 * 0x9E3779B97F4A7C15L + key2) * 0xC2B2AE3D27D4EB4FL;
+
+    return (int)(h ^ (h >>> 32));
+  }
+
+  /**
+   * @param axiom     An OWL axiom
+   * @param assignIDs If true, assign identifiers to IRIs and literals that do not have them
+   * @return The key of the axiom, null if the axiom is not encoded, or {@link #ABSENT_KEY} if identifiers are not
+   * assigned and the axiom refers to an IRI or literal without one
+   */
+  private long @Nullable [] encode(@NonNull OWLAxiom axiom, boolean assignIDs)
+  {
+    if (axiom.isAnnotated()) // Annotations take part in axiom equality
+      return null;
+
+    if (axiom instanceof OWLClassAssertionAxiom) {
+      OWLClassAssertionAxiom classAssertionAxiom = (OWLClassAssertionAxiom)axiom;
+      OWLClassExpression classExpression = classAssertionAxiom.getClassExpression();
+      OWLIndividual individual = classAssertionAxiom.getIndividual();
+
+      if (classExpression.isAnonymous() || individual.isAnonymous())
+        return null;
+
+      return createKey(CLASS_ASSERTION, getID(classExpression.asOWLClass().getIRI(), assignIDs),
+        getID(individual.asOWLNamedIndividual().getIRI(), assignIDs), NO_ID);
+    } else if (axiom instanceof OWLObjectPropertyAssertionAxiom) {
+      OWLObjectPropertyAssertionAxiom propertyAssertionAxiom = (OWLObjectPropertyAssertionAxiom)axiom;
+      OWLObjectPropertyExpression property = propertyAssertionAxiom.getProperty();
+      OWLIndividual subject = propertyAssertionAxiom.getSubject();
+      OWLIndividual object = propertyAssertionAxiom.getObject();
+
+      if (property.isAnonymous() || subject.isAnonymous() || object.isAnonymous())
+        return null;
+
+      return createKey(OBJECT_PROPERTY_ASSERTION, getID(property.asOWLObjectProperty().getIRI(), assignIDs),
+        getID(subject.asOWLNamedIndividual().getIRI(), assignIDs),
+        getID(object.asOWLNamedIndividual().getIRI(), assignIDs));
+    } else if (axiom instanceof OWLDataPropertyAssertionAxiom) {
+      OWLDataPropertyAssertionAxiom propertyAssertionAxiom = (OWLDataPropertyAssertionAxiom)axiom;
+      OWLDataPropertyExpression property = propertyAssertionAxiom.getProperty();
+      OWLIndividual subject = propertyAssertionAxiom.getSubject();
+
+      if (property.isAnonymous() || subject.isAnonymous())
+        return null;
+
+      int literalID = getID(propertyAssertionAxiom.getObject(), assignIDs);
+
+      return createKey(DATA_PROPERTY_ASSERTION, getID(property.asOWLDataProperty().getIRI(), assignIDs),
+        getID(subject.asOWLNamedIndividual().getIRI(), assignIDs), literalID);
+    } else if (axiom instanceof OWLDeclarationAxiom) {
+      OWLEntity entity = ((OWLDeclarationAxiom)axiom).getEntity();
+      int tag;
+
+      if (entity.isOWLClass())
+        tag = CLASS_DECLARATION;
+      else if (entity.isOWLNamedIndividual())
+        tag = INDIVIDUAL_DECLARATION;
+      else if (entity.isOWLObjectProperty())
+        tag = OBJECT_PROPERTY_DECLARATION;
+      else if (entity.isOWLDataProperty())
+        tag = DATA_PROPERTY_DECLARATION;
+      else if (entity.isOWLAnnotationProperty())
+        tag = ANNOTATION_PROPERTY_DECLARATION;
+      else if (entity.isOWLDatatype())
+        tag = DATATYPE_DECLARATION;
+      else
+        return null;
+
+      return createKey(tag, getID(entity.getIRI(), assignIDs), NO_ID, NO_ID);
+    } else if (axiom instanceof OWLSubClassOfAxiom) {
+      OWLSubClassOfAxiom subClassOfAxiom = (OWLSubClassOfAxiom)axiom;
+      OWLClassExpression subClass = subClassOfAxiom.getSubClass();
+      OWLClassExpression superClass = subClassOfAxiom.getSuperClass();
+
+      if (subClass.isAnonymous() || superClass.isAnonymous())
+        return null;
+
+      return createKey(SUB_CLASS_OF, getID(subClass.asOWLClass().getIRI(), assignIDs),
+        getID(superClass.asOWLClass().getIRI(), assignIDs), NO_ID);
+    } else if (axiom instanceof OWLSubObjectPropertyOfAxiom) {
+      OWLSubObjectPropertyOfAxiom subPropertyOfAxiom = (OWLSubObjectPropertyOfAxiom)axiom;
+      OWLObjectPropertyExpression subProperty = subPropertyOfAxiom.getSubProperty();
+      OWLObjectPropertyExpression superProperty = subPropertyOfAxiom.getSuperProperty();
+
+      if (subProperty.isAnonymous() || superProperty.isAnonymous())
+        return null;
+
+      return createKey(SUB_OBJECT_PROPERTY_OF, getID(subProperty.asOWLObjectProperty().getIRI(), assignIDs),
+        getID(superProperty.asOWLObjectProperty().getIRI(), assignIDs), NO_ID);
+    } else if (axiom instanceof OWLSubDataPropertyOfAxiom) {
+      OWLSubDataPropertyOfAxiom subPropertyOfAxiom = (OWLSubDataPropertyOfAxiom)axiom;
+      OWLDataPropertyExpression subProperty = subPropertyOfAxiom.getSubProperty();
+      OWLDataPropertyExpression superProperty = subPropertyOfAxiom.getSuperProperty();
+
+      if (subProperty.isAnonymous() || superProperty.isAnonymous())
+        return null;
+
+      return createKey(SUB_DATA_PROPERTY_OF, getID(subProperty.asOWLDataProperty().getIRI(), assignIDs),
+        getID(superProperty.asOWLDataProperty().getIRI(), assignIDs), NO_ID);
+    } else if (axiom instanceof OWLSameIndividualAxiom)
+      return encodeIndividualPair(SAME_INDIVIDUAL, (OWLSameIndividualAxiom)axiom, assignIDs);
+    else if (axiom instanceof OWLDifferentIndividualsAxiom)
+      return encodeIndividualPair(DIFFERENT_INDIVIDUALS, (OWLDifferentIndividualsAxiom)axiom, assignIDs);
+    else
+      return null;
+  }
+
+  // The individuals of these axioms are unordered, so the identifiers are placed in ascending order
+  private long @Nullable [] encodeIndividualPair(int tag, @NonNull OWLNaryIndividualAxiom axiom, boolean assignIDs)
+  {
+    Set<@NonNull OWLIndividual> individuals = axiom.getIndividuals();
+
+    if (individuals.size() != 2)
+      return null;
+
+    Iterator<@NonNull OWLIndividual> iterator = individuals.iterator();
+    OWLIndividual individual1 = iterator.next();
+    OWLIndividual individual2 = iterator.next();
+
+    if (individual1.isAnonymous() || individual2.isAnonymous())
+      return null;
+
+    int id1 = getID(individual1.asOWLNamedIndividual().getIRI(), assignIDs);
+    int id2 = getID(individual2.asOWLNamedIndividual().getIRI(), assignIDs);
+
+    return createKey(tag, Math.min(id1, id2), Math.max(id1, id2), NO_ID);
+  }
+
+  private int getID(@NonNull IRI iri, boolean assignID)
+  {
+    if (this.localIDs == null)
+      return assignID ? this.dictionary.getID(iri) : this.dictionary.lookUpID(iri);
+    else {
+      @Nullable Integer localID = this.localIDs.get(iri);
+      return localID != null ? localID : getDictionaryOrLocalID(iri, this.dictionary.lookUpID(iri), assignID);
+    }
+  }
+
+  private int getID(@NonNull OWLLiteral literal, boolean assignID)
+  {
+    if (this.localIDs == null)
+      return assignID ? this.dictionary.getID(literal) : this.dictionary.lookUpID(literal);
+    else {
+      @Nullable Integer localID = this.localIDs.get(literal);
+      return localID != null ? localID : getDictionaryOrLocalID(literal, this.dictionary.lookUpID(literal), assignID);
+    }
+  }
+
+  private int getDictionaryOrLocalID(@NonNull Object object, int dictionaryID, boolean assignID)
+  {
+    if (dictionaryID != OWLObjectDictionary.UNKNOWN_ID || !assignID || this.localIDs == null)
+      return dictionaryID;
+
+    int localID = this.nextLocalID--;
+    this.localIDs.put(object, localID);
+
+    return localID;
+  }
+
+  private static boolean hasLocalID(long @NonNull [] key)
+  {
+    return (int)key[0] < NO_ID || (int)(key[1] >>> 32) < NO_ID || (int)key[1] < NO_ID;
+  }
+
+  private static long @NonNull [] createKey(int tag, int id1, int id2, int id3)
+  {
+    if (id1 == OWLObjectDictionary.UNKNOWN_ID || id2 == OWLObjectDictionary.UNKNOWN_ID
+      || id3 == OWLObjectDictionary.UNKNOWN_ID)
+      return ABSENT_KEY;
+
+    return new long[] { ((long)tag << 32) | (id1 & 0xFFFFFFFFL), ((long)id2 << 32) | (id3 & 0xFFFFFFFFL) };
+  }
+
+  private class OWLAxiomIterator implements Iterator<@NonNull OWLAxiom>
+  {
+    private final @Nullable OWLAxiom @NonNull [] encodedOWLAxioms = DefaultOWLAxiomStore.this.encodedOWLAxioms;
+    @NonNull private final Iterator<@NonNull OWLAxiom> unencodedOWLAxiomIterator = DefaultOWLAxiomStore.this
+      .unencodedOWLAxioms.iterator();
+    private int slot = nextOccupiedSlot(0);
+    private int lastSlot = -1; // Slot of the last encoded axiom returned, or -1
+    private boolean canRemove = false;
+
+    @Override public boolean hasNext()
+    {
+      return this.slot < this.encodedOWLAxioms.length || this.unencodedOWLAxiomIterator.hasNext();
+    }
+
+    @NonNull @Override public OWLAxiom next()
+    {
+      if (this.slot < this.encodedOWLAxioms.length) {
+        OWLAxiom axiom = this.encodedOWLAxioms[this.slot];
+        this.lastSlot = this.slot;
+        this.slot = nextOccupiedSlot(this.slot + 1);
+        this.canRemove = true;
+        return axiom;
+      } else {
+        OWLAxiom axiom = this.unencodedOWLAxiomIterator.next();
+        this.lastSlot = -1;
+        this.canRemove = true;
+        return axiom;
+      }
+    }
+
+    @Override public void remove()
+    {
+      if (!this.canRemove)
+        throw new IllegalStateException();
+
+      this.canRemove = false;
+
+      if (this.lastSlot == -1)
+        this.unencodedOWLAxiomIterator.remove();
+      else if (this.encodedOWLAxioms == DefaultOWLAxiomStore.this.encodedOWLAxioms)
+        removeSlot(this.lastSlot);
+      else { // The table has been rebuilt since this iterator was created
+        OWLAxiom axiom = this.encodedOWLAxioms[this.lastSlot];
+        if (axiom != null)
+          DefaultOWLAxiomStore.this.remove(axiom);
+      }
+    }
+
+    private int nextOccupiedSlot(int slot)
+    {
+      while (slot < this.encodedOWLAxioms.length && this.encodedOWLAxioms[slot] == null)
+        slot++;
+
+      return slot;
+    }
+  }
+}
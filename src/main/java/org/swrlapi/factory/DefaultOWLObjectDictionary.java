@@ -0,0 +1,95 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.swrlapi.core.OWLObjectDictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lookups of assigned identifiers do not lock. Assignment of new identifiers and reverse lookups are serialized so that
+ * identifiers stay dense.
+ *
+ * @see org.swrlapi.core.OWLObjectDictionary
+ */
+class DefaultOWLObjectDictionary implements OWLObjectDictionary
+{
+  @NonNull private final ConcurrentMap<@NonNull Object, @NonNull Integer> ids = new ConcurrentHashMap<>();
+  @NonNull private final List<@NonNull Object> objects = new ArrayList<>(); // Identifier i is at position i - 1
+
+  @Override public int getID(@NonNull IRI iri)
+  {
+    return getOrAssignID(iri);
+  }
+
+  @Override public int getID(@NonNull OWLLiteral literal)
+  {
+    return getOrAssignID(literal);
+  }
+
+  @Override public int lookUpID(@NonNull IRI iri)
+  {
+    return lookUpOrUnknownID(iri);
+  }
+
+  @Override public int lookUpID(@NonNull OWLLiteral literal)
+  {
+    return lookUpOrUnknownID(literal);
+  }
+
+  @NonNull @Override public Optional<@NonNull IRI> getIRI(int id)
+  {
+    @Nullable Object object = getObject(id);
+
+    return object instanceof IRI ? Optional.of((IRI)object) : Optional.<@NonNull IRI>empty();
+  }
+
+  @NonNull @Override public Optional<@NonNull OWLLiteral> getOWLLiteral(int id)
+  {
+    @Nullable Object object = getObject(id);
+
+    return object instanceof OWLLiteral ? Optional.of((OWLLiteral)object) : Optional.<@NonNull OWLLiteral>empty();
+  }
+
+  @Override public synchronized int size()
+  {
+    return this.objects.size();
+  }
+
+  private int getOrAssignID(@NonNull Object key)
+  {
+    @Nullable Integer id = this.ids.get(key);
+
+    return id != null ? id : assignID(key);
+  }
+
+  private synchronized int assignID(@NonNull Object key)
+  {
+    @Nullable Integer id = this.ids.get(key);
+
+    if (id == null) {
+      this.objects.add(key);
+      id = this.objects.size();
+      this.ids.put(key, id);
+    }
+    return id;
+  }
+
+  private int lookUpOrUnknownID(@NonNull Object key)
+  {
+    @Nullable Integer id = this.ids.get(key);
+
+    return id != null ? id : UNKNOWN_ID;
+  }
+
+  @Nullable private synchronized Object getObject(int id)
+  {
+    return id > 0 && id <= this.objects.size() ? this.objects.get(id - 1) : null;
+  }
+}
@@ -0,0 +1,159 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+import org.swrlapi.core.OWLSignatureIndex;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the kinds of entity named by each IRI as a bit set. The index is rebuilt from the signature of the ontology's
+ * imports closure when it is first used after being invalidated. Added axioms add the kinds of the entities in their
+ * signature; removed axioms cause the entities in their signature to be rechecked against the ontology. Import and
+ * other non-axiom changes invalidate the index.
+ *
+ * @see org.swrlapi.core.OWLSignatureIndex
+ */
+class DefaultOWLSignatureIndex implements OWLSignatureIndex
+{
+  private static final int CLASS = 1;
+  private static final int NAMED_INDIVIDUAL = 1 << 1;
+  private static final int OBJECT_PROPERTY = 1 << 2;
+  private static final int DATA_PROPERTY = 1 << 3;
+  private static final int ANNOTATION_PROPERTY = 1 << 4;
+  private static final int DATATYPE = 1 << 5;
+
+  @NonNull private final OWLOntology ontology;
+
+  @Nullable private volatile ConcurrentMap<@NonNull IRI, @NonNull Integer> kinds; // Null when invalidated
+
+  public DefaultOWLSignatureIndex(@NonNull OWLOntology ontology)
+  {
+    this.ontology = ontology;
+  }
+
+  @Override public boolean isOWLClass(@NonNull IRI iri)
+  {
+    return hasKind(iri, CLASS) || iri.equals(OWLRDFVocabulary.OWL_THING.getIRI()) || iri
+      .equals(OWLRDFVocabulary.OWL_NOTHING.getIRI());
+  }
+
+  @Override public boolean isOWLNamedIndividual(@NonNull IRI iri)
+  {
+    return hasKind(iri, NAMED_INDIVIDUAL);
+  }
+
+  @Override public boolean isOWLObjectProperty(@NonNull IRI iri)
+  {
+    return hasKind(iri, OBJECT_PROPERTY);
+  }
+
+  @Override public boolean isOWLDataProperty(@NonNull IRI iri)
+  {
+    return hasKind(iri, DATA_PROPERTY);
+  }
+
+  @Override public boolean isOWLAnnotationProperty(@NonNull IRI iri)
+  {
+    return hasKind(iri, ANNOTATION_PROPERTY);
+  }
+
+  @Override public boolean isOWLDatatype(@NonNull IRI iri)
+  {
+    return hasKind(iri, DATATYPE);
+  }
+
+  @Override public boolean isOWLEntity(@NonNull IRI iri)
+  {
+    return getKinds().containsKey(iri);
+  }
+
+  @Override public synchronized void update(@NonNull List<? extends @NonNull OWLOntologyChange> changes)
+  {
+    ConcurrentMap<@NonNull IRI, @NonNull Integer> currentKinds = this.kinds;
+
+    if (currentKinds == null)
+      return; // Will be rebuilt on next lookup
+
+    Set<@NonNull OWLOntology> importsClosure = this.ontology.getImportsClosure();
+
+    for (OWLOntologyChange change : changes) {
+      if (!change.isAxiomChange()) {
+        this.kinds = null; // Imports or ontology identifiers may have changed
+        return;
+      } else if (importsClosure.contains(change.getOntology())) {
+        if (change.isAddAxiom()) {
+          for (OWLEntity entity : change.getAxiom().getSignature())
+            currentKinds.merge(entity.getIRI(), kind(entity), (k1, k2) -> k1 | k2);
+        } else if (change.isRemoveAxiom()) {
+          for (OWLEntity entity : change.getAxiom().getSignature()) {
+            if (!this.ontology.containsEntityInSignature(entity, Imports.INCLUDED)) {
+              int remainingKinds = ~kind(entity);
+              currentKinds
+                .computeIfPresent(entity.getIRI(), (iri, k) -> (k & remainingKinds) == 0 ? null : k & remainingKinds);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Override public synchronized void invalidate()
+  {
+    this.kinds = null;
+  }
+
+  private boolean hasKind(@NonNull IRI iri, int kind)
+  {
+    @Nullable Integer iriKinds = getKinds().get(iri);
+
+    return iriKinds != null && (iriKinds & kind) != 0;
+  }
+
+  @NonNull private ConcurrentMap<@NonNull IRI, @NonNull Integer> getKinds()
+  {
+    ConcurrentMap<@NonNull IRI, @NonNull Integer> currentKinds = this.kinds;
+
+    return currentKinds != null ? currentKinds : build();
+  }
+
+  @NonNull private synchronized ConcurrentMap<@NonNull IRI, @NonNull Integer> build()
+  {
+    ConcurrentMap<@NonNull IRI, @NonNull Integer> currentKinds = this.kinds;
+
+    if (currentKinds == null) { // Another thread may have built it while we waited
+      currentKinds = new ConcurrentHashMap<>();
+
+      for (OWLEntity entity : this.ontology.getSignature(Imports.INCLUDED))
+        currentKinds.merge(entity.getIRI(), kind(entity), (k1, k2) -> k1 | k2);
+
+      this.kinds = currentKinds;
+    }
+    return currentKinds;
+  }
+
+  private static int kind(@NonNull OWLEntity entity)
+  {
+    if (entity.isOWLClass())
+      return CLASS;
+    else if (entity.isOWLNamedIndividual())
+      return NAMED_INDIVIDUAL;
+    else if (entity.isOWLObjectProperty())
+      return OBJECT_PROPERTY;
+    else if (entity.isOWLDataProperty())
+      return DATA_PROPERTY;
+    else if (entity.isOWLAnnotationProperty())
+      return ANNOTATION_PROPERTY;
+    else
+      return DATATYPE;
+  }
+}
@@ -7,6 +7,7 @@ import org.swrlapi.builtins.arguments.SWRLLiteralBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLVariableBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
 import org.swrlapi.core.SWRLAPIBuiltInAtom;
+import org.swrlapi.core.SWRLAPIInstrumentation;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 import org.swrlapi.literal.Literal;
 import org.swrlapi.sqwrl.SQWRLNames;
@@ -40,14 +41,15 @@ class DefaultSQWRLQuery implements SQWRLQuery
 
   public DefaultSQWRLQuery(@NonNull String queryName, @NonNull List<@NonNull SWRLAtom> bodyAtoms,
     @NonNull List<@NonNull SWRLAtom> headAtoms, boolean active, @NonNull String comment,
-    @NonNull LiteralFactory literalFactory, @NonNull IRIResolver iriResolver) throws SQWRLException
+    @NonNull LiteralFactory literalFactory, @NonNull IRIResolver iriResolver,
+    @NonNull SWRLAPIInstrumentation instrumentation) throws SQWRLException
   {
     this.queryName = queryName;
     this.bodyAtoms = new ArrayList<>(bodyAtoms);
     this.headAtoms = new ArrayList<>(headAtoms);
     this.active = active;
     this.comment = comment;
-    this.sqwrlResult = SWRLAPIFactory.createSQWRLResultManager(iriResolver);
+    this.sqwrlResult = SWRLAPIFactory.createSQWRLResultManager(iriResolver, queryName, instrumentation);
     this.collectionGroupArgumentsMap = new HashMap<>();
     this.literalFactory = literalFactory;
 
@@ -94,6 +96,12 @@ class DefaultSQWRLQuery implements SQWRLQuery
     return getBuiltInAtoms(getBodyAtoms(), builtInNames);
   }
 
+  @NonNull @Override public Map<@NonNull String, @NonNull List<@NonNull SWRLBuiltInArgument>>
+  getCollectionGroupArguments()
+  {
+    return Collections.unmodifiableMap(this.collectionGroupArgumentsMap);
+  }
+
   @Override public void setActive(boolean isActive)
   {
     this.active = isActive;
@@ -0,0 +1,304 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.semanticweb.owlapi.model.SWRLClassAtom;
+import org.semanticweb.owlapi.model.SWRLDataPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLDifferentIndividualsAtom;
+import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
+import org.swrlapi.core.SWRLAPIBuiltInAtom;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLRuleRenderer;
+import org.swrlapi.sqwrl.SQWRLQuery;
+import org.swrlapi.sqwrl.SQWRLQueryPlan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Cardinalities are estimated from the asserted axioms of the ontology and its imports; property assertions are
+ * counted in a single pass the first time a property atom is estimated.
+ *
+ * @see org.swrlapi.sqwrl.SQWRLQueryPlan
+ */
+class DefaultSQWRLQueryPlan implements SQWRLQueryPlan
+{
+  private static final double NANOS_PER_MILLISECOND = 1000000.0;
+
+  @NonNull private final String queryName;
+  @NonNull private final List<@NonNull AtomPlan> phase1Atoms;
+  @NonNull private final List<@NonNull AtomPlan> phase2Atoms;
+  @NonNull private final Map<@NonNull String, @NonNull List<@NonNull String>> collectionGroupArguments;
+  @NonNull private final Set<@NonNull ResultOperator> resultOperators;
+  @NonNull private final Map<@NonNull Stage, @NonNull Long> stageTimeNanos;
+  @NonNull private final Optional<@NonNull Integer> actualNumberOfRows;
+
+  public DefaultSQWRLQueryPlan(@NonNull SQWRLQuery query, @NonNull SWRLAPIOWLOntology swrlapiOWLOntology,
+    @NonNull Map<@NonNull Stage, @NonNull Long> stageTimeNanos, @NonNull Optional<@NonNull Integer> actualNumberOfRows)
+  {
+    SWRLRuleRenderer renderer = swrlapiOWLOntology.createSWRLRuleRenderer();
+    CardinalityEstimator estimator = new CardinalityEstimator(swrlapiOWLOntology.getOWLOntology());
+    List<@NonNull SWRLAtom> bodyAtoms = query.getBodyAtoms();
+
+    this.queryName = query.getQueryName();
+    this.phase1Atoms = createAtomPlans(query.getSQWRLPhase1BodyAtoms(), bodyAtoms, renderer, estimator);
+    this.phase2Atoms = query.hasSQWRLCollections() ?
+      createAtomPlans(query.getSQWRLPhase2BodyAtoms(), bodyAtoms, renderer, estimator) :
+      Collections.emptyList();
+    this.collectionGroupArguments = renderCollectionGroupArguments(query.getCollectionGroupArguments(), renderer);
+    this.resultOperators = Collections.unmodifiableSet(query.getSQWRLResultGenerator().getResultOperators());
+    this.stageTimeNanos = new EnumMap<>(Stage.class);
+    this.stageTimeNanos.putAll(stageTimeNanos);
+    this.actualNumberOfRows = actualNumberOfRows;
+  }
+
+  @NonNull @Override public String getQueryName()
+  {
+    return this.queryName;
+  }
+
+  @NonNull @Override public List<@NonNull AtomPlan> getPhase1Atoms()
+  {
+    return this.phase1Atoms;
+  }
+
+  @NonNull @Override public List<@NonNull AtomPlan> getPhase2Atoms()
+  {
+    return this.phase2Atoms;
+  }
+
+  @NonNull @Override public Map<@NonNull String, @NonNull List<@NonNull String>> getCollectionGroupArguments()
+  {
+    return this.collectionGroupArguments;
+  }
+
+  @NonNull @Override public Set<@NonNull ResultOperator> getResultOperators()
+  {
+    return this.resultOperators;
+  }
+
+  @Override public boolean isProfiled()
+  {
+    return this.actualNumberOfRows.isPresent();
+  }
+
+  @NonNull @Override public Map<@NonNull Stage, @NonNull Long> getStageTimeNanos()
+  {
+    return Collections.unmodifiableMap(this.stageTimeNanos);
+  }
+
+  @NonNull @Override public Optional<@NonNull Integer> getActualNumberOfRows()
+  {
+    return this.actualNumberOfRows;
+  }
+
+  @NonNull @Override public String toString()
+  {
+    StringBuilder sb = new StringBuilder("Plan for SQWRL query " + this.queryName + "\n");
+
+    if (this.phase2Atoms.isEmpty())
+      renderAtomPlans(sb, "Atoms", this.phase1Atoms);
+    else {
+      renderAtomPlans(sb, "Phase 1 atoms", this.phase1Atoms);
+      renderAtomPlans(sb, "Phase 2 atoms", this.phase2Atoms);
+    }
+
+    if (!this.collectionGroupArguments.isEmpty()) {
+      sb.append("Collection groups:\n");
+      for (Map.Entry<@NonNull String, @NonNull List<@NonNull String>> entry : this.collectionGroupArguments.entrySet())
+        sb.append("  ?").append(entry.getKey()).append(" grouped by ").append(String.join(", ", entry.getValue()))
+          .append("\n");
+    }
+
+    sb.append("Result operators: ").append(this.resultOperators.isEmpty() ? "none" : this.resultOperators.stream()
+      .map(ResultOperator::name).collect(Collectors.joining(", "))).append("\n");
+
+    if (this.actualNumberOfRows.isPresent()) {
+      sb.append("Profile:\n");
+      for (Map.Entry<@NonNull Stage, @NonNull Long> entry : this.stageTimeNanos.entrySet())
+        sb.append("  ").append(entry.getKey().name()).append(": ")
+          .append(String.format("%.3f", entry.getValue() / NANOS_PER_MILLISECOND)).append(" ms\n");
+      sb.append("  Rows: ").append(this.actualNumberOfRows.get()).append("\n");
+    }
+
+    return sb.toString();
+  }
+
+  private void renderAtomPlans(@NonNull StringBuilder sb, @NonNull String title,
+    @NonNull List<@NonNull AtomPlan> atomPlans)
+  {
+    sb.append(title).append(":\n");
+
+    for (AtomPlan atomPlan : atomPlans) {
+      sb.append("  ").append(atomPlan.getPosition()).append(": ").append(atomPlan.getRenderedAtom());
+
+      if (atomPlan.getEstimatedCardinality() != UNKNOWN_CARDINALITY)
+        sb.append(" [estimated ").append(atomPlan.getEstimatedCardinality()).append("]");
+
+      if (!atomPlan.getPathVariableNames().isEmpty())
+        sb.append(" [depends on ").append(atomPlan.getPathVariableNames().stream().map(name -> "?" + name)
+          .collect(Collectors.joining(", "))).append("]");
+
+      sb.append("\n");
+    }
+  }
+
+  @NonNull private List<@NonNull AtomPlan> createAtomPlans(@NonNull List<@NonNull SWRLAtom> phaseAtoms,
+    @NonNull List<@NonNull SWRLAtom> bodyAtoms, @NonNull SWRLRuleRenderer renderer,
+    @NonNull CardinalityEstimator estimator)
+  {
+    List<@NonNull AtomPlan> atomPlans = new ArrayList<>();
+
+    for (SWRLAtom atom : phaseAtoms) {
+      Set<@NonNull String> pathVariableNames = atom instanceof SWRLAPIBuiltInAtom ?
+        Collections.unmodifiableSet(new TreeSet<>(((SWRLAPIBuiltInAtom)atom).getPathVariableNames())) :
+        Collections.emptySet();
+
+      atomPlans.add(new DefaultAtomPlan(getPosition(atom, bodyAtoms), atom, atom.accept(renderer),
+        estimator.estimateCardinality(atom), pathVariableNames));
+    }
+
+    return Collections.unmodifiableList(atomPlans);
+  }
+
+  // Phase atoms are the body atoms themselves, so positions are found by identity
+  private int getPosition(@NonNull SWRLAtom atom, @NonNull List<@NonNull SWRLAtom> bodyAtoms)
+  {
+    for (int position = 0; position < bodyAtoms.size(); position++)
+      if (bodyAtoms.get(position) == atom)
+        return position;
+
+    return bodyAtoms.indexOf(atom);
+  }
+
+  @NonNull private Map<@NonNull String, @NonNull List<@NonNull String>> renderCollectionGroupArguments(
+    @NonNull Map<@NonNull String, @NonNull List<@NonNull SWRLBuiltInArgument>> groupArguments,
+    @NonNull SWRLRuleRenderer renderer)
+  {
+    Map<@NonNull String, @NonNull List<@NonNull String>> renderedGroupArguments = new LinkedHashMap<>();
+
+    for (Map.Entry<@NonNull String, @NonNull List<@NonNull SWRLBuiltInArgument>> entry : new TreeMap<>(groupArguments)
+      .entrySet())
+      renderedGroupArguments.put(entry.getKey(), Collections.unmodifiableList(
+        entry.getValue().stream().map(argument -> argument.accept(renderer)).collect(Collectors.toList())));
+
+    return Collections.unmodifiableMap(renderedGroupArguments);
+  }
+
+  private static class DefaultAtomPlan implements AtomPlan
+  {
+    private final int position;
+    @NonNull private final SWRLAtom atom;
+    @NonNull private final String renderedAtom;
+    private final long estimatedCardinality;
+    @NonNull private final Set<@NonNull String> pathVariableNames;
+
+    public DefaultAtomPlan(int position, @NonNull SWRLAtom atom, @NonNull String renderedAtom,
+      long estimatedCardinality, @NonNull Set<@NonNull String> pathVariableNames)
+    {
+      this.position = position;
+      this.atom = atom;
+      this.renderedAtom = renderedAtom;
+      this.estimatedCardinality = estimatedCardinality;
+      this.pathVariableNames = pathVariableNames;
+    }
+
+    @Override public int getPosition()
+    {
+      return this.position;
+    }
+
+    @NonNull @Override public SWRLAtom getAtom()
+    {
+      return this.atom;
+    }
+
+    @NonNull @Override public String getRenderedAtom()
+    {
+      return this.renderedAtom;
+    }
+
+    @Override public long getEstimatedCardinality()
+    {
+      return this.estimatedCardinality;
+    }
+
+    @NonNull @Override public Set<@NonNull String> getPathVariableNames()
+    {
+      return this.pathVariableNames;
+    }
+  }
+
+  private static class CardinalityEstimator
+  {
+    @NonNull private final OWLOntology ontology;
+    @Nullable private Map<@NonNull OWLObject, @NonNull Long> propertyAssertionCounts; // Created on demand
+
+    public CardinalityEstimator(@NonNull OWLOntology ontology)
+    {
+      this.ontology = ontology;
+    }
+
+    public long estimateCardinality(@NonNull SWRLAtom atom)
+    {
+      if (atom instanceof SWRLClassAtom) {
+        OWLClassExpression classExpression = ((SWRLClassAtom)atom).getPredicate();
+
+        if (classExpression.isAnonymous())
+          return UNKNOWN_CARDINALITY;
+
+        long count = 0;
+        for (OWLOntology importedOntology : this.ontology.getImportsClosure())
+          count += importedOntology.getClassAssertionAxioms(classExpression).size();
+        return count;
+      } else if (atom instanceof SWRLObjectPropertyAtom)
+        return getPropertyAssertionCounts().getOrDefault(((SWRLObjectPropertyAtom)atom).getPredicate(), 0L);
+      else if (atom instanceof SWRLDataPropertyAtom)
+        return getPropertyAssertionCounts().getOrDefault(((SWRLDataPropertyAtom)atom).getPredicate(), 0L);
+      else if (atom instanceof SWRLSameIndividualAtom)
+        return this.ontology.getAxiomCount(AxiomType.SAME_INDIVIDUAL, Imports.INCLUDED);
+      else if (atom instanceof SWRLDifferentIndividualsAtom)
+        return this.ontology.getAxiomCount(AxiomType.DIFFERENT_INDIVIDUALS, Imports.INCLUDED);
+      else
+        return UNKNOWN_CARDINALITY; // Built-in and data range atoms
+    }
+
+    @NonNull private Map<@NonNull OWLObject, @NonNull Long> getPropertyAssertionCounts()
+    {
+      if (this.propertyAssertionCounts == null) {
+        Map<@NonNull OWLObject, @NonNull Long> counts = new HashMap<>();
+
+        for (OWLObjectPropertyAssertionAxiom axiom : this.ontology
+          .getAxioms(AxiomType.OBJECT_PROPERTY_ASSERTION, Imports.INCLUDED))
+          counts.merge(axiom.getProperty(), 1L, Long::sum);
+
+        for (OWLDataPropertyAssertionAxiom axiom : this.ontology
+          .getAxioms(AxiomType.DATA_PROPERTY_ASSERTION, Imports.INCLUDED))
+          counts.merge(axiom.getProperty(), 1L, Long::sum);
+
+        this.propertyAssertionCounts = counts;
+      }
+      return this.propertyAssertionCounts;
+    }
+  }
+}
@@ -1,9 +1,12 @@
 package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.SWRLAPIInstrumentation;
 import org.swrlapi.exceptions.SWRLAPIInternalException;
+import org.swrlapi.sqwrl.SQWRLQueryPlan;
 import org.swrlapi.sqwrl.SQWRLResultManager;
 import org.swrlapi.sqwrl.SQWRLResultNames;
 import org.swrlapi.sqwrl.exceptions.SQWRLException;
@@ -28,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -40,6 +44,8 @@ class DefaultSQWRLResultManager implements SQWRLResultManager, Serializable
   private static final long serialVersionUID = 1L;
 
   @NonNull private final SQWRLResultValueFactory sqwrlResultValueFactory;
+  @NonNull private final String queryName;
+  @Nullable private final transient SWRLAPIInstrumentation instrumentation; // Null after deserialization
 
   @NonNull private final List<@NonNull String> allColumnNames, columnDisplayNames;
   @NonNull private final List<@NonNull Integer> selectedColumnIndexes, orderByColumnIndexes;
@@ -58,8 +64,16 @@ class DefaultSQWRLResultManager implements SQWRLResultManager, Serializable
   private int currentRowIndex;
 
   public DefaultSQWRLResultManager(@NonNull IRIResolver iriResolver)
+  {
+    this(iriResolver, "", SWRLAPIInstrumentation.NO_OP);
+  }
+
+  public DefaultSQWRLResultManager(@NonNull IRIResolver iriResolver, @NonNull String queryName,
+    @NonNull SWRLAPIInstrumentation instrumentation)
   {
     this.sqwrlResultValueFactory = SWRLAPIFactory.createSQWRLResultValueFactory(iriResolver);
+    this.queryName = queryName;
+    this.instrumentation = instrumentation;
 
     this.isConfigured = false;
     this.isPrepared = false;
@@ -108,6 +122,24 @@ class DefaultSQWRLResultManager implements SQWRLResultManager, Serializable
     return this.isAscending;
   }
 
+  @NonNull @Override public Set<SQWRLQueryPlan.@NonNull ResultOperator> getResultOperators()
+  {
+    Set<SQWRLQueryPlan.@NonNull ResultOperator> resultOperators = EnumSet.noneOf(SQWRLQueryPlan.ResultOperator.class);
+
+    if (this.hasAggregates)
+      resultOperators.add(SQWRLQueryPlan.ResultOperator.AGGREGATE); // Aggregation implies killing duplicate rows
+    else if (this.isDistinct)
+      resultOperators.add(SQWRLQueryPlan.ResultOperator.DISTINCT);
+
+    if (this.isOrdered)
+      resultOperators.add(SQWRLQueryPlan.ResultOperator.ORDER);
+
+    if (hasSelectionOperators())
+      resultOperators.add(SQWRLQueryPlan.ResultOperator.SLICE);
+
+    return resultOperators;
+  }
+
   @Override public void addColumns(@NonNull List<@NonNull String> columnNames) throws SQWRLException
   {
     for (String columnName : columnNames)
@@ -289,6 +321,8 @@ class DefaultSQWRLResultManager implements SQWRLResultManager, Serializable
 
   @Override public void prepared() throws SQWRLException
   {
+    long startTime = System.nanoTime();
+
     throwExceptionIfNotConfigured();
     throwExceptionIfAlreadyPrepared();
 
@@ -314,6 +348,9 @@ class DefaultSQWRLResultManager implements SQWRLResultManager, Serializable
     this.rows = processSelectionOperators(this.rows);
 
     prepareColumnVectors();
+
+    if (this.instrumentation != null)
+      this.instrumentation.sqwrlResultPrepared(this.queryName, this.rows.size(), System.nanoTime() - startTime);
   }
 
   // Methods used to retrieve data after result has been prepared
@@ -763,6 +800,13 @@ class DefaultSQWRLResultManager implements SQWRLResultManager, Serializable
       return sourceRows;
   }
 
+  private boolean hasSelectionOperators()
+  {
+    return hasLimit() || hasNth() || hasNotNth() || hasFirstSelection() || hasLastSelection() || hasNotFirstSelection()
+      || hasNotLastSelection() || hasNthSliceSelection() || hasNotNthSliceSelection() || hasNthLastSliceSelection()
+      || hasNotNthLastSliceSelection();
+  }
+
   private boolean hasLimit()
   {
     return this.limit != -1;
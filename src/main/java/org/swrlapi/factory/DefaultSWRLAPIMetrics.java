@@ -0,0 +1,152 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.swrlapi.core.SWRLAPIMetrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Meters are held in a map per meter name keyed by tag value. Recording does not lock once a meter exists.
+ *
+ * @see org.swrlapi.core.SWRLAPIMetrics
+ */
+class DefaultSWRLAPIMetrics implements SWRLAPIMetrics
+{
+  private static final int NUMBER_OF_HISTOGRAM_BUCKETS = 64;
+
+  // Meter name to tag value to meter
+  @NonNull private final ConcurrentMap<@NonNull String, @NonNull ConcurrentMap<@NonNull String, @NonNull DefaultMeter>>
+    meters = new ConcurrentHashMap<>();
+
+  @Override public void ruleEnginePhaseCompleted(@NonNull RuleEnginePhase phase, long durationNanos)
+  {
+    getOrCreateMeter(RULE_ENGINE_PHASE_TIMER, PHASE_TAG, phase.name()).record(durationNanos);
+  }
+
+  @Override public void swrlBuiltInInvoked(@NonNull String builtInName, long durationNanos)
+  {
+    getOrCreateMeter(SWRL_BUILT_IN_TIMER, BUILT_IN_TAG, builtInName).record(durationNanos);
+  }
+
+  @Override public void sqwrlResultPrepared(@NonNull String queryName, int numberOfRows, long durationNanos)
+  {
+    getOrCreateMeter(SQWRL_RESULT_PREPARATION_TIMER, QUERY_TAG, queryName).record(durationNanos);
+    getOrCreateMeter(SQWRL_RESULT_ROWS, QUERY_TAG, queryName).record(numberOfRows);
+  }
+
+  @NonNull @Override public Optional<@NonNull Meter> getMeter(@NonNull String name, @NonNull String tagValue)
+  {
+    @Nullable Map<@NonNull String, @NonNull DefaultMeter> namedMeters = this.meters.get(name);
+
+    return namedMeters == null ? Optional.empty() : Optional.ofNullable(namedMeters.get(tagValue));
+  }
+
+  @NonNull @Override public Map<@NonNull String, @NonNull Meter> getMeters(@NonNull String name)
+  {
+    @Nullable Map<@NonNull String, @NonNull DefaultMeter> namedMeters = this.meters.get(name);
+
+    return namedMeters == null ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(namedMeters));
+  }
+
+  @Override public void reset()
+  {
+    this.meters.clear();
+  }
+
+  @NonNull private DefaultMeter getOrCreateMeter(@NonNull String name, @NonNull String tagKey,
+    @NonNull String tagValue)
+  {
+    return this.meters.computeIfAbsent(name, n -> new ConcurrentHashMap<>())
+      .computeIfAbsent(tagValue, v -> new DefaultMeter(name, tagKey, tagValue));
+  }
+
+  private static class DefaultMeter implements Meter
+  {
+    @NonNull private final String name;
+    @NonNull private final String tagKey;
+    @NonNull private final String tagValue;
+    @NonNull private final LongAdder count = new LongAdder();
+    @NonNull private final LongAdder total = new LongAdder();
+    @NonNull private final AtomicLong max = new AtomicLong();
+    @NonNull private final AtomicLongArray histogram = new AtomicLongArray(NUMBER_OF_HISTOGRAM_BUCKETS);
+
+    public DefaultMeter(@NonNull String name, @NonNull String tagKey, @NonNull String tagValue)
+    {
+      this.name = name;
+      this.tagKey = tagKey;
+      this.tagValue = tagValue;
+    }
+
+    public void record(long value)
+    {
+      long recordedValue = Math.max(0, value); // System.nanoTime() differences can be negative on some platforms
+
+      this.count.increment();
+      this.total.add(recordedValue);
+      this.max.accumulateAndGet(recordedValue, Math::max);
+      this.histogram.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(recordedValue));
+    }
+
+    @NonNull @Override public String getName()
+    {
+      return this.name;
+    }
+
+    @NonNull @Override public String getTagKey()
+    {
+      return this.tagKey;
+    }
+
+    @NonNull @Override public String getTagValue()
+    {
+      return this.tagValue;
+    }
+
+    @Override public long getCount()
+    {
+      return this.count.sum();
+    }
+
+    @Override public long getTotal()
+    {
+      return this.total.sum();
+    }
+
+    @Override public long getMax()
+    {
+      return this.max.get();
+    }
+
+    @Override public double getMean()
+    {
+      long currentCount = getCount();
+
+      return currentCount == 0 ? 0.0 : (double)getTotal() / currentCount;
+    }
+
+    @NonNull @Override public long[] getHistogram()
+    {
+      long[] buckets = new long[NUMBER_OF_HISTOGRAM_BUCKETS];
+
+      for (int i = 0; i < NUMBER_OF_HISTOGRAM_BUCKETS; i++)
+        buckets[i] = this.histogram.get(i);
+
+      return buckets;
+    }
+
+    @NonNull @Override public String toString()
+    {
+      return this.name + "{" + this.tagKey + "=" + this.tagValue + "} count=" + getCount() + " total=" + getTotal()
+        + " max=" + getMax();
+    }
+  }
+}
@@ -11,6 +11,7 @@ import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLObjectDictionary;
 import org.swrlapi.core.SWRLAPIBuiltInAtom;
 import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
 
@@ -28,12 +29,17 @@ public class DefaultSWRLAPIOWLDataFactory extends OWLDataFactoryImpl implements
   @NonNull private final SQWRLResultValueFactory sqwrlResultValueFactory;
 
   public DefaultSWRLAPIOWLDataFactory(@NonNull IRIResolver iriResolver)
+  {
+    this(iriResolver, SWRLAPIFactory.createOWLObjectDictionary());
+  }
+
+  public DefaultSWRLAPIOWLDataFactory(@NonNull IRIResolver iriResolver, @NonNull OWLObjectDictionary dictionary)
   {
     this.iriResolver = iriResolver;
     this.owlDatatypeFactory = SWRLAPIFactory.createOWLDatatypeFactory();
     this.owlLiteralFactory = SWRLAPIFactory.createOWLLiteralFactory();
     this.literalFactory = SWRLAPIFactory.createLiteralFactory();
-    this.swrlBuiltInArgumentFactory = SWRLAPIFactory.createSWRLBuiltInArgumentFactory(this.iriResolver);
+    this.swrlBuiltInArgumentFactory = SWRLAPIFactory.createSWRLBuiltInArgumentFactory(this.iriResolver, dictionary);
     this.sqwrlResultValueFactory = SWRLAPIFactory.createSQWRLResultValueFactory(this.iriResolver);
   }
 
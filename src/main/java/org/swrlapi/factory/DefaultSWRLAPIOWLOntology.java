@@ -1,6 +1,8 @@
 package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -69,6 +71,7 @@ import org.semanticweb.owlapi.model.SWRLPredicate;
 import org.semanticweb.owlapi.model.SWRLRule;
 import org.semanticweb.owlapi.model.SWRLVariable;
 import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.util.OWLAxiomVisitorAdapter;
 import org.semanticweb.owlapi.util.SimpleIRIMapper;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
@@ -77,8 +80,13 @@ import org.slf4j.LoggerFactory;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLVariableBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLAxiomStore;
+import org.swrlapi.core.OWLObjectDictionary;
+import org.swrlapi.core.OWLSignatureIndex;
+import org.swrlapi.core.SWRLAPIInstrumentation;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.core.SWRLRuleChanges;
 import org.swrlapi.core.SWRLRuleRenderer;
 import org.swrlapi.exceptions.SWRLAPIException;
 import org.swrlapi.exceptions.SWRLAPIInternalException;
@@ -97,6 +105,8 @@ import org.swrlapi.ui.model.SWRLRuleEngineModel;
 import javax.annotation.Nonnull;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -104,16 +114,37 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChangeListener
 {
   private static final Logger log = LoggerFactory.getLogger(DefaultSWRLAPIOWLOntology.class);
 
   private static final String AUTOGENERATED_RULE_NAME_PREFIX = "S";
+  private static final int PARALLEL_RULE_CONVERSION_THRESHOLD = 64;
+
+  // Types of the non-declaration axioms recorded by the AssertedOWLAxiomRecorder
+  static final Set<@NonNull AxiomType<?>> RECORDED_OWL_AXIOM_TYPES = Collections.unmodifiableSet(
+    new HashSet<>(Arrays.asList(AxiomType.CLASS_ASSERTION, AxiomType.OBJECT_PROPERTY_ASSERTION,
+      AxiomType.DATA_PROPERTY_ASSERTION, AxiomType.SAME_INDIVIDUAL, AxiomType.DIFFERENT_INDIVIDUALS,
+      AxiomType.SUBCLASS_OF, AxiomType.EQUIVALENT_CLASSES, AxiomType.SUB_OBJECT_PROPERTY, AxiomType.SUB_DATA_PROPERTY,
+      AxiomType.EQUIVALENT_OBJECT_PROPERTIES, AxiomType.EQUIVALENT_DATA_PROPERTIES,
+      AxiomType.TRANSITIVE_OBJECT_PROPERTY, AxiomType.SYMMETRIC_OBJECT_PROPERTY, AxiomType.FUNCTIONAL_OBJECT_PROPERTY,
+      AxiomType.INVERSE_FUNCTIONAL_OBJECT_PROPERTY, AxiomType.FUNCTIONAL_DATA_PROPERTY,
+      AxiomType.OBJECT_PROPERTY_DOMAIN, AxiomType.DATA_PROPERTY_DOMAIN, AxiomType.OBJECT_PROPERTY_RANGE,
+      AxiomType.DATA_PROPERTY_RANGE, AxiomType.INVERSE_OBJECT_PROPERTIES, AxiomType.IRREFLEXIVE_OBJECT_PROPERTY,
+      AxiomType.ASYMMETRIC_OBJECT_PROPERTY, AxiomType.DISJOINT_OBJECT_PROPERTIES,
+      AxiomType.DISJOINT_DATA_PROPERTIES)));
 
   @NonNull private final OWLOntology ontology;
   @NonNull private final IRIResolver iriResolver;
+  @NonNull private final OWLObjectDictionary dictionary; // Not reset so that identifiers stay valid across processing
+  @NonNull private final OWLSignatureIndex signatureIndex;
+  @NonNull private final DefaultSWRLAutoCompleter autoCompleter; // Shared so that it is updated rather than rebuilt
+  @NonNull private final SWRLRuleRenderer swrlRuleRenderer; // Shared so that its cached renderings are reused
   @NonNull private final SWRLAPIOWLDataFactory swrlapiOWLDataFactory;
   @NonNull private final Set<@NonNull IRI> swrlBuiltInIRIs;
 
@@ -122,7 +153,7 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
   @NonNull private final Map<@NonNull String, @NonNull SQWRLQuery> sqwrlQueries;
 
   // All asserted OWL axioms extracted from the supplied ontology; includes SWRL rules
-  @NonNull private final Set<@NonNull OWLAxiom> assertedOWLAxioms;
+  @NonNull private final OWLAxiomStore assertedOWLAxioms;
 
   @NonNull private final Map<@NonNull IRI, @NonNull OWLDeclarationAxiom> classDeclarationAxioms;
   @NonNull private final Map<@NonNull IRI, @NonNull OWLDeclarationAxiom> individualDeclarationAxioms;
@@ -130,8 +161,17 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
   @NonNull private final Map<@NonNull IRI, @NonNull OWLDeclarationAxiom> dataPropertyDeclarationAxioms;
   @NonNull private final Map<@NonNull IRI, @NonNull OWLDeclarationAxiom> annotationPropertyDeclarationAxioms;
 
+  @NonNull private final AssertedOWLAxiomRecorder assertedOWLAxiomRecorder;
+
   @NonNull private final Set<SWRLRuleEngineModel> swrlRuleEngineModels;
 
+  // Registered until this object is disposed so that the signature index and autocompleter see every change
+  @NonNull private final OWLOntologyChangeListener signatureIndexUpdater;
+  private boolean isSignatureIndexUpdaterRegistered = false;
+  @NonNull private final AtomicLong ontologyChangeVersion = new AtomicLong();
+
+  @NonNull private volatile SWRLAPIInstrumentation instrumentation = SWRLAPIInstrumentation.NO_OP;
+
   private boolean hasOntologyChanged = true; // Ensure initial processing
   private boolean eventFreezeMode = false;
 
@@ -139,14 +179,18 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
   {
     this.ontology = ontology;
     this.iriResolver = iriResolver;
-    this.swrlapiOWLDataFactory = SWRLAPIFactory.createSWRLAPIOWLDataFactory(this.iriResolver);
+    this.dictionary = SWRLAPIFactory.createOWLObjectDictionary();
+    this.signatureIndex = SWRLAPIFactory.createOWLSignatureIndex(this.ontology);
+    this.autoCompleter = new DefaultSWRLAutoCompleter(this);
+    this.swrlRuleRenderer = SWRLAPIFactory.createSWRLRuleRenderer(this.ontology, this.iriResolver, this.signatureIndex);
+    this.swrlapiOWLDataFactory = SWRLAPIFactory.createSWRLAPIOWLDataFactory(this.iriResolver, this.dictionary);
     this.swrlBuiltInIRIs = new HashSet<>();
 
     this.swrlRules = new HashMap<>();
     this.owlapiRules = new HashMap<>();
     this.sqwrlQueries = new HashMap<>();
 
-    this.assertedOWLAxioms = new HashSet<>();
+    this.assertedOWLAxioms = SWRLAPIFactory.createOWLAxiomStore(this.dictionary);
 
     this.classDeclarationAxioms = new HashMap<>();
     this.individualDeclarationAxioms = new HashMap<>();
@@ -154,21 +198,43 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     this.dataPropertyDeclarationAxioms = new HashMap<>();
     this.annotationPropertyDeclarationAxioms = new HashMap<>();
 
+    this.assertedOWLAxiomRecorder = new AssertedOWLAxiomRecorder();
+
     this.swrlRuleEngineModels = new HashSet<>();
+    this.signatureIndexUpdater = this::updateSignatureIndexes;
 
     addDefaultSWRLBuiltIns();
     addSWRLAPIOntologies(this.ontology);
 
     iriResolver.updatePrefixes(ontology);
+
+    this.ontology.getOWLOntologyManager().addOntologyChangeListener(this.signatureIndexUpdater);
+    this.isSignatureIndexUpdaterRegistered = true;
   }
 
   @Override public void processOntology() throws SQWRLException
   {
+    long startTime = System.nanoTime();
+    // Rules are only compared if there are registered models to receive the differences
+    Map<@NonNull String, @NonNull SWRLAPIRule> previousSWRLRules =
+      this.swrlRuleEngineModels.isEmpty() ? Collections.emptyMap() : new HashMap<>(this.swrlRules);
+    long previousPrefixMappingVersion = this.iriResolver.getPrefixMappingVersion();
+
     reset(); // Will reset hasOntologyChanged
+    if (!this.isSignatureIndexUpdaterRegistered)
+      this.signatureIndex.invalidate(); // Changes made since this object was disposed have not been seen
     this.iriResolver.updatePrefixes(this.ontology);
     processSWRLRulesAndSQWRLQueries();
     processOWLAxioms();
-    notifyRegisteredRuleEngineModels();
+    processOWLEntities();
+
+    if (!this.swrlRuleEngineModels.isEmpty()) {
+      boolean prefixesChanged = this.iriResolver.getPrefixMappingVersion() != previousPrefixMappingVersion;
+      notifyRegisteredRuleEngineModels(
+        SWRLAPIFactory.createSWRLRuleChanges(previousSWRLRules, this.swrlRules, prefixesChanged));
+    }
+    this.instrumentation
+      .ruleEnginePhaseCompleted(SWRLAPIInstrumentation.RuleEnginePhase.PROCESS_ONTOLOGY, System.nanoTime() - startTime);
   }
 
   @Override public void reset()
@@ -177,7 +243,7 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     this.owlapiRules.clear();
     this.sqwrlQueries.clear();
 
-    getIRIResolver().reset();
+    // The IRI resolver is not reset so that autogenerated prefixes, and the renderings cached with them, are kept
 
     this.assertedOWLAxioms.clear();
 
@@ -190,6 +256,23 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     this.hasOntologyChanged = false;
   }
 
+  /**
+   * The ontology manager holds its change listeners, and through them this object, for as long as it is itself
+   * reachable, so listeners are removed here rather than left to garbage collection.
+   */
+  @Override public void dispose()
+  {
+    if (!this.swrlRuleEngineModels.isEmpty()) {
+      this.swrlRuleEngineModels.clear();
+      this.ontology.getOWLOntologyManager().removeOntologyChangeListener(this);
+    }
+
+    if (this.isSignatureIndexUpdaterRegistered) {
+      this.ontology.getOWLOntologyManager().removeOntologyChangeListener(this.signatureIndexUpdater);
+      this.isSignatureIndexUpdaterRegistered = false;
+    }
+  }
+
   @Override public void registerRuleEngineModel(SWRLRuleEngineModel swrlRuleEngineModel)
   {
     if (this.swrlRuleEngineModels.isEmpty())
@@ -226,6 +309,72 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
       throw new SWRLParseException("Unknown error - parser failed to generate a rule");
   }
 
+  /**
+   * Rules are parsed in parallel when there are enough of them to make it worthwhile. The parsed rules are added with a
+   * single change while change notifications are suppressed, and are then converted when the ontology is processed.
+   */
+  @NonNull @Override public List<@NonNull SWRLAPIRule> createSWRLRules(
+    @NonNull Map<@NonNull String, @NonNull String> rules) throws SWRLParseException, SQWRLException
+  {
+    List<Map.Entry<@NonNull String, @NonNull String>> ruleEntries = new ArrayList<>(rules.entrySet());
+    SWRLParser parser = createSWRLParser();
+
+    for (Map.Entry<@NonNull String, @NonNull String> ruleEntry : ruleEntries) { // Checked before anything is added
+      if (this.swrlRules.containsKey(ruleEntry.getKey()))
+        throw new SWRLParseException("A rule named " + ruleEntry.getKey() + " already exists");
+    }
+
+    IntStream ruleIndexes = IntStream.range(0, ruleEntries.size());
+    if (ruleEntries.size() >= PARALLEL_RULE_CONVERSION_THRESHOLD)
+      ruleIndexes = ruleIndexes.parallel();
+
+    List<@NonNull ParsedSWRLRule> parsedRules = ruleIndexes
+      .mapToObj(i -> parseSWRLRule(parser, ruleEntries.get(i).getKey(), ruleEntries.get(i).getValue()))
+      .collect(Collectors.toList()); // Collected in map order
+
+    List<@NonNull OWLOntologyChange> changes = new ArrayList<>(parsedRules.size());
+    for (ParsedSWRLRule parsedRule : parsedRules) // The first parse error in map order is reported
+      changes.add(new AddAxiom(this.ontology, parsedRule.getOWLAPIRule()));
+
+    boolean isInEventFreezeMode = this.eventFreezeMode;
+    this.eventFreezeMode = true;
+    try {
+      getOWLOntologyManager().applyChanges(changes);
+    } finally {
+      this.eventFreezeMode = isInEventFreezeMode;
+    }
+
+    processOntology();
+
+    List<@NonNull SWRLAPIRule> swrlapiRules = new ArrayList<>(ruleEntries.size());
+    for (Map.Entry<@NonNull String, @NonNull String> ruleEntry : ruleEntries) {
+      SWRLAPIRule swrlapiRule = this.swrlRules.get(ruleEntry.getKey());
+      if (swrlapiRule == null)
+        throw new SWRLParseException("Unknown error - rule " + ruleEntry.getKey() + " was not added to the ontology");
+      swrlapiRules.add(swrlapiRule);
+    }
+    return swrlapiRules;
+  }
+
+  /**
+   * May be called concurrently for different rules.
+   */
+  @NonNull private ParsedSWRLRule parseSWRLRule(@NonNull SWRLParser parser, @NonNull String ruleName,
+    @NonNull String rule)
+  {
+    try {
+      Optional<SWRLRule> owlapiRule = parser.parseSWRLRule(rule, false, ruleName, "");
+
+      if (owlapiRule.isPresent())
+        return new ParsedSWRLRule(owlapiRule.get(), null);
+      else
+        return new ParsedSWRLRule(null,
+          new SWRLParseException("Unknown error - parser failed to generate rule " + ruleName));
+    } catch (SWRLParseException e) {
+      return new ParsedSWRLRule(null, e); // Rethrown when the rule is added
+    }
+  }
+
   @Override public void replaceSWRLRule(@NonNull String originalRuleName, @NonNull String ruleName,
     @NonNull String rule, @NonNull String comment, boolean isActive) throws SWRLParseException
   {
@@ -283,6 +432,12 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     return new HashSet<>(this.swrlRules.values());
   }
 
+  /**
+   * Rules are named and their built-in IRIs are resolved to prefixed names sequentially, in ontology order, so that
+   * autogenerated rule names and prefixes do not depend on the order in which rules are converted. The conversion of
+   * rules to SWRLAPI rules and SQWRL queries, which does not modify shared state, is then done in parallel when there
+   * are enough rules to make it worthwhile.
+   */
   private void processSWRLRulesAndSQWRLQueries() throws SQWRLException
   {
     int ruleNameIndex = 0;
@@ -291,22 +446,39 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     this.owlapiRules.clear();
     this.sqwrlQueries.clear();
 
-    for (SWRLRule owlapiRule : getOWLOntology().getAxioms(AxiomType.SWRL_RULE, Imports.INCLUDED)) {
+    List<@NonNull SWRLRule> ruleAxioms = new ArrayList<>(
+      getOWLOntology().getAxioms(AxiomType.SWRL_RULE, Imports.INCLUDED));
+    List<@NonNull String> ruleNames = new ArrayList<>(ruleAxioms.size());
+    Map<@NonNull IRI, @NonNull String> builtInPrefixedNames = new HashMap<>();
+
+    for (SWRLRule owlapiRule : ruleAxioms) {
       Optional<@NonNull String> ruleName = getRuleName(owlapiRule);
-      boolean isActive = getIsRuleEnabled(owlapiRule);
-      String comment = getRuleComment(owlapiRule);
-      String finalRuleName = ruleName.isPresent() ? ruleName.get() : "S" + ++ruleNameIndex;
+      ruleNames.add(ruleName.isPresent() ? ruleName.get() : AUTOGENERATED_RULE_NAME_PREFIX + ++ruleNameIndex);
 
-      SWRLAPIRule swrlapiRule = convertOWLAPIRule2SWRLAPIRule(owlapiRule, finalRuleName, comment, isActive);
+      for (SWRLAtom atom : owlapiRule.getBody())
+        recordBuiltInPrefixedName(atom, builtInPrefixedNames);
+      for (SWRLAtom atom : owlapiRule.getHead())
+        recordBuiltInPrefixedName(atom, builtInPrefixedNames);
+    }
 
-      this.swrlRules.put(finalRuleName, swrlapiRule);
-      this.owlapiRules.put(finalRuleName, owlapiRule);
+    IntStream ruleIndexes = IntStream.range(0, ruleAxioms.size());
+    if (ruleAxioms.size() >= PARALLEL_RULE_CONVERSION_THRESHOLD)
+      ruleIndexes = ruleIndexes.parallel();
+
+    List<@NonNull ConvertedSWRLRule> convertedRules = ruleIndexes
+      .mapToObj(i -> convertSWRLRule(ruleAxioms.get(i), ruleNames.get(i), builtInPrefixedNames::get))
+      .collect(Collectors.toList()); // Collected in ontology order
+
+    for (ConvertedSWRLRule convertedRule : convertedRules) {
+      SWRLAPIRule swrlapiRule = convertedRule.getSWRLAPIRule();
+      String ruleName = swrlapiRule.getRuleName();
+
+      this.swrlRules.put(ruleName, swrlapiRule);
+      this.owlapiRules.put(ruleName, convertedRule.getOWLAPIRule());
       this.assertedOWLAxioms.add(swrlapiRule);
 
-      if (swrlapiRule.isSQWRLQuery()) {
-        SQWRLQuery query = createSQWRLQueryFromSWRLRule(swrlapiRule);
-        this.sqwrlQueries.put(finalRuleName, query);
-      }
+      if (swrlapiRule.isSQWRLQuery())
+        this.sqwrlQueries.put(ruleName, convertedRule.getSQWRLQuery());
       // TODO Do we want to add axioms to OWLAPI rule that does not have them?
       // generateRuleAnnotations(ruleName, comment, true)
       // ontologyManager.removeAxiom(ontology, owlapiRule); // Remove the original annotated rule
@@ -314,6 +486,39 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     }
   }
 
+  private void recordBuiltInPrefixedName(@NonNull SWRLAtom atom,
+    @NonNull Map<@NonNull IRI, @NonNull String> builtInPrefixedNames)
+  {
+    if (isSWRLBuiltInAtom(atom)) {
+      IRI builtInIRI = ((SWRLBuiltInAtom)atom).getPredicate();
+
+      if (!builtInPrefixedNames.containsKey(builtInIRI))
+        builtInPrefixedNames.put(builtInIRI, iri2PrefixedName(builtInIRI));
+    }
+  }
+
+  /**
+   * May be called concurrently for different rules. The IRI resolver, signature index and object dictionary that
+   * conversion reads are safe for concurrent use.
+   */
+  @NonNull private ConvertedSWRLRule convertSWRLRule(@NonNull SWRLRule owlapiRule, @NonNull String ruleName,
+    @NonNull Function<@NonNull IRI, @NonNull String> builtInIRI2PrefixedName)
+  {
+    boolean isActive = getIsRuleEnabled(owlapiRule);
+    String comment = getRuleComment(owlapiRule);
+    SWRLAPIRule swrlapiRule = convertOWLAPIRule2SWRLAPIRule(owlapiRule, ruleName, comment, isActive,
+      builtInIRI2PrefixedName);
+
+    if (swrlapiRule.isSQWRLQuery()) {
+      try {
+        return new ConvertedSWRLRule(owlapiRule, swrlapiRule, createSQWRLQueryFromSWRLRule(swrlapiRule), null);
+      } catch (SQWRLException e) {
+        return new ConvertedSWRLRule(owlapiRule, swrlapiRule, null, e); // Rethrown when the rule is recorded
+      }
+    } else
+      return new ConvertedSWRLRule(owlapiRule, swrlapiRule, null, null);
+  }
+
   @NonNull @Override public Optional<@NonNull SWRLAPIRule> getSWRLRule(@NonNull String ruleName)
     throws SWRLRuleException
   {
@@ -340,12 +545,12 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
 
   @NonNull @Override public SWRLAutoCompleter createSWRLAutoCompleter()
   {
-    return SWRLAPIFactory.createSWRLAutoCompleter(this);
+    return this.autoCompleter;
   }
 
   @NonNull @Override public SWRLRuleRenderer createSWRLRuleRenderer()
   {
-    return SWRLAPIFactory.createSWRLRuleRenderer(this.getOWLOntology(), this.getIRIResolver());
+    return this.swrlRuleRenderer;
   }
 
   @Override public Optional<String> getNextRuleName()
@@ -362,7 +567,7 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
 
   @NonNull @Override public SQWRLQueryRenderer createSQWRLQueryRenderer()
   {
-    return SWRLAPIFactory.createSQWRLQueryRenderer(this.getOWLOntology(), this.getIRIResolver());
+    return SWRLAPIFactory.createSQWRLQueryRenderer(this.getOWLOntology(), this.getIRIResolver(), this.signatureIndex);
   }
 
   @Override public int getNumberOfSWRLRules()
@@ -405,6 +610,70 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     return this.assertedOWLAxioms.contains(axiom);
   }
 
+  @NonNull @Override public OWLAxiomStore getAssertedOWLAxiomStore()
+  {
+    return this.assertedOWLAxioms;
+  }
+
+  @NonNull @Override public OWLObjectDictionary getOWLObjectDictionary()
+  {
+    return this.dictionary;
+  }
+
+  @Override public long getOntologyChangeVersion()
+  {
+    return this.ontologyChangeVersion.get();
+  }
+
+  @NonNull @Override public OWLSignatureIndex getOWLSignatureIndex()
+  {
+    return this.signatureIndex;
+  }
+
+  @NonNull @Override public SWRLAPIInstrumentation getInstrumentation()
+  {
+    return this.instrumentation;
+  }
+
+  @Override public void setInstrumentation(@NonNull SWRLAPIInstrumentation instrumentation)
+  {
+    this.instrumentation = instrumentation;
+  }
+
+  @Override public void addOWLAxioms(@NonNull Collection<? extends @NonNull OWLAxiom> axioms) throws SQWRLException
+  {
+    boolean isInEventFreezeMode = this.eventFreezeMode;
+    boolean hasSWRLRules = false;
+    List<@NonNull OWLAxiom> addedAxioms = new ArrayList<>(axioms.size());
+    List<@NonNull OWLOntologyChange> changes = new ArrayList<>(axioms.size());
+
+    for (OWLAxiom axiom : axioms) {
+      if (!this.assertedOWLAxioms.contains(axiom)) {
+        if (axiom.isOfType(AxiomType.SWRL_RULE))
+          hasSWRLRules = true;
+
+        addedAxioms.add(axiom);
+        changes.add(new AddAxiom(this.ontology, axiom));
+      }
+    }
+
+    if (changes.isEmpty())
+      return;
+
+    this.eventFreezeMode = true; // Written axioms are recorded below rather than by reprocessing
+    try {
+      getOWLOntologyManager().applyChanges(changes);
+    } finally {
+      this.eventFreezeMode = isInEventFreezeMode;
+    }
+
+    for (OWLAxiom axiom : addedAxioms)
+      axiom.accept(this.assertedOWLAxiomRecorder);
+
+    if (hasSWRLRules) // Rule names and SQWRL queries can only be extracted by processing the whole ontology
+      processOntology();
+  }
+
   @NonNull @Override public Set<@NonNull String> getSQWRLQueryNames()
   {
     return new HashSet<>(this.sqwrlQueries.keySet());
@@ -445,7 +714,7 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     String comment = rule.getComment();
 
     return SWRLAPIFactory.createSQWRLQuery(queryName, rule.getBodyAtoms(), rule.getHeadAtoms(), active, comment,
-      getSWRLAPIOWLDataFactory().getLiteralFactory(), getIRIResolver());
+      getSWRLAPIOWLDataFactory().getLiteralFactory(), getIRIResolver(), this.instrumentation);
   }
 
   @NonNull private Optional<@NonNull String> getRuleName(@NonNull SWRLRule owlapiRule)
@@ -574,7 +843,8 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
 
   @Override public void addSWRLBuiltIn(@NonNull IRI iri)
   {
-    this.swrlBuiltInIRIs.add(iri);
+    if (this.swrlBuiltInIRIs.add(iri))
+      this.autoCompleter.invalidate();
   }
 
   @NonNull @Override public Set<@NonNull IRI> getSWRLBuiltInIRIs()
@@ -597,6 +867,12 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
    */
   @NonNull private SWRLAPIRule convertOWLAPIRule2SWRLAPIRule(@NonNull SWRLRule owlapiRule, @NonNull String ruleName,
     @NonNull String comment, boolean isActive)
+  {
+    return convertOWLAPIRule2SWRLAPIRule(owlapiRule, ruleName, comment, isActive, this::iri2PrefixedName);
+  }
+
+  @NonNull private SWRLAPIRule convertOWLAPIRule2SWRLAPIRule(@NonNull SWRLRule owlapiRule, @NonNull String ruleName,
+    @NonNull String comment, boolean isActive, @NonNull Function<@NonNull IRI, @NonNull String> builtInIRI2PrefixedName)
   {
     List<@NonNull SWRLAtom> owlapiBodyAtoms = new ArrayList<>(owlapiRule.getBody());
     List<@NonNull SWRLAtom> owlapiHeadAtoms = new ArrayList<>(owlapiRule.getHead());
@@ -607,7 +883,7 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
       if (isSWRLBuiltInAtom(atom)) {
         SWRLBuiltInAtom builtInAtom = (SWRLBuiltInAtom)atom;
         IRI builtInIRI = builtInAtom.getPredicate();
-        String builtInPrefixedName = iri2PrefixedName(builtInIRI);
+        String builtInPrefixedName = builtInIRI2PrefixedName.apply(builtInIRI);
         List<@NonNull SWRLDArgument> swrlDArguments = builtInAtom.getArguments();
         List<@NonNull SWRLBuiltInArgument> swrlBuiltInArguments = convertSWRLDArguments2SWRLBuiltInArguments(
           swrlDArguments);
@@ -622,7 +898,7 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
       if (isSWRLBuiltInAtom(atom)) {
         SWRLBuiltInAtom builtInAtom = (SWRLBuiltInAtom)atom;
         IRI builtInIRI = builtInAtom.getPredicate();
-        String builtInPrefixedName = iri2PrefixedName(builtInIRI);
+        String builtInPrefixedName = builtInIRI2PrefixedName.apply(builtInIRI);
         List<@NonNull SWRLDArgument> swrlDArguments = builtInAtom.getArguments();
         List<@NonNull SWRLBuiltInArgument> swrlBuiltInArguments = convertSWRLDArguments2SWRLBuiltInArguments(
           swrlDArguments);
@@ -698,27 +974,27 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
   {
     IRI iri = swrlVariable.getIRI();
 
-    if (isOWLClass(iri)) {
+    if (this.signatureIndex.isOWLClass(iri)) {
       OWLClass cls = getOWLDataFactory().getOWLClass(iri);
 
       return getSWRLBuiltInArgumentFactory().getClassBuiltInArgument(cls);
-    } else if (getOWLOntology().containsIndividualInSignature(iri, Imports.INCLUDED)) {
+    } else if (this.signatureIndex.isOWLNamedIndividual(iri)) {
       OWLNamedIndividual individual = getOWLDataFactory().getOWLNamedIndividual(iri);
 
       return getSWRLBuiltInArgumentFactory().getNamedIndividualBuiltInArgument(individual);
-    } else if (getOWLOntology().containsObjectPropertyInSignature(iri, Imports.INCLUDED)) {
+    } else if (this.signatureIndex.isOWLObjectProperty(iri)) {
       OWLObjectProperty property = getOWLDataFactory().getOWLObjectProperty(iri);
 
       return getSWRLBuiltInArgumentFactory().getObjectPropertyBuiltInArgument(property);
-    } else if (getOWLOntology().containsDataPropertyInSignature(iri, Imports.INCLUDED)) {
+    } else if (this.signatureIndex.isOWLDataProperty(iri)) {
       OWLDataProperty property = getOWLDataFactory().getOWLDataProperty(iri);
 
       return getSWRLBuiltInArgumentFactory().getDataPropertyBuiltInArgument(property);
-    } else if (getOWLOntology().containsAnnotationPropertyInSignature(iri, Imports.INCLUDED)) {
+    } else if (this.signatureIndex.isOWLAnnotationProperty(iri)) {
       OWLAnnotationProperty property = getOWLDataFactory().getOWLAnnotationProperty(iri);
 
       return getSWRLBuiltInArgumentFactory().getAnnotationPropertyBuiltInArgument(property);
-    } else if (getOWLOntology().containsDatatypeInSignature(iri, Imports.INCLUDED)) {
+    } else if (this.signatureIndex.isOWLDatatype(iri)) {
       OWLDatatype datatype = getOWLDataFactory().getOWLDatatype(iri);
 
       return getSWRLBuiltInArgumentFactory().getDatatypeBuiltInArgument(datatype);
@@ -732,8 +1008,7 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
 
   private boolean isOWLClass(@NonNull IRI iri)
   {
-    return getOWLOntology().containsClassInSignature(iri, Imports.INCLUDED) || iri
-      .equals(OWLRDFVocabulary.OWL_THING.getIRI()) || iri.equals(OWLRDFVocabulary.OWL_NOTHING.getIRI());
+    return this.signatureIndex.isOWLClass(iri);
   }
 
   /**
@@ -770,19 +1045,19 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
       if (isOWLClass(iri)) {
         OWLClass cls = getOWLDataFactory().getOWLClass(iri);
         return getSWRLBuiltInArgumentFactory().getClassBuiltInArgument(cls);
-      } else if (getOWLOntology().containsIndividualInSignature(iri)) {
+      } else if (this.signatureIndex.isOWLNamedIndividual(iri)) {
         OWLNamedIndividual individual = getOWLDataFactory().getOWLNamedIndividual(iri);
         return getSWRLBuiltInArgumentFactory().getNamedIndividualBuiltInArgument(individual);
-      } else if (getOWLOntology().containsObjectPropertyInSignature(iri)) {
+      } else if (this.signatureIndex.isOWLObjectProperty(iri)) {
         OWLObjectProperty property = getOWLDataFactory().getOWLObjectProperty(iri);
         return getSWRLBuiltInArgumentFactory().getObjectPropertyBuiltInArgument(property);
-      } else if (getOWLOntology().containsDataPropertyInSignature(iri)) {
+      } else if (this.signatureIndex.isOWLDataProperty(iri)) {
         OWLDataProperty property = getOWLDataFactory().getOWLDataProperty(iri);
         return getSWRLBuiltInArgumentFactory().getDataPropertyBuiltInArgument(property);
-      } else if (getOWLOntology().containsAnnotationPropertyInSignature(iri)) {
+      } else if (this.signatureIndex.isOWLAnnotationProperty(iri)) {
         OWLAnnotationProperty property = getOWLDataFactory().getOWLAnnotationProperty(iri);
         return getSWRLBuiltInArgumentFactory().getAnnotationPropertyBuiltInArgument(property);
-      } else if (getOWLOntology().containsDatatypeInSignature(iri)) {
+      } else if (this.signatureIndex.isOWLDatatype(iri)) {
         OWLDatatype datatype = getOWLDataFactory().getOWLDatatype(iri);
         return getSWRLBuiltInArgumentFactory().getDatatypeBuiltInArgument(datatype);
       } else {
@@ -1052,315 +1327,38 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
   }
 
   /**
-   * Process currently supported OWL axioms. The processing consists of recording any OWL properties in the processed
-   * axioms (with an instance of the {@link DefaultIRIResolver} class) and generating declaration
-   * axioms for these properties.
+   * Process currently supported OWL axioms. The processing consists of recording the axioms and generating declaration
+   * axioms for the undeclared OWL entities that they refer to.
    * <p>
-   * TODO The current approach is clunky. A better approach would be to walk the axioms with a visitor and recordOWLClassExpression the
-   * properties and generate the declaration axioms.
+   * The axioms in the import closure are walked once. Declaration axioms are recorded as they are encountered. Other
+   * axioms are recorded after the walk so that declaration axioms are generated only for entities that have no
+   * asserted declaration.
    */
   private void processOWLAxioms()
   {
-    processOWLClassDeclarationAxioms();
-    processOWLIndividualDeclarationAxioms();
-    processOWLObjectPropertyDeclarationAxioms();
-    processOWLDataPropertyDeclarationAxioms();
-    processOWLAnnotationPropertyDeclarationAxioms();
-    processOWLClassAssertionAxioms();
-    processOWLObjectPropertyAssertionAxioms();
-    processOWLDataPropertyAssertionAxioms();
-    processOWLSameIndividualAxioms();
-    processOWLDifferentIndividualsAxioms();
-    processOWLSubClassOfAxioms();
-    processOWLEquivalentClassesAxioms();
-    processOWLSubObjectPropertyOfAxioms();
-    processOWLSubDataPropertyOfAxioms();
-    processOWLEquivalentDataPropertiesAxioms();
-    processOWLEquivalentObjectPropertiesAxioms();
-    processOWLTransitiveObjectPropertyAxioms();
-    processOWLSymmetricObjectPropertyAxioms();
-    processOWLFunctionalObjectPropertyAxioms();
-    processOWLInverseFunctionalObjectPropertyAxioms();
-    processOWLFunctionalDataPropertyAxioms();
-    processOWLObjectPropertyDomainAxioms();
-    processOWLDataPropertyDomainAxioms();
-    processOWLObjectPropertyRangeAxioms();
-    processOWLDataPropertyRangeAxioms();
-    processOWLInverseObjectPropertiesAxioms();
-    processOWLIrreflexiveObjectPropertyAxioms();
-    processOWLAsymmetricObjectPropertyAxioms();
-    processOWLDisjointObjectPropertiesAxioms();
-    processOWLDisjointDataPropertiesAxioms();
-  }
-
-  private void processOWLClassAssertionAxioms()
-  {
-    for (OWLClassAssertionAxiom axiom : getOWLClassAssertionAxioms()) {
-      generateOWLIndividualDeclarationAxiomIfNecessary(axiom.getIndividual());
-      this.assertedOWLAxioms.add(axiom);
-    }
-  }
-
-  private void processOWLObjectPropertyAssertionAxioms()
-  {
-    for (OWLObjectPropertyAssertionAxiom axiom : getOWLObjectPropertyAssertionAxioms()) {
-      generateOWLIndividualDeclarationAxiomIfNecessary(axiom.getSubject());
-      generateOWLIndividualDeclarationAxiomIfNecessary(axiom.getObject());
-      this.assertedOWLAxioms.add(axiom);
-    }
-  }
-
-  private void processOWLDataPropertyAssertionAxioms()
-  {
-    for (OWLDataPropertyAssertionAxiom axiom : getOWLDataPropertyAssertionAxioms()) {
-      generateOWLIndividualDeclarationAxiomIfNecessary(axiom.getSubject());
-      this.assertedOWLAxioms.add(axiom);
-    }
-  }
-
-  private void processOWLClassDeclarationAxioms()
-  {
-    for (OWLDeclarationAxiom axiom : getOWLClassDeclarationAxioms()) {
-      OWLEntity cls = axiom.getEntity();
-      this.classDeclarationAxioms.put(cls.getIRI(), axiom);
-      this.assertedOWLAxioms.add(axiom);
-    }
-  }
-
-  private void processOWLIndividualDeclarationAxioms()
-  {
-    for (OWLDeclarationAxiom axiom : getOWLIndividualDeclarationAxioms()) {
-      OWLEntity individual = axiom.getEntity();
-      this.individualDeclarationAxioms.put(individual.getIRI(), axiom);
-      this.assertedOWLAxioms.add(axiom);
-    }
-  }
-
-  private void processOWLObjectPropertyDeclarationAxioms()
-  {
-    for (OWLDeclarationAxiom axiom : getOWLObjectPropertyDeclarationAxioms()) {
-      OWLEntity property = axiom.getEntity();
-      this.objectPropertyDeclarationAxioms.put(property.getIRI(), axiom);
-      this.assertedOWLAxioms.add(axiom);
-    }
-  }
-
-  private void processOWLDataPropertyDeclarationAxioms()
-  {
-    for (OWLDeclarationAxiom axiom : getOWLDataPropertyDeclarationAxioms()) {
-      OWLEntity property = axiom.getEntity();
-
-      this.dataPropertyDeclarationAxioms.put(property.getIRI(), axiom);
-      this.assertedOWLAxioms.add(axiom);
-    }
-  }
-
-  private void processOWLAnnotationPropertyDeclarationAxioms()
-  {
-    for (OWLDeclarationAxiom axiom : getOWLAnnotationPropertyDeclarationAxioms()) {
-      OWLEntity property = axiom.getEntity();
-
-      this.annotationPropertyDeclarationAxioms.put(property.getIRI(), axiom);
-      this.assertedOWLAxioms.add(axiom);
-    }
-  }
-
-  private void processOWLSameIndividualAxioms()
-  {
-    Set<@NonNull OWLSameIndividualAxiom> axioms = getOWLSameIndividualAxioms();
-    for (OWLSameIndividualAxiom axiom : axioms) {
-      axiom.getIndividuals().forEach(this::generateOWLIndividualDeclarationAxiomIfNecessary);
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLDifferentIndividualsAxioms()
-  {
-    Set<@NonNull OWLDifferentIndividualsAxiom> axioms = getOWLDifferentIndividualsAxioms();
-    for (OWLDifferentIndividualsAxiom axiom : axioms) {
-      axiom.getIndividuals().forEach(this::generateOWLIndividualDeclarationAxiomIfNecessary);
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLSubClassOfAxioms()
-  {
-    Set<@NonNull OWLSubClassOfAxiom> axioms = getOWLSubClassOfAxioms();
-    for (OWLSubClassOfAxiom axiom : axioms) {
-      generateOWLClassDeclarationAxiomIfNecessary(axiom.getSubClass());
-      generateOWLClassDeclarationAxiomIfNecessary(axiom.getSuperClass());
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLEquivalentClassesAxioms()
-  {
-    Set<@NonNull OWLEquivalentClassesAxiom> axioms = getOWLEquivalentClassesAxioms();
-    for (OWLEquivalentClassesAxiom axiom : axioms) {
-      axiom.getNamedClasses().forEach(this::generateOWLClassDeclarationAxiom);
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLSubObjectPropertyOfAxioms()
-  {
-    Set<@NonNull OWLSubObjectPropertyOfAxiom> axioms = getOWLSubObjectPropertyOfAxioms();
-    for (OWLSubObjectPropertyOfAxiom axiom : axioms) {
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getSubProperty());
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getSuperProperty());
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLSubDataPropertyOfAxioms()
-  {
-    Set<@NonNull OWLSubDataPropertyOfAxiom> axioms = getOWLSubDataPropertyOfAxioms();
-    for (OWLSubDataPropertyOfAxiom axiom : axioms) {
-      generateOWLDataPropertyDeclarationAxiomIfNecessary(axiom.getSubProperty());
-      generateOWLDataPropertyDeclarationAxiomIfNecessary(axiom.getSuperProperty());
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLTransitiveObjectPropertyAxioms()
-  {
-    Set<@NonNull OWLTransitiveObjectPropertyAxiom> axioms = getOWLTransitiveObjectPropertyAxioms();
-    for (OWLTransitiveObjectPropertyAxiom axiom : axioms)
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLSymmetricObjectPropertyAxioms()
-  {
-    Set<@NonNull OWLSymmetricObjectPropertyAxiom> axioms = getOWLSymmetricObjectPropertyAxioms();
-    for (OWLSymmetricObjectPropertyAxiom axiom : axioms)
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLFunctionalObjectPropertyAxioms()
-  {
-    Set<@NonNull OWLFunctionalObjectPropertyAxiom> axioms = getOWLFunctionalObjectPropertyAxioms();
-    for (OWLFunctionalObjectPropertyAxiom axiom : axioms)
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLInverseFunctionalObjectPropertyAxioms()
-  {
-    Set<@NonNull OWLInverseFunctionalObjectPropertyAxiom> axioms = getOWLInverseFunctionalObjectPropertyAxioms();
-    for (OWLInverseFunctionalObjectPropertyAxiom axiom : axioms)
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLFunctionalDataPropertyAxioms()
-  {
-    Set<@NonNull OWLFunctionalDataPropertyAxiom> axioms = getOWLFunctionalDataPropertyAxioms();
-    for (OWLFunctionalDataPropertyAxiom axiom : axioms)
-      generateOWLDataPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLObjectPropertyDomainAxioms()
-  {
-    Set<@NonNull OWLObjectPropertyDomainAxiom> axioms = getOWLObjectPropertyDomainAxioms();
-    for (OWLObjectPropertyDomainAxiom axiom : axioms) {
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-      generateOWLClassDeclarationAxiomIfNecessary(axiom.getDomain());
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLDataPropertyDomainAxioms()
-  {
-    Set<@NonNull OWLDataPropertyDomainAxiom> axioms = getOWLDataPropertyDomainAxioms();
-    for (OWLDataPropertyDomainAxiom axiom : axioms) {
-      generateOWLDataPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-      generateOWLClassDeclarationAxiomIfNecessary(axiom.getDomain());
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLObjectPropertyRangeAxioms()
-  {
-    Set<@NonNull OWLObjectPropertyRangeAxiom> axioms = getOWLObjectPropertyRangeAxioms();
-    for (OWLObjectPropertyRangeAxiom axiom : axioms) {
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-      generateOWLClassDeclarationAxiomIfNecessary(axiom.getRange());
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLDataPropertyRangeAxioms()
-  {
-    Set<@NonNull OWLDataPropertyRangeAxiom> axioms = getOWLDataPropertyRangeAxioms();
-    for (OWLDataPropertyRangeAxiom axiom : axioms) {
-      generateOWLDataPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLIrreflexiveObjectPropertyAxioms()
-  {
-    Set<@NonNull OWLIrreflexiveObjectPropertyAxiom> axioms = getOWLIrreflexiveObjectPropertyAxioms();
-    for (OWLIrreflexiveObjectPropertyAxiom axiom : axioms)
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-    this.assertedOWLAxioms.addAll(axioms);
-  }
+    List<@NonNull OWLAxiom> deferredAxioms = new ArrayList<>();
 
-  private void processOWLAsymmetricObjectPropertyAxioms()
-  {
-    Set<@NonNull OWLAsymmetricObjectPropertyAxiom> axioms = getOWLAsymmetricObjectPropertyAxioms();
-    for (OWLAsymmetricObjectPropertyAxiom axiom : axioms)
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLEquivalentObjectPropertiesAxioms()
-  {
-    Set<@NonNull OWLEquivalentObjectPropertiesAxiom> axioms = getOWLEquivalentObjectPropertiesAxioms();
-    for (OWLEquivalentObjectPropertiesAxiom axiom : axioms) {
-      axiom.getProperties().forEach(this::generateOWLObjectPropertyDeclarationAxiomIfNecessary);
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLEquivalentDataPropertiesAxioms()
-  {
-    Set<@NonNull OWLEquivalentDataPropertiesAxiom> axioms = getOWLEquivalentDataPropertiesAxioms();
-    for (OWLEquivalentDataPropertiesAxiom axiom : axioms) {
-      axiom.getProperties().forEach(this::generateOWLDataPropertyDeclarationAxiomIfNecessary);
-    }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
-
-  private void processOWLInverseObjectPropertiesAxioms()
-  {
-    Set<@NonNull OWLInverseObjectPropertiesAxiom> axioms = getOWLInverseObjectPropertiesAxioms();
-    for (OWLInverseObjectPropertiesAxiom axiom : axioms) {
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getFirstProperty());
-      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getSecondProperty());
+    for (OWLOntology closureOntology : getOWLOntology().getImportsClosure()) {
+      for (OWLAxiom axiom : closureOntology.getAxioms()) {
+        if (axiom.isOfType(AxiomType.DECLARATION))
+          axiom.accept(this.assertedOWLAxiomRecorder);
+        else if (axiom.isOfType(RECORDED_OWL_AXIOM_TYPES))
+          deferredAxioms.add(axiom);
+      }
     }
-    this.assertedOWLAxioms.addAll(axioms);
-  }
 
-  private void processOWLDisjointObjectPropertiesAxioms()
-  {
-    Set<@NonNull OWLDisjointObjectPropertiesAxiom> axioms = getOWLDisjointObjectPropertiesAxioms();
-    for (OWLDisjointObjectPropertiesAxiom axiom : axioms) {
-      axiom.getProperties().forEach(this::generateOWLObjectPropertyDeclarationAxiomIfNecessary);
-    }
-    this.assertedOWLAxioms.addAll(axioms);
+    for (OWLAxiom axiom : deferredAxioms)
+      axiom.accept(this.assertedOWLAxiomRecorder);
   }
 
-  private void processOWLDisjointDataPropertiesAxioms()
+  /**
+   * Assign identifiers to all entities in the ontology's signature. Literals in data property assertions are assigned
+   * identifiers when the assertions are recorded.
+   */
+  private void processOWLEntities()
   {
-    Set<@NonNull OWLDisjointDataPropertiesAxiom> axioms = getOWLDisjointDataPropertiesAxioms();
-    for (OWLDisjointDataPropertiesAxiom axiom : axioms) {
-      axiom.getProperties().forEach(this::generateOWLDataPropertyDeclarationAxiomIfNecessary);
-    }
-    this.assertedOWLAxioms.addAll(axioms);
+    for (OWLEntity entity : getOWLOntology().getSignature(Imports.INCLUDED))
+      this.dictionary.getID(entity.getIRI());
   }
 
   private void generateOWLClassDeclarationAxiom(@NonNull OWLClass cls)
@@ -1416,136 +1414,11 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     }
   }
 
-  @NonNull private Set<@NonNull OWLSameIndividualAxiom> getOWLSameIndividualAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.SAME_INDIVIDUAL, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLDifferentIndividualsAxiom> getOWLDifferentIndividualsAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DIFFERENT_INDIVIDUALS, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLSubObjectPropertyOfAxiom> getOWLSubObjectPropertyOfAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.SUB_OBJECT_PROPERTY, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLSubDataPropertyOfAxiom> getOWLSubDataPropertyOfAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.SUB_DATA_PROPERTY, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLEquivalentClassesAxiom> getOWLEquivalentClassesAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.EQUIVALENT_CLASSES, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLClassAssertionAxiom> getOWLClassAssertionAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.CLASS_ASSERTION, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLObjectPropertyAssertionAxiom> getOWLObjectPropertyAssertionAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.OBJECT_PROPERTY_ASSERTION, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLDataPropertyAssertionAxiom> getOWLDataPropertyAssertionAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DATA_PROPERTY_ASSERTION, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLSubClassOfAxiom> getOWLSubClassOfAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.SUBCLASS_OF, Imports.INCLUDED);
-  }
-
   @NonNull @SuppressWarnings("unused") private Set<@NonNull OWLDisjointClassesAxiom> getOWLDisjointClassesAxioms()
   {
     return getOWLOntology().getAxioms(AxiomType.DISJOINT_CLASSES, Imports.INCLUDED);
   }
 
-  @NonNull private Set<@NonNull OWLEquivalentDataPropertiesAxiom> getOWLEquivalentDataPropertiesAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.EQUIVALENT_DATA_PROPERTIES, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLEquivalentObjectPropertiesAxiom> getOWLEquivalentObjectPropertiesAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.EQUIVALENT_OBJECT_PROPERTIES, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLDisjointDataPropertiesAxiom> getOWLDisjointDataPropertiesAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DISJOINT_DATA_PROPERTIES, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLDisjointObjectPropertiesAxiom> getOWLDisjointObjectPropertiesAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DISJOINT_OBJECT_PROPERTIES, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLObjectPropertyDomainAxiom> getOWLObjectPropertyDomainAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.OBJECT_PROPERTY_DOMAIN, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLDataPropertyDomainAxiom> getOWLDataPropertyDomainAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DATA_PROPERTY_DOMAIN, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLObjectPropertyRangeAxiom> getOWLObjectPropertyRangeAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.OBJECT_PROPERTY_RANGE, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLDataPropertyRangeAxiom> getOWLDataPropertyRangeAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DATA_PROPERTY_RANGE, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLFunctionalObjectPropertyAxiom> getOWLFunctionalObjectPropertyAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.FUNCTIONAL_OBJECT_PROPERTY, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLFunctionalDataPropertyAxiom> getOWLFunctionalDataPropertyAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.FUNCTIONAL_DATA_PROPERTY, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLIrreflexiveObjectPropertyAxiom> getOWLIrreflexiveObjectPropertyAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.IRREFLEXIVE_OBJECT_PROPERTY, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLInverseFunctionalObjectPropertyAxiom> getOWLInverseFunctionalObjectPropertyAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.INVERSE_FUNCTIONAL_OBJECT_PROPERTY, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLTransitiveObjectPropertyAxiom> getOWLTransitiveObjectPropertyAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.TRANSITIVE_OBJECT_PROPERTY, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLSymmetricObjectPropertyAxiom> getOWLSymmetricObjectPropertyAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.SYMMETRIC_OBJECT_PROPERTY, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLAsymmetricObjectPropertyAxiom> getOWLAsymmetricObjectPropertyAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.ASYMMETRIC_OBJECT_PROPERTY, Imports.INCLUDED);
-  }
-
-  @NonNull private Set<@NonNull OWLInverseObjectPropertiesAxiom> getOWLInverseObjectPropertiesAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.INVERSE_OBJECT_PROPERTIES, Imports.INCLUDED);
-  }
-
   @NonNull private Set<@NonNull OWLNegativeDataPropertyAssertionAxiom> getOWLNegativeDataPropertyAssertionAxioms()
   {
     return getOWLOntology().getAxioms(AxiomType.NEGATIVE_DATA_PROPERTY_ASSERTION, Imports.INCLUDED);
@@ -1601,38 +1474,6 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     return getOWLOntology().getAxioms(AxiomType.SUB_ANNOTATION_PROPERTY_OF, Imports.INCLUDED);
   }
 
-  @NonNull private Set<@NonNull OWLDeclarationAxiom> getOWLClassDeclarationAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DECLARATION, Imports.INCLUDED).stream()
-      .filter(owlDeclarationAxiom -> owlDeclarationAxiom.getEntity().isOWLClass()).collect(Collectors.toSet());
-  }
-
-  @NonNull private Set<@NonNull OWLDeclarationAxiom> getOWLIndividualDeclarationAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DECLARATION, Imports.INCLUDED).stream()
-      .filter(owlDeclarationAxiom -> owlDeclarationAxiom.getEntity().isOWLNamedIndividual())
-      .collect(Collectors.toSet());
-  }
-
-  @NonNull private Set<@NonNull OWLDeclarationAxiom> getOWLObjectPropertyDeclarationAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DECLARATION, Imports.INCLUDED).stream()
-      .filter(owlDeclarationAxiom -> owlDeclarationAxiom.getEntity().isOWLObjectProperty()).collect(Collectors.toSet());
-  }
-
-  @NonNull private Set<@NonNull OWLDeclarationAxiom> getOWLDataPropertyDeclarationAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DECLARATION, Imports.INCLUDED).stream()
-      .filter(owlDeclarationAxiom -> owlDeclarationAxiom.getEntity().isOWLDataProperty()).collect(Collectors.toSet());
-  }
-
-  @NonNull private Set<@NonNull OWLDeclarationAxiom> getOWLAnnotationPropertyDeclarationAxioms()
-  {
-    return getOWLOntology().getAxioms(AxiomType.DECLARATION, Imports.INCLUDED).stream()
-      .filter(owlDeclarationAxiom -> owlDeclarationAxiom.getEntity().isOWLAnnotationProperty())
-      .collect(Collectors.toSet());
-  }
-
   @Override public void ontologiesChanged(@Nonnull List<? extends OWLOntologyChange> list) throws OWLException
   {
     this.hasOntologyChanged = true;
@@ -1647,10 +1488,25 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     }
   }
 
-  private void notifyRegisteredRuleEngineModels()
+  private void updateSignatureIndexes(@NonNull List<? extends @NonNull OWLOntologyChange> changes)
+  {
+    Set<@NonNull OWLOntology> importsClosure = this.ontology.getImportsClosure();
+
+    this.signatureIndex.update(changes);
+    this.autoCompleter.update(changes);
+
+    for (OWLOntologyChange change : changes) {
+      if (importsClosure.contains(change.getOntology())) {
+        this.ontologyChangeVersion.incrementAndGet();
+        return;
+      }
+    }
+  }
+
+  private void notifyRegisteredRuleEngineModels(@NonNull SWRLRuleChanges swrlRuleChanges)
   {
     for (SWRLRuleEngineModel swrlRuleEngineModel : this.swrlRuleEngineModels)
-      swrlRuleEngineModel.updateModel();
+      swrlRuleEngineModel.updateModel(swrlRuleChanges);
   }
 
   private static void addSWRLAPIOntologies(@NonNull OWLOntology ontology)
@@ -1692,4 +1548,254 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
 
     return IRI.create(url);
   }
+
+  /**
+   * The result of converting an OWLAPI rule, which may be produced concurrently with the results for other rules. A
+   * failure to create the SQWRL query for a rule is kept here and rethrown when the rules are recorded in order.
+   */
+  private static class ConvertedSWRLRule
+  {
+    @NonNull private final SWRLRule owlapiRule;
+    @NonNull private final SWRLAPIRule swrlapiRule;
+    @Nullable private final SQWRLQuery sqwrlQuery;
+    @Nullable private final SQWRLException sqwrlException;
+
+    public ConvertedSWRLRule(@NonNull SWRLRule owlapiRule, @NonNull SWRLAPIRule swrlapiRule,
+      @Nullable SQWRLQuery sqwrlQuery, @Nullable SQWRLException sqwrlException)
+    {
+      this.owlapiRule = owlapiRule;
+      this.swrlapiRule = swrlapiRule;
+      this.sqwrlQuery = sqwrlQuery;
+      this.sqwrlException = sqwrlException;
+    }
+
+    @NonNull public SWRLRule getOWLAPIRule()
+    {
+      return this.owlapiRule;
+    }
+
+    @NonNull public SWRLAPIRule getSWRLAPIRule()
+    {
+      return this.swrlapiRule;
+    }
+
+    @NonNull public SQWRLQuery getSQWRLQuery() throws SQWRLException
+    {
+      if (this.sqwrlException != null)
+        throw this.sqwrlException;
+      else if (this.sqwrlQuery == null)
+        throw new SQWRLException("rule " + this.swrlapiRule.getRuleName() + " is not a SQWRL query");
+      else
+        return this.sqwrlQuery;
+    }
+  }
+
+  private static class ParsedSWRLRule
+  {
+    @Nullable private final SWRLRule owlapiRule;
+    @Nullable private final SWRLParseException parseException;
+
+    public ParsedSWRLRule(@Nullable SWRLRule owlapiRule, @Nullable SWRLParseException parseException)
+    {
+      this.owlapiRule = owlapiRule;
+      this.parseException = parseException;
+    }
+
+    @NonNull public SWRLRule getOWLAPIRule() throws SWRLParseException
+    {
+      if (this.parseException != null)
+        throw this.parseException;
+      else if (this.owlapiRule == null)
+        throw new SWRLParseException("Unknown error - parser failed to generate a rule");
+      else
+        return this.owlapiRule;
+    }
+  }
+
+  /**
+   * Records a single axiom in the same way as the process methods above, adding it to the asserted axioms and
+   * generating any necessary declaration axioms. Axioms of types that are not processed are ignored.
+   */
+  private class AssertedOWLAxiomRecorder extends OWLAxiomVisitorAdapter
+  {
+    @Override public void visit(@NonNull OWLDeclarationAxiom axiom)
+    {
+      OWLEntity entity = axiom.getEntity();
+
+      if (entity.isOWLClass())
+        classDeclarationAxioms.put(entity.getIRI(), axiom);
+      else if (entity.isOWLNamedIndividual())
+        individualDeclarationAxioms.put(entity.getIRI(), axiom);
+      else if (entity.isOWLObjectProperty())
+        objectPropertyDeclarationAxioms.put(entity.getIRI(), axiom);
+      else if (entity.isOWLDataProperty())
+        dataPropertyDeclarationAxioms.put(entity.getIRI(), axiom);
+      else if (entity.isOWLAnnotationProperty())
+        annotationPropertyDeclarationAxioms.put(entity.getIRI(), axiom);
+      else
+        return;
+
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLClassAssertionAxiom axiom)
+    {
+      generateOWLIndividualDeclarationAxiomIfNecessary(axiom.getIndividual());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLObjectPropertyAssertionAxiom axiom)
+    {
+      generateOWLIndividualDeclarationAxiomIfNecessary(axiom.getSubject());
+      generateOWLIndividualDeclarationAxiomIfNecessary(axiom.getObject());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLDataPropertyAssertionAxiom axiom)
+    {
+      generateOWLIndividualDeclarationAxiomIfNecessary(axiom.getSubject());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLSameIndividualAxiom axiom)
+    {
+      axiom.getIndividuals().forEach(DefaultSWRLAPIOWLOntology.this::generateOWLIndividualDeclarationAxiomIfNecessary);
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLDifferentIndividualsAxiom axiom)
+    {
+      axiom.getIndividuals().forEach(DefaultSWRLAPIOWLOntology.this::generateOWLIndividualDeclarationAxiomIfNecessary);
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLSubClassOfAxiom axiom)
+    {
+      generateOWLClassDeclarationAxiomIfNecessary(axiom.getSubClass());
+      generateOWLClassDeclarationAxiomIfNecessary(axiom.getSuperClass());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLEquivalentClassesAxiom axiom)
+    {
+      axiom.getNamedClasses().forEach(DefaultSWRLAPIOWLOntology.this::generateOWLClassDeclarationAxiom);
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLSubObjectPropertyOfAxiom axiom)
+    {
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getSubProperty());
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getSuperProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLSubDataPropertyOfAxiom axiom)
+    {
+      generateOWLDataPropertyDeclarationAxiomIfNecessary(axiom.getSubProperty());
+      generateOWLDataPropertyDeclarationAxiomIfNecessary(axiom.getSuperProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLEquivalentObjectPropertiesAxiom axiom)
+    {
+      axiom.getProperties()
+        .forEach(DefaultSWRLAPIOWLOntology.this::generateOWLObjectPropertyDeclarationAxiomIfNecessary);
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLEquivalentDataPropertiesAxiom axiom)
+    {
+      axiom.getProperties().forEach(DefaultSWRLAPIOWLOntology.this::generateOWLDataPropertyDeclarationAxiomIfNecessary);
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLTransitiveObjectPropertyAxiom axiom)
+    {
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLSymmetricObjectPropertyAxiom axiom)
+    {
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLFunctionalObjectPropertyAxiom axiom)
+    {
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLInverseFunctionalObjectPropertyAxiom axiom)
+    {
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLFunctionalDataPropertyAxiom axiom)
+    {
+      generateOWLDataPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLObjectPropertyDomainAxiom axiom)
+    {
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      generateOWLClassDeclarationAxiomIfNecessary(axiom.getDomain());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLDataPropertyDomainAxiom axiom)
+    {
+      generateOWLDataPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      generateOWLClassDeclarationAxiomIfNecessary(axiom.getDomain());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLObjectPropertyRangeAxiom axiom)
+    {
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      generateOWLClassDeclarationAxiomIfNecessary(axiom.getRange());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLDataPropertyRangeAxiom axiom)
+    {
+      generateOWLDataPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLInverseObjectPropertiesAxiom axiom)
+    {
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getFirstProperty());
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getSecondProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLIrreflexiveObjectPropertyAxiom axiom)
+    {
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLAsymmetricObjectPropertyAxiom axiom)
+    {
+      generateOWLObjectPropertyDeclarationAxiomIfNecessary(axiom.getProperty());
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLDisjointObjectPropertiesAxiom axiom)
+    {
+      axiom.getProperties()
+        .forEach(DefaultSWRLAPIOWLOntology.this::generateOWLObjectPropertyDeclarationAxiomIfNecessary);
+      assertedOWLAxioms.add(axiom);
+    }
+
+    @Override public void visit(@NonNull OWLDisjointDataPropertiesAxiom axiom)
+    {
+      axiom.getProperties().forEach(DefaultSWRLAPIOWLOntology.this::generateOWLDataPropertyDeclarationAxiomIfNecessary);
+      assertedOWLAxioms.add(axiom);
+    }
+  }
 }
@@ -1,74 +1,373 @@
 package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.swrlapi.core.IRIResolver;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.ui.model.SWRLAutoCompleter;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
+ * Holds the renderings of the entities in an ontology's signature, its SWRL built-ins and the OWL and RDF vocabulary in
+ * a radix trie, so that completions of a prefix are found without scanning all renderings. Completions are returned
+ * in lexicographic order, as the rule editor has always cycled through them, so the first completions can be collected
+ * without visiting every rendering under the prefix. The counts held by the trie record how many sources added a
+ * rendering and are not used to rank completions.
+ * <p>
+ * The trie is built when completions are first requested after the completer is created or invalidated. Added axioms
+ * add renderings for the entities in their signature; removed axioms cause the entities in their signature to be
+ * rechecked against the ontology. Import and other non-axiom changes invalidate the completer, as does a change to the
+ * IRI resolver's prefixes, which is detected through its prefix mapping version.
+ *
  * @see org.swrlapi.ui.dialog.SWRLRuleEditorDialog
  */
 class DefaultSWRLAutoCompleter implements SWRLAutoCompleter
 {
-  private static final Logger log = LoggerFactory.getLogger(DefaultSWRLAutoCompleter.class);
+  @NonNull private final SWRLAPIOWLOntology swrlapiOWLOntology;
 
-  @NonNull private final List<@NonNull String> renderings;
+  // The trie of renderings and the short form of each entity in it; both null when invalidated
+  @Nullable private RenderingTrie renderings;
+  @Nullable private Map<@NonNull IRI, @NonNull String> entityShortForms;
+  private long prefixMappingVersion; // Of the IRI resolver when the renderings were built
 
-  public DefaultSWRLAutoCompleter(@NonNull SWRLAPIOWLOntology swrlapiowlOntology)
+  public DefaultSWRLAutoCompleter(@NonNull SWRLAPIOWLOntology swrlapiOWLOntology)
   {
-    IRIResolver iriResolver = swrlapiowlOntology.getIRIResolver();
-    this.renderings = new ArrayList<>();
+    this.swrlapiOWLOntology = swrlapiOWLOntology;
+  }
 
-    for (OWLEntity owlEntity : swrlapiowlOntology.getOWLOntology().getSignature(Imports.INCLUDED)) {
-      //log.info("iri " + owlEntity.getIRI() + ", shortForm " + prefixManager.iri2ShortForm(owlEntity.getIRI()));
-      Optional<@NonNull String> shortForm = iriResolver.iri2ShortForm(owlEntity.getIRI());
-      if (shortForm.isPresent()) {
-        if (shortForm.get().startsWith(":")) // Strip leading ":"
-          this.renderings.add(shortForm.get().substring(1));
-        this.renderings.add(shortForm.get());
+  @NonNull @Override public List<@NonNull String> getCompletions(@NonNull String prefix)
+  {
+    return getCompletions(prefix, Integer.MAX_VALUE);
+  }
+
+  @NonNull @Override public synchronized List<@NonNull String> getCompletions(@NonNull String prefix,
+    int maxCompletions)
+  {
+    List<@NonNull String> completions = new ArrayList<>();
+
+    getRenderings().collectCompletions(prefix, maxCompletions, completions);
+
+    return completions;
+  }
+
+  /**
+   * Update the completer with the supplied ontology changes.
+   *
+   * @param changes A list of ontology changes
+   */
+  public synchronized void update(@NonNull List<? extends @NonNull OWLOntologyChange> changes)
+  {
+    RenderingTrie currentRenderings = this.renderings;
+    Map<@NonNull IRI, @NonNull String> currentEntityShortForms = this.entityShortForms;
+
+    if (currentRenderings == null || currentEntityShortForms == null || !isCurrent())
+      return; // Will be rebuilt on next lookup
+
+    OWLOntology ontology = this.swrlapiOWLOntology.getOWLOntology();
+    Set<@NonNull OWLOntology> importsClosure = ontology.getImportsClosure();
+
+    for (OWLOntologyChange change : changes) {
+      if (!change.isAxiomChange()) {
+        invalidate(); // Imports or ontology identifiers may have changed
+        return;
+      } else if (importsClosure.contains(change.getOntology())) {
+        if (change.isAddAxiom()) {
+          for (OWLEntity entity : change.getAxiom().getSignature())
+            addEntity(entity.getIRI(), currentRenderings, currentEntityShortForms);
+        } else if (change.isRemoveAxiom()) {
+          for (OWLEntity entity : change.getAxiom().getSignature()) {
+            IRI iri = entity.getIRI();
+            @Nullable String shortForm = currentEntityShortForms.get(iri);
+
+            if (shortForm != null && !ontology.containsEntityInSignature(iri, Imports.INCLUDED)) {
+              currentEntityShortForms.remove(iri);
+              removeRendering(shortForm, currentRenderings);
+            }
+          }
+        }
       }
     }
+  }
+
+  /**
+   * Discard the renderings so that they are rebuilt when completions are next requested.
+   */
+  public synchronized void invalidate()
+  {
+    this.renderings = null;
+    this.entityShortForms = null;
+  }
+
+  @NonNull private RenderingTrie getRenderings()
+  {
+    RenderingTrie currentRenderings = this.renderings;
+
+    return currentRenderings != null && isCurrent() ? currentRenderings : build();
+  }
 
-    for (IRI swrlBuiltInIRI : swrlapiowlOntology.getSWRLBuiltInIRIs()) {
+  // The renderings are based on the prefixes at the time they were built
+  private boolean isCurrent()
+  {
+    return this.prefixMappingVersion == this.swrlapiOWLOntology.getIRIResolver().getPrefixMappingVersion();
+  }
+
+  @NonNull private RenderingTrie build()
+  {
+    IRIResolver iriResolver = this.swrlapiOWLOntology.getIRIResolver();
+    long currentPrefixMappingVersion = iriResolver.getPrefixMappingVersion();
+    RenderingTrie currentRenderings = new RenderingTrie();
+    Map<@NonNull IRI, @NonNull String> currentEntityShortForms = new HashMap<>();
+
+    for (OWLEntity owlEntity : this.swrlapiOWLOntology.getOWLOntology().getSignature(Imports.INCLUDED))
+      addEntity(owlEntity.getIRI(), currentRenderings, currentEntityShortForms);
+
+    for (IRI swrlBuiltInIRI : this.swrlapiOWLOntology.getSWRLBuiltInIRIs()) {
       Optional<@NonNull String> prefixedName = iriResolver.iri2PrefixedName(swrlBuiltInIRI);
-      if (prefixedName.isPresent()) {
-        if (prefixedName.get().startsWith(":"))
-          this.renderings.add(prefixedName.get().substring(1));
-        this.renderings.add(prefixedName.get());
-      }
+      if (prefixedName.isPresent())
+        addRendering(prefixedName.get(), currentRenderings);
     }
 
     for (OWLRDFVocabulary v : OWLRDFVocabulary.values()) {
       String prefixedName = v.getPrefixedName();
       if (prefixedName != null)
-        this.renderings.add(prefixedName);
+        currentRenderings.add(prefixedName);
     }
 
-    this.renderings.add("sameAs");
-    this.renderings.add("differentFrom");
+    currentRenderings.add("sameAs");
+    currentRenderings.add("differentFrom");
 
-    Collections.sort(this.renderings);
+    this.renderings = currentRenderings;
+    this.entityShortForms = currentEntityShortForms;
+    this.prefixMappingVersion = currentPrefixMappingVersion;
+
+    return currentRenderings;
   }
 
-  @NonNull @Override public List<@NonNull String> getCompletions(@NonNull String prefix)
-  { // TODO Look at - not very efficient
-    List<@NonNull String> completions = new ArrayList<>();
+  private void addEntity(@NonNull IRI iri, @NonNull RenderingTrie currentRenderings,
+    @NonNull Map<@NonNull IRI, @NonNull String> currentEntityShortForms)
+  {
+    if (!currentEntityShortForms.containsKey(iri)) { // Punned entities are rendered once
+      Optional<@NonNull String> shortForm = this.swrlapiOWLOntology.getIRIResolver().iri2ShortForm(iri);
 
-    for (String rendering : renderings) {
-      if (rendering.startsWith(prefix))
-        completions.add(rendering);
+      if (shortForm.isPresent()) {
+        currentEntityShortForms.put(iri, shortForm.get());
+        addRendering(shortForm.get(), currentRenderings);
+      }
+    }
+  }
+
+  private static void addRendering(@NonNull String rendering, @NonNull RenderingTrie currentRenderings)
+  {
+    if (rendering.startsWith(":")) // Also complete without the leading ":"
+      currentRenderings.add(rendering.substring(1));
+    currentRenderings.add(rendering);
+  }
+
+  private static void removeRendering(@NonNull String rendering, @NonNull RenderingTrie currentRenderings)
+  {
+    if (rendering.startsWith(":"))
+      currentRenderings.remove(rendering.substring(1));
+    currentRenderings.remove(rendering);
+  }
+
+  /**
+   * A radix trie of strings. Each string has a count so that a string added from several sources is present until it
+   * has been removed as many times as it was added.
+   */
+  private static class RenderingTrie
+  {
+    @NonNull private final Node root = new Node("");
+
+    public void add(@NonNull String s)
+    {
+      Node node = this.root;
+      int i = 0;
+
+      while (i < s.length()) {
+        int childIndex = node.findChild(s.charAt(i));
+
+        if (childIndex < 0) { // No child starts with the next character so the rest of the string is a new leaf
+          Node leaf = new Node(s.substring(i));
+          leaf.count = 1;
+          node.insertChild(-childIndex - 1, leaf);
+          return;
+        }
+
+        Node child = node.children[childIndex];
+        int commonLength = commonPrefixLength(child.label, s, i);
+
+        if (commonLength < child.label.length()) { // Split the child's edge at the end of the common prefix
+          Node split = new Node(child.label.substring(0, commonLength));
+          child.label = child.label.substring(commonLength);
+          split.children = new Node[] { child };
+          node.children[childIndex] = split;
+          child = split;
+        }
+        node = child;
+        i += commonLength;
+      }
+      node.count++;
+    }
+
+    public void remove(@NonNull String s)
+    {
+      remove(this.root, s, 0);
+    }
+
+    public void collectCompletions(@NonNull String prefix, int maxCompletions,
+      @NonNull List<@NonNull String> completions)
+    {
+      Node node = this.root;
+      StringBuilder path = new StringBuilder(prefix.length() + 32);
+      int i = 0;
+
+      while (i < prefix.length()) {
+        int childIndex = node.findChild(prefix.charAt(i));
+
+        if (childIndex < 0)
+          return;
+
+        Node child = node.children[childIndex];
+        int commonLength = commonPrefixLength(child.label, prefix, i);
+
+        if (i + commonLength < prefix.length() && commonLength < child.label.length())
+          return; // The prefix diverges from the child's edge
+
+        path.append(child.label);
+        node = child;
+        i += commonLength;
+      }
+      collectStrings(node, path, maxCompletions, completions);
+    }
+
+    /**
+     * @return True if the string was present
+     */
+    private static boolean remove(@NonNull Node node, @NonNull String s, int i)
+    {
+      if (i == s.length()) {
+        if (node.count == 0)
+          return false;
+        node.count--;
+        return true;
+      }
+
+      int childIndex = node.findChild(s.charAt(i));
+
+      if (childIndex < 0)
+        return false;
+
+      Node child = node.children[childIndex];
+
+      if (!s.startsWith(child.label, i) || !remove(child, s, i + child.label.length()))
+        return false;
+
+      if (child.count == 0 && child.children.length == 0)
+        node.removeChild(childIndex);
+      else if (child.count == 0 && child.children.length == 1) { // Merge the child with its only child
+        Node grandchild = child.children[0];
+        grandchild.label = child.label + grandchild.label;
+        node.children[childIndex] = grandchild;
+      }
+      return true;
+    }
+
+    private static void collectStrings(@NonNull Node node, @NonNull StringBuilder path, int maxCompletions,
+      @NonNull List<@NonNull String> completions)
+    {
+      if (completions.size() >= maxCompletions)
+        return;
+
+      if (node.count > 0)
+        completions.add(path.toString());
+
+      for (Node child : node.children) {
+        int pathLength = path.length();
+
+        path.append(child.label);
+        collectStrings(child, path, maxCompletions, completions);
+        path.setLength(pathLength);
+
+        if (completions.size() >= maxCompletions)
+          return;
+      }
+    }
+
+    private static int commonPrefixLength(@NonNull String label, @NonNull String s, int start)
+    {
+      int length = Math.min(label.length(), s.length() - start);
+      int i = 0;
+
+      while (i < length && label.charAt(i) == s.charAt(start + i))
+        i++;
+
+      return i;
+    }
+  }
+
+  private static class Node
+  {
+    @NonNull private static final Node[] NO_CHILDREN = new Node[0];
+
+    @NonNull private String label; // The label of the edge from the parent
+    @NonNull private Node[] children = NO_CHILDREN; // Ordered by the first character of their labels
+    private int count; // The number of times the string ending at this node was added
+
+    public Node(@NonNull String label)
+    {
+      this.label = label;
+    }
+
+    /**
+     * @return The index of the child whose label starts with the supplied character, or (-(insertion point) - 1)
+     */
+    private int findChild(char c)
+    {
+      int low = 0, high = this.children.length - 1;
+
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        char midChar = this.children[mid].label.charAt(0);
+
+        if (midChar < c)
+          low = mid + 1;
+        else if (midChar > c)
+          high = mid - 1;
+        else
+          return mid;
+      }
+      return -(low + 1);
+    }
+
+    private void insertChild(int index, @NonNull Node child)
+    {
+      Node[] newChildren = new Node[this.children.length + 1];
+
+      System.arraycopy(this.children, 0, newChildren, 0, index);
+      newChildren[index] = child;
+      System.arraycopy(this.children, index, newChildren, index + 1, this.children.length - index);
+      this.children = newChildren;
+    }
+
+    private void removeChild(int index)
+    {
+      Node[] newChildren = new Node[this.children.length - 1];
+
+      System.arraycopy(this.children, 0, newChildren, 0, index);
+      System.arraycopy(this.children, index + 1, newChildren, index, this.children.length - index - 1);
+      this.children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
     }
-    return completions;
   }
 }
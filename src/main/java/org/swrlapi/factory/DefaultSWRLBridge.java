@@ -2,18 +2,21 @@ package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLOntology;
-import org.semanticweb.owlapi.model.parameters.Imports;
-import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 import org.swrlapi.bridge.SWRLBridge;
 import org.swrlapi.bridge.TargetSWRLRuleEngine;
 import org.swrlapi.builtins.SWRLBuiltInLibraryManager;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
+import org.swrlapi.builtins.temporal.ValidPeriodIndex;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLAxiomStore;
+import org.swrlapi.core.OWLObjectDictionary;
 import org.swrlapi.core.OWLObjectResolver;
 import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLRuleStatistics;
 import org.swrlapi.exceptions.SWRLBuiltInBridgeException;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 import org.swrlapi.exceptions.SWRLRuleEngineBridgeException;
@@ -23,10 +26,13 @@ import org.swrlapi.sqwrl.SQWRLResult;
 import org.swrlapi.sqwrl.SQWRLResultGenerator;
 import org.swrlapi.sqwrl.exceptions.SQWRLException;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Default implementation of a SWRL rule engine bridge, built-in bridge, built-in bridge controller, and rule engine
@@ -46,22 +52,37 @@ public class DefaultSWRLBridge implements SWRLBridge
   /**
    * OWL axioms inferred by a rule engine (via the {@link #inferOWLAxiom(org.semanticweb.owlapi.model.OWLAxiom)} call).
    * A {@link org.swrlapi.core.SWRLRuleEngine} can retrieve these using the the {@link #getInjectedOWLAxioms()} call
-   * after calling {@link org.swrlapi.bridge.TargetSWRLRuleEngine#runRuleEngine()}.
+   * after calling {@link org.swrlapi.bridge.TargetSWRLRuleEngine#runRuleEngine()}. The store shares the encoding of
+   * the ontology's asserted axioms so that already asserted axioms can be excluded with a single lookup.
    */
-  @NonNull private final Set<@NonNull OWLAxiom> inferredOWLAxioms;
+  @NonNull private final OWLAxiomStore inferredOWLAxioms;
 
   /**
    * OWL axioms inferred by SWRL built-ins (via the {@link #inferOWLAxiom(org.semanticweb.owlapi.model.OWLAxiom)}). A
    * {@link org.swrlapi.core.SWRLRuleEngine} can retrieve these using the {@link #getInjectedOWLAxioms()} call after
    * calling {@link org.swrlapi.bridge.TargetSWRLRuleEngine#runRuleEngine()}.
    */
-  @NonNull private final Set<@NonNull OWLAxiom> injectedOWLAxioms;
+  @NonNull private final OWLAxiomStore injectedOWLAxioms;
+
+  /**
+   * Statistics for each rule, keyed by rule name. Entries are created when a rule first invokes a built-in and are
+   * discarded on reset.
+   */
+  @NonNull private final ConcurrentMap<@NonNull String, @NonNull DefaultSWRLRuleStatistics> ruleStatistics =
+      new ConcurrentHashMap<>();
 
   /**
    * The target rule engine implementation (e.g., Drools, Jess)
    */
   @MonotonicNonNull private TargetSWRLRuleEngine targetSWRLRuleEngine;
 
+  /**
+   * Index over the valid times asserted in the active ontology; created on demand and discarded on reset. It is also
+   * recreated when the ontology's change version shows that the ontology or one of its imports has changed.
+   */
+  @Nullable private ValidPeriodIndex validPeriodIndex;
+  private long validPeriodIndexOntologyChangeVersion;
+
   public DefaultSWRLBridge(@NonNull SWRLAPIOWLOntology swrlapiOWLOntology,
       @NonNull OWL2RLPersistenceLayer owl2RLPersistenceLayer) throws SWRLBuiltInBridgeException
   {
@@ -70,8 +91,8 @@ public class DefaultSWRLBridge implements SWRLBridge
     this.owlObjectResolver = SWRLAPIFactory.createOWLObjectResolver(swrlapiOWLOntology.getOWLDataFactory());
     this.builtInLibraryManager = new SWRLBuiltInLibraryManager();
 
-    this.inferredOWLAxioms = new HashSet<>();
-    this.injectedOWLAxioms = new HashSet<>();
+    this.inferredOWLAxioms = swrlapiOWLOntology.getAssertedOWLAxiomStore().createOWLAxiomStore();
+    this.injectedOWLAxioms = swrlapiOWLOntology.getAssertedOWLAxiomStore().createOWLAxiomStore();
 
     this.builtInLibraryManager.invokeAllBuiltInLibrariesResetMethod(this);
   }
@@ -85,6 +106,8 @@ public class DefaultSWRLBridge implements SWRLBridge
   {
     this.inferredOWLAxioms.clear();
     this.injectedOWLAxioms.clear();
+    this.ruleStatistics.clear();
+    invalidateValidPeriodIndex();
 
     this.builtInLibraryManager.invokeAllBuiltInLibrariesResetMethod(this);
   }
@@ -100,10 +123,8 @@ public class DefaultSWRLBridge implements SWRLBridge
    */
   @Override public void injectOWLAxiom(@NonNull OWLAxiom axiom) throws SWRLBuiltInBridgeException
   {
-    if (!this.injectedOWLAxioms.contains(axiom)) {
-      this.injectedOWLAxioms.add(axiom);
+    if (this.injectedOWLAxioms.add(axiom))
       exportOWLAxiom(axiom); // Export the axiom to the rule engine.
-    }
   }
 
   @NonNull @Override public IRIResolver getIRIResolver()
@@ -111,6 +132,11 @@ public class DefaultSWRLBridge implements SWRLBridge
     return this.swrlapiOWLOntology.getIRIResolver();
   }
 
+  @NonNull @Override public OWLObjectDictionary getOWLObjectDictionary()
+  {
+    return this.swrlapiOWLOntology.getOWLObjectDictionary();
+  }
+
   @Override @NonNull public OWLObjectResolver getOWLObjectResolver()
   {
     return this.owlObjectResolver;
@@ -149,37 +175,71 @@ public class DefaultSWRLBridge implements SWRLBridge
   @Override public void inferOWLAxiom(@NonNull OWLAxiom axiom) throws SWRLRuleEngineBridgeException
   {
     // Exclude already asserted axioms
-    if (!this.inferredOWLAxioms.contains(axiom) && !this.swrlapiOWLOntology.hasAssertedOWLAxiom(axiom))
-      this.inferredOWLAxioms.add(axiom);
+    this.inferredOWLAxioms.addIfAbsent(axiom, this.swrlapiOWLOntology.getAssertedOWLAxiomStore());
   }
 
   @NonNull @Override public List<@NonNull List<@NonNull SWRLBuiltInArgument>> invokeSWRLBuiltIn(@NonNull String ruleName,
       @NonNull String builtInName, int builtInIndex, boolean isInConsequent,
       @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return builtInLibraryManager
-        .invokeSWRLBuiltIn(this, ruleName, builtInName, builtInIndex, isInConsequent, arguments);
+    long startTime = System.nanoTime();
+
+    try {
+      return builtInLibraryManager
+          .invokeSWRLBuiltIn(this, ruleName, builtInName, builtInIndex, isInConsequent, arguments);
+    } finally {
+      getRuleStatistics(ruleName).recordSWRLBuiltInInvocation(System.nanoTime() - startTime);
+    }
+  }
+
+  @NonNull @Override public List<@NonNull SWRLRuleStatistics> getSWRLRuleStatistics()
+  {
+    List<@NonNull SWRLRuleStatistics> statistics = new ArrayList<>(this.ruleStatistics.size());
+
+    // Counters may still be updated by the rule engine, so sort fixed copies of them
+    for (DefaultSWRLRuleStatistics ruleStatistics : this.ruleStatistics.values())
+      statistics.add(ruleStatistics.snapshot());
+
+    statistics.sort(Comparator.comparingLong(SWRLRuleStatistics::getSWRLBuiltInTimeNanos).reversed());
+
+    return Collections.unmodifiableList(statistics);
+  }
+
+  @NonNull @Override public synchronized ValidPeriodIndex getValidPeriodIndex()
+  {
+    long ontologyChangeVersion = this.swrlapiOWLOntology.getOntologyChangeVersion();
+
+    if (this.validPeriodIndex == null || this.validPeriodIndexOntologyChangeVersion != ontologyChangeVersion) {
+      this.validPeriodIndex = new ValidPeriodIndex(getOWLOntology());
+      this.validPeriodIndexOntologyChangeVersion = ontologyChangeVersion;
+    }
+
+    return this.validPeriodIndex;
+  }
+
+  private synchronized void invalidateValidPeriodIndex()
+  {
+    this.validPeriodIndex = null;
   }
 
   public boolean isOWLClass(@NonNull IRI iri)
   {
-    return getOWLOntology().containsClassInSignature(iri, Imports.INCLUDED) || iri
-        .equals(OWLRDFVocabulary.OWL_THING.getIRI()) || iri.equals(OWLRDFVocabulary.OWL_NOTHING.getIRI());
+    return this.swrlapiOWLOntology.getOWLSignatureIndex().isOWLClass(iri);
   }
 
   public boolean isOWLObjectProperty(@NonNull IRI propertyIRI)
   {
-    return getOWLOntology().containsObjectPropertyInSignature(propertyIRI, Imports.INCLUDED);
+    return this.swrlapiOWLOntology.getOWLSignatureIndex().isOWLObjectProperty(propertyIRI);
   }
 
   public boolean isOWLDataProperty(@NonNull IRI propertyIRI)
   {
-    return getOWLOntology().containsDataPropertyInSignature(propertyIRI, Imports.INCLUDED);
+    return this.swrlapiOWLOntology.getOWLSignatureIndex().isOWLDataProperty(propertyIRI);
   }
 
   public boolean isOWLNamedIndividual(@NonNull IRI individualIRI)
   {
-    return getOWLOntology().containsIndividualInSignature(individualIRI, Imports.INCLUDED);
+    return this.swrlapiOWLOntology.getOWLSignatureIndex().isOWLNamedIndividual(individualIRI);
   }
 
   @NonNull public SQWRLResult getSQWRLResult(@NonNull String queryName) throws SQWRLException
@@ -193,6 +253,11 @@ public class DefaultSWRLBridge implements SWRLBridge
     return this.swrlapiOWLOntology.getSQWRLResultGenerator(queryName);
   }
 
+  @NonNull private DefaultSWRLRuleStatistics getRuleStatistics(@NonNull String ruleName)
+  {
+    return this.ruleStatistics.computeIfAbsent(ruleName, DefaultSWRLRuleStatistics::new);
+  }
+
   private void exportOWLAxiom(@NonNull OWLAxiom axiom) throws SWRLBuiltInBridgeException
   {
     try {
@@ -21,6 +21,7 @@ import org.swrlapi.builtins.arguments.SWRLNamedIndividualBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLObjectPropertyBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLVariableBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLObjectDictionary;
 import org.swrlapi.literal.XSDDate;
 import org.swrlapi.literal.XSDDateTime;
 import org.swrlapi.literal.XSDDuration;
@@ -36,10 +37,12 @@ class DefaultSWRLBuiltInArgumentFactory implements SWRLBuiltInArgumentFactory
 {
   @NonNull private final IRIResolver iriResolver;
   @NonNull private final OWLLiteralFactory owlLiteralFactory;
+  @NonNull private final OWLObjectDictionary dictionary;
 
-  public DefaultSWRLBuiltInArgumentFactory(@NonNull IRIResolver iriResolver)
+  public DefaultSWRLBuiltInArgumentFactory(@NonNull IRIResolver iriResolver, @NonNull OWLObjectDictionary dictionary)
   {
     this.iriResolver = iriResolver;
+    this.dictionary = dictionary;
     this.owlLiteralFactory = SWRLAPIFactory.createOWLLiteralFactory();
   }
 
@@ -57,116 +60,116 @@ class DefaultSWRLBuiltInArgumentFactory implements SWRLBuiltInArgumentFactory
 
   @NonNull @Override public SWRLClassBuiltInArgument getClassBuiltInArgument(OWLClass cls)
   {
-    return new DefaultSWRLClassBuiltInArgument(cls);
+    return new DefaultSWRLClassBuiltInArgument(cls, this.dictionary);
   }
 
   @NonNull @Override public SWRLObjectPropertyBuiltInArgument getObjectPropertyBuiltInArgument(
     @NonNull OWLObjectProperty property)
   {
-    return new DefaultSWRLObjectPropertyBuiltInArgument(property);
+    return new DefaultSWRLObjectPropertyBuiltInArgument(property, this.dictionary);
   }
 
   @NonNull @Override public SWRLDataPropertyBuiltInArgument getDataPropertyBuiltInArgument(
     @NonNull OWLDataProperty property)
   {
-    return new DefaultSWRLDataPropertyBuiltInArgument(property);
+    return new DefaultSWRLDataPropertyBuiltInArgument(property, this.dictionary);
   }
 
   @NonNull @Override public SWRLAnnotationPropertyBuiltInArgument getAnnotationPropertyBuiltInArgument(
     @NonNull OWLAnnotationProperty property)
   {
-    return new DefaultDefaultSWRLAnnotationPropertyBuiltInArgument(property);
+    return new DefaultDefaultSWRLAnnotationPropertyBuiltInArgument(property, this.dictionary);
   }
 
   @NonNull @Override public SWRLDatatypeBuiltInArgument getDatatypeBuiltInArgument(@NonNull OWLDatatype datatype)
   {
-    return new DefaultSWRLDatatypeBuiltInArgument(datatype);
+    return new DefaultSWRLDatatypeBuiltInArgument(datatype, this.dictionary);
   }
 
   @NonNull @Override public SWRLNamedIndividualBuiltInArgument getNamedIndividualBuiltInArgument(
     @NonNull OWLNamedIndividual individual)
   {
-    return new DefaultSWRLNamedIndividualBuiltInArgument(individual);
+    return new DefaultSWRLNamedIndividualBuiltInArgument(individual, this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(@NonNull OWLLiteral literal)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(literal);
+    return new DefaultSWRLLiteralBuiltInArgument(literal, this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(@NonNull String s)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(s));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(s), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(boolean b)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(b));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(b), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(short s)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(s));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(s), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(int i)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(i));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(i), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(long l)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(l));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(l), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(float f)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(f));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(f), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(double d)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(d));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(d), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(@NonNull BigDecimal d)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(d));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(d), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(@NonNull BigInteger i)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(i));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(i), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(byte b)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(b));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(b), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(@NonNull URI uri)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(uri));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(uri), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(@NonNull XSDDate date)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(date));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(date), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(@NonNull XSDTime time)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(time));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(time), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(@NonNull XSDDateTime datetime)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(datetime));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(datetime), this.dictionary);
   }
 
   @NonNull @Override public SWRLLiteralBuiltInArgument getLiteralBuiltInArgument(@NonNull XSDDuration duration)
   {
-    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(duration));
+    return new DefaultSWRLLiteralBuiltInArgument(getOWLLiteralFactory().getOWLLiteral(duration), this.dictionary);
   }
 
   @NonNull @Override public SWRLMultiValueVariableBuiltInArgument getMultiValueVariableBuiltInArgument(
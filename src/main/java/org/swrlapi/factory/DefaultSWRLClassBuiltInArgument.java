@@ -5,14 +5,15 @@ import org.semanticweb.owlapi.model.OWLClass;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitor;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitorEx;
 import org.swrlapi.builtins.arguments.SWRLClassBuiltInArgument;
+import org.swrlapi.core.OWLObjectDictionary;
 
 class DefaultSWRLClassBuiltInArgument extends DefaultSWRLNamedBuiltInArgument implements SWRLClassBuiltInArgument
 {
   private static final long serialVersionUID = 1L;
 
-  public DefaultSWRLClassBuiltInArgument(@NonNull OWLClass cls)
+  public DefaultSWRLClassBuiltInArgument(@NonNull OWLClass cls, @NonNull OWLObjectDictionary dictionary)
   {
-    super(cls);
+    super(cls, dictionary);
   }
 
   @NonNull @Override public OWLClass getOWLClass()
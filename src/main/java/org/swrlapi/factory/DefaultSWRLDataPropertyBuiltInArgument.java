@@ -5,15 +5,17 @@ import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitor;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitorEx;
 import org.swrlapi.builtins.arguments.SWRLDataPropertyBuiltInArgument;
+import org.swrlapi.core.OWLObjectDictionary;
 
 class DefaultSWRLDataPropertyBuiltInArgument extends DefaultSWRLNamedBuiltInArgument
   implements SWRLDataPropertyBuiltInArgument
 {
   private static final long serialVersionUID = 1L;
 
-  public DefaultSWRLDataPropertyBuiltInArgument(@NonNull OWLDataProperty property)
+  public DefaultSWRLDataPropertyBuiltInArgument(@NonNull OWLDataProperty property,
+    @NonNull OWLObjectDictionary dictionary)
   {
-    super(property);
+    super(property, dictionary);
   }
 
   @NonNull @Override public OWLDataProperty getOWLDataProperty()
@@ -5,14 +5,15 @@ import org.semanticweb.owlapi.model.OWLDatatype;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitor;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitorEx;
 import org.swrlapi.builtins.arguments.SWRLDatatypeBuiltInArgument;
+import org.swrlapi.core.OWLObjectDictionary;
 
 class DefaultSWRLDatatypeBuiltInArgument extends DefaultSWRLNamedBuiltInArgument implements SWRLDatatypeBuiltInArgument
 {
   private static final long serialVersionUID = 1L;
 
-  public DefaultSWRLDatatypeBuiltInArgument(@NonNull OWLDatatype datatype)
+  public DefaultSWRLDatatypeBuiltInArgument(@NonNull OWLDatatype datatype, @NonNull OWLObjectDictionary dictionary)
   {
-    super(datatype);
+    super(datatype, dictionary);
   }
 
   @NonNull @Override public OWLDatatype getOWLDatatype()
@@ -17,6 +17,7 @@ import org.swrlapi.builtins.arguments.SWRLLiteralBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLMultiValueVariableBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLNamedBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLVariableBuiltInArgument;
+import org.swrlapi.core.OWLObjectDictionary;
 import org.swrlapi.exceptions.SWRLAPIException;
 import org.swrlapi.literal.OWLLiteralComparator;
 
@@ -31,10 +32,14 @@ class DefaultSWRLLiteralBuiltInArgument extends DefaultSWRLBuiltInArgument imple
   @NonNull private static final Comparator<OWLLiteral> owlLiteralComparator = OWLLiteralComparator.COMPARATOR;
 
   @NonNull private final OWLLiteral literal;
+  // Neither the dictionary nor identifiers drawn from it are serialized, so a deserialized argument has no identifier
+  @Nullable private final transient OWLObjectDictionary dictionary;
+  private transient int id = OWLObjectDictionary.UNKNOWN_ID; // Assigned on first request
 
-  public DefaultSWRLLiteralBuiltInArgument(@NonNull OWLLiteral literal)
+  public DefaultSWRLLiteralBuiltInArgument(@NonNull OWLLiteral literal, @NonNull OWLObjectDictionary dictionary)
   {
     this.literal = literal;
+    this.dictionary = dictionary;
   }
 
   @NonNull @Override public OWLLiteral getLiteral()
@@ -42,6 +47,14 @@ class DefaultSWRLLiteralBuiltInArgument extends DefaultSWRLBuiltInArgument imple
     return this.literal;
   }
 
+  @Override public int getID()
+  {
+    if (this.id == OWLObjectDictionary.UNKNOWN_ID && this.dictionary != null)
+      this.id = this.dictionary.getID(this.literal);
+
+    return this.id;
+  }
+
   @Override public boolean isVariable()
   {
     return false;
@@ -14,6 +14,7 @@ import org.semanticweb.owlapi.model.SWRLObjectVisitor;
 import org.semanticweb.owlapi.model.SWRLObjectVisitorEx;
 import org.swrlapi.builtins.arguments.SWRLLiteralBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLNamedBuiltInArgument;
+import org.swrlapi.core.OWLObjectDictionary;
 import org.swrlapi.exceptions.SWRLAPIException;
 
 import java.util.Collections;
@@ -24,10 +25,14 @@ abstract class DefaultSWRLNamedBuiltInArgument extends DefaultSWRLBuiltInArgumen
   private static final long serialVersionUID = 1L;
 
   @NonNull private final OWLEntity entity;
+  // Neither the dictionary nor identifiers drawn from it are serialized, so a deserialized argument has no identifier
+  @Nullable private final transient OWLObjectDictionary dictionary;
+  private transient int id = OWLObjectDictionary.UNKNOWN_ID; // Assigned on first request
 
-  protected DefaultSWRLNamedBuiltInArgument(@NonNull OWLEntity entity)
+  protected DefaultSWRLNamedBuiltInArgument(@NonNull OWLEntity entity, @NonNull OWLObjectDictionary dictionary)
   {
     this.entity = entity;
+    this.dictionary = dictionary;
   }
 
   @NonNull OWLEntity getOWLEntity()
@@ -40,6 +45,14 @@ abstract class DefaultSWRLNamedBuiltInArgument extends DefaultSWRLBuiltInArgumen
     return this.entity.getIRI();
   }
 
+  @Override public int getID()
+  {
+    if (this.id == OWLObjectDictionary.UNKNOWN_ID && this.dictionary != null)
+      this.id = this.dictionary.getID(this.entity.getIRI());
+
+    return this.id;
+  }
+
   public @Override boolean isLiteral()
   {
     return false;
@@ -5,15 +5,17 @@ import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitor;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitorEx;
 import org.swrlapi.builtins.arguments.SWRLNamedIndividualBuiltInArgument;
+import org.swrlapi.core.OWLObjectDictionary;
 
 class DefaultSWRLNamedIndividualBuiltInArgument extends DefaultSWRLNamedBuiltInArgument
   implements SWRLNamedIndividualBuiltInArgument
 {
   private static final long serialVersionUID = 1L;
 
-  public DefaultSWRLNamedIndividualBuiltInArgument(OWLNamedIndividual individual)
+  public DefaultSWRLNamedIndividualBuiltInArgument(OWLNamedIndividual individual,
+    @NonNull OWLObjectDictionary dictionary)
   {
-    super(individual);
+    super(individual, dictionary);
   }
 
   @NonNull @Override public OWLNamedIndividual getOWLNamedIndividual()
@@ -5,15 +5,17 @@ import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitor;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgumentVisitorEx;
 import org.swrlapi.builtins.arguments.SWRLObjectPropertyBuiltInArgument;
+import org.swrlapi.core.OWLObjectDictionary;
 
 class DefaultSWRLObjectPropertyBuiltInArgument extends DefaultSWRLNamedBuiltInArgument
   implements SWRLObjectPropertyBuiltInArgument
 {
   private static final long serialVersionUID = 1L;
 
-  public DefaultSWRLObjectPropertyBuiltInArgument(@NonNull OWLObjectProperty property)
+  public DefaultSWRLObjectPropertyBuiltInArgument(@NonNull OWLObjectProperty property,
+    @NonNull OWLObjectDictionary dictionary)
   {
-    super(property);
+    super(property, dictionary);
   }
 
   @NonNull @Override public OWLObjectProperty getOWLObjectProperty()
@@ -1,20 +1,19 @@
 package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
-import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLOntology;
-import org.semanticweb.owlapi.model.OWLOntologyChange;
-import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.swrlapi.bridge.SWRLRuleEngineBridgeController;
 import org.swrlapi.bridge.TargetSWRLRuleEngine;
 import org.swrlapi.builtins.SWRLBuiltInBridgeController;
+import org.swrlapi.core.SWRLAPIInstrumentation;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.core.SWRLAPIRule;
 import org.swrlapi.core.SWRLRuleEngine;
 import org.swrlapi.core.SWRLRuleRenderer;
+import org.swrlapi.core.SWRLRuleStatistics;
 import org.swrlapi.exceptions.SWRLAPIException;
 import org.swrlapi.exceptions.SWRLRuleEngineException;
 import org.swrlapi.exceptions.SWRLRuleException;
@@ -24,16 +23,21 @@ import org.swrlapi.parser.SWRLParseException;
 import org.swrlapi.parser.SWRLParser;
 import org.swrlapi.sqwrl.SQWRLQuery;
 import org.swrlapi.sqwrl.SQWRLQueryEngine;
+import org.swrlapi.sqwrl.SQWRLQueryPlan;
 import org.swrlapi.sqwrl.SQWRLQueryRenderer;
 import org.swrlapi.sqwrl.SQWRLResult;
 import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.sqwrl.exceptions.SQWRLInvalidQueryNameException;
 import org.swrlapi.ui.model.SWRLAutoCompleter;
 
 import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * This class provides an implementation of some of the core functionality required by a SWRL rule engine.
@@ -60,8 +64,11 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
   {
     reset();
 
+    long startTime = System.nanoTime();
+
     try {
       exportOWLAxioms2TargetRuleEngine(this.swrlapiOWLOntology.getOWLAxioms()); // OWL axioms include SWRL rules
+      phaseCompleted(SWRLAPIInstrumentation.RuleEnginePhase.EXPORT, startTime);
     } catch (SWRLAPIException e) {
       throw new SWRLRuleEngineException(
         "error exporting knowledge to rule engine: " + (e.getMessage() != null ? e.getMessage() : ""), e);
@@ -72,9 +79,12 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
   {
     reset();
 
+    long startTime = System.nanoTime();
+
     try {
       exportOWLAxioms2TargetRuleEngine(this.swrlapiOWLOntology.getOWLAxioms()); // OWL axioms include SWRL rules
       exportSQWRLQuery2TargetRuleEngine(queryName);
+      phaseCompleted(SWRLAPIInstrumentation.RuleEnginePhase.EXPORT, startTime);
     } catch (SWRLAPIException e) {
       throw new SWRLRuleEngineException(
         "error exporting SQWRL query rule engine: " + (e.getMessage() != null ? e.getMessage() : ""), e);
@@ -83,21 +93,33 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
 
   @Override public void run() throws SWRLRuleEngineException
   {
+    long startTime = System.nanoTime();
+
     getTargetSWRLRuleEngine().runRuleEngine();
+    phaseCompleted(SWRLAPIInstrumentation.RuleEnginePhase.RUN_RULE_ENGINE, startTime);
   }
 
   @Override public void exportInferredOWLAxioms() throws SWRLRuleEngineException
   {
+    long startTime = System.nanoTime();
+
     try {
       getSWRLAPIOWLOntology().startEventFreezeMode(); // Suspend possible event generation for bulk updates.
 
-      // Write OWL axioms generated by built-ins in rules.
-      writeOWLAxioms2OWLOntology(this.builtInBridgeController.getInjectedOWLAxioms());
-      // Write OWL axioms inferred by rules.
-      writeOWLAxioms2OWLOntology(this.ruleEngineBridgeController.getInferredOWLAxioms());
+      List<@NonNull OWLAxiom> axioms = new ArrayList<>();
+
+      // OWL axioms generated by built-ins in rules.
+      addExportableOWLAxioms(this.builtInBridgeController.getInjectedOWLAxioms(), axioms);
+      // OWL axioms inferred by rules.
+      addExportableOWLAxioms(this.ruleEngineBridgeController.getInferredOWLAxioms(), axioms);
+
+      getSWRLAPIOWLOntology().addOWLAxioms(axioms); // Written in one batch so listeners are notified once
+    } catch (SQWRLException | RuntimeException e) {
+      throw new SWRLRuleEngineException("Error writing OWL axioms to ontology", e);
     } finally {
       getSWRLAPIOWLOntology().finishEventFreezeMode();
     }
+    phaseCompleted(SWRLAPIInstrumentation.RuleEnginePhase.WRITE_BACK, startTime);
   }
 
   @Override public void infer() throws SWRLRuleEngineException
@@ -122,7 +144,11 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
   {
     try {
       importAssertedOWLAxioms();
+
+      long startTime = System.nanoTime();
+
       exportSQWRLQueries2TargetRuleEngine();
+      phaseCompleted(SWRLAPIInstrumentation.RuleEnginePhase.EXPORT, startTime); // Timed separately from the axioms
     } catch (SWRLRuleEngineException | TargetSWRLRuleEngineException e) {
       throw new SQWRLException("error processing SQWRL queries: " + (e.getMessage() != null ? e.getMessage() : ""), e);
     }
@@ -157,6 +183,32 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     return this.swrlapiOWLOntology.getSQWRLResult(queryName);
   }
 
+  @NonNull @Override public SQWRLQueryPlan explain(@NonNull String queryName) throws SQWRLException
+  {
+    return explain(queryName, false);
+  }
+
+  @NonNull @Override public SQWRLQueryPlan explain(@NonNull String queryName, boolean profile) throws SQWRLException
+  {
+    if (!profile)
+      return SWRLAPIFactory.createSQWRLQueryPlan(getSQWRLQuery(queryName), this.swrlapiOWLOntology);
+
+    SWRLAPIInstrumentation instrumentation = this.swrlapiOWLOntology.getInstrumentation();
+    QueryProfiler profiler = new QueryProfiler(queryName, instrumentation);
+    int numberOfRows;
+
+    // Queries are recreated when the run processes the ontology, so they report to the profiler
+    this.swrlapiOWLOntology.setInstrumentation(profiler);
+    try {
+      numberOfRows = runSQWRLQuery(queryName).getNumberOfRows();
+    } finally {
+      this.swrlapiOWLOntology.setInstrumentation(instrumentation);
+    }
+
+    return SWRLAPIFactory.createSQWRLQueryPlan(getSQWRLQuery(queryName), this.swrlapiOWLOntology,
+      profiler.getStageTimeNanos(), numberOfRows);
+  }
+
   @NonNull @Override public Set<@NonNull SQWRLQuery> getSQWRLQueries()
   {
     return this.swrlapiOWLOntology.getSQWRLQueries();
@@ -309,6 +361,11 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     return this.builtInBridgeController.getInjectedOWLAxioms();
   }
 
+  @NonNull @Override public List<@NonNull SWRLRuleStatistics> getSWRLRuleStatistics()
+  {
+    return this.ruleEngineBridgeController.getSWRLRuleStatistics();
+  }
+
   @NonNull @Override public String getRuleEngineName()
   {
     return this.targetSWRLRuleEngine.getTargetRuleEngineName();
@@ -354,6 +411,21 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     return this.swrlapiOWLOntology;
   }
 
+  @NonNull private SQWRLQuery getSQWRLQuery(@NonNull String queryName) throws SQWRLException
+  {
+    for (SQWRLQuery query : this.swrlapiOWLOntology.getSQWRLQueries()) {
+      if (hasQueryName(query, queryName))
+        return query;
+    }
+    throw new SQWRLInvalidQueryNameException(queryName);
+  }
+
+  // Query names are case sensitive, as are the results looked up by name
+  private static boolean hasQueryName(@NonNull SQWRLQuery query, @NonNull String queryName)
+  {
+    return query.getQueryName().equals(queryName);
+  }
+
   private void reset()
   {
     try {
@@ -371,7 +443,7 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     throws SWRLRuleEngineException, TargetSWRLRuleEngineException
   {
     for (SQWRLQuery query : this.swrlapiOWLOntology.getSQWRLQueries()) {
-      query.setActive(query.getQueryName().equalsIgnoreCase(activeQueryName));
+      query.setActive(hasQueryName(query, activeQueryName));
       exportSQWRLQuery2TargetRuleEngine(query);
     }
   }
@@ -405,28 +477,72 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
       getTargetSWRLRuleEngine().defineOWLAxiom(axiom);
   }
 
-  private void writeOWLAxioms2OWLOntology(@NonNull Set<@NonNull OWLAxiom> axioms) throws SWRLRuleEngineException
+  private void addExportableOWLAxioms(@NonNull Set<@NonNull OWLAxiom> axioms,
+    @NonNull List<@NonNull OWLAxiom> exportableAxioms)
   {
     OWLInferredAxiomFilter inferredAxiomFilter = new OWLInferredAxiomFilter(axioms);
-    List<OWLAxiom> filteredAxioms = axioms.stream().filter(a -> !a.accept(inferredAxiomFilter))
-      .collect(Collectors.toList());
-    List<? extends OWLOntologyChange> changes = filteredAxioms.stream().map(a -> new AddAxiom(getOWLOntology(), a))
-      .collect(Collectors.toList());
 
-    try {
-      getOWLOntologyManager().applyChanges(changes);
-    } catch (RuntimeException e) {
-      throw new SWRLRuleEngineException("Error writing OWL axioms to ontology", e);
+    for (OWLAxiom axiom : axioms) {
+      if (!axiom.accept(inferredAxiomFilter))
+        exportableAxioms.add(axiom);
     }
   }
 
-  @NonNull private OWLOntologyManager getOWLOntologyManager()
+  private void phaseCompleted(@NonNull SWRLAPIInstrumentation.RuleEnginePhase phase, long startTime)
   {
-    return this.getSWRLAPIOWLOntology().getOWLOntologyManager();
+    this.swrlapiOWLOntology.getInstrumentation().ruleEnginePhaseCompleted(phase, System.nanoTime() - startTime);
   }
 
   @NonNull private SWRLBuiltInBridgeController getBuiltInBridgeController()
   {
     return this.builtInBridgeController;
   }
+
+  /**
+   * Records the stages of a single query run and passes all reported values on to the ontology's instrumentation.
+   */
+  private static class QueryProfiler implements SWRLAPIInstrumentation
+  {
+    @NonNull private final String queryName;
+    @NonNull private final SWRLAPIInstrumentation instrumentation;
+    @NonNull private final Map<SQWRLQueryPlan.@NonNull Stage, @NonNull Long> stageTimeNanos =
+      new EnumMap<>(SQWRLQueryPlan.Stage.class);
+
+    public QueryProfiler(@NonNull String queryName, @NonNull SWRLAPIInstrumentation instrumentation)
+    {
+      this.queryName = queryName;
+      this.instrumentation = instrumentation;
+    }
+
+    @Override public void ruleEnginePhaseCompleted(@NonNull RuleEnginePhase phase, long durationNanos)
+    {
+      if (phase != RuleEnginePhase.WRITE_BACK)
+        recordStage(SQWRLQueryPlan.Stage.valueOf(phase.name()), durationNanos);
+
+      this.instrumentation.ruleEnginePhaseCompleted(phase, durationNanos);
+    }
+
+    @Override public void swrlBuiltInInvoked(@NonNull String builtInName, long durationNanos)
+    {
+      this.instrumentation.swrlBuiltInInvoked(builtInName, durationNanos);
+    }
+
+    @Override public void sqwrlResultPrepared(@NonNull String queryName, int numberOfRows, long durationNanos)
+    {
+      if (queryName.equals(this.queryName))
+        recordStage(SQWRLQueryPlan.Stage.RESULT_PREPARATION, durationNanos);
+
+      this.instrumentation.sqwrlResultPrepared(queryName, numberOfRows, durationNanos);
+    }
+
+    @NonNull public synchronized Map<SQWRLQueryPlan.@NonNull Stage, @NonNull Long> getStageTimeNanos()
+    {
+      return Collections.unmodifiableMap(new EnumMap<>(this.stageTimeNanos));
+    }
+
+    private synchronized void recordStage(SQWRLQueryPlan.@NonNull Stage stage, long durationNanos)
+    {
+      this.stageTimeNanos.merge(stage, Math.max(0, durationNanos), Long::sum);
+    }
+  }
 }
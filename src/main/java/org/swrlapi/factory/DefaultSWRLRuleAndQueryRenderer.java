@@ -1,6 +1,9 @@
 package org.swrlapi.factory;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.semanticweb.owlapi.model.OWLClass;
@@ -43,6 +46,7 @@ import org.swrlapi.builtins.arguments.SWRLNamedIndividualBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLObjectPropertyBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLVariableBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLSignatureIndex;
 import org.swrlapi.core.SWRLAPIBuiltInAtom;
 import org.swrlapi.core.SWRLRuleRenderer;
 import org.swrlapi.parser.SWRLParser;
@@ -50,12 +54,19 @@ import org.swrlapi.sqwrl.SQWRLNames;
 import org.swrlapi.sqwrl.SQWRLQuery;
 import org.swrlapi.sqwrl.SQWRLQueryRenderer;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Default implementation of a renderer for {@link org.swrlapi.core.SWRLAPIRule} and
  * {@link org.swrlapi.sqwrl.SQWRLQuery} objects.
+ * <p>
+ * Renderings of rules are cached, keyed by the structure of the rule, until the prefix mapping version of the IRI
+ * resolver changes. A variable is rendered differently if an entity with its IRI is declared, so each cached rendering
+ * also records which of the rule's variables were entities and is not reused if that has changed.
  *
  * @see org.swrlapi.core.SWRLAPIRule
  * @see org.swrlapi.sqwrl.SQWRLQuery
@@ -63,16 +74,44 @@ import java.util.Optional;
  */
 class DefaultSWRLRuleAndQueryRenderer implements SWRLRuleRenderer, SQWRLQueryRenderer
 {
+  private static final int MAXIMUM_NUMBER_OF_CACHED_RULE_RENDERINGS = 10000;
+
   @NonNull private final OWLOntology ontology;
   @NonNull private final IRIResolver iriResolver;
+  @Nullable private final OWLSignatureIndex signatureIndex;
+  @NonNull private volatile RuleRenderings ruleRenderings = new RuleRenderings(Long.MIN_VALUE);
 
   public DefaultSWRLRuleAndQueryRenderer(@NonNull OWLOntology ontology, @NonNull IRIResolver iriResolver)
   {
     this.ontology = ontology;
     this.iriResolver = iriResolver;
+    this.signatureIndex = null;
+  }
+
+  public DefaultSWRLRuleAndQueryRenderer(@NonNull OWLOntology ontology, @NonNull IRIResolver iriResolver,
+    @NonNull OWLSignatureIndex signatureIndex)
+  {
+    this.ontology = ontology;
+    this.iriResolver = iriResolver;
+    this.signatureIndex = signatureIndex;
   }
 
   @NonNull @Override public String renderSWRLRule(@NonNull SWRLRule rule)
+  {
+    RuleRenderings currentRuleRenderings = getRuleRenderings();
+    Set<@NonNull IRI> entityVariableIRIs = getEntityVariableIRIs(rule);
+    @Nullable RuleRendering ruleRendering = currentRuleRenderings.renderings.getIfPresent(rule);
+
+    if (ruleRendering != null && ruleRendering.entityVariableIRIs.equals(entityVariableIRIs))
+      return ruleRendering.rendering;
+    else {
+      String rendering = generateSWRLRuleRendering(rule);
+      currentRuleRenderings.renderings.put(rule, new RuleRendering(rendering, entityVariableIRIs));
+      return rendering;
+    }
+  }
+
+  @NonNull private String generateSWRLRuleRendering(@NonNull SWRLRule rule)
   {
     StringBuilder sb = new StringBuilder();
 
@@ -258,7 +297,7 @@ class DefaultSWRLRuleAndQueryRenderer implements SWRLRuleRenderer, SQWRLQueryRen
   {
     IRI argumentIRI = variable.getIRI();
 
-    if (getOWLOntology().containsEntityInSignature(argumentIRI)) {
+    if (isOWLEntity(argumentIRI)) {
       String shortForm = getShortForm(argumentIRI);
 
       return shortForm.startsWith(":") ? shortForm.substring(1) : shortForm;
@@ -561,4 +600,65 @@ class DefaultSWRLRuleAndQueryRenderer implements SWRLRuleRenderer, SQWRLQueryRen
   }
 
   @NonNull private OWLOntology getOWLOntology() { return this.ontology; }
-}
\ No newline at end of file
+
+  /**
+   * A rendering captured before a change in prefixes is put in the cache for the previous version, which is discarded.
+   */
+  @NonNull private RuleRenderings getRuleRenderings()
+  {
+    long prefixMappingVersion = this.iriResolver.getPrefixMappingVersion();
+    RuleRenderings currentRuleRenderings = this.ruleRenderings;
+
+    if (currentRuleRenderings.prefixMappingVersion != prefixMappingVersion) {
+      currentRuleRenderings = new RuleRenderings(prefixMappingVersion);
+      this.ruleRenderings = currentRuleRenderings;
+    }
+    return currentRuleRenderings;
+  }
+
+  @NonNull private Set<@NonNull IRI> getEntityVariableIRIs(@NonNull SWRLRule rule)
+  {
+    Set<@NonNull IRI> entityVariableIRIs = Collections.emptySet();
+
+    for (SWRLVariable variable : rule.getVariables()) {
+      if (isOWLEntity(variable.getIRI())) {
+        if (entityVariableIRIs.isEmpty())
+          entityVariableIRIs = new HashSet<>();
+        entityVariableIRIs.add(variable.getIRI());
+      }
+    }
+    return entityVariableIRIs;
+  }
+
+  private boolean isOWLEntity(@NonNull IRI iri)
+  {
+    if (this.signatureIndex != null)
+      return this.signatureIndex.isOWLEntity(iri);
+    else
+      return getOWLOntology().containsEntityInSignature(iri);
+  }
+
+  private static class RuleRenderings
+  {
+    private final long prefixMappingVersion;
+    @NonNull private final Cache<@NonNull SWRLRule, @NonNull RuleRendering> renderings = CacheBuilder.newBuilder()
+      .maximumSize(MAXIMUM_NUMBER_OF_CACHED_RULE_RENDERINGS).build();
+
+    public RuleRenderings(long prefixMappingVersion)
+    {
+      this.prefixMappingVersion = prefixMappingVersion;
+    }
+  }
+
+  private static class RuleRendering
+  {
+    @NonNull private final String rendering;
+    @NonNull private final Set<@NonNull IRI> entityVariableIRIs;
+
+    public RuleRendering(@NonNull String rendering, @NonNull Set<@NonNull IRI> entityVariableIRIs)
+    {
+      this.rendering = rendering;
+      this.entityVariableIRIs = entityVariableIRIs;
+    }
+  }
+}
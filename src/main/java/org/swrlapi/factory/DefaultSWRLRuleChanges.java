@@ -0,0 +1,76 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.core.SWRLRuleChanges;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @see org.swrlapi.core.SWRLRuleChanges
+ */
+class DefaultSWRLRuleChanges implements SWRLRuleChanges
+{
+  @NonNull private final Map<@NonNull String, @NonNull SWRLAPIRule> addedSWRLRules;
+  @NonNull private final Map<@NonNull String, @NonNull SWRLAPIRule> modifiedSWRLRules;
+  @NonNull private final Set<@NonNull String> removedSWRLRuleNames;
+
+  public DefaultSWRLRuleChanges(@NonNull Map<@NonNull String, @NonNull SWRLAPIRule> previousSWRLRules,
+    @NonNull Map<@NonNull String, @NonNull SWRLAPIRule> currentSWRLRules, boolean allSWRLRulesModified)
+  {
+    Map<@NonNull String, @NonNull SWRLAPIRule> added = new HashMap<>();
+    Map<@NonNull String, @NonNull SWRLAPIRule> modified = new HashMap<>();
+    Set<@NonNull String> removed = new HashSet<>();
+
+    for (Map.Entry<@NonNull String, @NonNull SWRLAPIRule> entry : currentSWRLRules.entrySet()) {
+      SWRLAPIRule previousSWRLRule = previousSWRLRules.get(entry.getKey());
+
+      if (previousSWRLRule == null)
+        added.put(entry.getKey(), entry.getValue());
+      else if (allSWRLRulesModified || !previousSWRLRule.equals(entry.getValue()))
+        modified.put(entry.getKey(), entry.getValue());
+    }
+
+    for (String ruleName : previousSWRLRules.keySet()) {
+      if (!currentSWRLRules.containsKey(ruleName))
+        removed.add(ruleName);
+    }
+
+    this.addedSWRLRules = Collections.unmodifiableMap(added);
+    this.modifiedSWRLRules = Collections.unmodifiableMap(modified);
+    this.removedSWRLRuleNames = Collections.unmodifiableSet(removed);
+  }
+
+  @NonNull @Override public Map<@NonNull String, @NonNull SWRLAPIRule> getAddedSWRLRules()
+  {
+    return this.addedSWRLRules;
+  }
+
+  @NonNull @Override public Map<@NonNull String, @NonNull SWRLAPIRule> getModifiedSWRLRules()
+  {
+    return this.modifiedSWRLRules;
+  }
+
+  @NonNull @Override public Set<@NonNull String> getRemovedSWRLRuleNames()
+  {
+    return this.removedSWRLRuleNames;
+  }
+
+  @Override public boolean isEmpty()
+  {
+    return this.addedSWRLRules.isEmpty() && this.modifiedSWRLRules.isEmpty() && this.removedSWRLRuleNames.isEmpty();
+  }
+
+  @NonNull @Override public String toString()
+  {
+    return "DefaultSWRLRuleChanges{" +
+      "added=" + this.addedSWRLRules.keySet() +
+      ", modified=" + this.modifiedSWRLRules.keySet() +
+      ", removed=" + this.removedSWRLRuleNames +
+      '}';
+  }
+}
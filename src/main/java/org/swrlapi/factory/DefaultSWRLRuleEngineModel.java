@@ -10,6 +10,7 @@ import org.semanticweb.owlapi.model.OWLOntologyStorageException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLRuleChanges;
 import org.swrlapi.core.SWRLRuleEngine;
 import org.swrlapi.core.SWRLRuleRenderer;
 import org.swrlapi.owl2rl.OWL2RLEngine;
@@ -76,8 +77,15 @@ public class DefaultSWRLRuleEngineModel implements SWRLRuleEngineModel
     updateView();
   }
 
+  @Override public void updateModel(@NonNull SWRLRuleChanges swrlRuleChanges)
+  {
+    this.swrlRulesAndSQWRLQueriesTableModel.updateModel(swrlRuleChanges);
+    this.owl2RLModel.updateModel(owl2RLEngine);
+  }
+
   @NonNull protected OWLOntology createOWLOntology() throws OWLOntologyCreationException
   {
+    this.swrlapiOWLOntology.dispose(); // The manager is reused, so it would otherwise keep the previous engine
     this.ontologyManager.removeOntology(this.swrlRuleEngine.getOWLOntology());
     return this.ontologyManager.createOntology();
   }
@@ -89,6 +97,7 @@ public class DefaultSWRLRuleEngineModel implements SWRLRuleEngineModel
 
   @NonNull protected OWLOntology createOWLOntology(@NonNull File file) throws OWLOntologyCreationException
   {
+    this.swrlapiOWLOntology.dispose();
     this.ontologyManager.removeOntology(this.swrlRuleEngine.getOWLOntology());
     return this.ontologyManager.loadOntologyFromOntologyDocument(file);
   }
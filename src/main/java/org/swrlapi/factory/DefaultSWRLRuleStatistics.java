@@ -0,0 +1,65 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.swrlapi.core.SWRLRuleStatistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters are striped so that rule engines invoking built-ins on several threads do not contend on them. Because
+ * their sums can change while they are read, callers that compare or display statistics should work on a
+ * {@link #snapshot()}.
+ *
+ * @see org.swrlapi.core.SWRLRuleStatistics
+ */
+class DefaultSWRLRuleStatistics implements SWRLRuleStatistics
+{
+  @NonNull private final String ruleName;
+  @NonNull private final LongAdder builtInInvocations = new LongAdder();
+  @NonNull private final LongAdder builtInTimeNanos = new LongAdder();
+
+  public DefaultSWRLRuleStatistics(@NonNull String ruleName)
+  {
+    this.ruleName = ruleName;
+  }
+
+  public void recordSWRLBuiltInInvocation(long durationNanos)
+  {
+    this.builtInInvocations.increment();
+    this.builtInTimeNanos.add(Math.max(0, durationNanos));
+  }
+
+  /**
+   * @return A copy of these statistics holding the counter values at the time of the call
+   */
+  @NonNull public DefaultSWRLRuleStatistics snapshot()
+  {
+    DefaultSWRLRuleStatistics snapshot = new DefaultSWRLRuleStatistics(this.ruleName);
+
+    snapshot.builtInInvocations.add(this.builtInInvocations.sum());
+    snapshot.builtInTimeNanos.add(this.builtInTimeNanos.sum());
+
+    return snapshot;
+  }
+
+  @NonNull @Override public String getRuleName()
+  {
+    return this.ruleName;
+  }
+
+  @Override public long getNumberOfSWRLBuiltInInvocations()
+  {
+    return this.builtInInvocations.sum();
+  }
+
+  @Override public long getSWRLBuiltInTimeNanos()
+  {
+    return this.builtInTimeNanos.sum();
+  }
+
+  @NonNull @Override public String toString()
+  {
+    return this.ruleName + " builtIns=" + getNumberOfSWRLBuiltInInvocations() + " time=" + getSWRLBuiltInTimeNanos()
+      + "ns";
+  }
+}
@@ -46,20 +46,43 @@ import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.SWRLRule;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 /**
- * A class to filter trivially obvious inferred OWL axioms
+ * A class to filter trivially obvious inferred OWL axioms.
+ * <p>
+ * The class and property hierarchies in the supplied axioms are indexed when the filter is created so that checking
+ * a subclass or subproperty axiom for an intermediate class or property does not scan the axioms.
  */
 public class OWLInferredAxiomFilter implements OWLAxiomVisitorEx<Boolean>
 {
-  @NonNull private final Set<@NonNull OWLAxiom> axioms;
+  @NonNull private final SubsumptionIndex<@NonNull OWLClassExpression> classHierarchy;
+  @NonNull private final SubsumptionIndex<@NonNull OWLObjectPropertyExpression> objectPropertyHierarchy;
+  @NonNull private final SubsumptionIndex<@NonNull OWLDataPropertyExpression> dataPropertyHierarchy;
 
   public OWLInferredAxiomFilter(@NonNull Set<@NonNull OWLAxiom> axioms)
   {
-    this.axioms = axioms;
+    this.classHierarchy = new SubsumptionIndex<>();
+    this.objectPropertyHierarchy = new SubsumptionIndex<>();
+    this.dataPropertyHierarchy = new SubsumptionIndex<>();
+
+    for (OWLAxiom axiom : axioms) {
+      if (axiom instanceof OWLSubClassOfAxiom) {
+        OWLSubClassOfAxiom subClassOfAxiom = (OWLSubClassOfAxiom)axiom;
+        this.classHierarchy.add(subClassOfAxiom.getSubClass(), subClassOfAxiom.getSuperClass());
+      } else if (axiom instanceof OWLSubObjectPropertyOfAxiom) {
+        OWLSubObjectPropertyOfAxiom subPropertyAxiom = (OWLSubObjectPropertyOfAxiom)axiom;
+        this.objectPropertyHierarchy.add(subPropertyAxiom.getSubProperty(), subPropertyAxiom.getSuperProperty());
+      } else if (axiom instanceof OWLSubDataPropertyOfAxiom) {
+        OWLSubDataPropertyOfAxiom subPropertyAxiom = (OWLSubDataPropertyOfAxiom)axiom;
+        this.dataPropertyHierarchy.add(subPropertyAxiom.getSubProperty(), subPropertyAxiom.getSuperProperty());
+      }
+    }
   }
 
   @NonNull @Override public Boolean visit(@NonNull OWLDeclarationAxiom owlDeclarationAxiom)
@@ -110,23 +133,9 @@ public class OWLInferredAxiomFilter implements OWLAxiomVisitorEx<Boolean>
       return true;
     else if (subClass.isOWLNothing())
       return true;
-    else {
-      Set<OWLSubClassOfAxiom> subClassOfAxioms = this.axioms.stream().filter(OWLSubClassOfAxiom.class::isInstance)
-        .map(OWLSubClassOfAxiom.class::cast).collect(Collectors.toSet());
-      Set<OWLClassExpression> superClassSubClasses = subClassOfAxioms.stream().
-        filter(sca -> sca.getSuperClass().equals(superClass)).map(sca -> sca.getSubClass())
-        .filter(subC -> !subC.isOWLNothing() && !subC.equals(subClass) && !subC.equals(superClass))
-        .collect(Collectors.toSet());
-      Set<OWLClassExpression> subClassSuperClasses = subClassOfAxioms.stream()
-        .filter(sca -> sca.getSubClass().equals(subClass)).map(sca -> sca.getSuperClass())
-        .filter(supC -> !supC.isOWLThing() && !supC.equals(superClass) && !supC.equals(subClass))
-        .collect(Collectors.toSet());
-      Set<OWLClassExpression> common = new HashSet<>(superClassSubClasses);
-
-      common.retainAll(subClassSuperClasses);
-
-      return !common.isEmpty();
-    }
+    else
+      return this.classHierarchy
+        .hasIntermediate(subClass, superClass, OWLClassExpression::isOWLThing, OWLClassExpression::isOWLNothing);
   }
 
   @NonNull @Override public Boolean visit(@NonNull OWLNegativeObjectPropertyAssertionAxiom axiom)
@@ -219,24 +228,10 @@ public class OWLInferredAxiomFilter implements OWLAxiomVisitorEx<Boolean>
       return true;
     else if (subProperty.isOWLBottomObjectProperty())
       return true;
-    else {
-      Set<OWLSubObjectPropertyOfAxiom> subPropertyAxioms = this.axioms.stream()
-        .filter(OWLSubObjectPropertyOfAxiom.class::isInstance).map(OWLSubObjectPropertyOfAxiom.class::cast)
-        .collect(Collectors.toSet());
-      Set<OWLObjectPropertyExpression> superPropertySubProperties = subPropertyAxioms.stream().
-        filter(sopa -> sopa.getSuperProperty().equals(superProperty)).map(sopa -> sopa.getSubProperty())
-        .filter(subP -> !subP.isOWLBottomObjectProperty() && !subP.equals(subProperty) && !subP.equals(superProperty))
-        .collect(Collectors.toSet());
-      Set<OWLObjectPropertyExpression> subPropertySuperProperties = subPropertyAxioms.stream()
-        .filter(sdpa -> sdpa.getSubProperty().equals(subProperty)).map(sdpa -> sdpa.getSuperProperty())
-        .filter(supP -> !supP.isOWLTopObjectProperty() && !supP.equals(superProperty) && !supP.equals(subProperty))
-        .collect(Collectors.toSet());
-      Set<OWLObjectPropertyExpression> common = new HashSet<>(superPropertySubProperties);
-
-      common.retainAll(subPropertySuperProperties);
-
-      return !common.isEmpty();
-    }
+    else
+      return this.objectPropertyHierarchy
+        .hasIntermediate(subProperty, superProperty, OWLObjectPropertyExpression::isOWLTopObjectProperty,
+          OWLObjectPropertyExpression::isOWLBottomObjectProperty);
   }
 
   @NonNull @Override public Boolean visit(@NonNull OWLDisjointUnionAxiom owlDisjointUnionAxiom)
@@ -308,24 +303,10 @@ public class OWLInferredAxiomFilter implements OWLAxiomVisitorEx<Boolean>
       return true;
     else if (subProperty.isOWLBottomDataProperty())
       return true;
-    else {
-      Set<OWLSubDataPropertyOfAxiom> subPropertyAxioms = this.axioms.stream()
-        .filter(OWLSubDataPropertyOfAxiom.class::isInstance).map(OWLSubDataPropertyOfAxiom.class::cast)
-        .collect(Collectors.toSet());
-      Set<OWLDataPropertyExpression> superPropertySubProperties = subPropertyAxioms.stream().
-        filter(sdpa -> sdpa.getSuperProperty().equals(superProperty)).map(sdpa -> sdpa.getSubProperty())
-        .filter(subP -> !subP.isOWLBottomDataProperty() && !subP.equals(subProperty) && !subP.equals(superProperty))
-        .collect(Collectors.toSet());
-      Set<OWLDataPropertyExpression> subPropertySuperProperties = subPropertyAxioms.stream()
-        .filter(sdpa -> sdpa.getSubProperty().equals(subProperty)).map(sdpa -> sdpa.getSuperProperty())
-        .filter(supP -> !supP.isOWLTopDataProperty() && !supP.equals(superProperty) && !supP.equals(subProperty))
-        .collect(Collectors.toSet());
-      Set<OWLDataPropertyExpression> common = new HashSet<>(superPropertySubProperties);
-
-      common.retainAll(subPropertySuperProperties);
-
-      return !common.isEmpty();
-    }
+    else
+      return this.dataPropertyHierarchy
+        .hasIntermediate(subProperty, superProperty, OWLDataPropertyExpression::isOWLTopDataProperty,
+          OWLDataPropertyExpression::isOWLBottomDataProperty);
   }
 
   @NonNull @Override public Boolean visit(
@@ -358,4 +339,39 @@ public class OWLInferredAxiomFilter implements OWLAxiomVisitorEx<Boolean>
   {
     return true;
   }
+
+  /**
+   * Direct super to sub and sub to super indexes of subsumption axioms.
+   */
+  private static class SubsumptionIndex<E>
+  {
+    @NonNull private final Map<@NonNull E, @NonNull Set<@NonNull E>> super2Subs = new HashMap<>();
+    @NonNull private final Map<@NonNull E, @NonNull Set<@NonNull E>> sub2Supers = new HashMap<>();
+
+    public void add(@NonNull E sub, @NonNull E sup)
+    {
+      this.super2Subs.computeIfAbsent(sup, k -> new HashSet<>()).add(sub);
+      this.sub2Supers.computeIfAbsent(sub, k -> new HashSet<>()).add(sup);
+    }
+
+    /**
+     * @return True if there exists an X, other than top, bottom, sub or sup, such that sub is subsumed by X and X is
+     * subsumed by sup
+     */
+    public boolean hasIntermediate(@NonNull E sub, @NonNull E sup, @NonNull Predicate<E> isTop,
+      @NonNull Predicate<E> isBottom)
+    {
+      Set<@NonNull E> subsOfSup = this.super2Subs.getOrDefault(sup, Collections.emptySet());
+      Set<@NonNull E> supsOfSub = this.sub2Supers.getOrDefault(sub, Collections.emptySet());
+      Set<@NonNull E> smaller = subsOfSup.size() <= supsOfSub.size() ? subsOfSup : supsOfSub;
+      Set<@NonNull E> larger = smaller == subsOfSup ? supsOfSub : subsOfSup;
+
+      for (E intermediate : smaller) {
+        if (!intermediate.equals(sub) && !intermediate.equals(sup) && !isTop.test(intermediate) && !isBottom
+          .test(intermediate) && larger.contains(intermediate))
+          return true;
+      }
+      return false;
+    }
+  }
 }
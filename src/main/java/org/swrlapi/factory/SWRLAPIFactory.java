@@ -11,10 +11,16 @@ import org.semanticweb.owlapi.model.SWRLAtom;
 import org.swrlapi.bridge.SWRLBridge;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLAxiomStore;
+import org.swrlapi.core.OWLObjectDictionary;
 import org.swrlapi.core.OWLObjectResolver;
+import org.swrlapi.core.OWLSignatureIndex;
 import org.swrlapi.core.SWRLAPIBuiltInAtom;
+import org.swrlapi.core.SWRLAPIInstrumentation;
+import org.swrlapi.core.SWRLAPIMetrics;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.core.SWRLRuleChanges;
 import org.swrlapi.core.SWRLRuleEngine;
 import org.swrlapi.core.SWRLRuleEngineManager;
 import org.swrlapi.core.SWRLRuleRenderer;
@@ -27,6 +33,7 @@ import org.swrlapi.owl2rl.OWL2RLEngine;
 import org.swrlapi.owl2rl.OWL2RLPersistenceLayer;
 import org.swrlapi.sqwrl.SQWRLQuery;
 import org.swrlapi.sqwrl.SQWRLQueryEngine;
+import org.swrlapi.sqwrl.SQWRLQueryPlan;
 import org.swrlapi.sqwrl.SQWRLQueryRenderer;
 import org.swrlapi.sqwrl.SQWRLResultGenerator;
 import org.swrlapi.sqwrl.SQWRLResultManager;
@@ -44,7 +51,9 @@ import org.swrlapi.ui.model.SWRLRulesAndSQWRLQueriesTableModel;
 import javax.swing.*;
 import java.io.File;
 import java.net.URL;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -125,6 +134,18 @@ public class SWRLAPIFactory
     return new DefaultSWRLRuleAndQueryRenderer(ontology, iriResolver);
   }
 
+  /**
+   * @param ontology       An OWL ontology
+   * @param iriResolver    An IRI resolver
+   * @param signatureIndex A signature index for the ontology
+   * @return A SWRL rule renderer
+   */
+  @NonNull public static SWRLRuleRenderer createSWRLRuleRenderer(@NonNull OWLOntology ontology,
+    @NonNull IRIResolver iriResolver, @NonNull OWLSignatureIndex signatureIndex)
+  {
+    return new DefaultSWRLRuleAndQueryRenderer(ontology, iriResolver, signatureIndex);
+  }
+
   /**
    * @param ontology    An OWL ontology
    * @param iriResolver An IRI resolver
@@ -136,6 +157,18 @@ public class SWRLAPIFactory
     return new DefaultSWRLRuleAndQueryRenderer(ontology, iriResolver);
   }
 
+  /**
+   * @param ontology       An OWL ontology
+   * @param iriResolver    An IRI resolver
+   * @param signatureIndex A signature index for the ontology
+   * @return A SQWRL query renderer
+   */
+  @NonNull public static SQWRLQueryRenderer createSQWRLQueryRenderer(@NonNull OWLOntology ontology,
+    @NonNull IRIResolver iriResolver, @NonNull OWLSignatureIndex signatureIndex)
+  {
+    return new DefaultSWRLRuleAndQueryRenderer(ontology, iriResolver, signatureIndex);
+  }
+
   /**
    * @return An IRI resolver
    */
@@ -170,6 +203,26 @@ public class SWRLAPIFactory
     return new DefaultSQWRLResultManager(iriResolver);
   }
 
+  /**
+   * @param iriResolver     An IRI resolver
+   * @param queryName       The name of the query whose result is managed
+   * @param instrumentation Instrumentation that receives the row count and preparation time of the result
+   * @return A SQWRL result
+   */
+  public static @NonNull SQWRLResultManager createSQWRLResultManager(@NonNull IRIResolver iriResolver,
+    @NonNull String queryName, @NonNull SWRLAPIInstrumentation instrumentation)
+  {
+    return new DefaultSQWRLResultManager(iriResolver, queryName, instrumentation);
+  }
+
+  /**
+   * @return Instrumentation that aggregates reported timings and counts into meters
+   */
+  @NonNull public static SWRLAPIMetrics createSWRLAPIMetrics()
+  {
+    return new DefaultSWRLAPIMetrics();
+  }
+
   /**
    * @param dataFactory An OWL data factory
    * @return An OWL object resolver
@@ -179,6 +232,53 @@ public class SWRLAPIFactory
     return new DefaultOWLObjectResolver(dataFactory);
   }
 
+  /**
+   * @param ontology An OWL ontology
+   * @return A signature index for the ontology and its imports closure
+   */
+  @NonNull public static OWLSignatureIndex createOWLSignatureIndex(@NonNull OWLOntology ontology)
+  {
+    return new DefaultOWLSignatureIndex(ontology);
+  }
+
+  /**
+   * @param previousSWRLRules The rules extracted from an ontology before it was processed, keyed by name
+   * @param currentSWRLRules The rules extracted from the ontology after it was processed, keyed by name
+   * @param allSWRLRulesModified If true, all rules present before and after processing are reported as modified
+   * @return The differences between the two sets of rules
+   */
+  @NonNull public static SWRLRuleChanges createSWRLRuleChanges(
+    @NonNull Map<@NonNull String, @NonNull SWRLAPIRule> previousSWRLRules,
+    @NonNull Map<@NonNull String, @NonNull SWRLAPIRule> currentSWRLRules, boolean allSWRLRulesModified)
+  {
+    return new DefaultSWRLRuleChanges(previousSWRLRules, currentSWRLRules, allSWRLRulesModified);
+  }
+
+  /**
+   * @return An empty OWL object dictionary
+   */
+  @NonNull public static OWLObjectDictionary createOWLObjectDictionary()
+  {
+    return new DefaultOWLObjectDictionary();
+  }
+
+  /**
+   * @return An empty OWL axiom store
+   */
+  @NonNull public static OWLAxiomStore createOWLAxiomStore()
+  {
+    return createOWLAxiomStore(createOWLObjectDictionary());
+  }
+
+  /**
+   * @param dictionary The dictionary used to encode axioms
+   * @return An empty OWL axiom store
+   */
+  @NonNull public static OWLAxiomStore createOWLAxiomStore(@NonNull OWLObjectDictionary dictionary)
+  {
+    return new DefaultOWLAxiomStore(dictionary);
+  }
+
   /**
    * @param ontology An OWL ontology
    * @return An OWL 2 RL persistence layer
@@ -194,7 +294,18 @@ public class SWRLAPIFactory
    */
   @NonNull public static SWRLBuiltInArgumentFactory createSWRLBuiltInArgumentFactory(@NonNull IRIResolver iriResolver)
   {
-    return new DefaultSWRLBuiltInArgumentFactory(iriResolver);
+    return createSWRLBuiltInArgumentFactory(iriResolver, createOWLObjectDictionary());
+  }
+
+  /**
+   * @param iriResolver An IRI resolver
+   * @param dictionary  The dictionary that assigns identifiers to named and literal arguments
+   * @return A SWRL built-in argument factory
+   */
+  @NonNull public static SWRLBuiltInArgumentFactory createSWRLBuiltInArgumentFactory(@NonNull IRIResolver iriResolver,
+    @NonNull OWLObjectDictionary dictionary)
+  {
+    return new DefaultSWRLBuiltInArgumentFactory(iriResolver, dictionary);
   }
 
   /**
@@ -211,7 +322,42 @@ public class SWRLAPIFactory
     @NonNull String comment, @NonNull LiteralFactory literalFactory, @NonNull IRIResolver iriResolver)
     throws SQWRLException
   {
-    return new DefaultSQWRLQuery(queryName, bodyAtoms, headAtoms, active, comment, literalFactory, iriResolver);
+    return createSQWRLQuery(queryName, bodyAtoms, headAtoms, active, comment, literalFactory, iriResolver,
+      SWRLAPIInstrumentation.NO_OP);
+  }
+
+  @NonNull public static SQWRLQuery createSQWRLQuery(@NonNull String queryName,
+    @NonNull List<@NonNull SWRLAtom> bodyAtoms, @NonNull List<@NonNull SWRLAtom> headAtoms, boolean active,
+    @NonNull String comment, @NonNull LiteralFactory literalFactory, @NonNull IRIResolver iriResolver,
+    @NonNull SWRLAPIInstrumentation instrumentation) throws SQWRLException
+  {
+    return new DefaultSQWRLQuery(queryName, bodyAtoms, headAtoms, active, comment, literalFactory, iriResolver,
+      instrumentation);
+  }
+
+  /**
+   * @param query              A SQWRL query
+   * @param swrlapiOWLOntology The ontology containing the query, used to render atoms and estimate their cardinality
+   * @return An unprofiled plan for the query
+   */
+  @NonNull public static SQWRLQueryPlan createSQWRLQueryPlan(@NonNull SQWRLQuery query,
+    @NonNull SWRLAPIOWLOntology swrlapiOWLOntology)
+  {
+    return new DefaultSQWRLQueryPlan(query, swrlapiOWLOntology, Collections.emptyMap(), Optional.empty());
+  }
+
+  /**
+   * @param query              A SQWRL query
+   * @param swrlapiOWLOntology The ontology containing the query, used to render atoms and estimate their cardinality
+   * @param stageTimeNanos     The time taken by each stage of a run of the query in nanoseconds
+   * @param numberOfRows       The number of rows in the result of the run
+   * @return A profiled plan for the query
+   */
+  @NonNull public static SQWRLQueryPlan createSQWRLQueryPlan(@NonNull SQWRLQuery query,
+    @NonNull SWRLAPIOWLOntology swrlapiOWLOntology,
+    @NonNull Map<SQWRLQueryPlan.@NonNull Stage, @NonNull Long> stageTimeNanos, int numberOfRows)
+  {
+    return new DefaultSQWRLQueryPlan(query, swrlapiOWLOntology, stageTimeNanos, Optional.of(numberOfRows));
   }
 
   /**
@@ -220,7 +366,18 @@ public class SWRLAPIFactory
    */
   @NonNull public static SWRLAPIOWLDataFactory createSWRLAPIOWLDataFactory(@NonNull IRIResolver iriResolver)
   {
-    return new DefaultSWRLAPIOWLDataFactory(iriResolver);
+    return createSWRLAPIOWLDataFactory(iriResolver, createOWLObjectDictionary());
+  }
+
+  /**
+   * @param iriResolver An IRI resolver
+   * @param dictionary  The dictionary that assigns identifiers to named and literal built-in arguments
+   * @return A SWRLAPI-based OWL data factory
+   */
+  @NonNull public static SWRLAPIOWLDataFactory createSWRLAPIOWLDataFactory(@NonNull IRIResolver iriResolver,
+    @NonNull OWLObjectDictionary dictionary)
+  {
+    return new DefaultSWRLAPIOWLDataFactory(iriResolver, dictionary);
   }
 
   /**
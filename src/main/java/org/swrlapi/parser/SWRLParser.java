@@ -1,6 +1,7 @@
 package org.swrlapi.parser;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.model.SWRLAtom;
 import org.semanticweb.owlapi.model.SWRLBuiltInAtom;
 import org.semanticweb.owlapi.model.SWRLClassAtom;
@@ -32,6 +33,9 @@ import java.util.Set;
  * <code>interactiveParseOnly</code> argument is <code>true</code>, only checking is performed - no SWRL rules are
  * created; if it is false, a {@link org.semanticweb.owlapi.model.SWRLRule} object is created.
  * <p>
+ * The {@link #parseSWRLRuleInteractively(String)} method performs the same checking as an interactive parse but reuses
+ * the state of its previous call, so that only the part of an edited rule following an unchanged prefix is parsed.
+ * <p>
  * The parser does not yet parse OWL class expressions or data ranges.
  *
  * @see org.semanticweb.owlapi.model.SWRLRule
@@ -49,8 +53,16 @@ public class SWRLParser
   private static final String SAME_AS_PREDICATE = "sameAs";
   private static final String DIFFERENT_FROM_PREDICATE = "differentFrom";
 
+  // Parsers are typically created for a single operation so their tokenizers are shared by all parsers on a thread
+  @NonNull private static final ThreadLocal<@NonNull SWRLTokenizer> tokenizers = ThreadLocal
+    .withInitial(SWRLTokenizer::new);
+
   @NonNull private final SWRLParserSupport swrlParserSupport;
 
+  // The text of the previous interactive parse and the parse state following each of its successfully parsed tokens
+  @NonNull private String interactiveRuleText = "";
+  @NonNull private final List<@NonNull SWRLParseCheckpoint> interactiveCheckpoints = new ArrayList<>();
+
   public SWRLParser(@NonNull SWRLAPIOWLOntology swrlapiOWLOntology)
   {
     this.swrlParserSupport = new SWRLParserSupport(swrlapiOWLOntology);
@@ -67,7 +79,53 @@ public class SWRLParser
   public Optional<@NonNull SWRLRule> parseSWRLRule(@NonNull String ruleText, boolean interactiveParseOnly,
     @NonNull String ruleName, @NonNull String comment) throws SWRLParseException
   {
-    SWRLTokenizer tokenizer = new SWRLTokenizer(ruleText.trim(), interactiveParseOnly);
+    SWRLTokenizer tokenizer = tokenizers.get(); // Reused so that its buffer is not reallocated for each parse
+    tokenizer.reset(ruleText, interactiveParseOnly);
+
+    if (!tokenizer.isInteractiveParseOnly() && !tokenizer.hasMoreTokens())
+      throw new SWRLParseException("Empty!");
+
+    return parseSWRLRule(tokenizer, null, null, ruleName, comment);
+  }
+
+  /**
+   * Check a rule or query as {@link #parseSWRLRule(String, boolean, String, String)} does when
+   * <code>interactiveParseOnly</code> is <code>true</code>. Parsing resumes from the last point of the previous call
+   * whose outcome depends only on the prefix that the previous and current rule texts have in common. The ontology is
+   * assumed not to have changed between calls.
+   *
+   * @param ruleText The rule text
+   * @throws SWRLParseException If an error occurs during parsing
+   */
+  public synchronized void parseSWRLRuleInteractively(@NonNull String ruleText) throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = tokenizers.get();
+    int commonPrefixLength = getCommonPrefixLength(this.interactiveRuleText, ruleText);
+    List<@NonNull SWRLParseCheckpoint> checkpoints = this.interactiveCheckpoints;
+    @Nullable SWRLParseCheckpoint resumeCheckpoint = null;
+
+    while (!checkpoints.isEmpty() && checkpoints.get(checkpoints.size() - 1).getScannedExtent() > commonPrefixLength)
+      checkpoints.remove(checkpoints.size() - 1);
+
+    tokenizer.reset(ruleText, true);
+    if (!checkpoints.isEmpty()) {
+      resumeCheckpoint = checkpoints.get(checkpoints.size() - 1);
+      tokenizer.resume(resumeCheckpoint.getPosition(), resumeCheckpoint.getScannedExtent(),
+        resumeCheckpoint.getVariables());
+    }
+
+    this.interactiveRuleText = ruleText;
+    parseSWRLRule(tokenizer, resumeCheckpoint, checkpoints, "", "");
+  }
+
+  /**
+   * Parse the tokens of a rule, starting from the supplied checkpoint if one is supplied. If a list of checkpoints is
+   * supplied, a checkpoint is recorded in it after each atom and separator is successfully parsed.
+   */
+  private Optional<@NonNull SWRLRule> parseSWRLRule(@NonNull SWRLTokenizer tokenizer,
+    @Nullable SWRLParseCheckpoint resumeCheckpoint, @Nullable List<@NonNull SWRLParseCheckpoint> checkpoints,
+    @NonNull String ruleName, @NonNull String comment) throws SWRLParseException
+  {
     Optional<Set<SWRLAtom>> head = !tokenizer.isInteractiveParseOnly() ?
       Optional.of(this.swrlParserSupport.createSWRLHeadAtomList()) :
       Optional.<Set<SWRLAtom>>empty();
@@ -77,8 +135,13 @@ public class SWRLParser
     boolean atLeastOneAtom = false, justProcessedAtom = false, isInHead = false;
     String message;
 
-    if (!tokenizer.isInteractiveParseOnly() && !tokenizer.hasMoreTokens())
-      throw new SWRLParseException("Empty!");
+    if (resumeCheckpoint != null) {
+      atLeastOneAtom = resumeCheckpoint.isAtLeastOneAtom();
+      justProcessedAtom = true; // Checkpoints are only recorded at the end of the loop
+      isInHead = resumeCheckpoint.isInHead();
+      if (!tokenizer.hasMoreTokens())
+        return Optional.<@NonNull SWRLRule>empty(); // Checkpoints are only recorded for interactive parses
+    }
 
     do {
       if (justProcessedAtom)
@@ -124,6 +187,10 @@ public class SWRLParser
       } else
         throw new SWRLParseException("Unexpected token '" + currentToken.getValue() + "'");
       justProcessedAtom = true;
+
+      if (checkpoints != null)
+        checkpoints.add(new SWRLParseCheckpoint(tokenizer.getPosition(), tokenizer.getScannedExtent(),
+          tokenizer.getVariables(), isInHead, atLeastOneAtom));
     } while (tokenizer.hasMoreTokens());
 
     if (!tokenizer.isInteractiveParseOnly()) {
@@ -140,11 +207,12 @@ public class SWRLParser
    *
    * @param ruleText The rule text
    * @return True if the rule is valid but possibly incomplete
+   * @see #parseSWRLRuleInteractively(String)
    */
   public boolean isSWRLRuleCorrectButPossiblyIncomplete(@NonNull String ruleText)
   {
     try {
-      parseSWRLRule(ruleText, true, "", "");
+      parseSWRLRuleInteractively(ruleText);
       return true;
     } catch (SWRLIncompleteRuleException e) {
       return true;
@@ -459,4 +527,57 @@ public class SWRLParser
     else
       return new SWRLIncompleteRuleException(message);
   }
+
+  private static int getCommonPrefixLength(@NonNull String text1, @NonNull String text2)
+  {
+    int length = Math.min(text1.length(), text2.length());
+    int i = 0;
+
+    while (i < length && text1.charAt(i) == text2.charAt(i))
+      i++;
+
+    return i;
+  }
+
+  private static class SWRLParseCheckpoint
+  {
+    private final int position, scannedExtent;
+    @NonNull private final Set<@NonNull String> variables;
+    private final boolean isInHead, atLeastOneAtom;
+
+    public SWRLParseCheckpoint(int position, int scannedExtent, @NonNull Set<@NonNull String> variables,
+      boolean isInHead, boolean atLeastOneAtom)
+    {
+      this.position = position;
+      this.scannedExtent = scannedExtent;
+      this.variables = variables;
+      this.isInHead = isInHead;
+      this.atLeastOneAtom = atLeastOneAtom;
+    }
+
+    public int getPosition()
+    {
+      return this.position;
+    }
+
+    public int getScannedExtent()
+    {
+      return this.scannedExtent;
+    }
+
+    @NonNull public Set<@NonNull String> getVariables()
+    {
+      return this.variables;
+    }
+
+    public boolean isInHead()
+    {
+      return this.isInHead;
+    }
+
+    public boolean isAtLeastOneAtom()
+    {
+      return this.atLeastOneAtom;
+    }
+  }
 }
@@ -25,8 +25,6 @@ import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
 import org.semanticweb.owlapi.model.SWRLRule;
 import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
 import org.semanticweb.owlapi.model.SWRLVariable;
-import org.semanticweb.owlapi.model.parameters.Imports;
-import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +34,7 @@ import org.swrlapi.builtins.arguments.SWRLDataPropertyBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLDatatypeBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLNamedIndividualBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLObjectPropertyBuiltInArgument;
+import org.swrlapi.core.OWLSignatureIndex;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.factory.OWLLiteralFactory;
 import org.swrlapi.factory.SWRLAPIOWLDataFactory;
@@ -72,32 +71,31 @@ class SWRLParserSupport
   {
     IRI classIRI = prefixedName2IRI(shortName);
 
-    return getOWLOntology().containsClassInSignature(classIRI, Imports.INCLUDED) || classIRI
-      .equals(OWLRDFVocabulary.OWL_THING.getIRI()) || classIRI.equals(OWLRDFVocabulary.OWL_NOTHING.getIRI());
+    return getOWLSignatureIndex().isOWLClass(classIRI);
   }
 
   public boolean isOWLNamedIndividual(@NonNull String shortName)
   {
     IRI individualIRI = prefixedName2IRI(shortName);
-    return getOWLOntology().containsIndividualInSignature(individualIRI, Imports.INCLUDED);
+    return getOWLSignatureIndex().isOWLNamedIndividual(individualIRI);
   }
 
   public boolean isOWLObjectProperty(@NonNull String shortName)
   {
     IRI propertyIRI = prefixedName2IRI(shortName);
-    return getOWLOntology().containsObjectPropertyInSignature(propertyIRI, Imports.INCLUDED);
+    return getOWLSignatureIndex().isOWLObjectProperty(propertyIRI);
   }
 
   public boolean isOWLDataProperty(@NonNull String shortName)
   {
     IRI propertyIRI = prefixedName2IRI(shortName);
-    return getOWLOntology().containsDataPropertyInSignature(propertyIRI, Imports.INCLUDED);
+    return getOWLSignatureIndex().isOWLDataProperty(propertyIRI);
   }
 
   public boolean isOWLAnnotationProperty(@NonNull String shortName)
   {
     IRI propertyIRI = prefixedName2IRI(shortName);
-    return getOWLOntology().containsAnnotationPropertyInSignature(propertyIRI, Imports.INCLUDED);
+    return getOWLSignatureIndex().isOWLAnnotationProperty(propertyIRI);
   }
 
   public boolean isOWLDatatype(@NonNull String shortName)
@@ -405,6 +403,11 @@ class SWRLParserSupport
     return this.swrlapiOWLOntology;
   }
 
+  @NonNull private OWLSignatureIndex getOWLSignatureIndex()
+  {
+    return getSWRLAPIOWLOntology().getOWLSignatureIndex();
+  }
+
   @NonNull private OWLOntology getOWLOntology()
   {
     return getSWRLAPIOWLOntology().getOWLOntology();
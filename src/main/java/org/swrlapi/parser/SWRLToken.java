@@ -1,6 +1,7 @@
 package org.swrlapi.parser;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 
 /**
@@ -13,14 +14,32 @@ import org.checkerframework.dataflow.qual.SideEffectFree;
 class SWRLToken
 {
   @NonNull private final SWRLTokenType tokenType;
-  @NonNull private final String value;
+  @NonNull private final String input;
+  private final int start, end;
+  @Nullable private String value; // Created from the span of the input when first requested
 
   public SWRLToken(@NonNull SWRLTokenType tokenType, @NonNull String value)
   {
     this.tokenType = tokenType;
+    this.input = value;
+    this.start = 0;
+    this.end = value.length();
     this.value = value;
   }
 
+  /**
+   * Create a token whose value is the span of the input between the supplied start (inclusive) and end (exclusive)
+   * positions.
+   */
+  public SWRLToken(@NonNull SWRLTokenType tokenType, @NonNull String input, int start, int end)
+  {
+    this.tokenType = tokenType;
+    this.input = input;
+    this.start = start;
+    this.end = end;
+    this.value = null;
+  }
+
   @NonNull public SWRLTokenType getTokenType()
   {
     return this.tokenType;
@@ -28,7 +47,13 @@ class SWRLToken
 
   @NonNull public String getValue()
   {
-    return this.value;
+    @Nullable String value = this.value;
+
+    if (value == null) {
+      value = this.input.substring(this.start, this.end);
+      this.value = value;
+    }
+    return value;
   }
 
   public boolean isImp()
@@ -103,7 +128,7 @@ class SWRLToken
 
   @SideEffectFree @NonNull @Override public String toString()
   {
-    return "[" + this.tokenType.getName() + " with value '" + this.value + "']";
+    return "[" + this.tokenType.getName() + " with value '" + getValue() + "']";
   }
 
   public enum SWRLTokenType
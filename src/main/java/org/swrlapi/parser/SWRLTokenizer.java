@@ -1,21 +1,24 @@
 package org.swrlapi.parser;
 
-import org.checkerframework.checker.initialization.qual.UnderInitialization;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.io.IOException;
-import java.io.Reader;
-import java.io.StreamTokenizer;
-import java.io.StringReader;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 /**
  * Tokenizer generates a {@link org.swrlapi.parser.SWRLParseException} for invalid input and a
  * {@link org.swrlapi.parser.SWRLIncompleteRuleException} (which is a subclass of
  * {@link org.swrlapi.parser.SWRLParseException}) for valid but incomplete input.
+ * <p>
+ * The tokenizer scans a character array copy of its input on demand, one token ahead of the parser. Tokens refer to
+ * spans of the input and create their string values only when asked for them. A tokenizer can be reused for another
+ * input with {@link #reset(String, boolean)}, which reuses its character buffer.
+ * <p>
+ * Character classes follow those of the {@link java.io.StreamTokenizer} this class previously used: whitespace is any
+ * character up to and including space, word characters are letters, digits, the characters in {@link #wordChars}
+ * and any character from 160 upwards, and double quotes delimit strings. Unlike {@link java.io.StreamTokenizer}, a
+ * string that is not closed on the line on which it starts is rejected.
  *
  * @see org.swrlapi.parser.SWRLParser
  * @see org.swrlapi.parser.SWRLParseException
@@ -26,46 +29,136 @@ class SWRLTokenizer
   @NonNull private static final char wordChars[] = { ':', '_', '-', '/', '#' };
   @NonNull private static final char ordinaryChars[] = { '.', '^', '<', '>', '(', ')', '?' };
 
-  @NonNull private final MyStreamTokenizer tokenizer;
+  @NonNull private static final boolean isWordChar[] = new boolean[256]; // Characters from 256 are all word characters
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++)
+      isWordChar[c] = true;
+    for (char c = 'A'; c <= 'Z'; c++)
+      isWordChar[c] = true;
+    for (char c = '0'; c <= '9'; c++)
+      isWordChar[c] = true;
+    for (char c = 128 + 32; c <= 255; c++)
+      isWordChar[c] = true;
+    for (char wordChar : wordChars)
+      isWordChar[wordChar] = true;
+  }
+
+  // Raw token types; other raw tokens are single characters
+  private static final int EOF = -1;
+  private static final int WORD = -2;
+  private static final int QUOTED = -3;
+
+  @NonNull private static final SWRLToken END_OF_INPUT_TOKEN = new SWRLToken(SWRLToken.SWRLTokenType.END_OF_INPUT, "");
+  @NonNull private static final SWRLToken IMP_TOKEN = new SWRLToken(SWRLToken.SWRLTokenType.IMP, "->");
+  @NonNull private static final SWRLToken TYPE_QUAL_TOKEN = new SWRLToken(SWRLToken.SWRLTokenType.TYPE_QUAL, "^^");
+  @NonNull private static final SWRLToken AND_TOKEN = new SWRLToken(SWRLToken.SWRLTokenType.AND, "^");
+  @NonNull private static final SWRLToken COMMA_TOKEN = new SWRLToken(SWRLToken.SWRLTokenType.COMMA, ",");
+  @NonNull private static final SWRLToken QUESTION_TOKEN = new SWRLToken(SWRLToken.SWRLTokenType.QUESTION, "?");
+  @NonNull private static final SWRLToken LPAREN_TOKEN = new SWRLToken(SWRLToken.SWRLTokenType.LPAREN, "(");
+  @NonNull private static final SWRLToken RPAREN_TOKEN = new SWRLToken(SWRLToken.SWRLTokenType.RPAREN, ")");
+  @NonNull private static final SWRLToken RING_TOKEN = new SWRLToken(SWRLToken.SWRLTokenType.RING, ".");
 
   @NonNull private final Set<@NonNull String> swrlVariables;
-  @NonNull private final List<@NonNull SWRLToken> tokens;
-  private final boolean interactiveParseOnly;
-  private int tokenPosition;
+  @NonNull private String input;
+  @NonNull private char[] chars;
+  private int length;
+  private boolean interactiveParseOnly;
+  private int position;
+  private int scannedExtent; // Scanning has depended on input characters only below this position
+
+
+  // The most recently scanned raw token
+  private int rawStart, rawEnd;
+  @Nullable private String rawQuotedValue; // Null if the quoted string is the span between rawStart and rawEnd
+  private boolean isRawQuotedTerminated;
+
+  // The next token, or the exception raised while scanning it, and the position at which scanning it started
+  private int nextTokenStart;
+  @Nullable private SWRLToken nextToken;
+  @Nullable private SWRLParseException nextTokenException;
 
-  public SWRLTokenizer(@NonNull String input, boolean interactiveParseOnly) throws SWRLParseException
+  public SWRLTokenizer()
   {
-    this.tokenizer = new MyStreamTokenizer(new StringReader(input));
+    this("", false);
+  }
 
+  public SWRLTokenizer(@NonNull String input, boolean interactiveParseOnly)
+  {
     this.swrlVariables = new HashSet<>();
+    this.input = "";
+    this.chars = new char[64];
+
+    reset(input, interactiveParseOnly);
+  }
+
+  /**
+   * Prepare the tokenizer to tokenize a new input. Variables recorded for the previous input are discarded.
+   *
+   * @param input                The input
+   * @param interactiveParseOnly If true, incomplete input generates {@link SWRLIncompleteRuleException}s
+   */
+  public void reset(@NonNull String input, boolean interactiveParseOnly)
+  {
+    if (input.length() > this.chars.length)
+      this.chars = new char[Math.max(input.length(), 2 * this.chars.length)];
+
+    input.getChars(0, input.length(), this.chars, 0);
+
+    this.input = input;
+    this.length = input.length();
     this.interactiveParseOnly = interactiveParseOnly;
+    this.swrlVariables.clear();
 
-    for (char wordChar : wordChars)
-      this.tokenizer.wordChars(wordChar, wordChar);
+    reset();
+  }
 
-    this.tokenizer.wordChars('0', '9');
+  public void reset()
+  {
+    this.position = 0;
+    this.scannedExtent = 0;
+    this.nextToken = null;
+    this.nextTokenException = null;
+  }
 
-    for (char ordinaryChar : ordinaryChars)
-      this.tokenizer.ordinaryChar(ordinaryChar);
+  /**
+   * Continue tokenizing the current input from a position previously returned by {@link #getPosition()}, restoring
+   * the state recorded at that position.
+   *
+   * @param position      The position
+   * @param scannedExtent The scanned extent at that position
+   * @param variables     The variables recorded at that position
+   */
+  public void resume(int position, int scannedExtent, @NonNull Set<@NonNull String> variables)
+  {
+    this.position = position;
+    this.scannedExtent = scannedExtent;
+    this.nextToken = null;
+    this.nextTokenException = null;
+    this.swrlVariables.clear();
+    this.swrlVariables.addAll(variables);
+  }
 
-    this.tokens = generateTokens();
-    this.tokenPosition = 0;
+  /**
+   * @return The position in the input following the last consumed token
+   */
+  public int getPosition()
+  {
+    return (this.nextToken != null || this.nextTokenException != null) ? this.nextTokenStart : this.position;
   }
 
-  // If we want to list:
-  // this.tokenizer.ordinaryChar('!');
-  // // Skip double quote
-  // this.tokenizer.ordinaryChars('$', '/');
-  // // Skip colon
-  // this.tokenizer.ordinaryChars(';', '@');
-  // this.tokenizer.ordinaryChars('[', '^');
-  // // Skip underscore
-  // this.tokenizer.ordinaryChar('`');
-  // this.tokenizer.ordinaryChars('{', '~');
+  /**
+   * @return The length of the prefix of the input that the tokens scanned so far depend on, which may extend past the
+   * last consumed token because of lookahead
+   */
+  public int getScannedExtent()
+  {
+    return this.scannedExtent;
+  }
 
-  public void reset()
+  @NonNull public Set<@NonNull String> getVariables()
   {
-    this.tokenPosition = 0;
+    return new HashSet<>(this.swrlVariables);
   }
 
   @NonNull public SWRLToken getToken(SWRLToken.SWRLTokenType expectedTokenType, @NonNull String unexpectedTokenMessage)
@@ -90,24 +183,31 @@ class SWRLTokenizer
       throw generateEndOfRuleException(noTokenMessage);
   }
 
+  /**
+   * @return True if there is another token or if scanning the next token failed, in which case the failure is
+   * reported when the token is requested
+   */
   public boolean hasMoreTokens()
   {
-    return this.tokenPosition < this.tokens.size();
+    scanNextToken();
+
+    return this.nextTokenException != null || (this.nextToken != null && !this.nextToken.isEndOfInput());
   }
 
   @NonNull public SWRLToken peekToken(@NonNull String message) throws SWRLParseException
   {
-    if (this.tokenPosition < this.tokens.size())
-      return this.tokens.get(this.tokenPosition);
+    if (hasMoreTokens())
+      return lookAhead();
     else
       throw generateEndOfRuleException(message);
   }
 
   public void skipToken() throws SWRLParseException
   {
-    if (this.tokenPosition < this.tokens.size())
-      this.tokenPosition++;
-    else
+    if (hasMoreTokens()) {
+      lookAhead();
+      this.nextToken = null;
+    } else
       throw generateEndOfRuleException("End of rule reached unexpectedly!");
   }
 
@@ -152,9 +252,11 @@ class SWRLTokenizer
 
   @NonNull private SWRLToken getToken() throws SWRLParseException
   {
-    if (this.tokenPosition < this.tokens.size())
-      return this.tokens.get(this.tokenPosition++);
-    else
+    if (hasMoreTokens()) {
+      SWRLToken token = lookAhead();
+      this.nextToken = null;
+      return token;
+    } else
       throw generateEndOfRuleException("Incomplete rule!");
   }
 
@@ -170,107 +272,115 @@ class SWRLTokenizer
       throw generateEndOfRuleException(unexpectedTokenMessage);
   }
 
-  @UnderInitialization @NonNull private List<@NonNull SWRLToken> generateTokens() throws SWRLParseException
+  @NonNull private SWRLToken lookAhead() throws SWRLParseException
   {
-    List<@NonNull SWRLToken> tokens = new ArrayList<>();
-    SWRLToken token = generateToken();
-    while (token.getTokenType() != SWRLToken.SWRLTokenType.END_OF_INPUT) {
-      tokens.add(token);
-      token = generateToken();
-    }
-    return tokens;
+    scanNextToken();
+
+    if (this.nextTokenException != null)
+      throw this.nextTokenException;
+    else if (this.nextToken != null)
+      return this.nextToken;
+    else
+      throw new SWRLParseException("internal error - no token scanned");
   }
 
-  @NonNull private SWRLToken generateToken() throws SWRLParseException
+  private void scanNextToken()
   {
-    try {
-      return convertToken2SWRLToken(this.tokenizer.nextToken());
-    } catch (IOException e) {
-      throw new SWRLParseException("Error tokenizing " + (e.getMessage() != null ? e.getMessage() : ""));
+    if (this.nextToken == null && this.nextTokenException == null) {
+      this.nextTokenStart = this.position;
+      try {
+        this.nextToken = scanToken();
+      } catch (SWRLParseException e) {
+        this.nextTokenException = e;
+      }
     }
   }
 
-  @NonNull private SWRLToken convertToken2SWRLToken(int tokenType) throws SWRLParseException, IOException
+  @NonNull private SWRLToken scanToken() throws SWRLParseException
   {
+    int tokenType = nextRawToken();
+
     switch (tokenType) {
-    case StreamTokenizer.TT_EOF:
-      return new SWRLToken(SWRLToken.SWRLTokenType.END_OF_INPUT, "");
-    case StreamTokenizer.TT_EOL:
-      return new SWRLToken(SWRLToken.SWRLTokenType.END_OF_INPUT, "");
-    case StreamTokenizer.TT_NUMBER:
-      throw new SWRLParseException("internal error - not expecting a StreamTokenizer.TT_NUMBER");
-    case StreamTokenizer.TT_WORD: {
-      String value = this.tokenizer.getValue();
-      boolean negativeNumeric = false;
-      if (value.equals("-")) {
-        int nextTokenType = this.tokenizer.nextToken();
+    case EOF:
+      return END_OF_INPUT_TOKEN;
+    case WORD: {
+      int start = this.rawStart, end = this.rawEnd;
+
+      if (end - start == 1 && this.chars[start] == '-') { // '-' is a word character so "-1" is a single word
+        int nextTokenType = nextRawToken();
         if (nextTokenType == '>')
-          return new SWRLToken(SWRLToken.SWRLTokenType.IMP, "->");
-        else if (nextTokenType == StreamTokenizer.TT_EOF)
+          return IMP_TOKEN;
+        else if (nextTokenType == EOF)
           throw generateEndOfRuleException("Expecting '>' or integer or float after '-'");
-        else if (nextTokenType != StreamTokenizer.TT_WORD)
+        else if (nextTokenType != WORD)
           throw new SWRLParseException("Expecting '>' or integer or float after '-'");
         else
-          negativeNumeric = true;
+          throw new SWRLParseException("Expecting integer or float");
       }
-      if (isInt(value)) {
+      if (isInt(start, end)) {
+        int intEnd = this.position;
         // See if it is followed by a '.', in which case it should be a float
-        if (this.tokenizer.nextToken() == '.') { // Found a . so expecting rest of float
-          int trailingTokenType = this.tokenizer.nextToken();
-          String trailingValue = this.tokenizer.getValue();
-          if (trailingTokenType == StreamTokenizer.TT_WORD && isInt(trailingValue)) {
-            String floatValue = value + "." + trailingValue;
-            floatValue = negativeNumeric ? "-" + floatValue : floatValue;
-            return new SWRLToken(SWRLToken.SWRLTokenType.FLOAT, floatValue);
-          } else if (trailingTokenType == StreamTokenizer.TT_EOF)
+        if (nextRawToken() == '.') { // Found a . so expecting rest of float
+          int dotEnd = this.position;
+          int trailingTokenType = nextRawToken();
+          if (trailingTokenType == WORD && isInt(this.rawStart, this.rawEnd)) {
+            if (this.rawStart == dotEnd && dotEnd == end + 1) // No whitespace around the '.'
+              return new SWRLToken(SWRLToken.SWRLTokenType.FLOAT, this.input, start, this.rawEnd);
+            else
+              return new SWRLToken(SWRLToken.SWRLTokenType.FLOAT,
+                this.input.substring(start, end) + "." + this.input.substring(this.rawStart, this.rawEnd));
+          } else if (trailingTokenType == EOF)
             throw generateEndOfRuleException("Expecting float fraction part after '.'");
           else
             throw new SWRLParseException("Expecting float fraction part after '.'");
         } else { // No following '.' so it is an integer
-          this.tokenizer.pushBack();
-          String intValue = negativeNumeric ? "-" + value : value;
-          return new SWRLToken(SWRLToken.SWRLTokenType.INT, intValue);
+          this.position = intEnd;
+          return new SWRLToken(SWRLToken.SWRLTokenType.INT, this.input, start, end);
         }
-      } else { // Value is not an integer
-        if (negativeNumeric) // If negative, value should be an integer or float
-          throw new SWRLParseException("Expecting integer or float");
-        else // Must be an identifier
-          return new SWRLToken(SWRLToken.SWRLTokenType.SHORTNAME, value);
-      }
+      } else // Must be an identifier
+        return new SWRLToken(SWRLToken.SWRLTokenType.SHORTNAME, this.input, start, end);
     }
-    case '"':
-      return new SWRLToken(SWRLToken.SWRLTokenType.STRING, this.tokenizer.getValue());
+    case QUOTED:
+      if (!this.isRawQuotedTerminated) {
+        if (this.position >= this.length)
+          throw generateEndOfRuleException("Expecting '\"' to end string");
+        else
+          throw new SWRLParseException("Expecting '\"' to end string before the end of the line");
+      } else if (this.rawQuotedValue != null)
+        return new SWRLToken(SWRLToken.SWRLTokenType.STRING, this.rawQuotedValue);
+      else
+        return new SWRLToken(SWRLToken.SWRLTokenType.STRING, this.input, this.rawStart, this.rawEnd);
     case ',':
-      return new SWRLToken(SWRLToken.SWRLTokenType.COMMA, ",");
+      return COMMA_TOKEN;
     case '?':
-      return new SWRLToken(SWRLToken.SWRLTokenType.QUESTION, "?");
+      return QUESTION_TOKEN;
     case '(':
-      return new SWRLToken(SWRLToken.SWRLTokenType.LPAREN, "(");
+      return LPAREN_TOKEN;
     case ')':
-      return new SWRLToken(SWRLToken.SWRLTokenType.RPAREN, ")");
+      return RPAREN_TOKEN;
     case '.':
-      return new SWRLToken(SWRLToken.SWRLTokenType.RING, ".");
+      return RING_TOKEN;
     case '^': {
-      int nextTokenType = this.tokenizer.nextToken();
-      if (nextTokenType == '^') {
-        return new SWRLToken(SWRLToken.SWRLTokenType.TYPE_QUAL, "^^");
-      } else { // Not ^^
-        this.tokenizer.pushBack();
-        return new SWRLToken(SWRLToken.SWRLTokenType.AND, "^");
+      int caretEnd = this.position;
+      if (nextRawToken() == '^')
+        return TYPE_QUAL_TOKEN;
+      else { // Not ^^
+        this.position = caretEnd;
+        return AND_TOKEN;
       }
     }
     case '<': {
-      int nextTokenType = this.tokenizer.nextToken();
-      if (nextTokenType == StreamTokenizer.TT_WORD) {
-        String iri = this.tokenizer.getValue();
-        nextTokenType = this.tokenizer.nextToken();
+      int nextTokenType = nextRawToken();
+      if (nextTokenType == WORD) {
+        int start = this.rawStart, end = this.rawEnd;
+        nextTokenType = nextRawToken();
         if (nextTokenType == '>')
-          return new SWRLToken(SWRLToken.SWRLTokenType.IRI, iri);
-        else if (nextTokenType == StreamTokenizer.TT_EOF)
+          return new SWRLToken(SWRLToken.SWRLTokenType.IRI, this.input, start, end);
+        else if (nextTokenType == EOF)
           throw generateEndOfRuleException("Expecting '>' after IRI");
         else
           throw new SWRLParseException("Expecting IRI after '<'");
-      } else if (nextTokenType == StreamTokenizer.TT_EOF)
+      } else if (nextTokenType == EOF)
         throw generateEndOfRuleException("Expecting IRI after '<'");
       else
         throw new SWRLParseException("Expecting IRI after '<'"); // Some other token
@@ -278,7 +388,122 @@ class SWRLTokenizer
     default:
       throw new SWRLParseException("Unexpected character '" + String.valueOf(Character.toChars(tokenType)) + "'");
     }
+  }
 
+  /**
+   * Skip whitespace and scan a word, a double-quoted string or a single character.
+   *
+   * @return The raw token type, which is the character itself for single characters
+   */
+  private int nextRawToken()
+  {
+    int tokenType = scanRawToken();
+
+    // The character following a token, or the end of the input, is examined to end it
+    this.scannedExtent = Math.max(this.scannedExtent, this.position + 1);
+
+    return tokenType;
+  }
+
+  private int scanRawToken()
+  {
+    int p = this.position;
+
+    while (p < this.length && this.chars[p] <= ' ')
+      p++;
+
+    if (p >= this.length) {
+      this.position = p;
+      return EOF;
+    }
+
+    char c = this.chars[p];
+
+    if (isWordChar(c)) {
+      int start = p++;
+      while (p < this.length && isWordChar(this.chars[p]))
+        p++;
+      this.rawStart = start;
+      this.rawEnd = p;
+      this.position = p;
+      return WORD;
+    } else if (c == '"') {
+      scanQuotedString(p + 1);
+      return QUOTED;
+    } else {
+      this.position = p + 1;
+      return c;
+    }
+  }
+
+  /**
+   * A string ends at a closing double quote. If a line or the input ends before the closing quote the string is
+   * unterminated. Backslash escapes are interpreted as they are in Java string literals.
+   */
+  private void scanQuotedString(int start)
+  {
+    int p = start;
+
+    while (p < this.length && this.chars[p] != '"' && this.chars[p] != '\\' && this.chars[p] != '\n'
+      && this.chars[p] != '\r')
+      p++;
+
+    this.rawStart = start;
+    this.rawQuotedValue = null;
+
+    if (p < this.length && this.chars[p] == '\\') { // Escapes present so build the value
+      StringBuilder sb = new StringBuilder(p - start + 16).append(this.chars, start, p - start);
+
+      while (p < this.length && this.chars[p] != '"' && this.chars[p] != '\n' && this.chars[p] != '\r') {
+        char c = this.chars[p++];
+        if (c == '\\' && p < this.length) {
+          char escaped = this.chars[p++];
+          if (escaped >= '0' && escaped <= '7') {
+            int value = escaped - '0';
+            if (p < this.length && this.chars[p] >= '0' && this.chars[p] <= '7') {
+              value = (value << 3) + (this.chars[p++] - '0');
+              if (p < this.length && this.chars[p] >= '0' && this.chars[p] <= '7' && escaped <= '3')
+                value = (value << 3) + (this.chars[p++] - '0');
+            }
+            sb.append((char)value);
+          } else
+            sb.append(unescape(escaped));
+        } else if (c != '\\')
+          sb.append(c);
+      }
+      this.rawQuotedValue = sb.toString();
+    }
+
+    this.rawEnd = p;
+    this.isRawQuotedTerminated = p < this.length && this.chars[p] == '"';
+    this.position = this.isRawQuotedTerminated ? p + 1 : p;
+  }
+
+  private static char unescape(char c)
+  {
+    switch (c) {
+    case 'a':
+      return 0x7;
+    case 'b':
+      return '\b';
+    case 'f':
+      return 0xC;
+    case 'n':
+      return '\n';
+    case 'r':
+      return '\r';
+    case 't':
+      return '\t';
+    case 'v':
+      return 0xB;
+    default:
+      return c;
+    }
+  }
+
+  private static boolean isWordChar(char c)
+  {
+    return c >= 256 || isWordChar[c];
   }
 
   @NonNull private SWRLParseException generateEndOfRuleException(@NonNull String message)
@@ -289,33 +514,18 @@ class SWRLTokenizer
       return new SWRLIncompleteRuleException(message);
   }
 
-  private boolean isInt(@NonNull String s)
+  private boolean isInt(int start, int end)
   {
+    char first = this.chars[start];
+
+    if (first != '-' && Character.digit(first, 10) < 0)
+      return false; // Avoid the exception for the common case of a name
+
     try {
-      Integer.parseInt(s);
+      Integer.parseInt(this.input.substring(start, end));
       return true;
     } catch (NumberFormatException e) {
       return false;
     }
   }
-
-  private class MyStreamTokenizer extends StreamTokenizer
-  {
-    public MyStreamTokenizer(@NonNull Reader r)
-    {
-      super(r);
-    }
-
-    @Override public void parseNumbers()
-    {
-    }
-
-    @NonNull String getValue()
-    {
-      if (super.sval != null)
-        return super.sval;
-      else
-        return "";
-    }
-  }
 }
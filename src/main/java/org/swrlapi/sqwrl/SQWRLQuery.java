@@ -2,10 +2,12 @@ package org.swrlapi.sqwrl;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.semanticweb.owlapi.model.SWRLAtom;
+import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.core.SWRLAPIBuiltInAtom;
 import org.swrlapi.sqwrl.exceptions.SQWRLException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -80,6 +82,12 @@ public interface SQWRLQuery
    */
   @NonNull List<@NonNull SWRLAPIBuiltInAtom> getBuiltInAtomsFromBody(Set<@NonNull String> builtInNames);
 
+  /**
+   * @return The group arguments of each grouped collection, including collections created from grouped collections,
+   * keyed by collection name
+   */
+  @NonNull Map<@NonNull String, @NonNull List<@NonNull SWRLBuiltInArgument>> getCollectionGroupArguments();
+
   /**
    * @return A SQWRL result generator
    */
@@ -59,6 +59,28 @@ public interface SQWRLQueryEngine extends SWRLRuleEngine
    */
   void runSQWRLQueries() throws SQWRLException;
 
+  /**
+   * Describe how a SQWRL query will be evaluated without running it.
+   *
+   * @param queryName The name of the query
+   * @return The plan of the query
+   * @throws SQWRLException If the query does not exist
+   * @see #explain(String, boolean)
+   */
+  @NonNull SQWRLQueryPlan explain(@NonNull String queryName) throws SQWRLException;
+
+  /**
+   * Describe how a SQWRL query will be evaluated. If profiling is requested the query is run as by
+   * {@link #runSQWRLQuery(String)} and the plan also records the time taken by each stage of the run and the number
+   * of rows in the result.
+   *
+   * @param queryName The name of the query
+   * @param profile   Run the query and record its timings and row count
+   * @return The plan of the query
+   * @throws SQWRLException If the query does not exist or an error occurs while running it
+   */
+  @NonNull SQWRLQueryPlan explain(@NonNull String queryName, boolean profile) throws SQWRLException;
+
   /**
    * Get the results from a previously executed SQWRL query.
    * A {@link org.swrlapi.sqwrl.exceptions.SQWRLInvalidQueryNameException} is thrown if no result is present.
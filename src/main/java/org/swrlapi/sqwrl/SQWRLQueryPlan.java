@@ -0,0 +1,122 @@
+package org.swrlapi.sqwrl;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.SWRLAtom;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Describes how a SQWRL query will be evaluated. A plan lists the body atoms of each evaluation phase in the order in
+ * which they are passed to the target rule engine, the variable dependencies of the built-in atoms, the group
+ * arguments of the query's collections, and the operators applied when the query's result is prepared.
+ * <p>
+ * Queries that use SQWRL collections are evaluated in two phases. The first phase matches the atoms that build the
+ * collections; the second matches the atoms that operate on them. Queries without collections have a single phase.
+ * <p>
+ * A profiled plan also records the time taken by each stage of an actual run of the query and the number of rows in
+ * its result. The {@link #toString()} method renders a plan as text.
+ *
+ * @see org.swrlapi.sqwrl.SQWRLQueryEngine#explain(String, boolean)
+ */
+public interface SQWRLQueryPlan
+{
+  /**
+   * The estimated cardinality of atoms for which no estimate is available, such as built-in atoms
+   */
+  long UNKNOWN_CARDINALITY = -1;
+
+  /**
+   * Operators applied to the rows generated for a query when its result is prepared, in the order they are applied.
+   * Aggregation implies the removal of duplicate rows, so {@link #DISTINCT} is not listed for aggregating queries.
+   */
+  enum ResultOperator
+  {
+    AGGREGATE, DISTINCT, ORDER, SLICE
+  }
+
+  /**
+   * The timed stages of a profiled query run
+   */
+  enum Stage
+  {
+    /**
+     * Processing of the ontology's axioms, SWRL rules and SQWRL queries before the run
+     */
+    PROCESS_ONTOLOGY,
+    /**
+     * Export of OWL axioms, SWRL rules and the query to the target rule engine
+     */
+    EXPORT,
+    /**
+     * Execution of the target rule engine, which generates the result rows
+     */
+    RUN_RULE_ENGINE,
+    /**
+     * Application of the result operators to the generated rows
+     */
+    RESULT_PREPARATION
+  }
+
+  /**
+   * A body atom of a query
+   */
+  interface AtomPlan
+  {
+    /**
+     * @return The zero-based position of the atom in the query body
+     */
+    int getPosition();
+
+    @NonNull SWRLAtom getAtom();
+
+    @NonNull String getRenderedAtom();
+
+    /**
+     * Class and property atoms are estimated from the number of matching assertions in the ontology and its imports.
+     * Estimates do not include facts inferred by rules.
+     *
+     * @return The estimated number of matches for the atom, or {@link #UNKNOWN_CARDINALITY}
+     */
+    long getEstimatedCardinality();
+
+    /**
+     * @return For built-in atoms, the variables of preceding atoms on which the atom's variables depend; empty
+     * otherwise
+     */
+    @NonNull Set<@NonNull String> getPathVariableNames();
+  }
+
+  @NonNull String getQueryName();
+
+  /**
+   * @return The atoms of the first phase, in evaluation order
+   */
+  @NonNull List<@NonNull AtomPlan> getPhase1Atoms();
+
+  /**
+   * @return The atoms of the second phase, in evaluation order, or an empty list if the query has a single phase
+   */
+  @NonNull List<@NonNull AtomPlan> getPhase2Atoms();
+
+  /**
+   * @return The rendered group arguments of each grouped collection, keyed by collection name
+   */
+  @NonNull Map<@NonNull String, @NonNull List<@NonNull String>> getCollectionGroupArguments();
+
+  @NonNull Set<@NonNull ResultOperator> getResultOperators();
+
+  boolean isProfiled();
+
+  /**
+   * @return The time taken by each stage of the profiled run in nanoseconds; empty if the plan is not profiled
+   */
+  @NonNull Map<@NonNull Stage, @NonNull Long> getStageTimeNanos();
+
+  /**
+   * @return The number of rows in the result of the profiled run; empty if the plan is not profiled
+   */
+  @NonNull Optional<@NonNull Integer> getActualNumberOfRows();
+}
@@ -5,6 +5,7 @@ import org.swrlapi.sqwrl.exceptions.SQWRLException;
 import org.swrlapi.sqwrl.values.SQWRLResultValue;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Interface to configure a SQWRL query result and then add data to it. See the
@@ -57,6 +58,11 @@ public interface SQWRLResultGenerator
 	 */
 	void setIsDistinct();
 
+	/**
+	 * @return The operators that will be applied to the rows of the result when it is prepared
+	 */
+	@NonNull Set<SQWRLQueryPlan.@NonNull ResultOperator> getResultOperators();
+
 	/**
 	 * @param columnName The name of a column
 	 * @throws SQWRLException If an error occurs during display name addition
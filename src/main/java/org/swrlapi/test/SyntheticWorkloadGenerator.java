@@ -0,0 +1,642 @@
+package org.swrlapi.test;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.exceptions.SWRLAPIException;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates OWL ontologies, SWRL rules and SQWRL queries of a configurable size and shape for scale testing and
+ * benchmarking. Generation is seeded, so a generator with the same parameters always produces the same workload.
+ * <p>
+ * Classes are named <code>C0</code>, <code>C1</code>, ..., object properties <code>op0</code>, ..., data properties
+ * <code>dp0</code>, ... and individuals <code>i0</code>, ..., all in the {@link #NAMESPACE} namespace, which is the
+ * default prefix of generated ontologies. Each data property has a single datatype, taken in turn from the
+ * datatype mix, and all of its values have that datatype. Rules and queries refer to entities by their short names so
+ * they can be created in a {@link org.swrlapi.core.SWRLAPIOWLOntology} that wraps a generated ontology.
+ * <p>
+ * The generator can also be run to write a workload to a file that can be loaded by
+ * {@link org.swrlapi.test.SWRLRuleEngineMinimalApp} or {@link org.swrlapi.test.SQWRLQueryEngineMinimalApp}.
+ */
+public class SyntheticWorkloadGenerator
+{
+  public static final String NAMESPACE = "http://swrlapi.org/synthetic#";
+  public static final long DEFAULT_SEED = 42;
+
+  private static final IRI ONTOLOGY_IRI = IRI.create("http://swrlapi.org/synthetic");
+  private static final int MAXIMUM_LITERAL_VALUE = 100;
+  private static final LocalDateTime FIRST_DATE_TIME = LocalDateTime.of(2000, 1, 1, 0, 0, 0);
+  private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+  /**
+   * Datatypes of generated data property values
+   */
+  public enum LiteralDatatype
+  {
+    INT, LONG, DOUBLE, BOOLEAN, STRING, DATE_TIME;
+
+    private boolean isNumeric()
+    {
+      return this == INT || this == LONG || this == DOUBLE;
+    }
+  }
+
+  /**
+   * Built-ins used in generated rule bodies. Each built-in is applied to the value of a data property whose datatype it
+   * accepts.
+   */
+  public enum BuiltIn
+  {
+    LESS_THAN, GREATER_THAN, ADD, MULTIPLY, STRING_CONCAT, UPPER_CASE, MATCHES, BEFORE;
+
+    private boolean accepts(@NonNull LiteralDatatype datatype)
+    {
+      switch (this) {
+      case STRING_CONCAT:
+      case UPPER_CASE:
+      case MATCHES:
+        return datatype == LiteralDatatype.STRING;
+      case BEFORE:
+        return datatype == LiteralDatatype.DATE_TIME;
+      default:
+        return datatype.isNumeric();
+      }
+    }
+  }
+
+  /**
+   * Kinds of generated SQWRL queries
+   */
+  public enum QueryType
+  {
+    SELECT, AGGREGATION, COLLECTION, TEMPORAL
+  }
+
+  /**
+   * The parameters of a generator. Setters return the parameters so that they can be chained.
+   */
+  public static class Parameters
+  {
+    private long seed = DEFAULT_SEED;
+    private int numberOfClasses = 100;
+    private int numberOfObjectProperties = 10;
+    private int numberOfDataProperties = 10;
+    private int numberOfIndividuals = 1000;
+    private int objectPropertyFanOut = 1;
+    private int dataPropertyFanOut = 1;
+    @NonNull private List<@NonNull LiteralDatatype> datatypes = Arrays
+      .asList(LiteralDatatype.INT, LiteralDatatype.DOUBLE, LiteralDatatype.STRING, LiteralDatatype.DATE_TIME);
+    private int numberOfRules = 100;
+    private int ruleBodyLength = 2;
+    private int builtInsPerRule = 1;
+    @NonNull private List<@NonNull BuiltIn> builtIns = Arrays.asList(BuiltIn.values());
+    private int numberOfQueries = 20;
+    @NonNull private List<@NonNull QueryType> queryTypes = Arrays.asList(QueryType.values());
+
+    @NonNull public Parameters setSeed(long seed)
+    {
+      this.seed = seed;
+      return this;
+    }
+
+    @NonNull public Parameters setNumberOfClasses(int numberOfClasses)
+    {
+      this.numberOfClasses = checkAtLeast(1, numberOfClasses, "number of classes");
+      return this;
+    }
+
+    @NonNull public Parameters setNumberOfObjectProperties(int numberOfObjectProperties)
+    {
+      this.numberOfObjectProperties = checkAtLeast(1, numberOfObjectProperties, "number of object properties");
+      return this;
+    }
+
+    @NonNull public Parameters setNumberOfDataProperties(int numberOfDataProperties)
+    {
+      this.numberOfDataProperties = checkAtLeast(1, numberOfDataProperties, "number of data properties");
+      return this;
+    }
+
+    @NonNull public Parameters setNumberOfIndividuals(int numberOfIndividuals)
+    {
+      this.numberOfIndividuals = checkAtLeast(1, numberOfIndividuals, "number of individuals");
+      return this;
+    }
+
+    /**
+     * @param objectPropertyFanOut The number of object property assertions with each individual as their subject
+     * @return The parameters
+     */
+    @NonNull public Parameters setObjectPropertyFanOut(int objectPropertyFanOut)
+    {
+      this.objectPropertyFanOut = checkAtLeast(0, objectPropertyFanOut, "object property fan-out");
+      return this;
+    }
+
+    /**
+     * @param dataPropertyFanOut The number of data property assertions with each individual as their subject
+     * @return The parameters
+     */
+    @NonNull public Parameters setDataPropertyFanOut(int dataPropertyFanOut)
+    {
+      this.dataPropertyFanOut = checkAtLeast(0, dataPropertyFanOut, "data property fan-out");
+      return this;
+    }
+
+    /**
+     * @param datatypes The datatypes of data properties, which are assigned to data properties in turn
+     * @return The parameters
+     */
+    @NonNull public Parameters setDatatypes(@NonNull LiteralDatatype... datatypes)
+    {
+      this.datatypes = checkNotEmpty(datatypes, "datatypes");
+      return this;
+    }
+
+    @NonNull public Parameters setNumberOfRules(int numberOfRules)
+    {
+      this.numberOfRules = checkAtLeast(0, numberOfRules, "number of rules");
+      return this;
+    }
+
+    /**
+     * @param ruleBodyLength The number of class and object property atoms in each rule body
+     * @return The parameters
+     */
+    @NonNull public Parameters setRuleBodyLength(int ruleBodyLength)
+    {
+      this.ruleBodyLength = checkAtLeast(1, ruleBodyLength, "rule body length");
+      return this;
+    }
+
+    /**
+     * @param builtInsPerRule The number of built-in atoms in each rule body, each of which is preceded by the data
+     *                        property atom that binds its argument
+     * @return The parameters
+     */
+    @NonNull public Parameters setBuiltInsPerRule(int builtInsPerRule)
+    {
+      this.builtInsPerRule = checkAtLeast(0, builtInsPerRule, "number of built-ins per rule");
+      return this;
+    }
+
+    /**
+     * @param builtIns The built-ins to choose from; built-ins that accept none of the datatypes are not used
+     * @return The parameters
+     */
+    @NonNull public Parameters setBuiltIns(@NonNull BuiltIn... builtIns)
+    {
+      this.builtIns = checkNotEmpty(builtIns, "built-ins");
+      return this;
+    }
+
+    @NonNull public Parameters setNumberOfQueries(int numberOfQueries)
+    {
+      this.numberOfQueries = checkAtLeast(0, numberOfQueries, "number of queries");
+      return this;
+    }
+
+    /**
+     * @param queryTypes The kinds of queries to generate, which are used in turn
+     * @return The parameters
+     */
+    @NonNull public Parameters setQueryTypes(@NonNull QueryType... queryTypes)
+    {
+      this.queryTypes = checkNotEmpty(queryTypes, "query types");
+      return this;
+    }
+
+    private static int checkAtLeast(int minimum, int value, @NonNull String description)
+    {
+      if (value < minimum)
+        throw new IllegalArgumentException(description + " must be at least " + minimum + ", got " + value);
+      return value;
+    }
+
+    @NonNull private static <T> List<@NonNull T> checkNotEmpty(@NonNull T[] values,
+      @NonNull String description)
+    {
+      if (values.length == 0)
+        throw new IllegalArgumentException("at least one of the " + description + " must be supplied");
+      return Arrays.asList(values);
+    }
+  }
+
+  @NonNull private final Parameters parameters;
+  @NonNull private final Map<@NonNull LiteralDatatype, @NonNull List<@NonNull Integer>> dataPropertiesByDatatype;
+  @NonNull private final List<@NonNull BuiltIn> applicableBuiltIns;
+
+  public SyntheticWorkloadGenerator(@NonNull Parameters parameters)
+  {
+    this.parameters = parameters;
+    this.dataPropertiesByDatatype = new EnumMap<>(LiteralDatatype.class);
+    this.applicableBuiltIns = new ArrayList<>();
+
+    for (int i = 0; i < parameters.numberOfDataProperties; i++)
+      this.dataPropertiesByDatatype.computeIfAbsent(getDatatype(i), d -> new ArrayList<>()).add(i);
+
+    for (BuiltIn builtIn : parameters.builtIns) {
+      for (LiteralDatatype datatype : this.dataPropertiesByDatatype.keySet()) {
+        if (builtIn.accepts(datatype)) {
+          this.applicableBuiltIns.add(builtIn);
+          break;
+        }
+      }
+    }
+  }
+
+  @NonNull public Parameters getParameters()
+  {
+    return this.parameters;
+  }
+
+  /**
+   * @return The number of axioms in a generated ontology, less any duplicate property assertions
+   */
+  public int getNumberOfAxioms()
+  {
+    return this.parameters.numberOfClasses + this.parameters.numberOfObjectProperties
+      + this.parameters.numberOfDataProperties + this.parameters.numberOfIndividuals * (2
+      + this.parameters.objectPropertyFanOut + this.parameters.dataPropertyFanOut);
+  }
+
+  /**
+   * Each individual is declared and asserted to be a member of one class, and is the subject of the configured number
+   * of object and data property assertions. The objects of object property assertions are chosen uniformly from all
+   * individuals.
+   *
+   * @return A new ontology in a new ontology manager
+   * @throws OWLOntologyCreationException If the ontology cannot be created
+   */
+  @NonNull public OWLOntology createOntology() throws OWLOntologyCreationException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLDataFactory dataFactory = ontologyManager.getOWLDataFactory();
+    OWLOntology ontology = ontologyManager.createOntology(ONTOLOGY_IRI);
+    RDFXMLDocumentFormat format = new RDFXMLDocumentFormat();
+    Random random = new Random(this.parameters.seed);
+    Set<@NonNull OWLAxiom> axioms = new HashSet<>(getNumberOfAxioms());
+
+    format.setDefaultPrefix(NAMESPACE);
+    ontologyManager.setOntologyFormat(ontology, format);
+
+    for (int i = 0; i < this.parameters.numberOfClasses; i++)
+      axioms.add(dataFactory.getOWLDeclarationAxiom(getOWLClass(dataFactory, i)));
+    for (int i = 0; i < this.parameters.numberOfObjectProperties; i++)
+      axioms.add(dataFactory.getOWLDeclarationAxiom(getOWLObjectProperty(dataFactory, i)));
+    for (int i = 0; i < this.parameters.numberOfDataProperties; i++)
+      axioms.add(dataFactory.getOWLDeclarationAxiom(getOWLDataProperty(dataFactory, i)));
+
+    for (int i = 0; i < this.parameters.numberOfIndividuals; i++) {
+      OWLNamedIndividual individual = getOWLNamedIndividual(dataFactory, i);
+
+      axioms.add(dataFactory.getOWLDeclarationAxiom(individual));
+      axioms.add(dataFactory.getOWLClassAssertionAxiom(
+        getOWLClass(dataFactory, random.nextInt(this.parameters.numberOfClasses)), individual));
+
+      for (int j = 0; j < this.parameters.objectPropertyFanOut; j++)
+        axioms.add(dataFactory.getOWLObjectPropertyAssertionAxiom(
+          getOWLObjectProperty(dataFactory, random.nextInt(this.parameters.numberOfObjectProperties)), individual,
+          getOWLNamedIndividual(dataFactory, random.nextInt(this.parameters.numberOfIndividuals))));
+
+      for (int j = 0; j < this.parameters.dataPropertyFanOut; j++) {
+        int property = random.nextInt(this.parameters.numberOfDataProperties);
+
+        axioms.add(dataFactory.getOWLDataPropertyAssertionAxiom(getOWLDataProperty(dataFactory, property), individual,
+          createOWLLiteral(dataFactory, getDatatype(property), random)));
+      }
+    }
+    ontologyManager.addAxioms(ontology, axioms);
+
+    return ontology;
+  }
+
+  /**
+   * A rule body starts with a class atom followed by a chain of object property atoms, then has a data property atom
+   * and a built-in atom for each built-in. The head classifies the individual at the end of the chain.
+   *
+   * @return A map of rule names to rule text, in rule name order
+   */
+  @NonNull public Map<@NonNull String, @NonNull String> createSWRLRules()
+  {
+    Random random = new Random(this.parameters.seed + 1);
+    Map<@NonNull String, @NonNull String> rules = new LinkedHashMap<>();
+
+    for (int i = 0; i < this.parameters.numberOfRules; i++)
+      rules.put("r" + i, createSWRLRule(random));
+
+    return rules;
+  }
+
+  /**
+   * Queries of the configured types are generated in turn.
+   *
+   * @return A map of query names to query text, in query name order
+   */
+  @NonNull public Map<@NonNull String, @NonNull String> createSQWRLQueries()
+  {
+    Random random = new Random(this.parameters.seed + 2);
+    Map<@NonNull String, @NonNull String> queries = new LinkedHashMap<>();
+
+    for (int i = 0; i < this.parameters.numberOfQueries; i++)
+      queries.put("q" + i,
+        createSQWRLQuery(this.parameters.queryTypes.get(i % this.parameters.queryTypes.size()), random));
+
+    return queries;
+  }
+
+  /**
+   * Generate an ontology and add the generated rules and queries to it.
+   *
+   * @return A SWRLAPI ontology wrapping the generated ontology
+   * @throws OWLOntologyCreationException If the ontology cannot be created
+   * @throws SWRLParseException           If a generated rule or query cannot be parsed
+   * @throws SQWRLException               If an error occurs processing the rules and queries
+   */
+  @NonNull public SWRLAPIOWLOntology createSWRLAPIOWLOntology()
+    throws OWLOntologyCreationException, SWRLParseException, SQWRLException
+  {
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(createOntology());
+    Map<@NonNull String, @NonNull String> rulesAndQueries = new LinkedHashMap<>(createSWRLRules());
+
+    rulesAndQueries.putAll(createSQWRLQueries());
+    swrlapiOWLOntology.createSWRLRules(rulesAndQueries);
+
+    return swrlapiOWLOntology;
+  }
+
+  public static void main(@NonNull String[] args)
+  {
+    if (args.length < 1 || args.length > 4)
+      Usage();
+
+    File owlFile = new File(args[0]);
+    Parameters parameters = new Parameters();
+
+    try {
+      if (args.length > 1)
+        parameters.setNumberOfIndividuals(Integer.parseInt(args[1]));
+      if (args.length > 2)
+        parameters.setNumberOfRules(Integer.parseInt(args[2]));
+      if (args.length > 3)
+        parameters.setNumberOfQueries(Integer.parseInt(args[3]));
+    } catch (IllegalArgumentException e) {
+      System.err.println("Invalid argument: " + (e.getMessage() != null ? e.getMessage() : ""));
+      Usage();
+    }
+
+    try {
+      OWLOntology ontology = new SyntheticWorkloadGenerator(parameters).createSWRLAPIOWLOntology().getOWLOntology();
+
+      ontology.getOWLOntologyManager().saveOntology(ontology, IRI.create(owlFile.toURI()));
+    } catch (OWLOntologyCreationException e) {
+      System.err.println("Error creating OWL ontology: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (OWLOntologyStorageException e) {
+      System.err.println(
+        "Error saving OWL ontology to file " + owlFile.getAbsolutePath() + ": " + (e.getMessage() != null ?
+          e.getMessage() :
+          ""));
+      System.exit(-1);
+    } catch (SWRLAPIException e) {
+      System.err.println("SWRLAPI error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLParseException e) {
+      System.err.println("SWRL parse error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SQWRLException e) {
+      System.err.println("SQWRL error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    }
+  }
+
+  @NonNull private String createSWRLRule(@NonNull Random random)
+  {
+    StringBuilder rule = new StringBuilder(getClassName(random) + "(?x0)");
+    String subject = "?x" + (this.parameters.ruleBodyLength - 1);
+
+    for (int i = 1; i < this.parameters.ruleBodyLength; i++)
+      rule.append(" ^ ").append(getObjectPropertyName(random)).append("(?x").append(i - 1).append(", ?x").append(i)
+        .append(")");
+
+    if (!this.applicableBuiltIns.isEmpty()) {
+      for (int i = 0; i < this.parameters.builtInsPerRule; i++) {
+        BuiltIn builtIn = this.applicableBuiltIns.get(random.nextInt(this.applicableBuiltIns.size()));
+        LiteralDatatype datatype = chooseDatatype(builtIn, random);
+
+        rule.append(" ^ ").append(getDataPropertyName(datatype, random)).append("(").append(subject).append(", ?v")
+          .append(i).append(") ^ ").append(createBuiltInAtom(builtIn, datatype, "?v" + i, "?r" + i, random));
+      }
+    }
+    return rule.append(" -> ").append(getClassName(random)).append("(").append(subject).append(")").toString();
+  }
+
+  @NonNull private String createSQWRLQuery(@NonNull QueryType queryType, @NonNull Random random)
+  {
+    String classAtom = getClassName(random) + "(?x)";
+
+    switch (queryType) {
+    case SELECT:
+      return classAtom + " ^ " + getObjectPropertyName(random) + "(?x, ?y) -> sqwrl:select(?x, ?y) ^ sqwrl:orderBy(?x)";
+    case AGGREGATION: {
+      List<@NonNull LiteralDatatype> numericDatatypes = new ArrayList<>();
+
+      for (LiteralDatatype datatype : this.dataPropertiesByDatatype.keySet())
+        if (datatype.isNumeric())
+          numericDatatypes.add(datatype);
+
+      if (numericDatatypes.isEmpty())
+        return classAtom + " ^ " + getObjectPropertyName(random) + "(?x, ?y) -> sqwrl:select(?x) ^ sqwrl:count(?y)";
+      else {
+        String[] aggregates = { "min", "max", "sum", "avg", "median" };
+        LiteralDatatype datatype = numericDatatypes.get(random.nextInt(numericDatatypes.size()));
+        String dataProperty = getDataPropertyName(datatype, random);
+
+        return classAtom + " ^ " + dataProperty + "(?x, ?v) -> sqwrl:select(?x) ^ sqwrl:" + aggregates[random
+          .nextInt(aggregates.length)] + "(?v)";
+      }
+    }
+    case COLLECTION:
+      return classAtom + " ^ " + getObjectPropertyName(random)
+        + "(?x, ?y) . sqwrl:makeSet(?s, ?y) ^ sqwrl:groupBy(?s, ?x) . sqwrl:size(?n, ?s) -> sqwrl:select(?x, ?n)";
+    case TEMPORAL:
+      if (this.dataPropertiesByDatatype.containsKey(LiteralDatatype.DATE_TIME))
+        return classAtom + " ^ " + getDataPropertyName(LiteralDatatype.DATE_TIME, random)
+          + "(?x, ?t) ^ temporal:before(?t, " + createDateTimeLiteral(random)
+          + ") -> sqwrl:select(?x, ?t) ^ sqwrl:orderBy(?t)";
+      else
+        return classAtom + " ^ temporal:add(?t, " + createDateTimeLiteral(random) + ", " + random
+          .nextInt(MAXIMUM_LITERAL_VALUE) + ", \"Days\") -> sqwrl:select(?x, ?t)";
+    default:
+      throw new IllegalArgumentException("unknown query type " + queryType);
+    }
+  }
+
+  @NonNull private String createBuiltInAtom(@NonNull BuiltIn builtIn, @NonNull LiteralDatatype datatype,
+    @NonNull String argument, @NonNull String result, @NonNull Random random)
+  {
+    String value = createLiteralText(datatype, random);
+
+    switch (builtIn) {
+    case LESS_THAN:
+      return "swrlb:lessThan(" + argument + ", " + value + ")";
+    case GREATER_THAN:
+      return "swrlb:greaterThan(" + argument + ", " + value + ")";
+    case ADD:
+      return "swrlb:add(" + result + ", " + argument + ", " + value + ")";
+    case MULTIPLY:
+      return "swrlb:multiply(" + result + ", " + argument + ", " + value + ")";
+    case STRING_CONCAT:
+      return "swrlb:stringConcat(" + result + ", " + argument + ", " + value + ")";
+    case UPPER_CASE:
+      return "swrlb:upperCase(" + result + ", " + argument + ")";
+    case MATCHES:
+      return "swrlb:matches(" + argument + ", \"s" + random.nextInt(10) + ".*\")";
+    case BEFORE:
+      return "temporal:before(" + argument + ", " + value + ")";
+    default:
+      throw new IllegalArgumentException("unknown built-in " + builtIn);
+    }
+  }
+
+  @NonNull private LiteralDatatype chooseDatatype(@NonNull BuiltIn builtIn, @NonNull Random random)
+  {
+    List<@NonNull LiteralDatatype> acceptedDatatypes = new ArrayList<>();
+
+    for (LiteralDatatype datatype : this.dataPropertiesByDatatype.keySet())
+      if (builtIn.accepts(datatype))
+        acceptedDatatypes.add(datatype);
+
+    return acceptedDatatypes.get(random.nextInt(acceptedDatatypes.size()));
+  }
+
+  @NonNull private LiteralDatatype getDatatype(int dataProperty)
+  {
+    return this.parameters.datatypes.get(dataProperty % this.parameters.datatypes.size());
+  }
+
+  @NonNull private String getClassName(@NonNull Random random)
+  {
+    return "C" + random.nextInt(this.parameters.numberOfClasses);
+  }
+
+  @NonNull private String getObjectPropertyName(@NonNull Random random)
+  {
+    return "op" + random.nextInt(this.parameters.numberOfObjectProperties);
+  }
+
+  @NonNull private String getDataPropertyName(@NonNull LiteralDatatype datatype, @NonNull Random random)
+  {
+    List<@NonNull Integer> dataProperties = this.dataPropertiesByDatatype.get(datatype);
+
+    return "dp" + dataProperties.get(random.nextInt(dataProperties.size()));
+  }
+
+  @NonNull private static OWLLiteral createOWLLiteral(@NonNull OWLDataFactory dataFactory,
+    @NonNull LiteralDatatype datatype, @NonNull Random random)
+  {
+    switch (datatype) {
+    case INT:
+      return dataFactory.getOWLLiteral(random.nextInt(MAXIMUM_LITERAL_VALUE));
+    case LONG:
+      return dataFactory.getOWLLiteral("" + random.nextInt(MAXIMUM_LITERAL_VALUE), OWL2Datatype.XSD_LONG);
+    case DOUBLE:
+      return dataFactory.getOWLLiteral(random.nextDouble() * MAXIMUM_LITERAL_VALUE);
+    case BOOLEAN:
+      return dataFactory.getOWLLiteral(random.nextBoolean());
+    case STRING:
+      return dataFactory.getOWLLiteral("s" + random.nextInt(MAXIMUM_LITERAL_VALUE));
+    case DATE_TIME:
+      return dataFactory.getOWLLiteral(createDateTime(random), OWL2Datatype.XSD_DATE_TIME);
+    default:
+      throw new IllegalArgumentException("unknown datatype " + datatype);
+    }
+  }
+
+  /**
+   * @return A literal in rule syntax whose type is compatible with values of the datatype
+   */
+  @NonNull private static String createLiteralText(@NonNull LiteralDatatype datatype, @NonNull Random random)
+  {
+    switch (datatype) {
+    case STRING:
+      return "\"s" + random.nextInt(MAXIMUM_LITERAL_VALUE) + "\"";
+    case BOOLEAN:
+      return "" + random.nextBoolean();
+    case DATE_TIME:
+      return createDateTimeLiteral(random);
+    default:
+      return "" + random.nextInt(MAXIMUM_LITERAL_VALUE);
+    }
+  }
+
+  @NonNull private static String createDateTimeLiteral(@NonNull Random random)
+  {
+    return "\"" + createDateTime(random) + "\"^^xsd:dateTime";
+  }
+
+  /**
+   * @return A date and time within a year of {@link #FIRST_DATE_TIME}
+   */
+  @NonNull private static String createDateTime(@NonNull Random random)
+  {
+    return FIRST_DATE_TIME.plusSeconds(random.nextInt(365 * 24 * 60 * 60)).format(DATE_TIME_FORMATTER);
+  }
+
+  @NonNull private static OWLClass getOWLClass(@NonNull OWLDataFactory dataFactory, int i)
+  {
+    return dataFactory.getOWLClass(IRI.create(NAMESPACE + "C" + i));
+  }
+
+  @NonNull private static OWLObjectProperty getOWLObjectProperty(@NonNull OWLDataFactory dataFactory, int i)
+  {
+    return dataFactory.getOWLObjectProperty(IRI.create(NAMESPACE + "op" + i));
+  }
+
+  @NonNull private static OWLDataProperty getOWLDataProperty(@NonNull OWLDataFactory dataFactory, int i)
+  {
+    return dataFactory.getOWLDataProperty(IRI.create(NAMESPACE + "dp" + i));
+  }
+
+  @NonNull private static OWLNamedIndividual getOWLNamedIndividual(@NonNull OWLDataFactory dataFactory, int i)
+  {
+    return dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i" + i));
+  }
+
+  private static void Usage()
+  {
+    System.err.println("Usage: " + SyntheticWorkloadGenerator.class.getName()
+      + " <owlFileName> [ <numberOfIndividuals> [ <numberOfRules> [ <numberOfQueries> ] ] ]");
+    System.exit(1);
+  }
+}
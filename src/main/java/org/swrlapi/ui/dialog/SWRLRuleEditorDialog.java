@@ -65,6 +65,7 @@ public class SWRLRuleEditorDialog extends JDialog implements SWRLAPIView
   private static final int BUTTON_PREFERRED_HEIGHT = 30;
   private static final int RULE_EDIT_AREA_COLUMNS = 20;
   private static final int RULE_EDIT_AREA_ROWS = 60;
+  private static final int MAX_EXPANSIONS = 500;
 
   @NonNull private final SWRLRuleEngineModel swrlRuleEngineModel;
   @NonNull private final SWRLRuleEngineDialogManager dialogManager;
@@ -76,6 +77,7 @@ public class SWRLRuleEditorDialog extends JDialog implements SWRLAPIView
   @NonNull private final Border yellowBorder;
 
   @NonNull private Optional<@NonNull SWRLRuleEditorAutoCompleteState> autoCompleteState = Optional.<@NonNull SWRLRuleEditorAutoCompleteState>empty(); // Present if auto-complete
+  @NonNull private Optional<@NonNull SWRLParser> interactiveParser = Optional.<@NonNull SWRLParser>empty();
   private boolean editMode = false;
 
   public SWRLRuleEditorDialog(@NonNull SWRLRuleEngineModel swrlRuleEngineModel,
@@ -113,6 +115,7 @@ public class SWRLRuleEditorDialog extends JDialog implements SWRLAPIView
   @Override public void setVisible(boolean b)
   {
     if (b) {
+      this.interactiveParser = Optional.<@NonNull SWRLParser>empty(); // The ontology may have changed since last shown
       setInitialDialogState();
       disableAutoCompleteModeIfNecessary();
       updateStatus();
@@ -156,7 +159,7 @@ public class SWRLRuleEditorDialog extends JDialog implements SWRLAPIView
       disableSave();
     } else {
       try {
-        createSWRLParser().parseSWRLRule(ruleText, true, getRuleName(), getComment());
+        getInteractiveParser().parseSWRLRuleInteractively(ruleText);
         this.ruleTextTextArea.requestFocus();
         setInformationalStatusText(STATUS_OK);
         enableSave();
@@ -335,7 +338,7 @@ public class SWRLRuleEditorDialog extends JDialog implements SWRLAPIView
     List<@NonNull String> expansions = new ArrayList<>();
 
     expansions.add(""); // Add empty expansion that we can cycle back to
-    expansions.addAll(createSWRLAutoCompleter().getCompletions(prefix));
+    expansions.addAll(createSWRLAutoCompleter().getCompletions(prefix, MAX_EXPANSIONS));
 
     return expansions;
   }
@@ -407,6 +410,17 @@ public class SWRLRuleEditorDialog extends JDialog implements SWRLAPIView
     return this.swrlRuleEngineModel.createSWRLParser();
   }
 
+  /**
+   * The parser reuses the state of its previous parse so that only the edited part of the rule text is reparsed.
+   */
+  @NonNull private SWRLParser getInteractiveParser()
+  {
+    if (!this.interactiveParser.isPresent())
+      this.interactiveParser = Optional.of(createSWRLParser());
+
+    return this.interactiveParser.get();
+  }
+
   private @NonNull SWRLRulesAndSQWRLQueriesTableModel getSWRLRulesTableModel()
   {
     return this.swrlRuleEngineModel.getSWRLRulesTableModel();
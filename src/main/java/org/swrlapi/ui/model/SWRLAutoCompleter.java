@@ -11,4 +11,11 @@ public interface SWRLAutoCompleter
    * @return The possible completions
    */
   @NonNull List<@NonNull String> getCompletions(@NonNull String prefix);
+
+  /**
+   * @param prefix         A prefix string
+   * @param maxCompletions The maximum number of completions to return
+   * @return The first possible completions in lexicographic order
+   */
+  @NonNull List<@NonNull String> getCompletions(@NonNull String prefix, int maxCompletions);
 }
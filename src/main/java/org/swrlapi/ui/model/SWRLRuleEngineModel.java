@@ -1,6 +1,7 @@
 package org.swrlapi.ui.model;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.swrlapi.core.SWRLRuleChanges;
 import org.swrlapi.core.SWRLRuleEngine;
 import org.swrlapi.core.SWRLRuleRenderer;
 import org.swrlapi.parser.SWRLParser;
@@ -24,6 +25,13 @@ public interface SWRLRuleEngineModel extends OntologyModel
    */
   void updateModel();
 
+  /**
+   * Update the model after the underlying ontology has been processed
+   *
+   * @param swrlRuleChanges The changes to the rules in the ontology
+   */
+  void updateModel(@NonNull SWRLRuleChanges swrlRuleChanges);
+
   /**
    * @return A SWRL rule engine
    */
@@ -2,19 +2,39 @@ package org.swrlapi.ui.model;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.dataflow.qual.SideEffectFree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.core.SWRLRuleChanges;
 import org.swrlapi.core.SWRLRuleEngine;
+import org.swrlapi.core.SWRLRuleRenderer;
 import org.swrlapi.ui.view.SWRLAPIView;
 
+import javax.swing.SwingWorker;
 import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * This class models a list of SWRL rules or SQWRL queries in an ontology for tabular display.
+ * <p>
+ * Rows are held in a list ordered by rule name so that cells are accessed by index. Updates are applied as row
+ * insertions, updates, and deletions, and fire the corresponding fine-grained table model events.
+ * <p>
+ * The model is accessed on the event dispatch thread. Rules are rendered on a background thread and the rows are then
+ * updated on the event dispatch thread, in the order in which the updates were requested.
  *
  * @see org.swrlapi.ui.model.SWRLRuleEngineModel
  * @see org.swrlapi.core.SWRLAPIRule
@@ -24,6 +44,15 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
 {
   private static final long serialVersionUID = 1L;
 
+  private static final Logger log = LoggerFactory.getLogger(SWRLRulesAndSQWRLQueriesTableModel.class);
+
+  // A single thread so that renderings requested earlier are applied to the rows first
+  @NonNull private static final ExecutorService renderingExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "SWRL rule renderer");
+    thread.setDaemon(true);
+    return thread;
+  });
+
   public enum ContentMode
   {
     RuleContentOnly, QueryContentOnly, RuleAndQueryContent
@@ -43,16 +72,20 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
   public static final int NUMBER_OF_COLUMNS = 4;
 
   @NonNull private SWRLRuleEngine swrlRuleEngine;
-  @NonNull private final SortedMap<@NonNull String, @NonNull SWRLRuleModel> swrlRuleModels; // rule name -> SWRLRuleModel
+  @NonNull private final Map<@NonNull String, @NonNull SWRLRuleModel> swrlRuleModels; // rule name -> SWRLRuleModel
+  @NonNull private final List<@NonNull SWRLRuleModel> swrlRuleModelRows; // Ordered by rule name
   @NonNull private Optional<@NonNull SWRLAPIView> view = Optional.<@NonNull SWRLAPIView>empty();
   private ContentMode contentMode;
+  private long renderingGeneration; // Incremented when the rule engine is replaced so pending renderings are discarded
+  private int numberOfPendingRenderings;
 
   private boolean isModified;
 
   public SWRLRulesAndSQWRLQueriesTableModel(@NonNull SWRLRuleEngine swrlRuleEngine)
   {
     this.swrlRuleEngine = swrlRuleEngine;
-    this.swrlRuleModels = new TreeMap<>();
+    this.swrlRuleModels = new HashMap<>();
+    this.swrlRuleModelRows = new ArrayList<>();
     this.isModified = false;
     this.contentMode = ContentMode.RuleAndQueryContent;
   }
@@ -67,11 +100,39 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
   {
     this.swrlRuleEngine = swrlRuleEngine;
     this.swrlRuleModels.clear();
+    this.swrlRuleModelRows.clear();
     this.isModified = false;
+    this.renderingGeneration++;
 
     updateView();
   }
 
+  /**
+   * Apply the changes to the rules in the ontology. Only added and modified rules are rendered. The rows are updated
+   * once the rules have been rendered.
+   *
+   * @param swrlRuleChanges Changes to the rules in the ontology
+   */
+  public void updateModel(@NonNull SWRLRuleChanges swrlRuleChanges)
+  {
+    if (!this.view.isPresent() || swrlRuleChanges.isEmpty())
+      return; // Rule models are built when a view is set
+
+    List<@NonNull SWRLAPIRule> changedSWRLRules = new ArrayList<>(swrlRuleChanges.getAddedSWRLRules().values());
+    changedSWRLRules.addAll(swrlRuleChanges.getModifiedSWRLRules().values());
+
+    renderSWRLRules(changedSWRLRules,
+      changedSWRLRuleModels -> applySWRLRuleChanges(swrlRuleChanges.getRemovedSWRLRuleNames(), changedSWRLRuleModels));
+  }
+
+  /**
+   * @return True if rules are being rendered and the rows have not yet been updated with them
+   */
+  public boolean hasPendingUpdates()
+  {
+    return this.numberOfPendingRenderings != 0;
+  }
+
   @NonNull public Set<@NonNull SWRLRuleModel> getSWRLRuleModels()
   {
     return new HashSet<>(this.swrlRuleModels.values());
@@ -139,7 +200,7 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
 
   @Override public int getRowCount()
   {
-    return this.swrlRuleModels.size();
+    return this.swrlRuleModelRows.size();
   }
 
   @Override public int getColumnCount()
@@ -176,13 +237,13 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
       return "OUT OF BOUNDS";
     else {
       if (column == RULE_TEXT_COLUMN)
-        return ((SWRLRuleModel)this.swrlRuleModels.values().toArray()[row]).getRuleText();
+        return this.swrlRuleModelRows.get(row).getRuleText();
       else if (column == RULE_NAME_COLUMN)
-        return ((SWRLRuleModel)this.swrlRuleModels.values().toArray()[row]).getRuleName();
+        return this.swrlRuleModelRows.get(row).getRuleName();
       else if (column == RULE_COMMENT_COLUMN)
-        return ((SWRLRuleModel)this.swrlRuleModels.values().toArray()[row]).getComment();
+        return this.swrlRuleModelRows.get(row).getComment();
       else if (column == ACTIVE_COLUMN)
-        return ((SWRLRuleModel)this.swrlRuleModels.values().toArray()[row]).isActive();
+        return this.swrlRuleModelRows.get(row).isActive();
       return "INVALID COLUMN";
     }
   }
@@ -204,7 +265,7 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
   @Override public void setValueAt(Object aValue, int rowIndex, int columnIndex)
   {
     if (columnIndex == ACTIVE_COLUMN) {
-      ((SWRLRuleModel)this.swrlRuleModels.values().toArray()[rowIndex]).setActive((Boolean)aValue);
+      this.swrlRuleModelRows.get(rowIndex).setActive((Boolean)aValue);
     } else {
       super.setValueAt(aValue, rowIndex, columnIndex);
     }
@@ -220,25 +281,164 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
 
   @NonNull private Optional<@NonNull SWRLRuleModel> getSWRLRuleModelByIndex(int ruleIndex)
   {
-    if (ruleIndex >= 0 && ruleIndex < this.swrlRuleModels.values().size())
-      return Optional.of(((SWRLRuleModel)this.swrlRuleModels.values().toArray()[ruleIndex]));
+    if (ruleIndex >= 0 && ruleIndex < this.swrlRuleModelRows.size())
+      return Optional.of(this.swrlRuleModelRows.get(ruleIndex));
     else
       return Optional.<@NonNull SWRLRuleModel>empty();
   }
 
   private void updateRuleModels()
   {
-    this.swrlRuleModels.clear();
+    renderSWRLRules(new ArrayList<>(this.swrlRuleEngine.getSWRLRules()), this::mergeSWRLRuleModels);
+  }
 
-    for (SWRLAPIRule swrlapiRule : this.swrlRuleEngine.getSWRLRules()) {
-      String ruleName = swrlapiRule.getRuleName();
-      String ruleText = this.swrlRuleEngine.createSWRLRuleRenderer().renderSWRLRule(swrlapiRule);
-      String comment = swrlapiRule.getComment();
-      SWRLRuleModel swrlRuleModel = new SWRLRuleModel(ruleName, ruleText, comment);
-      this.swrlRuleModels.put(ruleName, swrlRuleModel);
+  /**
+   * Render rules in the background and then pass their models to the row updater on the event dispatch thread, unless
+   * the rule engine has been replaced in the meantime.
+   */
+  private void renderSWRLRules(@NonNull Collection<@NonNull SWRLAPIRule> swrlapiRules,
+    @NonNull Consumer<@NonNull List<@NonNull SWRLRuleModel>> rowUpdater)
+  {
+    SWRLRuleRenderer swrlRuleRenderer = this.swrlRuleEngine.createSWRLRuleRenderer();
+    long generation = this.renderingGeneration;
+
+    this.numberOfPendingRenderings++;
+    renderingExecutor.execute(new SwingWorker<List<@NonNull SWRLRuleModel>, Void>()
+    {
+      @Override protected List<@NonNull SWRLRuleModel> doInBackground()
+      {
+        return createSWRLRuleModels(swrlapiRules, swrlRuleRenderer);
+      }
+
+      @Override protected void done()
+      {
+        SWRLRulesAndSQWRLQueriesTableModel.this.numberOfPendingRenderings--;
+
+        if (generation == SWRLRulesAndSQWRLQueriesTableModel.this.renderingGeneration) {
+          try {
+            rowUpdater.accept(get());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } catch (ExecutionException e) {
+            log.warn("error rendering SWRL rules", e.getCause());
+          }
+        }
+      }
+    });
+  }
+
+  private void applySWRLRuleChanges(@NonNull Set<@NonNull String> removedSWRLRuleNames,
+    @NonNull List<@NonNull SWRLRuleModel> changedSWRLRuleModels)
+  {
+    for (String ruleName : removedSWRLRuleNames) {
+      int row = getRow(ruleName);
+      if (row >= 0)
+        removeRow(row);
+    }
+
+    for (SWRLRuleModel swrlRuleModel : changedSWRLRuleModels) {
+      int row = getRow(swrlRuleModel.getRuleName());
+      if (row >= 0)
+        updateRow(row, swrlRuleModel);
+      else
+        insertRow(-row - 1, swrlRuleModel);
     }
   }
 
+  /**
+   * Merge the models of the rules in the ontology with the current rows, both ordered by name.
+   */
+  private void mergeSWRLRuleModels(@NonNull List<@NonNull SWRLRuleModel> updatedSWRLRuleModels)
+  {
+    updatedSWRLRuleModels.sort(Comparator.comparing(SWRLRuleModel::getRuleName));
+
+    if (this.swrlRuleModelRows.isEmpty() && !updatedSWRLRuleModels.isEmpty()) { // Avoid an event per row
+      for (SWRLRuleModel swrlRuleModel : updatedSWRLRuleModels)
+        this.swrlRuleModels.put(swrlRuleModel.getRuleName(), swrlRuleModel);
+      this.swrlRuleModelRows.addAll(updatedSWRLRuleModels);
+      fireTableRowsInserted(0, updatedSWRLRuleModels.size() - 1);
+      return;
+    }
+
+    int row = 0;
+
+    for (SWRLRuleModel swrlRuleModel : updatedSWRLRuleModels) {
+      while (row < this.swrlRuleModelRows.size()
+        && this.swrlRuleModelRows.get(row).getRuleName().compareTo(swrlRuleModel.getRuleName()) < 0)
+        removeRow(row);
+
+      if (row < this.swrlRuleModelRows.size() && this.swrlRuleModelRows.get(row).getRuleName()
+        .equals(swrlRuleModel.getRuleName()))
+        updateRow(row, swrlRuleModel);
+      else
+        insertRow(row, swrlRuleModel);
+      row++;
+    }
+
+    while (row < this.swrlRuleModelRows.size())
+      removeRow(this.swrlRuleModelRows.size() - 1);
+  }
+
+  /**
+   * Rules are rendered in parallel by a shared renderer that caches its renderings, so only new or changed rules are
+   * rendered again.
+   */
+  @NonNull private List<@NonNull SWRLRuleModel> createSWRLRuleModels(
+    @NonNull Collection<@NonNull SWRLAPIRule> swrlapiRules, @NonNull SWRLRuleRenderer swrlRuleRenderer)
+  {
+    return swrlapiRules.parallelStream().map(
+      swrlapiRule -> new SWRLRuleModel(swrlapiRule.getRuleName(), swrlRuleRenderer.renderSWRLRule(swrlapiRule),
+        swrlapiRule.getComment())).collect(Collectors.toList());
+  }
+
+  /**
+   * @return The row of the named rule, or (-(insertion point) - 1)
+   */
+  private int getRow(@NonNull String ruleName)
+  {
+    int low = 0, high = this.swrlRuleModelRows.size() - 1;
+
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = this.swrlRuleModelRows.get(mid).getRuleName().compareTo(ruleName);
+
+      if (comparison < 0)
+        low = mid + 1;
+      else if (comparison > 0)
+        high = mid - 1;
+      else
+        return mid;
+    }
+    return -(low + 1);
+  }
+
+  private void insertRow(int row, @NonNull SWRLRuleModel swrlRuleModel)
+  {
+    this.swrlRuleModels.put(swrlRuleModel.getRuleName(), swrlRuleModel);
+    this.swrlRuleModelRows.add(row, swrlRuleModel);
+    fireTableRowsInserted(row, row);
+  }
+
+  private void updateRow(int row, @NonNull SWRLRuleModel swrlRuleModel)
+  {
+    SWRLRuleModel currentSWRLRuleModel = this.swrlRuleModelRows.get(row);
+
+    if (!currentSWRLRuleModel.getRuleText().equals(swrlRuleModel.getRuleText()) || !currentSWRLRuleModel.getComment()
+      .equals(swrlRuleModel.getComment())) {
+      swrlRuleModel.setActive(currentSWRLRuleModel.isActive());
+      this.swrlRuleModels.put(swrlRuleModel.getRuleName(), swrlRuleModel);
+      this.swrlRuleModelRows.set(row, swrlRuleModel);
+      fireTableRowsUpdated(row, row);
+    }
+  }
+
+  private void removeRow(int row)
+  {
+    SWRLRuleModel swrlRuleModel = this.swrlRuleModelRows.remove(row);
+    this.swrlRuleModels.remove(swrlRuleModel.getRuleName());
+    fireTableRowsDeleted(row, row);
+  }
+
   @Override public String toString()
   {
     return "SWRLRulesAndSQWRLQueriesTableModel{" +
@@ -226,7 +226,7 @@ public class SQWRLQueryControlView extends JPanel implements SWRLAPIView
           .addTab(queryName, null, sqwrlResultView, "SQWRL Result for query '" + queryName + "'");
       }
 
-      sqwrlResultView.validate();
+      sqwrlResultView.update(); // An existing tab shows the rerun result
       this.sqwrlQueryControlView.getParent().validate();
       this.console.validate();
     }
@@ -1,5 +1,7 @@
 package org.swrlapi.ui.view.queries;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.swrlapi.sqwrl.SQWRLQueryEngine;
@@ -17,13 +19,24 @@ import javax.swing.table.AbstractTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
-import java.io.OutputStream;
+import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
 
 /**
  * A view holding the result for a single SQWRL query.
+ * <p>
+ * The result table renders rows a page at a time as they are displayed and keeps a bounded number of rendered pages,
+ * which are discarded when the query is rerun. Results are saved from a snapshot on a background worker that reports
+ * its progress and can be cancelled.
  *
  * @see org.swrlapi.sqwrl.SQWRLQueryEngine
  * @see org.swrlapi.sqwrl.SQWRLResult
@@ -33,6 +46,11 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
 {
   private static final long serialVersionUID = 1L;
 
+  private static final int RESULT_PAGE_SIZE = 256; // Rows rendered together
+  private static final int MAXIMUM_NUMBER_OF_CACHED_RESULT_PAGES = 64;
+  private static final int EXPORT_BUFFER_SIZE = 1 << 16;
+  private static final int EXPORT_PROGRESS_INTERVAL = 4096; // Rows written between progress updates
+
   @NonNull private final SQWRLQueryEngineModel queryEngineModel;
   @NonNull private final SQWRLQueryControlView sqwrlQueryControlView;
   @NonNull private final SQWRLQueryResultTableModel sqwrlQueryResultTableModel;
@@ -59,7 +77,8 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
     JTable sqwrlQueryResultTable = new JTable(this.sqwrlQueryResultTableModel);
 
     JPanel buttonsPanel = new JPanel(new FlowLayout());
-    JButton saveSQWRLResultButton = createButton("Save as CSV...", "Save the result as a CSV file...",
+    JButton saveSQWRLResultButton = createButton("Save as CSV/TSV...",
+      "Save the result as a CSV file, or as a TSV file if the file name ends with .tsv...",
       new SaveSQWRLResultActionListener(this));
     buttonsPanel.add(saveSQWRLResultButton);
     JButton runSQWRLQueryButton = createButton("Rerun", "Rerun this SQWRL query", new RunSQWRLQueryActionListener());
@@ -76,14 +95,10 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
     add(BorderLayout.SOUTH, buttonsPanel);
   }
 
-  @Override public void validate()
-  {
-    this.sqwrlQueryResultTableModel.fireTableStructureChanged();
-    super.validate();
-  }
-
   @Override public void update()
   {
+    this.sqwrlQueryResultTableModel.invalidatePages(); // The result may have been rerun
+    this.sqwrlQueryResultTableModel.fireTableStructureChanged();
     validate();
   }
 
@@ -105,7 +120,7 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
             "No result returned for SQWRL query '" + SQWRLResultView.this.queryName + "' - closing tab.\n");
           SQWRLResultView.this.sqwrlQueryControlView.removeSQWRLResultView(SQWRLResultView.this.queryName);
         } else
-          validate();
+          update();
       } catch (SQWRLInvalidQueryNameException e) {
         SQWRLResultView.this.sqwrlQueryControlView
           .appendToConsole("Invalid query name " + SQWRLResultView.this.queryName + ".\n");
@@ -157,37 +172,25 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
         if (returnValue == JFileChooser.APPROVE_OPTION) {
           File selectedFile = this.chooser.getSelectedFile();
           currentDirectory = this.chooser.getCurrentDirectory();
-          OutputStream fileOutputStream = new FileOutputStream(selectedFile);
-          OutputStreamWriter writer = new OutputStreamWriter(fileOutputStream, "UTF8");
-          SQWRLResultView.this.sqwrlResult = SQWRLResultView.this.getSQWRLQueryEngine()
+          SQWRLResult result = SQWRLResultView.this.getSQWRLQueryEngine()
             .getSQWRLResult(SQWRLResultView.this.queryName);
 
-          if (SQWRLResultView.this.sqwrlResult != null) {
-            int numberOfColumns = SQWRLResultView.this.sqwrlResult.getNumberOfColumns();
-            for (int i = 0; i < numberOfColumns; i++) {
-              if (i != 0)
-                writer.write(", ");
-              writer.write(SQWRLResultView.this.sqwrlResult.getColumnName(i));
-            }
-            writer.write("\n");
-
-            while (SQWRLResultView.this.sqwrlResult.next()) {
-              for (int i = 0; i < numberOfColumns; i++) {
-                SQWRLResultValue value = SQWRLResultView.this.sqwrlResult.getValue(i);
-                if (i != 0)
-                  writer.write(", ");
-                if (value instanceof SQWRLLiteralResultValue && ((SQWRLLiteralResultValue)value).isQuotableType())
-                  writer.write("\"" + value + "\"");
-                else
-                  writer.write("" + value);
+          if (result != null) {
+            boolean isTSV = selectedFile.getName().toLowerCase().endsWith(".tsv");
+            SQWRLResultSnapshot snapshot = new SQWRLResultSnapshot(result); // The query may be rerun while saving
+            ProgressMonitor progressMonitor = new ProgressMonitor(this.component,
+              "Saving results of query " + SQWRLResultView.this.queryName, selectedFile.getPath(), 0, 100);
+            SQWRLResultExportWorker exportWorker = new SQWRLResultExportWorker(this.component, snapshot, selectedFile,
+              isTSV, progressMonitor);
+
+            exportWorker.addPropertyChangeListener(event -> {
+              if ("progress".equals(event.getPropertyName())) {
+                progressMonitor.setProgress((Integer)event.getNewValue());
+                if (progressMonitor.isCanceled())
+                  exportWorker.cancel(false);
               }
-              writer.write("\n");
-            }
-            SQWRLResultView.this.sqwrlResult.reset();
-            writer.close();
-            SQWRLResultView.this.sqwrlQueryControlView.appendToConsole(
-              "Successfully saved results of query " + SQWRLResultView.this.queryName + " to CSV file " + selectedFile
-                .getPath() + ".\n");
+            });
+            exportWorker.execute();
           }
         }
       } catch (Throwable e) {
@@ -198,6 +201,147 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
     }
   }
 
+  /**
+   * Writes a snapshot of a result through a buffered writer off the event dispatch thread.
+   */
+  private class SQWRLResultExportWorker extends SwingWorker<Integer, Void>
+  {
+    @NonNull private final Component component;
+    @NonNull private final SQWRLResultSnapshot snapshot;
+    @NonNull private final File file;
+    private final boolean isTSV;
+    @NonNull private final ProgressMonitor progressMonitor;
+
+    public SQWRLResultExportWorker(@NonNull Component component, @NonNull SQWRLResultSnapshot snapshot,
+      @NonNull File file, boolean isTSV, @NonNull ProgressMonitor progressMonitor)
+    {
+      this.component = component;
+      this.snapshot = snapshot;
+      this.file = file;
+      this.isTSV = isTSV;
+      this.progressMonitor = progressMonitor;
+    }
+
+    @Override protected Integer doInBackground() throws IOException
+    {
+      try (Writer writer = new BufferedWriter(
+        new OutputStreamWriter(new FileOutputStream(this.file), StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE)) {
+        return writeSQWRLResult(this.snapshot, writer, this.isTSV, this::isCancelled, this::setProgress);
+      }
+    }
+
+    @Override protected void done()
+    {
+      this.progressMonitor.close();
+
+      try {
+        int numberOfRows = get();
+        SQWRLResultView.this.sqwrlQueryControlView.appendToConsole(
+          "Successfully saved " + numberOfRows + " rows of results of query " + SQWRLResultView.this.queryName + " to "
+            + (this.isTSV ? "TSV" : "CSV") + " file " + this.file.getPath() + ".\n");
+      } catch (CancellationException e) {
+        SQWRLResultView.this.sqwrlQueryControlView.appendToConsole(
+          "Saving results of query " + SQWRLResultView.this.queryName + " to " + this.file.getPath()
+            + " was cancelled; the file is incomplete.\n");
+      } catch (InterruptedException | ExecutionException e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        JOptionPane.showMessageDialog(this.component,
+          "Error saving file: " + (cause.getMessage() != null ? cause.getMessage() : ""), "Error saving file",
+          JOptionPane.ERROR_MESSAGE);
+      }
+    }
+  }
+
+  /**
+   * Write a result as CSV or TSV, stopping before the next row if the write is cancelled.
+   *
+   * @return The number of rows written
+   */
+  static int writeSQWRLResult(@NonNull SQWRLResultSnapshot snapshot, @NonNull Writer writer, boolean isTSV,
+    @NonNull BooleanSupplier isCancelled, @NonNull IntConsumer progressListener) throws IOException
+  {
+    String separator = isTSV ? "\t" : ", ";
+    int numberOfColumns = snapshot.getNumberOfColumns();
+    int numberOfRows = snapshot.getNumberOfRows();
+
+    for (int column = 0; column < numberOfColumns; column++) {
+      if (column != 0)
+        writer.write(separator);
+      writer.write(renderCell(snapshot.getColumnName(column), isTSV));
+    }
+    writer.write("\n");
+
+    for (int row = 0; row < numberOfRows; row++) {
+      if (isCancelled.getAsBoolean())
+        return row;
+
+      for (int column = 0; column < numberOfColumns; column++) {
+        SQWRLResultValue value = snapshot.getValue(column, row);
+        if (column != 0)
+          writer.write(separator);
+        if (!isTSV && value instanceof SQWRLLiteralResultValue && ((SQWRLLiteralResultValue)value).isQuotableType())
+          writer.write("\"" + value + "\"");
+        else
+          writer.write(renderCell("" + value, isTSV));
+      }
+      writer.write("\n");
+
+      if (row % EXPORT_PROGRESS_INTERVAL == 0)
+        progressListener.accept((int)(100L * row / numberOfRows));
+    }
+    return numberOfRows;
+  }
+
+  @NonNull private static String renderCell(@NonNull String cell, boolean isTSV)
+  {
+    return isTSV ? cell.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ') : cell;
+  }
+
+  /**
+   * The column names and values of a result, copied on the event dispatch thread so that they can be read on another
+   * thread while the query is rerun. Values are copied by reference.
+   */
+  static class SQWRLResultSnapshot
+  {
+    @NonNull private final String[] columnNames;
+    @NonNull private final SQWRLResultValue[][] rows;
+
+    public SQWRLResultSnapshot(@NonNull SQWRLResult result) throws SQWRLException
+    {
+      int numberOfColumns = result.getNumberOfColumns();
+      int numberOfRows = result.getNumberOfRows();
+
+      this.columnNames = new String[numberOfColumns];
+      for (int column = 0; column < numberOfColumns; column++)
+        this.columnNames[column] = result.getColumnName(column);
+
+      this.rows = new SQWRLResultValue[numberOfRows][numberOfColumns];
+      for (int row = 0; row < numberOfRows; row++) // Rows are read by index so the result's cursor is not moved
+        for (int column = 0; column < numberOfColumns; column++)
+          this.rows[row][column] = result.getValue(column, row);
+    }
+
+    public int getNumberOfColumns()
+    {
+      return this.columnNames.length;
+    }
+
+    public int getNumberOfRows()
+    {
+      return this.rows.length;
+    }
+
+    @NonNull public String getColumnName(int column)
+    {
+      return this.columnNames[column];
+    }
+
+    public SQWRLResultValue getValue(int column, int row)
+    {
+      return this.rows[row][column];
+    }
+  }
+
   @NonNull private JButton createButton(@NonNull String text, @NonNull String toolTipText,
     @NonNull ActionListener listener)
   {
@@ -214,6 +358,14 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
   {
     private static final long serialVersionUID = 1L;
 
+    // Rendered cells of recently displayed pages of rows, keyed by page number
+    @NonNull private transient volatile Cache<@NonNull Integer, @NonNull Object[][]> pages = createPageCache();
+
+    public void invalidatePages()
+    {
+      this.pages = createPageCache();
+    }
+
     @Override public int getRowCount()
     {
       try {
@@ -244,6 +396,43 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
     }
 
     @NonNull @Override public Object getValueAt(int row, int column)
+    {
+      Object[][] page = getPage(row / RESULT_PAGE_SIZE);
+      int pageRow = row % RESULT_PAGE_SIZE;
+
+      if (pageRow < page.length && column >= 0 && column < page[pageRow].length)
+        return page[pageRow][column];
+      else
+        return "INVALID";
+    }
+
+    @NonNull private Object[][] getPage(int pageNumber)
+    {
+      Cache<@NonNull Integer, @NonNull Object[][]> currentPages = this.pages;
+      @Nullable Object[][] page = currentPages.getIfPresent(pageNumber);
+
+      if (page == null) {
+        page = renderPage(pageNumber);
+        currentPages.put(pageNumber, page);
+      }
+      return page;
+    }
+
+    @NonNull private Object[][] renderPage(int pageNumber)
+    {
+      int firstRow = pageNumber * RESULT_PAGE_SIZE;
+      int numberOfRows = Math.max(0, Math.min(RESULT_PAGE_SIZE, getRowCount() - firstRow));
+      int numberOfColumns = getColumnCount();
+      Object[][] page = new Object[numberOfRows][numberOfColumns];
+
+      for (int pageRow = 0; pageRow < numberOfRows; pageRow++)
+        for (int column = 0; column < numberOfColumns; column++)
+          page[pageRow][column] = renderValue(firstRow + pageRow, column);
+
+      return page;
+    }
+
+    @NonNull private Object renderValue(int row, int column)
     {
       try {
         SQWRLResultValue sqwrlResultValue = (SQWRLResultView.this.sqwrlResult == null) ?
@@ -267,4 +456,9 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
       }
     }
   }
+
+  @NonNull private static Cache<@NonNull Integer, @NonNull Object[][]> createPageCache()
+  {
+    return CacheBuilder.newBuilder().maximumSize(MAXIMUM_NUMBER_OF_CACHED_RESULT_PAGES).build();
+  }
 }
@@ -26,6 +26,7 @@ public class SWRLRuleExecutionView extends JTabbedPane implements SWRLAPIView
     ImportedSWRLRulesView importedSWRLRulesView = new ImportedSWRLRulesView(this.swrlRuleEngineModel);
     AssertedOWLAxiomsView assertedOWLAxiomsView = new AssertedOWLAxiomsView(this.swrlRuleEngineModel);
     InferredOWLAxiomsView inferredOWLAxiomsView = new InferredOWLAxiomsView(this.swrlRuleEngineModel);
+    SWRLRuleStatisticsView ruleStatisticsView = new SWRLRuleStatisticsView(this.swrlRuleEngineModel);
 
     ruleTablesView.initialize();
 
@@ -33,6 +34,7 @@ public class SWRLRuleExecutionView extends JTabbedPane implements SWRLAPIView
     importedSWRLRulesView.initialize();
     assertedOWLAxiomsView.initialize();
     inferredOWLAxiomsView.initialize();
+    ruleStatisticsView.initialize();
 
     addTab("Control", null, swrlRulesControlView, "Control Tab");
 
@@ -42,6 +44,8 @@ public class SWRLRuleExecutionView extends JTabbedPane implements SWRLAPIView
 
     addTab("Inferred Axioms", null, inferredOWLAxiomsView, "Inferred OWL Axioms Tab");
 
+    addTab("Rule Statistics", null, ruleStatisticsView, "SWRL Rule Statistics Tab");
+
     addTab("OWL 2 RL", null, ruleTablesView, "OWL 2 RL Tab");
   }
 
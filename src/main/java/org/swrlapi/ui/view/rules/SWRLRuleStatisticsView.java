@@ -0,0 +1,142 @@
+package org.swrlapi.ui.view.rules;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.swrlapi.core.SWRLRuleEngine;
+import org.swrlapi.core.SWRLRuleStatistics;
+import org.swrlapi.ui.model.SWRLRuleEngineModel;
+import org.swrlapi.ui.view.SWRLAPIView;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shows the SWRL built-in invocations made by each rule during the last rule engine run and the time spent in them.
+ * Rows are initially ordered with the rules that spent most time in built-ins first and can be sorted by any column.
+ *
+ * @see org.swrlapi.core.SWRLRuleStatistics
+ */
+public class SWRLRuleStatisticsView extends JPanel implements SWRLAPIView
+{
+  private static final long serialVersionUID = 1L;
+
+  private static final int RULE_NAME_COLUMN = 0;
+  private static final int BUILT_IN_INVOCATIONS_COLUMN = 1;
+  private static final int BUILT_IN_TIME_COLUMN = 2;
+  private static final int NUMBER_OF_COLUMNS = 3;
+
+  private static final double NANOS_PER_MILLISECOND = 1000000.0;
+
+  @NonNull private final SWRLRuleEngineModel ruleEngineModel;
+  @NonNull private final RuleStatisticsTableModel ruleStatisticsTableModel;
+
+  public SWRLRuleStatisticsView(@NonNull SWRLRuleEngineModel ruleEngineModel)
+  {
+    this.ruleEngineModel = ruleEngineModel;
+    this.ruleStatisticsTableModel = new RuleStatisticsTableModel();
+  }
+
+  @Override public void initialize()
+  {
+    JTable ruleStatisticsTable = new JTable(this.ruleStatisticsTableModel);
+    ruleStatisticsTable.setAutoCreateRowSorter(true);
+    JScrollPane scrollPane = new JScrollPane(ruleStatisticsTable);
+    JViewport viewPort = scrollPane.getViewport();
+    setLayout(new BorderLayout());
+    viewPort.setBackground(ruleStatisticsTable.getBackground());
+    add(BorderLayout.CENTER, scrollPane);
+  }
+
+  @Override
+  public void validate()
+  {
+    this.ruleStatisticsTableModel.refresh();
+    super.validate();
+  }
+
+  @Override
+  public void update()
+  {
+    validate();
+  }
+
+  @NonNull private SWRLRuleEngine getSWRLRuleEngine()
+  {
+    return this.ruleEngineModel.getSWRLRuleEngine();
+  }
+
+  private class RuleStatisticsTableModel extends AbstractTableModel
+  {
+    private static final long serialVersionUID = 1L;
+
+    @NonNull private List<@NonNull SWRLRuleStatistics> ruleStatistics = Collections.emptyList();
+
+    public void refresh()
+    {
+      this.ruleStatistics = SWRLRuleStatisticsView.this.getSWRLRuleEngine().getSWRLRuleStatistics();
+      fireTableDataChanged();
+    }
+
+    @Override
+    public int getRowCount()
+    {
+      return this.ruleStatistics.size();
+    }
+
+    @Override
+    public int getColumnCount()
+    {
+      return NUMBER_OF_COLUMNS;
+    }
+
+    @NonNull @Override
+    public String getColumnName(int column)
+    {
+      switch (column) {
+      case RULE_NAME_COLUMN:
+        return "Rule";
+      case BUILT_IN_INVOCATIONS_COLUMN:
+        return "Built-in Invocations";
+      case BUILT_IN_TIME_COLUMN:
+        return "Built-in Time (ms)";
+      default:
+        return "";
+      }
+    }
+
+    @NonNull @Override
+    public Class<?> getColumnClass(int column)
+    {
+      switch (column) {
+      case RULE_NAME_COLUMN:
+        return String.class;
+      case BUILT_IN_TIME_COLUMN:
+        return Double.class;
+      default:
+        return Long.class;
+      }
+    }
+
+    @Override
+    public Object getValueAt(int row, int column)
+    {
+      if (row < 0 || row >= getRowCount())
+        return "OUT OF BOUNDS";
+
+      SWRLRuleStatistics statistics = this.ruleStatistics.get(row);
+
+      switch (column) {
+      case RULE_NAME_COLUMN:
+        return statistics.getRuleName();
+      case BUILT_IN_INVOCATIONS_COLUMN:
+        return statistics.getNumberOfSWRLBuiltInInvocations();
+      case BUILT_IN_TIME_COLUMN:
+        return statistics.getSWRLBuiltInTimeNanos() / NANOS_PER_MILLISECOND;
+      default:
+        return "OUT OF BOUNDS";
+      }
+    }
+  }
+}
@@ -189,6 +189,7 @@ public class SWRLRulesControlView extends JPanel implements SWRLAPIView
             "Number of axioms injected by built-ins: " + getSWRLRuleEngine().getNumberOfInjectedOWLAxioms() + "\n");
         appendToConsole("The process took " + (System.currentTimeMillis() - startTime) + " millisecond(s).\n");
         appendToConsole("Look at the 'Inferred Axioms' tab to see the inferred axioms.\n");
+        appendToConsole("Look at the 'Rule Statistics' tab to see the built-in invocations and time of each rule.\n");
         appendToConsole("Press the '" + SWRLRulesControlView.this.getSWRLRuleEngine().getRuleEngineName()
           + "->OWL' button to translate the inferred axioms to OWL knowledge.\n");
       } catch (SWRLRuleEngineException e) {
@@ -0,0 +1,132 @@
+package org.swrlapi.builtins;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.bridge.SWRLBridge;
+import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
+import org.swrlapi.exceptions.SWRLBuiltInBridgeException;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.factory.SWRLBuiltInArgumentFactory;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @see SWRLBuiltInInvocationPattern
+ */
+public class SWRLBuiltInInvocationPatternTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+
+  private OWLDataFactory dataFactory;
+  private SWRLBridge bridge;
+  private SWRLBuiltInArgumentFactory argumentFactory;
+  private SWRLBuiltInLibrary library;
+
+  @Before public void setUp() throws OWLOntologyCreationException, SQWRLException, SWRLBuiltInBridgeException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+
+    this.dataFactory = ontology.getOWLOntologyManager().getOWLDataFactory();
+    this.bridge = SWRLAPIFactory.createSWRLBridge(SWRLAPIFactory.createSWRLAPIOntology(ontology),
+      SWRLAPIFactory.createOWL2RLPersistenceLayer(ontology));
+    this.argumentFactory = bridge.getSWRLBuiltInArgumentFactory();
+    this.library = new org.swrlapi.builtins.swrlb.SWRLBuiltInLibraryImpl();
+  }
+
+  @Test public void testEqualInvocationsHaveEqualPatterns() throws SWRLBuiltInException
+  {
+    SWRLBuiltInInvocationPattern pattern = pattern("r1", 0, false, individual("fred"), literal(3));
+
+    assertEquals(pattern, pattern("r1", 0, false, individual("fred"), literal(3)));
+    assertEquals(pattern.hashCode(), pattern("r1", 0, false, individual("fred"), literal(3)).hashCode());
+    assertEquals("r1", pattern.getRuleName());
+    assertEquals(0, pattern.getBuiltInIndex());
+    assertEquals(2, pattern.getNumberOfArguments());
+  }
+
+  @Test public void testPatternsDifferByPosition() throws SWRLBuiltInException
+  {
+    SWRLBuiltInInvocationPattern pattern = pattern("r1", 0, false, literal(3));
+
+    assertNotEquals(pattern, pattern("r2", 0, false, literal(3)));
+    assertNotEquals(pattern, pattern("r1", 1, false, literal(3)));
+    assertNotEquals(pattern, pattern("r1", 0, true, literal(3)));
+  }
+
+  @Test public void testPatternsDifferByArguments() throws SWRLBuiltInException
+  {
+    SWRLBuiltInInvocationPattern pattern = pattern("r1", 0, false, literal(3));
+
+    assertNotEquals(pattern, pattern("r1", 0, false, literal(4)));
+    assertNotEquals(pattern, pattern("r1", 0, false, argumentFactory.getLiteralBuiltInArgument("3")));
+    assertNotEquals(pattern, pattern("r1", 0, false, literal(3), literal(3)));
+    assertNotEquals(pattern("r1", 0, false, individual("fred"), individual("joe")),
+      pattern("r1", 0, false, individual("joe"), individual("fred")));
+  }
+
+  @Test public void testPatternsDifferByBridge()
+    throws SWRLBuiltInException, OWLOntologyCreationException, SQWRLException, SWRLBuiltInBridgeException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLBridge otherBridge = SWRLAPIFactory.createSWRLBridge(SWRLAPIFactory.createSWRLAPIOntology(ontology),
+      SWRLAPIFactory.createOWL2RLPersistenceLayer(ontology));
+    List<SWRLBuiltInArgument> arguments = Arrays.asList(literal(3));
+
+    assertNotEquals(library.getInvocationPattern(bridge, "r1", 0, false, arguments),
+      library.getInvocationPattern(otherBridge, "r1", 0, false, arguments));
+  }
+
+  @Test public void testUnboundArgumentsAreRejected()
+  {
+    try {
+      pattern("r1", 0, false, argumentFactory.getUnboundVariableBuiltInArgument(IRI.create(NAMESPACE + "x")));
+      fail("Expecting an unbound argument to be rejected");
+    } catch (SWRLBuiltInException e) {
+      // Expected
+    }
+  }
+
+  @Test public void testCreateInvocationPatternNumbersDistinctPatterns()
+    throws SWRLBuiltInException, SWRLBuiltInBridgeException
+  {
+    String first = library.createInvocationPattern(bridge, "r1", 0, false, Arrays.asList(literal(3)));
+    String second = library.createInvocationPattern(bridge, "r1", 0, false, Arrays.asList(literal(4)));
+
+    assertEquals("0", first);
+    assertEquals("1", second);
+    assertEquals(first, library.createInvocationPattern(bridge, "r1", 0, false, Arrays.asList(literal(3))));
+
+    library.invokeResetMethod(bridge);
+
+    assertEquals("0", library.createInvocationPattern(bridge, "r1", 0, false, Arrays.asList(literal(4))));
+  }
+
+  private SWRLBuiltInInvocationPattern pattern(String ruleName, int builtInIndex, boolean inConsequent,
+    SWRLBuiltInArgument... arguments) throws SWRLBuiltInException
+  {
+    return library.getInvocationPattern(bridge, ruleName, builtInIndex, inConsequent, Arrays.asList(arguments));
+  }
+
+  private SWRLBuiltInArgument individual(String name)
+  {
+    return argumentFactory
+      .getNamedIndividualBuiltInArgument(dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + name)));
+  }
+
+  private SWRLBuiltInArgument literal(int value)
+  {
+    return argumentFactory.getLiteralBuiltInArgument(value);
+  }
+}
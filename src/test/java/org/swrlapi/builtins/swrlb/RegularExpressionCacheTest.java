@@ -0,0 +1,68 @@
+package org.swrlapi.builtins.swrlb;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * @see RegularExpressionCache
+ */
+public class RegularExpressionCacheTest
+{
+  private RegularExpressionCache cache;
+
+  @Before public void setUp()
+  {
+    this.cache = new RegularExpressionCache();
+  }
+
+  @Test public void testPatternsAreReused()
+  {
+    Pattern pattern = cache.getPattern("a+b", 0);
+
+    assertSame(pattern, cache.getPattern("a+b", 0));
+    assertEquals("a+b", pattern.pattern());
+  }
+
+  @Test public void testPatternsAreKeyedByFlags()
+  {
+    Pattern pattern = cache.getPattern("a+b", 0);
+    Pattern caseInsensitivePattern = cache.getPattern("a+b", Pattern.CASE_INSENSITIVE);
+
+    assertNotSame(pattern, caseInsensitivePattern);
+    assertEquals(Pattern.CASE_INSENSITIVE, caseInsensitivePattern.flags());
+    assertSame(caseInsensitivePattern, cache.getPattern("a+b", Pattern.CASE_INSENSITIVE));
+  }
+
+  @Test public void testInvalidPatternsAreNotCached()
+  {
+    for (int attempt = 0; attempt < 2; attempt++) {
+      try {
+        cache.getPattern("a(b", 0);
+        fail("Expecting a syntax error");
+      } catch (PatternSyntaxException e) {
+        // Expected
+      }
+    }
+  }
+
+  @Test public void testXPathFlags()
+  {
+    assertEquals(0, RegularExpressionCache.xpathFlags2PatternFlags(""));
+    assertEquals(Pattern.DOTALL, RegularExpressionCache.xpathFlags2PatternFlags("s"));
+    assertEquals(Pattern.MULTILINE | Pattern.COMMENTS, RegularExpressionCache.xpathFlags2PatternFlags("mx"));
+    assertEquals(Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE, RegularExpressionCache.xpathFlags2PatternFlags("i"));
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testUnknownXPathFlag()
+  {
+    RegularExpressionCache.xpathFlags2PatternFlags("iq");
+  }
+}
@@ -0,0 +1,265 @@
+package org.swrlapi.builtins.swrlb;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.vocab.XSDVocabulary;
+import org.swrlapi.bridge.SWRLBridge;
+import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.exceptions.InvalidSWRLBuiltInArgumentException;
+import org.swrlapi.exceptions.SWRLBuiltInBridgeException;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.factory.SWRLBuiltInArgumentFactory;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see org.swrlapi.builtins.swrlb.SWRLBuiltInLibraryImpl
+ */
+public class SWRLBuiltInLibraryImplTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+
+  private SWRLBridge bridge;
+  private SWRLBuiltInArgumentFactory argumentFactory;
+
+  @Before public void setUp() throws OWLOntologyCreationException, SQWRLException, SWRLBuiltInBridgeException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+
+    this.bridge = SWRLAPIFactory
+      .createSWRLBridge(swrlapiOWLOntology, SWRLAPIFactory.createOWL2RLPersistenceLayer(ontology));
+    this.argumentFactory = bridge.getSWRLBuiltInArgumentFactory();
+  }
+
+  @Test public void testAddKeepsNarrowestType() throws SWRLBuiltInException
+  {
+    assertLiteral(XSDVocabulary.BYTE, "3", invoke("add", literal((byte)1), literal((byte)2)));
+    assertLiteral(XSDVocabulary.SHORT, "200", invoke("add", literal((byte)100), literal((byte)100)));
+    assertLiteral(XSDVocabulary.INT, "60000", invoke("add", literal((short)30000), literal((short)30000)));
+    assertLiteral(XSDVocabulary.LONG, "5", invoke("add", literal(2), literal(3L)));
+    assertLiteral(XSDVocabulary.INTEGER, "5", invoke("add", literal(BigInteger.valueOf(2)), literal(3)));
+    assertLiteral(XSDVocabulary.DECIMAL, "3.75",
+      invoke("add", literal(new BigDecimal("1.5")), literal(new BigDecimal("2.25"))));
+    assertLiteral(XSDVocabulary.FLOAT, "3.5", invoke("add", literal(1.5f), literal(2)));
+    assertLiteral(XSDVocabulary.DOUBLE, "3.5", invoke("add", literal(1.5f), literal(2.0)));
+  }
+
+  @Test public void testArithmeticOnEachType() throws SWRLBuiltInException
+  {
+    assertLiteral(XSDVocabulary.INT, "-1", invoke("subtract", literal(2), literal(3)));
+    assertLiteral(XSDVocabulary.INTEGER, "6", invoke("multiply", literal(BigInteger.valueOf(2)), literal(3)));
+    assertLiteral(XSDVocabulary.DECIMAL, "0.75",
+      invoke("multiply", literal(new BigDecimal("1.5")), literal(new BigDecimal("0.5"))));
+    assertLiteral(XSDVocabulary.FLOAT, "-0.5", invoke("subtract", literal(1.0f), literal(1.5f)));
+    assertLiteral(XSDVocabulary.DOUBLE, "6.25", invoke("multiply", literal(2.5), literal(2.5)));
+    assertLiteral(XSDVocabulary.INT, "-1", invoke("mod", literal(-7), literal(2)));
+    assertLiteral(XSDVocabulary.DECIMAL, "1.5", invoke("mod", literal(new BigDecimal("7.5")), literal(2)));
+    assertLiteral(XSDVocabulary.DOUBLE, "-1.5", invoke("mod", literal(-7.5), literal(2.0)));
+  }
+
+  @Test public void testLongOverflowPromotesToInteger() throws SWRLBuiltInException
+  {
+    String twoToThe63 = "9223372036854775808";
+
+    assertLiteral(XSDVocabulary.INTEGER, twoToThe63, invoke("add", literal(Long.MAX_VALUE), literal(1)));
+    assertLiteral(XSDVocabulary.INTEGER, "-" + twoToThe63 + "0",
+      invoke("multiply", literal(Long.MIN_VALUE), literal(10)));
+    assertLiteral(XSDVocabulary.INTEGER, twoToThe63, invoke("integerDivide", literal(Long.MIN_VALUE), literal(-1)));
+    assertLiteral(XSDVocabulary.INTEGER, twoToThe63, invoke("unaryMinus", literal(Long.MIN_VALUE)));
+    assertLiteral(XSDVocabulary.INTEGER, twoToThe63, invoke("abs", literal(Long.MIN_VALUE)));
+  }
+
+  @Test public void testDivide() throws SWRLBuiltInException
+  {
+    assertLiteral(XSDVocabulary.DECIMAL, "0.25", invoke("divide", literal(1), literal(4)));
+    assertLiteral(XSDVocabulary.DECIMAL, "2",
+      invoke("divide", literal(new BigDecimal("5.0")), literal(new BigDecimal("2.5"))));
+    assertLiteral(XSDVocabulary.FLOAT, "0.25", invoke("divide", literal(1.0f), literal(4)));
+    assertLiteral(XSDVocabulary.DOUBLE, "0.25", invoke("divide", literal(1.0), literal(4)));
+    assertEquals(Double.POSITIVE_INFINITY,
+      Double.parseDouble(invoke("divide", literal(1.0), literal(0)).getLiteral()), 0.0);
+  }
+
+  @Test public void testIntegerDivide() throws SWRLBuiltInException
+  {
+    assertLiteral(XSDVocabulary.INT, "-3", invoke("integerDivide", literal(7), literal(-2)));
+    assertLiteral(XSDVocabulary.INTEGER, "3", invoke("integerDivide", literal(BigInteger.valueOf(7)), literal(2)));
+    assertLiteral(XSDVocabulary.INTEGER, "-3", invoke("integerDivide", literal(new BigDecimal("-7.5")), literal(2)));
+    assertLiteral(XSDVocabulary.INTEGER, "3", invoke("integerDivide", literal(7.5), literal(2.0f)));
+  }
+
+  @Test public void testDivisionByZero() throws SWRLBuiltInException
+  {
+    assertDivisionByZero("divide", literal(1), literal(0));
+    assertDivisionByZero("divide", literal(new BigDecimal("1.5")), literal(new BigDecimal("0.0")));
+    assertDivisionByZero("integerDivide", literal(1L), literal(0));
+    assertDivisionByZero("integerDivide", literal(1.0), literal(0.0));
+    assertDivisionByZero("mod", literal(BigInteger.ONE), literal(0));
+  }
+
+  @Test public void testRound() throws SWRLBuiltInException
+  {
+    assertLiteral(XSDVocabulary.DOUBLE, "3", invoke("round", literal(2.5)));
+    assertLiteral(XSDVocabulary.DOUBLE, "-2", invoke("round", literal(-2.5)));
+    assertLiteral(XSDVocabulary.DOUBLE, "-3", invoke("round", literal(-2.5000000000000004)));
+    assertLiteral(XSDVocabulary.DOUBLE, "0", invoke("round", literal(0.49999999999999994)));
+    assertLiteral(XSDVocabulary.DOUBLE, "1", invoke("round", literal(0.5)));
+    assertLiteral(XSDVocabulary.DOUBLE, "4503599627370497", invoke("round", literal(4503599627370497.0)));
+    assertLiteral(XSDVocabulary.FLOAT, "-1", invoke("round", literal(-1.5f)));
+    assertLiteral(XSDVocabulary.FLOAT, "0", invoke("round", literal(0.49999997f)));
+    assertLiteral(XSDVocabulary.DECIMAL, "3", invoke("round", literal(new BigDecimal("2.5"))));
+    assertLiteral(XSDVocabulary.DECIMAL, "-2", invoke("round", literal(new BigDecimal("-2.5"))));
+    assertLiteral(XSDVocabulary.DECIMAL, "-3", invoke("round", literal(new BigDecimal("-2.51"))));
+    assertLiteral(XSDVocabulary.INT, "7", invoke("round", literal(7)));
+
+    double negativeZero = Double.parseDouble(invoke("round", literal(-0.5)).getLiteral());
+    assertTrue(negativeZero == 0.0 && 1 / negativeZero < 0);
+  }
+
+  @Test public void testRoundHalfToEven() throws SWRLBuiltInException
+  {
+    assertLiteral(XSDVocabulary.DOUBLE, "2", invoke("roundHalfToEven", literal(2.5)));
+    assertLiteral(XSDVocabulary.DOUBLE, "-2", invoke("roundHalfToEven", literal(-2.5)));
+    assertLiteral(XSDVocabulary.DECIMAL, "4", invoke("roundHalfToEven", literal(new BigDecimal("3.5"))));
+  }
+
+  @Test public void testBoundFirstArgument() throws SWRLBuiltInException
+  {
+    assertEquals(1, bridge.invokeSWRLBuiltIn("r1", "swrlb:add", 0, false,
+      Arrays.asList(literal(new BigDecimal("5.0")), literal(2), literal(3L))).size());
+    assertEquals(0, bridge.invokeSWRLBuiltIn("r1", "swrlb:add", 0, false,
+      Arrays.asList(literal(6), literal(2), literal(3L))).size());
+  }
+
+  @Test public void testMatches() throws SWRLBuiltInException
+  {
+    assertEquals(1, invokeBoolean("matches", literal("Fred"), literal("F.*d")));
+    assertEquals(0, invokeBoolean("matches", literal("fred"), literal("F.*d")));
+    assertEquals(1, invokeBoolean("matches", literal("fred"), literal("F.*d"), literal("i")));
+    assertEquals(0, invokeBoolean("matches", literal("fred"), literal("F.*d"))); // Cached without the flag
+  }
+
+  @Test public void testReplace() throws SWRLBuiltInException
+  {
+    assertEquals("x-x", invoke("replace", literal("a-A"), literal("a"), literal("x"), literal("i")).getLiteral());
+    assertEquals("x-A", invoke("replace", literal("a-A"), literal("a"), literal("x")).getLiteral());
+  }
+
+  @Test public void testInvalidRegularExpression()
+  {
+    assertInvalidArgument("matches", literal("Fred"), literal("F(d"));
+    assertInvalidArgument("matches", literal("Fred"), literal("F.*d"), literal("q"));
+  }
+
+  private int invokeBoolean(String builtInName, SWRLBuiltInArgument... arguments) throws SWRLBuiltInException
+  {
+    return bridge.invokeSWRLBuiltIn("r1", "swrlb:" + builtInName, 0, false, Arrays.asList(arguments)).size();
+  }
+
+  private void assertInvalidArgument(String builtInName, SWRLBuiltInArgument... arguments)
+  {
+    try {
+      invokeBoolean(builtInName, arguments);
+      fail(builtInName + " did not reject an invalid argument");
+    } catch (SWRLBuiltInException e) {
+      assertTrue(e.getCause() instanceof InvalidSWRLBuiltInArgumentException);
+    }
+  }
+
+  /**
+   * Invoke a swrlb built-in with an unbound first argument and return the literal bound to it
+   */
+  private OWLLiteral invoke(String builtInName, SWRLBuiltInArgument... operands) throws SWRLBuiltInException
+  {
+    List<SWRLBuiltInArgument> arguments = new ArrayList<>();
+
+    arguments.add(argumentFactory.getUnboundVariableBuiltInArgument(IRI.create(NAMESPACE + "result")));
+    arguments.addAll(Arrays.asList(operands));
+
+    List<List<SWRLBuiltInArgument>> argumentPatterns = bridge
+      .invokeSWRLBuiltIn("r1", "swrlb:" + builtInName, 0, false, arguments);
+
+    assertEquals(1, argumentPatterns.size());
+
+    return argumentPatterns.get(0).get(0).asSWRLLiteralBuiltInArgument().getLiteral();
+  }
+
+  private void assertDivisionByZero(String builtInName, SWRLBuiltInArgument... operands)
+  {
+    try {
+      invoke(builtInName, operands);
+      fail(builtInName + " did not reject a zero divisor");
+    } catch (SWRLBuiltInException e) {
+      assertTrue(e.getCause() instanceof InvalidSWRLBuiltInArgumentException);
+    }
+  }
+
+  private static void assertLiteral(XSDVocabulary expectedType, String expectedValue, OWLLiteral literal)
+  {
+    assertEquals(expectedType.getIRI(), literal.getDatatype().getIRI());
+    assertEquals(literal.getLiteral(), 0,
+      new BigDecimal(expectedValue).compareTo(new BigDecimal(literal.getLiteral())));
+  }
+
+  private SWRLBuiltInArgument literal(String value)
+  {
+    return argumentFactory.getLiteralBuiltInArgument(value);
+  }
+
+  private SWRLBuiltInArgument literal(byte value)
+  {
+    return argumentFactory.getLiteralBuiltInArgument(value);
+  }
+
+  private SWRLBuiltInArgument literal(short value)
+  {
+    return argumentFactory.getLiteralBuiltInArgument(value);
+  }
+
+  private SWRLBuiltInArgument literal(int value)
+  {
+    return argumentFactory.getLiteralBuiltInArgument(value);
+  }
+
+  private SWRLBuiltInArgument literal(long value)
+  {
+    return argumentFactory.getLiteralBuiltInArgument(value);
+  }
+
+  private SWRLBuiltInArgument literal(float value)
+  {
+    return argumentFactory.getLiteralBuiltInArgument(value);
+  }
+
+  private SWRLBuiltInArgument literal(double value)
+  {
+    return argumentFactory.getLiteralBuiltInArgument(value);
+  }
+
+  private SWRLBuiltInArgument literal(BigInteger value)
+  {
+    return argumentFactory.getLiteralBuiltInArgument(value);
+  }
+
+  private SWRLBuiltInArgument literal(BigDecimal value)
+  {
+    return argumentFactory.getLiteralBuiltInArgument(value);
+  }
+}
@@ -0,0 +1,80 @@
+package org.swrlapi.builtins.swrlm;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.nfunk.jep.ParseException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * @see ExpressionEvaluator
+ */
+public class ExpressionEvaluatorTest
+{
+  private static final double DELTA = 1e-9;
+
+  private ExpressionEvaluator evaluator;
+
+  @Before public void setUp()
+  {
+    this.evaluator = new ExpressionEvaluator();
+  }
+
+  @Test public void testEvaluate() throws ParseException
+  {
+    assertEquals(7.0, evaluator.evaluate("1 + 2 * 3", Collections.emptyList(), new double[0]), DELTA);
+    assertEquals(1.0, evaluator.evaluate("sin(pi / 2)", Collections.emptyList(), new double[0]), DELTA);
+  }
+
+  @Test public void testCachedExpressionsAreRebound() throws ParseException
+  {
+    assertEquals(3.0, evaluator.evaluate("x - y", Arrays.asList("x", "y"), new double[] { 5, 2 }), DELTA);
+    assertEquals(-1.0, evaluator.evaluate("x - y", Arrays.asList("x", "y"), new double[] { 1, 2 }), DELTA);
+    assertEquals(10.0, evaluator.evaluate("2x", Collections.singletonList("x"), new double[] { 5 }), DELTA);
+  }
+
+  @Test public void testExpressionsAreKeyedByVariableNames() throws ParseException
+  {
+    assertEquals(3.0, evaluator.evaluate("x - y", Arrays.asList("x", "y"), new double[] { 5, 2 }), DELTA);
+    assertEquals(-3.0, evaluator.evaluate("x - y", Arrays.asList("y", "x"), new double[] { 5, 2 }), DELTA);
+  }
+
+  @Test public void testInvalidExpression()
+  {
+    for (int attempt = 0; attempt < 2; attempt++) { // Failed parses are not cached
+      try {
+        evaluator.evaluate("x +", Collections.singletonList("x"), new double[] { 1 });
+        fail("Expecting a parse exception");
+      } catch (ParseException e) {
+        // Expected
+      }
+    }
+  }
+
+  @Test public void testLibraryHasAnEvaluatorPerThread() throws InterruptedException, ExecutionException
+  {
+    SWRLBuiltInLibraryImpl library = new SWRLBuiltInLibraryImpl();
+    ExpressionEvaluator expressionEvaluator = library.getExpressionEvaluator();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try {
+      assertSame(expressionEvaluator, library.getExpressionEvaluator());
+      assertNotSame(expressionEvaluator, executor.submit(library::getExpressionEvaluator).get());
+    } finally {
+      executor.shutdown();
+    }
+
+    library.reset();
+
+    assertNotSame(expressionEvaluator, library.getExpressionEvaluator());
+  }
+}
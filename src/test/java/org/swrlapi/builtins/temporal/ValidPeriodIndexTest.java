@@ -0,0 +1,201 @@
+package org.swrlapi.builtins.temporal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see ValidPeriodIndex
+ */
+public class ValidPeriodIndexTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+  private static final String TEMPORAL_NAMESPACE = "http://swrl.stanford.edu/ontologies/built-ins/3.3/temporal.owl#";
+
+  private static final List<String> RELATIONS = Arrays
+    .asList("equals", "before", "after", "meets", "metBy", "overlaps", "overlappedBy", "contains", "during", "starts",
+      "startedBy", "finishes", "finishedBy", "intersects");
+
+  private static final List<String> GRANULARITIES = Arrays
+    .asList("years", "months", "days", "hours", "minutes", "seconds", "milliseconds");
+
+  private OWLOntologyManager manager;
+  private OWLDataFactory dataFactory;
+  private OWLOntology ontology;
+
+  @Before public void setUp() throws OWLOntologyCreationException
+  {
+    this.manager = OWLManager.createOWLOntologyManager();
+    this.dataFactory = manager.getOWLDataFactory();
+    this.ontology = manager.createOntology();
+
+    addValidPeriod("a", "2000-01-01T01:00:00.000", "2000-01-01T01:59:59.999");
+    addValidPeriod("b", "2000-01-01T02:00:00.000", "2000-01-01T02:59:59.999"); // a meets b
+    addValidPeriod("c", "2000-01-01T01:59:59.999", "2000-01-01T03:00:00.000"); // Shares a's last granule
+    addValidPeriod("d", "2000-01-01T01:00:00.000", "2000-01-01T02:59:59.999"); // Started by a, finished by b
+    addValidPeriod("e", "2000-01-01T01:30:00.000", "2000-01-01T01:45:00.000"); // During a
+    addValidPeriod("f", "2000-01-01T01:00:00.000", "2000-01-01T01:59:59.999"); // Equals a
+    addValidPeriod("g", "2000-01-02T01:00:00.000", "2000-01-02T05:00:00.000"); // Next day
+    addValidPeriod("h", "1999-12-31T11:00:00.000", "2000-01-01T01:00:00.000"); // Spans the year boundary
+    addValidInstant("i", "2000-01-01T02:00:00.000"); // Starts b
+    addValidInstant("j", "2000-01-01T02:59:59.999"); // Finishes b
+    addExtendedProposition("x", "a");
+  }
+
+  @Test public void testIndexedIndividuals()
+  {
+    ValidPeriodIndex index = new ValidPeriodIndex(ontology);
+
+    assertEquals(11, index.size());
+    assertTrue(index.isIndexed(iri("x")));
+    assertEquals(iri("a"), index.getValidTime(iri("x")).get());
+    assertFalse(index.getValidTime(iri("a")).isPresent());
+  }
+
+  @Test public void testJoinEqualsPairwiseEvaluation() throws SWRLBuiltInException, TemporalException
+  {
+    ValidPeriodIndex index = new ValidPeriodIndex(ontology);
+
+    for (String granularity : GRANULARITIES) {
+      for (String relation : RELATIONS) {
+        List<Map.Entry<IRI, IRI>> joined = index.join(relation, granularity);
+        Set<Map.Entry<IRI, IRI>> expected = evaluatePairwise(index, relation,
+          Temporal.getIntegerGranularityRepresentation(granularity));
+
+        assertEquals(relation + " at " + granularity, expected, new HashSet<>(joined));
+        assertEquals(relation + " at " + granularity + " has duplicates", joined.size(), expected.size());
+      }
+    }
+  }
+
+  @Test public void testBoundaries() throws SWRLBuiltInException
+  {
+    ValidPeriodIndex index = new ValidPeriodIndex(ontology);
+
+    assertTrue(index.join("meets", "milliseconds").contains(pair("a", "b")));
+    assertTrue(index.join("meets", "hours").contains(pair("a", "b")));
+    assertFalse(index.join("meets", "days").contains(pair("a", "b")));
+    assertTrue(index.join("overlaps").contains(pair("a", "c")));
+    assertFalse(index.join("intersects").contains(pair("a", "c")));
+    assertTrue(index.join("intersects", "days").contains(pair("a", "b")));
+    assertTrue(index.join("temporal:equals").contains(pair("a", "f")));
+    assertTrue(index.join("starts").contains(pair("i", "b")));
+    assertTrue(index.join("after", "days").contains(pair("g", "a")));
+    assertFalse(index.join("after", "years").contains(pair("g", "a")));
+  }
+
+  @Test(expected = SWRLBuiltInException.class) public void testUnsupportedRelation() throws SWRLBuiltInException
+  {
+    new ValidPeriodIndex(ontology).join("duration");
+  }
+
+  private Set<Map.Entry<IRI, IRI>> evaluatePairwise(ValidPeriodIndex index, String relation, int granularity)
+    throws TemporalException
+  {
+    Set<Map.Entry<IRI, IRI>> result = new HashSet<>();
+
+    for (IRI first : index.getIndexedIndividuals()) {
+      for (IRI second : index.getIndexedIndividuals()) {
+        if (holds(relation, index.getPeriod(first).get(), index.getPeriod(second).get(), granularity))
+          result.add(new AbstractMap.SimpleImmutableEntry<>(first, second));
+      }
+    }
+    return result;
+  }
+
+  // The same dispatch as the temporal built-in library
+  private static boolean holds(String relation, Period p1, Period p2, int granularity) throws TemporalException
+  {
+    switch (relation) {
+    case "equals":
+      return p1.equals(p2, granularity);
+    case "before":
+      return p1.before(p2, granularity);
+    case "after":
+      return p1.after(p2, granularity);
+    case "meets":
+      return p1.meets(p2, granularity);
+    case "metBy":
+      return p1.met_by(p2, granularity);
+    case "overlaps":
+      return p1.overlaps(p2, granularity);
+    case "overlappedBy":
+      return p1.overlapped_by(p2, granularity);
+    case "contains":
+      return p1.contains(p2, granularity);
+    case "during":
+      return p1.during(p2, granularity);
+    case "starts":
+      return p1.starts(p2, granularity);
+    case "startedBy":
+      return p1.started_by(p2, granularity);
+    case "finishes":
+      return p1.finishes(p2, granularity);
+    case "finishedBy":
+      return p1.finished_by(p2, granularity);
+    case "intersects":
+      return p1.intersects(p2, granularity);
+    default:
+      throw new IllegalArgumentException(relation);
+    }
+  }
+
+  private void addValidPeriod(String name, String startTime, String finishTime)
+  {
+    OWLNamedIndividual period = dataFactory.getOWLNamedIndividual(iri(name));
+
+    manager.addAxiom(ontology, dataFactory
+      .getOWLDataPropertyAssertionAxiom(dataFactory.getOWLDataProperty(temporalIRI("hasStartTime")), period,
+        startTime));
+    manager.addAxiom(ontology, dataFactory
+      .getOWLDataPropertyAssertionAxiom(dataFactory.getOWLDataProperty(temporalIRI("hasFinishTime")), period,
+        finishTime));
+  }
+
+  private void addValidInstant(String name, String time)
+  {
+    manager.addAxiom(ontology, dataFactory
+      .getOWLDataPropertyAssertionAxiom(dataFactory.getOWLDataProperty(temporalIRI("hasTime")),
+        dataFactory.getOWLNamedIndividual(iri(name)), time));
+  }
+
+  private void addExtendedProposition(String name, String validTimeName)
+  {
+    manager.addAxiom(ontology, dataFactory
+      .getOWLObjectPropertyAssertionAxiom(dataFactory.getOWLObjectProperty(temporalIRI("hasValidTime")),
+        dataFactory.getOWLNamedIndividual(iri(name)), dataFactory.getOWLNamedIndividual(iri(validTimeName))));
+  }
+
+  private static Map.Entry<IRI, IRI> pair(String first, String second)
+  {
+    return new AbstractMap.SimpleImmutableEntry<>(iri(first), iri(second));
+  }
+
+  private static IRI iri(String name)
+  {
+    return IRI.create(NAMESPACE + name);
+  }
+
+  private static IRI temporalIRI(String name)
+  {
+    return IRI.create(TEMPORAL_NAMESPACE + name);
+  }
+}
@@ -0,0 +1,118 @@
+package org.swrlapi.factory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DefaultIRIResolver
+ */
+public class DefaultIRIResolverTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+
+  private static final IRI PERSON = IRI.create(NAMESPACE + "Person");
+
+  private IRIResolver iriResolver;
+
+  @Before public void setUp()
+  {
+    this.iriResolver = SWRLAPIFactory.createIRIResolver();
+  }
+
+  @Test public void testRenderingsAreCached()
+  {
+    String prefixedName = iriResolver.iri2PrefixedName(PERSON).get();
+    String shortForm = iriResolver.iri2ShortForm(PERSON).get();
+    long version = iriResolver.getPrefixMappingVersion();
+
+    assertSame(prefixedName, iriResolver.iri2PrefixedName(PERSON).get());
+    assertSame(shortForm, iriResolver.iri2ShortForm(PERSON).get());
+    assertEquals(version, iriResolver.getPrefixMappingVersion());
+  }
+
+  @Test public void testSetPrefixInvalidatesRenderings()
+  {
+    assertTrue(iriResolver.iri2PrefixedName(PERSON).get().startsWith("autogen"));
+    long version = iriResolver.getPrefixMappingVersion();
+
+    iriResolver.setPrefix("ex:", NAMESPACE);
+
+    assertNotEquals(version, iriResolver.getPrefixMappingVersion());
+    assertEquals("ex:Person", iriResolver.iri2PrefixedName(PERSON).get());
+    assertEquals(PERSON, iriResolver.prefixedName2IRI("ex:Person").get());
+  }
+
+  @Test public void testSettingAnExistingPrefixKeepsRenderings()
+  {
+    iriResolver.setPrefix("ex:", NAMESPACE);
+    String prefixedName = iriResolver.iri2PrefixedName(PERSON).get();
+    long version = iriResolver.getPrefixMappingVersion();
+
+    iriResolver.setPrefix("ex:", NAMESPACE);
+
+    assertEquals(version, iriResolver.getPrefixMappingVersion());
+    assertSame(prefixedName, iriResolver.iri2PrefixedName(PERSON).get());
+  }
+
+  @Test public void testUpdatingUnchangedPrefixesKeepsRenderings() throws OWLOntologyCreationException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+
+    iriResolver.updatePrefixes(ontology);
+    String prefixedName = iriResolver.iri2PrefixedName(PERSON).get();
+    long version = iriResolver.getPrefixMappingVersion();
+
+    iriResolver.updatePrefixes(ontology);
+
+    assertEquals(version, iriResolver.getPrefixMappingVersion());
+    assertSame(prefixedName, iriResolver.iri2PrefixedName(PERSON).get());
+  }
+
+  @Test public void testResetDiscardsAutogeneratedPrefixes()
+  {
+    long version = iriResolver.getPrefixMappingVersion();
+
+    iriResolver.reset(); // Nothing autogenerated yet
+    assertEquals(version, iriResolver.getPrefixMappingVersion());
+
+    assertEquals("autogen0:Person", iriResolver.iri2PrefixedName(PERSON).get());
+    assertEquals(PERSON, iriResolver.prefixedName2IRI("autogen0:Person").get());
+
+    iriResolver.reset();
+
+    assertNotEquals(version, iriResolver.getPrefixMappingVersion());
+    assertEquals("autogen0:Thing", iriResolver.iri2PrefixedName(IRI.create("http://example.com#Thing")).get());
+    assertEquals("autogen1:Person", iriResolver.iri2PrefixedName(PERSON).get());
+  }
+
+  @Test public void testProcessingKeepsAutogeneratedPrefixes() throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology = manager.createOntology();
+
+    manager.addAxiom(ontology,
+      manager.getOWLDataFactory().getOWLDeclarationAxiom(manager.getOWLDataFactory().getOWLClass(PERSON)));
+
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology, iriResolver);
+    String prefixedName = iriResolver.iri2PrefixedName(PERSON).get();
+    long version = iriResolver.getPrefixMappingVersion();
+
+    swrlapiOWLOntology.processOntology();
+
+    assertEquals(version, iriResolver.getPrefixMappingVersion());
+    assertSame(prefixedName, iriResolver.iri2PrefixedName(PERSON).get());
+  }
+}
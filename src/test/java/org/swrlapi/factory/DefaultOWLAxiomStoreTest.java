@@ -0,0 +1,277 @@
+package org.swrlapi.factory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.swrlapi.core.OWLAxiomStore;
+import org.swrlapi.core.OWLObjectDictionary;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DefaultOWLAxiomStore
+ */
+public class DefaultOWLAxiomStoreTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+
+  private OWLDataFactory dataFactory;
+  private OWLObjectDictionary dictionary;
+  private OWLAxiomStore store;
+
+  @Before public void setUp()
+  {
+    this.dataFactory = OWLManager.getOWLDataFactory();
+    this.dictionary = SWRLAPIFactory.createOWLObjectDictionary();
+    this.store = SWRLAPIFactory.createOWLAxiomStore(dictionary);
+  }
+
+  @Test public void testAddAndContainsEncodedAxioms()
+  {
+    OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+    OWLNamedIndividual i1 = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i1"));
+    OWLNamedIndividual i2 = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i2"));
+    OWLObjectProperty p = dataFactory.getOWLObjectProperty(IRI.create(NAMESPACE + "p"));
+    OWLDataProperty d = dataFactory.getOWLDataProperty(IRI.create(NAMESPACE + "d"));
+
+    OWLAxiom classAssertion = dataFactory.getOWLClassAssertionAxiom(c, i1);
+    OWLAxiom objectPropertyAssertion = dataFactory.getOWLObjectPropertyAssertionAxiom(p, i1, i2);
+    OWLAxiom dataPropertyAssertion = dataFactory.getOWLDataPropertyAssertionAxiom(d, i1, 23);
+
+    assertTrue(store.add(classAssertion));
+    assertTrue(store.add(objectPropertyAssertion));
+    assertTrue(store.add(dataPropertyAssertion));
+    assertFalse(store.add(dataFactory.getOWLClassAssertionAxiom(c, i1)));
+
+    assertEquals(3, store.size());
+    assertTrue(store.contains(dataFactory.getOWLObjectPropertyAssertionAxiom(p, i1, i2)));
+    assertFalse(store.contains(dataFactory.getOWLObjectPropertyAssertionAxiom(p, i2, i1)));
+    assertFalse(store.contains(dataFactory.getOWLDataPropertyAssertionAxiom(d, i1, 24)));
+    assertFalse(store.contains(dataFactory.getOWLDeclarationAxiom(c)));
+  }
+
+  @Test public void testUnorderedIndividualAxioms()
+  {
+    OWLNamedIndividual i1 = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i1"));
+    OWLNamedIndividual i2 = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i2"));
+
+    store.add(dataFactory.getOWLSameIndividualAxiom(i1, i2));
+
+    assertTrue(store.contains(dataFactory.getOWLSameIndividualAxiom(i2, i1)));
+    assertFalse(store.contains(dataFactory.getOWLDifferentIndividualsAxiom(i2, i1)));
+  }
+
+  @Test public void testAddIfAbsent()
+  {
+    OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+    OWLClass d = dataFactory.getOWLClass(IRI.create(NAMESPACE + "D"));
+    OWLAxiom asserted = dataFactory.getOWLSubClassOfAxiom(c, d);
+    OWLAxiom inferred = dataFactory.getOWLSubClassOfAxiom(d, c);
+    OWLAxiomStore inferredStore = store.createOWLAxiomStore();
+
+    store.add(asserted);
+
+    assertFalse(inferredStore.addIfAbsent(asserted, store));
+    assertTrue(inferredStore.addIfAbsent(inferred, store));
+    assertFalse(inferredStore.addIfAbsent(inferred, store));
+    assertEquals(1, inferredStore.size());
+    assertFalse(store.contains(inferred));
+  }
+
+  @Test public void testInferredAxiomsDoNotGrowDictionary()
+  {
+    OWLNamedIndividual i1 = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i1"));
+    OWLNamedIndividual i2 = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i2"));
+    OWLDataProperty d = dataFactory.getOWLDataProperty(IRI.create(NAMESPACE + "d"));
+    OWLAxiom asserted = dataFactory.getOWLDataPropertyAssertionAxiom(d, i1, 23);
+    OWLAxiom inferredLiteral = dataFactory.getOWLDataPropertyAssertionAxiom(d, i1, 24);
+    OWLAxiom inferredIndividual = dataFactory.getOWLDataPropertyAssertionAxiom(d, i2, 23);
+    OWLAxiomStore inferredStore = store.createOWLAxiomStore();
+
+    store.add(asserted);
+    int dictionarySize = dictionary.size();
+
+    assertFalse(inferredStore.addIfAbsent(asserted, store));
+    assertTrue(inferredStore.addIfAbsent(inferredLiteral, store));
+    assertTrue(inferredStore.addIfAbsent(inferredIndividual, store));
+    assertFalse(inferredStore.addIfAbsent(dataFactory.getOWLDataPropertyAssertionAxiom(d, i1, 24), store));
+
+    assertEquals(dictionarySize, dictionary.size());
+    assertEquals(2, inferredStore.size());
+    assertTrue(inferredStore.contains(dataFactory.getOWLDataPropertyAssertionAxiom(d, i2, 23)));
+    assertFalse(inferredStore.contains(dataFactory.getOWLDataPropertyAssertionAxiom(d, i2, 24)));
+    assertFalse(store.contains(inferredLiteral));
+  }
+
+  @Test public void testInferredAxiomAssertedLater()
+  {
+    OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+    OWLNamedIndividual i = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i"));
+    OWLAxiom axiom = dataFactory.getOWLClassAssertionAxiom(c, i);
+    OWLAxiomStore inferredStore = store.createOWLAxiomStore();
+
+    assertTrue(inferredStore.addIfAbsent(axiom, store));
+
+    store.add(axiom); // Assigns dictionary identifiers to the IRIs that the inferred store knows locally
+
+    assertTrue(inferredStore.contains(axiom));
+    assertFalse(inferredStore.addIfAbsent(axiom, store));
+
+    inferredStore.clear();
+
+    assertFalse(inferredStore.addIfAbsent(axiom, store));
+    assertTrue(inferredStore.isEmpty());
+  }
+
+  @Test public void testIterationAfterGrowth()
+  {
+    OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+    Set<OWLAxiom> expected = new HashSet<>();
+
+    for (int i = 0; i < 1000; i++) {
+      OWLNamedIndividual individual = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i" + i));
+      expected.add(dataFactory.getOWLClassAssertionAxiom(c, individual));
+    }
+    expected.add(dataFactory.getOWLSubClassOfAxiom(c, dataFactory.getOWLObjectComplementOf(c))); // Not encoded
+
+    store.addAll(expected);
+
+    assertEquals(expected, new HashSet<>(store));
+    assertEquals(expected.size(), store.size());
+
+    store.clear();
+
+    assertTrue(store.isEmpty());
+    assertFalse(store.iterator().hasNext());
+  }
+
+  @Test public void testRemove()
+  {
+    OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+    OWLNamedIndividual i1 = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i1"));
+    OWLAxiom encoded = dataFactory.getOWLClassAssertionAxiom(c, i1);
+    OWLAxiom unencoded = dataFactory.getOWLSubClassOfAxiom(c, dataFactory.getOWLObjectComplementOf(c));
+
+    store.add(encoded);
+    store.add(unencoded);
+
+    assertTrue(store.remove(dataFactory.getOWLClassAssertionAxiom(c, i1)));
+    assertFalse(store.remove(encoded));
+    assertFalse(store.contains(encoded));
+    assertTrue(store.remove(unencoded));
+    assertFalse(store.remove(dataFactory.getOWLDeclarationAxiom(c)));
+    assertFalse(store.remove(dataFactory.getOWLClassAssertionAxiom(c,
+      dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "unknown")))));
+    assertTrue(store.isEmpty());
+
+    assertTrue(store.add(encoded));
+    assertTrue(store.contains(encoded));
+    assertEquals(1, store.size());
+  }
+
+  @Test public void testRemoveAllAndRetainAll()
+  {
+    Set<OWLAxiom> axioms = classAssertions(1000);
+    Set<OWLAxiom> even = new HashSet<>();
+    int i = 0;
+
+    for (OWLAxiom axiom : axioms) {
+      if (i++ % 2 == 0)
+        even.add(axiom);
+    }
+
+    store.addAll(axioms);
+
+    assertTrue(store.removeAll(even));
+    assertEquals(axioms.size() - even.size(), store.size());
+    for (OWLAxiom axiom : axioms)
+      assertEquals(!even.contains(axiom), store.contains(axiom));
+
+    Set<OWLAxiom> odd = new HashSet<>(store);
+    Set<OWLAxiom> retained = new HashSet<>();
+    i = 0;
+    for (OWLAxiom axiom : odd) {
+      if (i++ % 3 == 0)
+        retained.add(axiom);
+    }
+
+    assertTrue(store.retainAll(retained));
+    assertEquals(retained, new HashSet<>(store));
+    assertEquals(retained.size(), store.size());
+
+    store.addAll(axioms); // Reuses removed slots
+
+    assertEquals(axioms, new HashSet<>(store));
+    assertEquals(axioms.size(), store.size());
+  }
+
+  @Test public void testIteratorRemove()
+  {
+    Set<OWLAxiom> axioms = classAssertions(200);
+    OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+    OWLAxiom unencoded = dataFactory.getOWLSubClassOfAxiom(c, dataFactory.getOWLObjectComplementOf(c));
+    Set<OWLAxiom> seen = new HashSet<>();
+
+    axioms.add(unencoded);
+    store.addAll(axioms);
+
+    Iterator<OWLAxiom> iterator = store.iterator();
+    while (iterator.hasNext()) {
+      OWLAxiom axiom = iterator.next();
+      assertTrue(seen.add(axiom));
+      iterator.remove();
+      assertFalse(store.contains(axiom));
+    }
+
+    assertEquals(axioms, seen);
+    assertTrue(store.isEmpty());
+  }
+
+  @Test(expected = IllegalStateException.class) public void testIteratorRemoveBeforeNext()
+  {
+    store.add(dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"))));
+    store.iterator().remove();
+  }
+
+  @Test public void testRepeatedAddAndRemove()
+  {
+    OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+
+    // Removed slots must not fill the table, or a lookup of an absent key would never terminate
+    for (int i = 0; i < 10000; i++) {
+      OWLAxiom axiom = dataFactory
+        .getOWLClassAssertionAxiom(c, dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i" + i)));
+      assertTrue(store.add(axiom));
+      assertTrue(store.remove(axiom));
+    }
+
+    assertTrue(store.isEmpty());
+    assertFalse(store.contains(dataFactory
+      .getOWLClassAssertionAxiom(c, dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i0")))));
+  }
+
+  private Set<OWLAxiom> classAssertions(int count)
+  {
+    OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+    Set<OWLAxiom> axioms = new HashSet<>();
+
+    for (int i = 0; i < count; i++)
+      axioms.add(
+        dataFactory.getOWLClassAssertionAxiom(c, dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i" + i))));
+
+    return axioms;
+  }
+}
@@ -0,0 +1,95 @@
+package org.swrlapi.factory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+import org.swrlapi.core.OWLSignatureIndex;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DefaultOWLSignatureIndex
+ */
+public class DefaultOWLSignatureIndexTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+
+  private OWLOntologyManager manager;
+  private OWLDataFactory dataFactory;
+  private OWLOntology ontology;
+  private OWLSignatureIndex index;
+
+  @Before public void setUp() throws OWLOntologyCreationException
+  {
+    this.manager = OWLManager.createOWLOntologyManager();
+    this.dataFactory = manager.getOWLDataFactory();
+    this.ontology = manager.createOntology();
+    this.index = SWRLAPIFactory.createOWLSignatureIndex(ontology);
+  }
+
+  @Test public void testClassification()
+  {
+    OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+    OWLNamedIndividual i = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i"));
+
+    manager.addAxiom(ontology, dataFactory.getOWLClassAssertionAxiom(c, i));
+
+    assertTrue(index.isOWLClass(c.getIRI()));
+    assertTrue(index.isOWLNamedIndividual(i.getIRI()));
+    assertFalse(index.isOWLNamedIndividual(c.getIRI()));
+    assertFalse(index.isOWLObjectProperty(i.getIRI()));
+    assertTrue(index.isOWLClass(OWLRDFVocabulary.OWL_THING.getIRI()));
+    assertTrue(index.isOWLEntity(i.getIRI()));
+    assertFalse(index.isOWLEntity(IRI.create(NAMESPACE + "x")));
+  }
+
+  @Test public void testPunnedIRI()
+  {
+    IRI iri = IRI.create(NAMESPACE + "P");
+
+    manager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLClass(iri)));
+    manager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLNamedIndividual(iri)));
+
+    assertTrue(index.isOWLClass(iri));
+    assertTrue(index.isOWLNamedIndividual(iri));
+  }
+
+  @Test public void testUpdate()
+  {
+    OWLClass c = dataFactory.getOWLClass(IRI.create(NAMESPACE + "C"));
+    OWLNamedIndividual i = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i"));
+    OWLAxiom axiom = dataFactory.getOWLClassAssertionAxiom(c, i);
+
+    assertFalse(index.isOWLClass(c.getIRI())); // Builds the index
+
+    List<OWLOntologyChange> additions = Collections.singletonList(new AddAxiom(ontology, axiom));
+    manager.applyChanges(additions);
+    index.update(additions);
+
+    assertTrue(index.isOWLClass(c.getIRI()));
+    assertTrue(index.isOWLNamedIndividual(i.getIRI()));
+
+    List<OWLOntologyChange> removals = Collections.singletonList(new RemoveAxiom(ontology, axiom));
+    manager.applyChanges(removals);
+    index.update(removals);
+
+    assertFalse(index.isOWLClass(c.getIRI()));
+    assertFalse(index.isOWLEntity(i.getIRI()));
+  }
+}
@@ -0,0 +1,130 @@
+package org.swrlapi.factory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.bridge.SWRLBridge;
+import org.swrlapi.bridge.TargetSWRLRuleEngine;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.SQWRLQuery;
+import org.swrlapi.sqwrl.SQWRLQueryPlan;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.sqwrl.exceptions.SQWRLInvalidQueryNameException;
+import org.swrlapi.test.IntegrationTestBase;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.DataProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.DataPropertyAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Literal;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.NamedIndividual;
+
+/**
+ * @see DefaultSQWRLQueryPlan
+ */
+public class DefaultSQWRLQueryPlanTest extends IntegrationTestBase
+{
+  private static final OWLClass PERSON = Class(iri("Person"));
+  private static final OWLDataProperty HAS_AGE = DataProperty(iri("hasAge"));
+  private static final OWLNamedIndividual P1 = NamedIndividual(iri("p1"));
+  private static final OWLNamedIndividual P2 = NamedIndividual(iri("p2"));
+
+  private SWRLAPIOWLOntology swrlapiOWLOntology;
+
+  @Before public void setUp() throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(HAS_AGE), Declaration(P1), Declaration(P2),
+      ClassAssertion(PERSON, P1), ClassAssertion(PERSON, P2), DataPropertyAssertion(HAS_AGE, P1, Literal(17)),
+      DataPropertyAssertion(HAS_AGE, P2, Literal(42)));
+
+    this.swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+  }
+
+  @Test public void testSinglePhaseQuery() throws SWRLParseException, SQWRLException
+  {
+    SQWRLQuery query = swrlapiOWLOntology.createSQWRLQuery("q1",
+      "Person(?p) ^ hasAge(?p, ?a) ^ swrlb:greaterThan(?a, 17) "
+        + "-> sqwrl:select(?p) ^ sqwrl:orderBy(?p) ^ sqwrl:limit(1)");
+    SQWRLQueryPlan plan = SWRLAPIFactory.createSQWRLQueryPlan(query, swrlapiOWLOntology);
+    List<SQWRLQueryPlan.AtomPlan> atoms = plan.getPhase1Atoms();
+
+    assertEquals(3, atoms.size());
+    assertTrue(plan.getPhase2Atoms().isEmpty());
+    assertEquals(2, atoms.get(0).getEstimatedCardinality());
+    assertEquals(2, atoms.get(1).getEstimatedCardinality());
+    assertEquals(SQWRLQueryPlan.UNKNOWN_CARDINALITY, atoms.get(2).getEstimatedCardinality());
+    assertEquals(Collections.singleton("p"), atoms.get(2).getPathVariableNames());
+    assertEquals(EnumSet.of(SQWRLQueryPlan.ResultOperator.ORDER, SQWRLQueryPlan.ResultOperator.SLICE),
+      plan.getResultOperators());
+    assertFalse(plan.isProfiled());
+  }
+
+  @Test public void testCollectionQuery() throws SWRLParseException, SQWRLException
+  {
+    SQWRLQuery query = swrlapiOWLOntology.createSQWRLQuery("q1",
+      "Person(?p) ^ hasAge(?p, ?a) . sqwrl:makeBag(?s, ?a) ^ sqwrl:groupBy(?s, ?p) . sqwrl:avg(?avg, ?s) "
+        + "-> sqwrl:select(?p, ?avg)");
+    SQWRLQueryPlan plan = SWRLAPIFactory.createSQWRLQueryPlan(query, swrlapiOWLOntology);
+
+    assertEquals(3, plan.getPhase1Atoms().size());
+    assertEquals(3, plan.getPhase2Atoms().size());
+    assertEquals(4, plan.getPhase2Atoms().get(2).getPosition());
+    assertEquals(Collections.singleton("s"), plan.getCollectionGroupArguments().keySet());
+    assertEquals(EnumSet.of(SQWRLQueryPlan.ResultOperator.DISTINCT), plan.getResultOperators());
+    assertTrue(plan.toString().contains("Phase 2 atoms"));
+  }
+
+  @Test public void testProfiledPlan() throws SWRLParseException, SQWRLException
+  {
+    SQWRLQuery query = swrlapiOWLOntology.createSQWRLQuery("q1", "Person(?p) -> sqwrl:select(?p)");
+    SQWRLQueryPlan plan = SWRLAPIFactory.createSQWRLQueryPlan(query, swrlapiOWLOntology,
+      Collections.singletonMap(SQWRLQueryPlan.Stage.RUN_RULE_ENGINE, 5000000L), 2);
+
+    assertTrue(plan.isProfiled());
+    assertEquals(2, (int)plan.getActualNumberOfRows().get());
+    assertTrue(plan.toString().contains("RUN_RULE_ENGINE: 5"));
+  }
+
+  @Test(expected = SQWRLInvalidQueryNameException.class) public void testExplainMatchesQueryNamesExactly()
+    throws SWRLParseException, SQWRLException
+  {
+    DefaultSWRLRuleAndQueryEngine engine = createSWRLRuleAndQueryEngine();
+
+    swrlapiOWLOntology.createSQWRLQuery("q1", "Person(?p) -> sqwrl:select(?p)");
+
+    assertEquals("q1", engine.explain("q1").getQueryName());
+
+    engine.explain("Q1"); // Query names are matched as they are when queries are exported
+  }
+
+  private DefaultSWRLRuleAndQueryEngine createSWRLRuleAndQueryEngine()
+  {
+    SWRLBridge bridge = SWRLAPIFactory
+      .createSWRLBridge(swrlapiOWLOntology, SWRLAPIFactory.createOWL2RLPersistenceLayer(swrlapiOWLOntology
+        .getOWLOntology()));
+    TargetSWRLRuleEngine targetSWRLRuleEngine = (TargetSWRLRuleEngine)Proxy
+      .newProxyInstance(TargetSWRLRuleEngine.class.getClassLoader(), new Class<?>[] { TargetSWRLRuleEngine.class },
+        (proxy, method, args) -> {
+          throw new UnsupportedOperationException(method.getName()); // Explaining does not run the rule engine
+        });
+
+    return new DefaultSWRLRuleAndQueryEngine(swrlapiOWLOntology, targetSWRLRuleEngine, bridge, bridge);
+  }
+}
@@ -0,0 +1,86 @@
+package org.swrlapi.factory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.SWRLAPIInstrumentation;
+import org.swrlapi.core.SWRLAPIMetrics;
+import org.swrlapi.sqwrl.SQWRLResultManager;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DefaultSWRLAPIMetrics
+ */
+public class DefaultSWRLAPIMetricsTest
+{
+  private SWRLAPIMetrics metrics;
+
+  @Before public void setUp()
+  {
+    this.metrics = SWRLAPIFactory.createSWRLAPIMetrics();
+  }
+
+  @Test public void testTimer()
+  {
+    metrics.swrlBuiltInInvoked("swrlb:add", 0);
+    metrics.swrlBuiltInInvoked("swrlb:add", 3);
+    metrics.swrlBuiltInInvoked("swrlb:add", 5);
+    metrics.swrlBuiltInInvoked("swrlb:lessThan", 1);
+
+    Optional<SWRLAPIMetrics.Meter> meter = metrics.getMeter(SWRLAPIMetrics.SWRL_BUILT_IN_TIMER, "swrlb:add");
+
+    assertTrue(meter.isPresent());
+    assertEquals(3, meter.get().getCount());
+    assertEquals(8, meter.get().getTotal());
+    assertEquals(5, meter.get().getMax());
+    assertEquals(8.0 / 3, meter.get().getMean(), 1e-9);
+    assertEquals(1, meter.get().getHistogram()[0]); // 0
+    assertEquals(1, meter.get().getHistogram()[2]); // 3
+    assertEquals(1, meter.get().getHistogram()[3]); // 5
+    assertEquals(2, metrics.getMeters(SWRLAPIMetrics.SWRL_BUILT_IN_TIMER).size());
+  }
+
+  @Test public void testRuleEnginePhase()
+  {
+    metrics.ruleEnginePhaseCompleted(SWRLAPIInstrumentation.RuleEnginePhase.RUN_RULE_ENGINE, 42);
+
+    Optional<SWRLAPIMetrics.Meter> meter = metrics
+      .getMeter(SWRLAPIMetrics.RULE_ENGINE_PHASE_TIMER, SWRLAPIInstrumentation.RuleEnginePhase.RUN_RULE_ENGINE.name());
+
+    assertTrue(meter.isPresent());
+    assertEquals(SWRLAPIMetrics.PHASE_TAG, meter.get().getTagKey());
+    assertEquals(42, meter.get().getTotal());
+  }
+
+  @Test public void testSQWRLResultPreparation() throws SQWRLException
+  {
+    IRIResolver iriResolver = SWRLAPIFactory.createIRIResolver();
+    SQWRLResultManager resultManager = SWRLAPIFactory.createSQWRLResultManager(iriResolver, "q1", metrics);
+    SQWRLResultValueFactory valueFactory = SWRLAPIFactory.createSQWRLResultValueFactory(iriResolver);
+
+    resultManager.addColumn("x");
+    resultManager.configured();
+    resultManager.addRow(Collections.singletonList(valueFactory.getLiteralValue(1)));
+    resultManager.addRow(Collections.singletonList(valueFactory.getLiteralValue(2)));
+    resultManager.prepared();
+
+    assertEquals(2, metrics.getMeter(SWRLAPIMetrics.SQWRL_RESULT_ROWS, "q1").get().getTotal());
+    assertEquals(1, metrics.getMeter(SWRLAPIMetrics.SQWRL_RESULT_PREPARATION_TIMER, "q1").get().getCount());
+  }
+
+  @Test public void testReset()
+  {
+    metrics.swrlBuiltInInvoked("swrlb:add", 1);
+    metrics.reset();
+
+    assertFalse(metrics.getMeter(SWRLAPIMetrics.SWRL_BUILT_IN_TIMER, "swrlb:add").isPresent());
+    assertTrue(metrics.getMeters(SWRLAPIMetrics.SWRL_BUILT_IN_TIMER).isEmpty());
+  }
+}
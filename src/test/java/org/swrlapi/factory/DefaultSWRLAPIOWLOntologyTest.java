@@ -0,0 +1,493 @@
+package org.swrlapi.factory;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.semanticweb.owlapi.model.SWRLClassAtom;
+import org.semanticweb.owlapi.model.SWRLRule;
+import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
+import org.swrlapi.builtins.arguments.SWRLClassBuiltInArgument;
+import org.swrlapi.builtins.arguments.SWRLLiteralBuiltInArgument;
+import org.swrlapi.builtins.arguments.SWRLNamedIndividualBuiltInArgument;
+import org.swrlapi.core.SWRLAPIBuiltInAtom;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.exceptions.SWRLRuleException;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.SQWRLQuery;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.test.IntegrationTestBase;
+import org.swrlapi.test.SyntheticWorkloadGenerator;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+
+/**
+ * @see DefaultSWRLAPIOWLOntology
+ */
+public class DefaultSWRLAPIOWLOntologyTest extends IntegrationTestBase
+{
+  private static final OWLClass PERSON = Class(iri("Person"));
+  private static final OWLClass MALE = Class(iri("Male"));
+  private static final String SWRLB_EQUAL = "http://www.w3.org/2003/11/swrlb#equal";
+
+  private static final int SEQUENTIAL_CHUNK_SIZE = 32; // Below the number of rules at which conversion is parallel
+  private static final int PARALLEL_NUMBER_OF_RULES = 100; // Above the number of rules at which parsing is parallel
+
+  @Test public void testParseAfterDeclaration()
+    throws OWLOntologyCreationException, SWRLParseException, SQWRLException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(PERSON));
+    swrlapiOWLOntology.createSWRLRule("r1", "Person(?p) -> Person(?p)");
+
+    try {
+      swrlapiOWLOntology.createSWRLRule("r2", "Person(?p) -> Male(?p)");
+      fail("Male is not declared");
+    } catch (SWRLParseException e) {
+      // Expected
+    }
+
+    addOWLAxioms(ontology, Declaration(MALE)); // No rule engine model is registered to reprocess the ontology
+    SWRLAPIRule rule = swrlapiOWLOntology.createSWRLRule("r2", "Person(?p) -> Male(?p)");
+
+    assertThat(rule.getHeadAtoms().get(0), instanceOf(SWRLClassAtom.class));
+  }
+
+  @Test public void testURILiteralArgumentsAreClassifiedBySignature()
+    throws OWLOntologyCreationException, SQWRLException, SWRLRuleException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    OWLDataFactory dataFactory = ontology.getOWLOntologyManager().getOWLDataFactory();
+    OWLNamedIndividual fred = dataFactory.getOWLNamedIndividual(iri("fred"));
+    SWRLAtom builtInAtom = dataFactory.getSWRLBuiltInAtom(iri(SWRLB_EQUAL), Arrays
+      .asList(dataFactory.getSWRLLiteralArgument(uriLiteral(dataFactory, "Person")),
+        dataFactory.getSWRLLiteralArgument(uriLiteral(dataFactory, "fred")),
+        dataFactory.getSWRLLiteralArgument(uriLiteral(dataFactory, "unknown"))));
+    SWRLAtom classAtom = dataFactory.getSWRLClassAtom(PERSON, dataFactory.getSWRLVariable(iri("p")));
+
+    addOWLAxioms(ontology, Declaration(PERSON), dataFactory.getOWLDeclarationAxiom(fred),
+      dataFactory.getSWRLRule(new HashSet<>(Arrays.asList(classAtom, builtInAtom)), Collections.singleton(classAtom),
+        Collections.singleton(dataFactory.getRDFSLabel("r1"))));
+
+    SWRLAPIRule rule = SWRLAPIFactory.createSWRLAPIOntology(ontology).getSWRLRule("r1").get();
+    List<SWRLBuiltInArgument> arguments = getBuiltInAtom(rule).getBuiltInArguments();
+
+    assertThat(arguments.get(0), instanceOf(SWRLClassBuiltInArgument.class));
+    assertThat(arguments.get(1), instanceOf(SWRLNamedIndividualBuiltInArgument.class));
+    assertThat(arguments.get(2), instanceOf(SWRLLiteralBuiltInArgument.class));
+  }
+
+  @Test public void testSignatureIndexIsRebuiltAfterDispose()
+    throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+
+    assertFalse(swrlapiOWLOntology.getOWLSignatureIndex().isOWLClass(PERSON.getIRI()));
+
+    swrlapiOWLOntology.dispose();
+    addOWLAxioms(ontology, Declaration(PERSON)); // Not seen by the disposed index
+    swrlapiOWLOntology.processOntology();
+
+    assertTrue(swrlapiOWLOntology.getOWLSignatureIndex().isOWLClass(PERSON.getIRI()));
+  }
+
+  @Test public void testOntologyChangeVersion() throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology = manager.createOntology();
+    OWLOntology otherOntology = manager.createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+    long version = swrlapiOWLOntology.getOntologyChangeVersion();
+
+    addOWLAxioms(otherOntology, Declaration(MALE));
+    assertEquals(version, swrlapiOWLOntology.getOntologyChangeVersion());
+
+    addOWLAxioms(ontology, Declaration(PERSON));
+    assertFalse(version == swrlapiOWLOntology.getOntologyChangeVersion());
+
+    version = swrlapiOWLOntology.getOntologyChangeVersion();
+    swrlapiOWLOntology.dispose();
+    addOWLAxioms(ontology, Declaration(MALE));
+    assertEquals(version, swrlapiOWLOntology.getOntologyChangeVersion());
+  }
+
+  @Test public void testDisposeReleasesOntology() throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology = manager.createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+    WeakReference<SWRLAPIOWLOntology> reference = new WeakReference<>(swrlapiOWLOntology);
+
+    swrlapiOWLOntology.dispose();
+    swrlapiOWLOntology = null;
+
+    for (int attempt = 0; attempt < 10 && reference.get() != null; attempt++)
+      System.gc();
+
+    assertEquals(null, reference.get());
+    addOWLAxioms(ontology, Declaration(PERSON)); // The manager remains usable
+    assertTrue(manager.contains(ontology.getOntologyID()));
+  }
+
+  @Test public void testSequentialAndParallelConversionAgree()
+    throws OWLOntologyCreationException, SWRLParseException, SQWRLException
+  {
+    SyntheticWorkloadGenerator.Parameters parameters = new SyntheticWorkloadGenerator.Parameters()
+      .setNumberOfIndividuals(20).setNumberOfRules(80).setRuleBodyLength(3).setBuiltInsPerRule(2)
+      .setNumberOfQueries(20);
+    OWLOntology generatedOntology = new SyntheticWorkloadGenerator(parameters).createSWRLAPIOWLOntology()
+      .getOWLOntology();
+    Set<OWLAxiom> nonRuleAxioms = new HashSet<>(generatedOntology.getAxioms());
+    List<SWRLRule> ruleAxioms = new ArrayList<>(generatedOntology.getAxioms(AxiomType.SWRL_RULE));
+
+    nonRuleAxioms.removeAll(ruleAxioms);
+
+    SWRLAPIOWLOntology parallel = SWRLAPIFactory.createSWRLAPIOntology(createOntology(generatedOntology.getAxioms()));
+    Map<String, SWRLAPIRule> sequentialRules = new HashMap<>();
+    Map<String, List<Object>> sequentialQueries = new HashMap<>();
+
+    for (int start = 0; start < ruleAxioms.size(); start += SEQUENTIAL_CHUNK_SIZE) {
+      Set<OWLAxiom> axioms = new HashSet<>(nonRuleAxioms);
+      axioms.addAll(ruleAxioms.subList(start, Math.min(start + SEQUENTIAL_CHUNK_SIZE, ruleAxioms.size())));
+
+      SWRLAPIOWLOntology sequential = SWRLAPIFactory.createSWRLAPIOntology(createOntology(axioms));
+
+      for (SWRLAPIRule rule : sequential.getSWRLRules())
+        sequentialRules.put(rule.getRuleName(), rule);
+      sequentialQueries.putAll(describeSQWRLQueries(sequential));
+    }
+
+    assertTrue(ruleAxioms.size() >= 64);
+    assertEquals(ruleAxioms.size(), sequentialRules.size());
+    assertEquals(20, sequentialQueries.size());
+    assertEquals(sequentialRules, getSWRLRules(parallel));
+    assertEquals(sequentialQueries, describeSQWRLQueries(parallel));
+  }
+
+  @Test public void testCreateSWRLRulesInMapOrder()
+    throws OWLOntologyCreationException, SWRLParseException, SQWRLException
+  {
+    SWRLAPIOWLOntology swrlapiOWLOntology = createPersonOntology();
+    Map<String, String> rules = new LinkedHashMap<>();
+
+    rules.put("z", "Person(?p) -> Male(?p)");
+    rules.put("a", "Male(?p) -> Person(?p)");
+    rules.put("m", "Person(?p) ^ Male(?p) -> Person(?p)");
+
+    assertEquals(Arrays.asList("z", "a", "m"), getRuleNames(swrlapiOWLOntology.createSWRLRules(rules)));
+    assertEquals(3, swrlapiOWLOntology.getNumberOfSWRLRules());
+  }
+
+  @Test public void testCreateSWRLRulesAddsNoRuleIfAnyFailsToParse()
+    throws OWLOntologyCreationException, SQWRLException
+  {
+    SWRLAPIOWLOntology swrlapiOWLOntology = createPersonOntology();
+    Map<String, String> rules = new LinkedHashMap<>();
+
+    rules.put("r1", "Person(?p) -> Male(?p)");
+    rules.put("r2", "Person(?p) -> Female(?p)");
+    rules.put("r3", "Male(?p) -> Person(?p)");
+
+    try {
+      swrlapiOWLOntology.createSWRLRules(rules);
+      fail("Female is not declared");
+    } catch (SWRLParseException e) {
+      // Expected
+    }
+
+    assertEquals(0, swrlapiOWLOntology.getNumberOfSWRLRules());
+    assertTrue(swrlapiOWLOntology.getOWLOntology().getAxioms(AxiomType.SWRL_RULE).isEmpty());
+  }
+
+  @Test public void testCreateSWRLRulesRejectsExistingNames()
+    throws OWLOntologyCreationException, SWRLParseException, SQWRLException, SWRLRuleException
+  {
+    SWRLAPIOWLOntology swrlapiOWLOntology = createPersonOntology();
+    SWRLAPIRule existingRule = swrlapiOWLOntology.createSWRLRule("r1", "Person(?p) -> Male(?p)");
+    Map<String, String> rules = new LinkedHashMap<>();
+
+    rules.put("r2", "Male(?p) -> Person(?p)");
+    rules.put("r1", "Male(?p) -> Person(?p)");
+
+    try {
+      swrlapiOWLOntology.createSWRLRules(rules);
+      fail("r1 already exists");
+    } catch (SWRLParseException e) {
+      // Expected
+    }
+
+    assertEquals(1, swrlapiOWLOntology.getNumberOfSWRLRules());
+    assertEquals(1, swrlapiOWLOntology.getOWLOntology().getAxioms(AxiomType.SWRL_RULE).size());
+    assertEquals(existingRule, swrlapiOWLOntology.getSWRLRule("r1").get());
+    assertFalse(swrlapiOWLOntology.getSWRLRule("r2").isPresent());
+  }
+
+  @Test public void testCreateSWRLRulesInParallel()
+    throws OWLOntologyCreationException, SWRLParseException, SQWRLException
+  {
+    SWRLAPIOWLOntology swrlapiOWLOntology = createPersonOntology();
+    Map<String, String> rules = new LinkedHashMap<>();
+    List<String> ruleNames = new ArrayList<>();
+
+    for (int i = PARALLEL_NUMBER_OF_RULES; i > 0; i--) { // Names out of lexical order
+      rules.put("r" + i, i % 2 == 0 ? "Person(?p) -> Male(?p)" : "Male(?p) ^ Person(?p) -> Person(?p)");
+      ruleNames.add("r" + i);
+    }
+
+    assertEquals(ruleNames, getRuleNames(swrlapiOWLOntology.createSWRLRules(rules)));
+    assertEquals(PARALLEL_NUMBER_OF_RULES, swrlapiOWLOntology.getNumberOfSWRLRules());
+  }
+
+  @Test public void testCreateSWRLRulesInParallelAddsNoRuleIfAnyFailsToParse()
+    throws OWLOntologyCreationException, SQWRLException
+  {
+    SWRLAPIOWLOntology swrlapiOWLOntology = createPersonOntology();
+    Map<String, String> rules = new LinkedHashMap<>();
+
+    for (int i = 0; i < PARALLEL_NUMBER_OF_RULES; i++)
+      rules.put("r" + i, i == PARALLEL_NUMBER_OF_RULES / 2 ? "Person(?p) -> Female(?p)" : "Person(?p) -> Male(?p)");
+
+    try {
+      swrlapiOWLOntology.createSWRLRules(rules);
+      fail("Female is not declared");
+    } catch (SWRLParseException e) {
+      // Expected
+    }
+
+    assertEquals(0, swrlapiOWLOntology.getNumberOfSWRLRules());
+    assertTrue(swrlapiOWLOntology.getOWLOntology().getAxioms(AxiomType.SWRL_RULE).isEmpty());
+  }
+
+  @Test public void testAddOWLAxiomsAppliesOneBatchOfChanges() throws OWLOntologyCreationException, SQWRLException
+  {
+    SWRLAPIOWLOntology swrlapiOWLOntology = createPersonOntology();
+    OWLOntologyManager manager = swrlapiOWLOntology.getOWLOntology().getOWLOntologyManager();
+    OWLDataFactory dataFactory = manager.getOWLDataFactory();
+    OWLNamedIndividual fred = dataFactory.getOWLNamedIndividual(iri("fred"));
+    OWLAxiom personAssertion = dataFactory.getOWLClassAssertionAxiom(PERSON, fred);
+    OWLAxiom maleAssertion = dataFactory.getOWLClassAssertionAxiom(MALE, fred);
+    List<Integer> batchSizes = new ArrayList<>();
+
+    manager.addOntologyChangeListener(changes -> batchSizes.add(changes.size()));
+    swrlapiOWLOntology.addOWLAxioms(Arrays.asList(Declaration(PERSON), personAssertion, maleAssertion));
+
+    assertEquals(Collections.singletonList(2), batchSizes); // The asserted declaration is not written again
+    assertTrue(swrlapiOWLOntology.getOWLOntology().containsAxiom(maleAssertion));
+    assertTrue(swrlapiOWLOntology.getAssertedOWLAxiomStore().contains(personAssertion));
+    assertTrue(swrlapiOWLOntology.getAssertedOWLAxiomStore().contains(maleAssertion));
+    assertTrue(swrlapiOWLOntology.getAssertedOWLAxiomStore().contains(dataFactory.getOWLDeclarationAxiom(fred)));
+    assertEquals(1, swrlapiOWLOntology.getNumberOfOWLIndividualDeclarationAxioms());
+  }
+
+  @Test public void testAddOWLAxiomsWithNoNewAxiomsAppliesNoChanges()
+    throws OWLOntologyCreationException, SQWRLException
+  {
+    SWRLAPIOWLOntology swrlapiOWLOntology = createPersonOntology();
+    OWLOntologyManager manager = swrlapiOWLOntology.getOWLOntology().getOWLOntologyManager();
+    List<Integer> batchSizes = new ArrayList<>();
+
+    manager.addOntologyChangeListener(changes -> batchSizes.add(changes.size()));
+    swrlapiOWLOntology.addOWLAxioms(Arrays.asList(Declaration(PERSON), Declaration(MALE)));
+
+    assertTrue(batchSizes.isEmpty());
+  }
+
+  @Test public void testAddOWLAxiomsWithRulesReprocessesRules() throws OWLOntologyCreationException, SQWRLException
+  {
+    SWRLAPIOWLOntology swrlapiOWLOntology = createPersonOntology();
+    OWLOntologyManager manager = swrlapiOWLOntology.getOWLOntology().getOWLOntologyManager();
+    OWLDataFactory dataFactory = manager.getOWLDataFactory();
+    SWRLAtom personAtom = dataFactory.getSWRLClassAtom(PERSON, dataFactory.getSWRLVariable(iri("p")));
+    SWRLAtom maleAtom = dataFactory.getSWRLClassAtom(MALE, dataFactory.getSWRLVariable(iri("p")));
+    SWRLRule rule = dataFactory.getSWRLRule(Collections.singleton(maleAtom), Collections.singleton(personAtom),
+      Collections.singleton(dataFactory.getRDFSLabel("r1")));
+    List<Integer> batchSizes = new ArrayList<>();
+
+    manager.addOntologyChangeListener(changes -> batchSizes.add(changes.size()));
+    swrlapiOWLOntology.addOWLAxioms(Arrays.asList(rule, dataFactory.getOWLSubClassOfAxiom(MALE, PERSON)));
+
+    assertEquals(Collections.singletonList(2), batchSizes);
+    assertEquals(1, swrlapiOWLOntology.getNumberOfSWRLRules());
+    assertTrue(getSWRLRules(swrlapiOWLOntology).containsKey("r1"));
+  }
+
+  @Test public void testImportedAxiomsAreAsserted() throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+    OWLDataFactory dataFactory = manager.getOWLDataFactory();
+    OWLOntology importedOntology = manager.createOntology(IRI.create("http://example.org/imported"));
+    OWLOntology ontology = manager.createOntology();
+    OWLNamedIndividual fred = dataFactory.getOWLNamedIndividual(iri("fred"));
+    OWLAxiom classAssertion = dataFactory.getOWLClassAssertionAxiom(PERSON, fred);
+
+    addOWLAxioms(importedOntology, Declaration(PERSON), classAssertion);
+    manager.applyChange(new AddImport(ontology, dataFactory.getOWLImportsDeclaration(importedOntology.getOntologyID()
+      .getOntologyIRI().get())));
+
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+
+    assertTrue(swrlapiOWLOntology.getAssertedOWLAxiomStore().contains(Declaration(PERSON)));
+    assertTrue(swrlapiOWLOntology.getAssertedOWLAxiomStore().contains(classAssertion));
+    assertEquals(1, swrlapiOWLOntology.getNumberOfOWLClassDeclarationAxioms());
+  }
+
+  @Test public void testAllRecordedAxiomTypesAreAsserted() throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    OWLDataFactory dataFactory = ontology.getOWLOntologyManager().getOWLDataFactory();
+    OWLNamedIndividual fred = dataFactory.getOWLNamedIndividual(iri("fred"));
+    OWLNamedIndividual joe = dataFactory.getOWLNamedIndividual(iri("joe"));
+    OWLObjectProperty p = dataFactory.getOWLObjectProperty(iri("p"));
+    OWLObjectProperty q = dataFactory.getOWLObjectProperty(iri("q"));
+    OWLDataProperty d = dataFactory.getOWLDataProperty(iri("d"));
+    OWLDataProperty e = dataFactory.getOWLDataProperty(iri("e"));
+    List<OWLAxiom> axioms = Arrays.asList(dataFactory.getOWLClassAssertionAxiom(PERSON, fred),
+      dataFactory.getOWLObjectPropertyAssertionAxiom(p, fred, joe),
+      dataFactory.getOWLDataPropertyAssertionAxiom(d, fred, 23), dataFactory.getOWLSameIndividualAxiom(fred, joe),
+      dataFactory.getOWLDifferentIndividualsAxiom(fred, joe), dataFactory.getOWLSubClassOfAxiom(MALE, PERSON),
+      dataFactory.getOWLEquivalentClassesAxiom(MALE, PERSON), dataFactory.getOWLSubObjectPropertyOfAxiom(p, q),
+      dataFactory.getOWLSubDataPropertyOfAxiom(d, e), dataFactory.getOWLEquivalentObjectPropertiesAxiom(p, q),
+      dataFactory.getOWLEquivalentDataPropertiesAxiom(d, e), dataFactory.getOWLTransitiveObjectPropertyAxiom(p),
+      dataFactory.getOWLSymmetricObjectPropertyAxiom(p), dataFactory.getOWLFunctionalObjectPropertyAxiom(p),
+      dataFactory.getOWLInverseFunctionalObjectPropertyAxiom(p), dataFactory.getOWLFunctionalDataPropertyAxiom(d),
+      dataFactory.getOWLObjectPropertyDomainAxiom(p, PERSON), dataFactory.getOWLDataPropertyDomainAxiom(d, PERSON),
+      dataFactory.getOWLObjectPropertyRangeAxiom(p, PERSON),
+      dataFactory.getOWLDataPropertyRangeAxiom(d, dataFactory.getIntegerOWLDatatype()),
+      dataFactory.getOWLInverseObjectPropertiesAxiom(p, q), dataFactory.getOWLIrreflexiveObjectPropertyAxiom(p),
+      dataFactory.getOWLAsymmetricObjectPropertyAxiom(p), dataFactory.getOWLDisjointObjectPropertiesAxiom(p, q),
+      dataFactory.getOWLDisjointDataPropertiesAxiom(d, e));
+    Set<AxiomType<?>> axiomTypes = new HashSet<>();
+
+    for (OWLAxiom axiom : axioms)
+      axiomTypes.add(axiom.getAxiomType());
+    assertEquals(DefaultSWRLAPIOWLOntology.RECORDED_OWL_AXIOM_TYPES, axiomTypes);
+
+    addOWLAxioms(ontology, axioms.toArray(new OWLAxiom[axioms.size()]));
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+
+    for (OWLAxiom axiom : axioms)
+      assertTrue(axiom.toString(), swrlapiOWLOntology.getAssertedOWLAxiomStore().contains(axiom));
+  }
+
+  @Test public void testDeclarationsAreRecordedBeforeOtherAxioms() throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+    OWLDataFactory dataFactory = manager.getOWLDataFactory();
+    OWLOntology importedOntology = manager.createOntology(IRI.create("http://example.org/imported"));
+    OWLOntology ontology = manager.createOntology();
+    OWLNamedIndividual fred = dataFactory.getOWLNamedIndividual(iri("fred"));
+    OWLAxiom generatedDeclaration = dataFactory.getOWLDeclarationAxiom(fred);
+    OWLAxiom annotatedDeclaration = dataFactory
+      .getOWLDeclarationAxiom(fred, Collections.singleton(dataFactory.getRDFSComment("asserted")));
+
+    assertNotEquals(generatedDeclaration, annotatedDeclaration);
+
+    // The class assertion may be walked before the declaration in the imported ontology
+    addOWLAxioms(ontology, Declaration(PERSON), dataFactory.getOWLClassAssertionAxiom(PERSON, fred));
+    addOWLAxioms(importedOntology, annotatedDeclaration);
+    manager.applyChange(new AddImport(ontology, dataFactory.getOWLImportsDeclaration(importedOntology.getOntologyID()
+      .getOntologyIRI().get())));
+
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+
+    assertTrue(swrlapiOWLOntology.getAssertedOWLAxiomStore().contains(annotatedDeclaration));
+    assertFalse(swrlapiOWLOntology.getAssertedOWLAxiomStore().contains(generatedDeclaration));
+    assertEquals(1, swrlapiOWLOntology.getNumberOfOWLIndividualDeclarationAxioms());
+  }
+
+  private SWRLAPIOWLOntology createPersonOntology() throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(MALE));
+
+    return SWRLAPIFactory.createSWRLAPIOntology(ontology);
+  }
+
+  private static List<String> getRuleNames(List<SWRLAPIRule> rules)
+  {
+    List<String> ruleNames = new ArrayList<>();
+
+    for (SWRLAPIRule rule : rules)
+      ruleNames.add(rule.getRuleName());
+
+    return ruleNames;
+  }
+
+  private static SWRLAPIBuiltInAtom getBuiltInAtom(SWRLAPIRule rule)
+  {
+    for (SWRLAtom atom : rule.getBodyAtoms()) {
+      if (atom instanceof SWRLAPIBuiltInAtom)
+        return (SWRLAPIBuiltInAtom)atom;
+    }
+    throw new AssertionError("no built-in atom in rule " + rule.getRuleName());
+  }
+
+  private static OWLLiteral uriLiteral(OWLDataFactory dataFactory, String iri)
+  {
+    return dataFactory.getOWLLiteral(iri, XSD_ANY_URI);
+  }
+
+  private static OWLOntology createOntology(Set<OWLAxiom> axioms) throws OWLOntologyCreationException
+  {
+    return OWLManager.createOWLOntologyManager().createOntology(axioms);
+  }
+
+  private static Map<String, SWRLAPIRule> getSWRLRules(SWRLAPIOWLOntology swrlapiOWLOntology)
+  {
+    Map<String, SWRLAPIRule> rules = new HashMap<>();
+
+    for (SWRLAPIRule rule : swrlapiOWLOntology.getSWRLRules())
+      rules.put(rule.getRuleName(), rule);
+
+    return rules;
+  }
+
+  private static Map<String, List<Object>> describeSQWRLQueries(SWRLAPIOWLOntology swrlapiOWLOntology)
+  {
+    Map<String, List<Object>> queries = new HashMap<>();
+
+    for (SQWRLQuery query : swrlapiOWLOntology.getSQWRLQueries())
+      queries.put(query.getQueryName(),
+        Arrays.asList(query.getBodyAtoms(), query.getHeadAtoms(), query.getSQWRLPhase1BodyAtoms(),
+          query.getSQWRLPhase2BodyAtoms(), query.getCollectionGroupArguments(), query.isActive(),
+          query.getComment()));
+
+    return queries;
+  }
+}
@@ -0,0 +1,111 @@
+package org.swrlapi.factory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DefaultSWRLAutoCompleter
+ */
+public class DefaultSWRLAutoCompleterTest
+{
+  private OWLOntologyManager manager;
+  private OWLDataFactory dataFactory;
+  private OWLOntology ontology;
+  private SWRLAPIOWLOntology swrlapiOWLOntology;
+  private DefaultSWRLAutoCompleter autoCompleter;
+
+  @Before public void setUp() throws OWLOntologyCreationException
+  {
+    this.manager = OWLManager.createOWLOntologyManager();
+    this.dataFactory = manager.getOWLDataFactory();
+    this.ontology = manager.createOntology();
+
+    this.swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+    this.autoCompleter = new DefaultSWRLAutoCompleter(swrlapiOWLOntology);
+  }
+
+  @Test public void testCompletionsInLexicographicOrder()
+  {
+    for (String className : Arrays.asList("Person", "Pet", "Persona", "Male", "Per"))
+      manager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLClass(IRI.create(className))));
+
+    assertEquals(Arrays.asList("Per", "Person", "Persona", "Pet"), autoCompleter.getCompletions("Pe"));
+    assertEquals(Arrays.asList("Person", "Persona"), autoCompleter.getCompletions("Pers"));
+    assertEquals(Arrays.asList("Per", "Person"), autoCompleter.getCompletions("Pe", 2));
+    assertEquals(Collections.singletonList("Male"), autoCompleter.getCompletions("Male"));
+    assertTrue(autoCompleter.getCompletions("Pex").isEmpty());
+    assertTrue(autoCompleter.getCompletions("Personal").isEmpty());
+    assertTrue(autoCompleter.getCompletions("sameAs").contains("sameAs"));
+  }
+
+  @Test public void testUpdate()
+  {
+    OWLAxiom personDeclaration = dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLClass(IRI.create("Person")));
+    OWLAxiom personaDeclaration = dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLClass(IRI.create("Persona")));
+
+    manager.addAxiom(ontology, personDeclaration);
+    assertEquals(Collections.singletonList("Person"), autoCompleter.getCompletions("Pers"));
+
+    applyChanges(new AddAxiom(ontology, personaDeclaration));
+    assertEquals(Arrays.asList("Person", "Persona"), autoCompleter.getCompletions("Pers"));
+
+    applyChanges(new RemoveAxiom(ontology, personDeclaration));
+    assertEquals(Collections.singletonList("Persona"), autoCompleter.getCompletions("Pers"));
+
+    applyChanges(new RemoveAxiom(ontology, personaDeclaration));
+    assertTrue(autoCompleter.getCompletions("Pers").isEmpty());
+  }
+
+  @Test public void testCompletionsFollowPrefixChanges()
+  {
+    manager.addAxiom(ontology,
+      dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLClass(IRI.create("http://example.org#Person"))));
+
+    assertTrue(autoCompleter.getCompletions("ex:").isEmpty());
+    assertEquals(1, getCompletionsEndingWith("Person").size()); // Rendered with an autogenerated prefix
+
+    swrlapiOWLOntology.getIRIResolver().setPrefix("ex:", "http://example.org#");
+
+    assertEquals(Collections.singletonList("ex:Person"), autoCompleter.getCompletions("ex:"));
+    assertEquals(Collections.singletonList("ex:Person"), getCompletionsEndingWith("Person"));
+  }
+
+  private List<String> getCompletionsEndingWith(String suffix)
+  {
+    List<String> completions = new ArrayList<>();
+
+    for (String completion : autoCompleter.getCompletions("")) {
+      if (completion.endsWith(suffix))
+        completions.add(completion);
+    }
+
+    return completions;
+  }
+
+  private void applyChanges(OWLOntologyChange change)
+  {
+    List<OWLOntologyChange> changes = Collections.singletonList(change);
+
+    manager.applyChanges(changes);
+    autoCompleter.update(changes);
+  }
+}
@@ -0,0 +1,167 @@
+package org.swrlapi.factory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.swrlapi.bridge.SWRLBridge;
+import org.swrlapi.builtins.temporal.ValidPeriodIndex;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLRuleStatistics;
+import org.swrlapi.exceptions.SWRLBuiltInBridgeException;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.exceptions.SWRLRuleEngineBridgeException;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DefaultSWRLBridge
+ */
+public class DefaultSWRLBridgeTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+
+  private OWLOntologyManager manager;
+  private OWLOntology ontology;
+  private OWLDataFactory dataFactory;
+  private SWRLAPIOWLOntology swrlapiOWLOntology;
+  private SWRLBridge bridge;
+  private OWLNamedIndividual i;
+
+  @Before public void setUp() throws OWLOntologyCreationException, SQWRLException, SWRLBuiltInBridgeException
+  {
+    this.manager = OWLManager.createOWLOntologyManager();
+    this.ontology = manager.createOntology();
+
+    this.dataFactory = manager.getOWLDataFactory();
+    this.i = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "i"));
+    manager.addAxiom(ontology, classAssertion("A"));
+
+    this.swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+    this.bridge = SWRLAPIFactory
+      .createSWRLBridge(swrlapiOWLOntology, SWRLAPIFactory.createOWL2RLPersistenceLayer(ontology));
+  }
+
+  @Test public void testInferredOWLAxiomsAreCountedOnce() throws SWRLRuleEngineBridgeException
+  {
+    bridge.inferOWLAxiom(classAssertion("A")); // Asserted
+    bridge.inferOWLAxiom(classAssertion("B"));
+    bridge.inferOWLAxiom(classAssertion("B"));
+    bridge.inferOWLAxiom(classAssertion("C"));
+
+    assertEquals(2, bridge.getNumberOfInferredOWLAxioms());
+  }
+
+  @Test public void testSWRLBuiltInInvocations() throws SWRLBuiltInException
+  {
+    invokeLessThan("r1", 1, 2);
+    invokeLessThan("r1", 2, 1);
+    invokeLessThan("r2", 1, 2);
+
+    List<SWRLRuleStatistics> statistics = bridge.getSWRLRuleStatistics();
+
+    assertEquals(2, statistics.size());
+    assertTrue(statistics.get(0).getSWRLBuiltInTimeNanos() >= statistics.get(1).getSWRLBuiltInTimeNanos());
+    assertEquals(2, getRuleStatistics("r1").getNumberOfSWRLBuiltInInvocations());
+    assertEquals(1, getRuleStatistics("r2").getNumberOfSWRLBuiltInInvocations());
+    assertTrue(getRuleStatistics("r1").getSWRLBuiltInTimeNanos() > 0);
+  }
+
+  @Test public void testStatisticsCanBeSortedWhileBuiltInsAreInvoked() throws Throwable
+  {
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    Thread ruleEngine = new Thread(() -> {
+      try {
+        for (int invocation = 0; running.get(); invocation++)
+          invokeLessThan("r" + invocation % 50, invocation, 1);
+      } catch (SWRLBuiltInException e) {
+        failure.set(e);
+      }
+    });
+
+    ruleEngine.start();
+    try {
+      for (int request = 0; request < 1000; request++) {
+        List<SWRLRuleStatistics> statistics = bridge.getSWRLRuleStatistics();
+
+        for (int i = 1; i < statistics.size(); i++)
+          assertTrue(statistics.get(i - 1).getSWRLBuiltInTimeNanos() >= statistics.get(i).getSWRLBuiltInTimeNanos());
+      }
+    } finally {
+      running.set(false);
+      ruleEngine.join();
+    }
+    if (failure.get() != null)
+      throw failure.get();
+  }
+
+  @Test public void testResetClearsStatistics() throws SWRLBuiltInException
+  {
+    invokeLessThan("r1", 1, 2);
+    bridge.reset();
+
+    assertEquals(Collections.emptyList(), bridge.getSWRLRuleStatistics());
+  }
+
+  @Test public void testValidPeriodIndexIsRebuiltAfterOntologyChange()
+  {
+    OWLDataProperty hasTime = dataFactory
+      .getOWLDataProperty(IRI.create("http://swrl.stanford.edu/ontologies/built-ins/3.3/temporal.owl#hasTime"));
+    ValidPeriodIndex index = bridge.getValidPeriodIndex();
+
+    assertSame(index, bridge.getValidPeriodIndex());
+    assertEquals(0, index.size());
+
+    manager.addAxiom(ontology, dataFactory.getOWLDataPropertyAssertionAxiom(hasTime, i, "2000-01-01T01:00:00.000"));
+
+    assertEquals(1, bridge.getValidPeriodIndex().size());
+  }
+
+  @Test public void testBridgeIsNotRetainedByOntologyManager() throws SWRLBuiltInBridgeException
+  {
+    WeakReference<SWRLBridge> reference = new WeakReference<>(
+      SWRLAPIFactory.createSWRLBridge(swrlapiOWLOntology, SWRLAPIFactory.createOWL2RLPersistenceLayer(ontology)));
+
+    for (int attempt = 0; attempt < 10 && reference.get() != null; attempt++)
+      System.gc();
+
+    assertNull(reference.get());
+  }
+
+  private void invokeLessThan(String ruleName, int first, int second) throws SWRLBuiltInException
+  {
+    SWRLBuiltInArgumentFactory argumentFactory = bridge.getSWRLBuiltInArgumentFactory();
+
+    bridge.invokeSWRLBuiltIn(ruleName, "swrlb:lessThan", 0, false, Arrays
+      .asList(argumentFactory.getLiteralBuiltInArgument(first), argumentFactory.getLiteralBuiltInArgument(second)));
+  }
+
+  private SWRLRuleStatistics getRuleStatistics(String ruleName)
+  {
+    return bridge.getSWRLRuleStatistics().stream().filter(s -> s.getRuleName().equals(ruleName)).findFirst().get();
+  }
+
+  private OWLAxiom classAssertion(String className)
+  {
+    return dataFactory.getOWLClassAssertionAxiom(dataFactory.getOWLClass(IRI.create(NAMESPACE + className)), i);
+  }
+}
@@ -0,0 +1,123 @@
+package org.swrlapi.factory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.semanticweb.owlapi.model.SWRLRule;
+import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.SWRLRuleRenderer;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @see DefaultSWRLRuleAndQueryRenderer
+ */
+public class DefaultSWRLRuleAndQueryRendererTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+
+  private OWLOntologyManager manager;
+  private OWLDataFactory dataFactory;
+  private OWLOntology ontology;
+  private IRIResolver iriResolver;
+
+  @Before public void setUp() throws OWLOntologyCreationException
+  {
+    this.manager = OWLManager.createOWLOntologyManager();
+    this.dataFactory = manager.getOWLDataFactory();
+    this.ontology = manager.createOntology();
+    this.iriResolver = SWRLAPIFactory.createIRIResolver();
+
+    iriResolver.setPrefix(":", NAMESPACE);
+  }
+
+  @Test public void testRenderingsAreReused()
+  {
+    SWRLRuleRenderer renderer = SWRLAPIFactory.createSWRLRuleRenderer(ontology, iriResolver);
+    String rendering = renderer.renderSWRLRule(rule("A", "B"));
+
+    assertEquals("A(?x) -> B(?x)", rendering);
+    assertSame(rendering, renderer.renderSWRLRule(rule("A", "B"))); // Structurally equal rules share a rendering
+    assertNotEquals(rendering, renderer.renderSWRLRule(rule("A", "C")));
+  }
+
+  @Test public void testRenderingsAreKeptWhenPrefixesAreUnchanged()
+  {
+    SWRLRuleRenderer renderer = SWRLAPIFactory.createSWRLRuleRenderer(ontology, iriResolver);
+    String rendering = renderer.renderSWRLRule(rule("A", "B"));
+
+    iriResolver.setPrefix(":", NAMESPACE);
+    iriResolver.updatePrefixes(ontology);
+    iriResolver.updatePrefixes(ontology);
+
+    assertSame(renderer.renderSWRLRule(rule("A", "B")), renderer.renderSWRLRule(rule("A", "B")));
+    assertEquals(rendering, renderer.renderSWRLRule(rule("A", "B")));
+  }
+
+  @Test public void testPrefixChangeInvalidatesRenderings()
+  {
+    SWRLRuleRenderer renderer = SWRLAPIFactory.createSWRLRuleRenderer(ontology, iriResolver);
+    String rendering = renderer.renderSWRLRule(rule("A", "B"));
+
+    iriResolver.setPrefix("ex:", NAMESPACE);
+    iriResolver.setPrefix(":", "http://example.org/other#");
+
+    String renderingAfterChange = renderer.renderSWRLRule(rule("A", "B"));
+
+    assertNotSame(rendering, renderingAfterChange);
+    assertEquals("ex:A(?x) -> ex:B(?x)", renderingAfterChange);
+  }
+
+  @Test public void testDeclaringAVariableAsAnEntityInvalidatesRendering()
+  {
+    SWRLRuleRenderer renderer = SWRLAPIFactory.createSWRLRuleRenderer(ontology, iriResolver);
+
+    assertEquals("A(?x) -> B(?x)", renderer.renderSWRLRule(rule("A", "B")));
+
+    manager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLNamedIndividual(iri("x"))));
+
+    assertEquals("A(x) -> B(x)", renderer.renderSWRLRule(rule("A", "B")));
+  }
+
+  @Test public void testDeclaringAVariableAsAnEntityInvalidatesIndexedRendering()
+  {
+    SWRLRuleRenderer renderer = SWRLAPIFactory
+      .createSWRLRuleRenderer(ontology, iriResolver, SWRLAPIFactory.createOWLSignatureIndex(ontology));
+
+    assertEquals("A(?x) -> B(?x)", renderer.renderSWRLRule(rule("A", "B")));
+
+    manager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(dataFactory.getOWLNamedIndividual(iri("x"))));
+
+    assertEquals("A(x) -> B(x)", renderer.renderSWRLRule(rule("A", "B")));
+  }
+
+  private SWRLRule rule(String bodyClassName, String headClassName)
+  {
+    SWRLAtom bodyAtom = dataFactory.getSWRLClassAtom(owlClass(bodyClassName), dataFactory.getSWRLVariable(iri("x")));
+    SWRLAtom headAtom = dataFactory.getSWRLClassAtom(owlClass(headClassName), dataFactory.getSWRLVariable(iri("x")));
+
+    return dataFactory.getSWRLRule(Collections.singleton(bodyAtom), Collections.singleton(headAtom));
+  }
+
+  private OWLClass owlClass(String name)
+  {
+    return dataFactory.getOWLClass(iri(name));
+  }
+
+  private static IRI iri(String name)
+  {
+    return IRI.create(NAMESPACE + name);
+  }
+}
@@ -0,0 +1,81 @@
+package org.swrlapi.factory;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.core.SWRLRuleChanges;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see DefaultSWRLRuleChanges
+ */
+public class DefaultSWRLRuleChangesTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+
+  private final OWLDataFactory dataFactory = OWLManager.getOWLDataFactory();
+
+  @Test public void testAddedModifiedAndRemovedRules()
+  {
+    Map<String, SWRLAPIRule> previous = rules(rule("kept", "A", "B"), rule("modified", "A", "B"),
+      rule("removed", "A", "B"));
+    Map<String, SWRLAPIRule> current = rules(rule("kept", "A", "B"), rule("modified", "A", "C"),
+      rule("added", "A", "B"));
+    SWRLRuleChanges changes = SWRLAPIFactory.createSWRLRuleChanges(previous, current, false);
+
+    assertEquals(Collections.singletonMap("added", current.get("added")), changes.getAddedSWRLRules());
+    assertEquals(Collections.singletonMap("modified", current.get("modified")), changes.getModifiedSWRLRules());
+    assertEquals(Collections.singleton("removed"), changes.getRemovedSWRLRuleNames());
+    assertFalse(changes.isEmpty());
+  }
+
+  @Test public void testUnchangedRules()
+  {
+    SWRLRuleChanges changes = SWRLAPIFactory
+      .createSWRLRuleChanges(rules(rule("r1", "A", "B")), rules(rule("r1", "A", "B")), false);
+
+    assertTrue(changes.isEmpty());
+  }
+
+  @Test public void testAllRulesModifiedWhenPrefixesChanged()
+  {
+    Map<String, SWRLAPIRule> previous = rules(rule("kept", "A", "B"), rule("removed", "A", "B"));
+    Map<String, SWRLAPIRule> current = rules(rule("kept", "A", "B"), rule("added", "A", "B"));
+    SWRLRuleChanges changes = SWRLAPIFactory.createSWRLRuleChanges(previous, current, true);
+
+    assertEquals(Collections.singletonMap("added", current.get("added")), changes.getAddedSWRLRules());
+    assertEquals(Collections.singletonMap("kept", current.get("kept")), changes.getModifiedSWRLRules());
+    assertEquals(Collections.singleton("removed"), changes.getRemovedSWRLRuleNames());
+  }
+
+  private SWRLAPIRule rule(String ruleName, String bodyClassName, String headClassName)
+  {
+    SWRLAtom bodyAtom = dataFactory.getSWRLClassAtom(dataFactory.getOWLClass(IRI.create(NAMESPACE + bodyClassName)),
+      dataFactory.getSWRLVariable(IRI.create(NAMESPACE + "x")));
+    SWRLAtom headAtom = dataFactory.getSWRLClassAtom(dataFactory.getOWLClass(IRI.create(NAMESPACE + headClassName)),
+      dataFactory.getSWRLVariable(IRI.create(NAMESPACE + "x")));
+
+    return SWRLAPIFactory.createSWRLAPIRule(ruleName, Collections.singletonList(bodyAtom),
+      Collections.singletonList(headAtom), "", true);
+  }
+
+  private static Map<String, SWRLAPIRule> rules(SWRLAPIRule... swrlapiRules)
+  {
+    Map<String, SWRLAPIRule> rules = new HashMap<>();
+
+    for (SWRLAPIRule rule : swrlapiRules)
+      rules.put(rule.getRuleName(), rule);
+
+    return rules;
+  }
+}
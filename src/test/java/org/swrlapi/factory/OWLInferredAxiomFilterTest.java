@@ -0,0 +1,141 @@
+package org.swrlapi.factory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see OWLInferredAxiomFilter
+ */
+public class OWLInferredAxiomFilterTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+
+  private OWLDataFactory dataFactory;
+  private OWLClass a;
+  private OWLClass b;
+  private OWLClass c;
+  private OWLClass d;
+
+  @Before public void setUp()
+  {
+    this.dataFactory = OWLManager.getOWLDataFactory();
+    this.a = owlClass("A");
+    this.b = owlClass("B");
+    this.c = owlClass("C");
+    this.d = owlClass("D");
+  }
+
+  @Test public void testTrivialSubClassAxiomsAreFiltered()
+  {
+    OWLInferredAxiomFilter filter = filter();
+
+    assertTrue(isFiltered(filter, dataFactory.getOWLSubClassOfAxiom(a, a)));
+    assertTrue(isFiltered(filter, dataFactory.getOWLSubClassOfAxiom(a, dataFactory.getOWLThing())));
+    assertTrue(isFiltered(filter, dataFactory.getOWLSubClassOfAxiom(dataFactory.getOWLNothing(), a)));
+    assertFalse(isFiltered(filter, dataFactory.getOWLSubClassOfAxiom(a, b)));
+  }
+
+  @Test public void testSubClassAxiomWithIntermediateClassIsFiltered()
+  {
+    OWLAxiom axiom = dataFactory.getOWLSubClassOfAxiom(a, c);
+    OWLInferredAxiomFilter filter = filter(dataFactory.getOWLSubClassOfAxiom(a, b),
+      dataFactory.getOWLSubClassOfAxiom(b, c), axiom);
+
+    assertTrue(isFiltered(filter, axiom));
+    assertFalse(isFiltered(filter, dataFactory.getOWLSubClassOfAxiom(a, b)));
+    assertFalse(isFiltered(filter, dataFactory.getOWLSubClassOfAxiom(b, c)));
+  }
+
+  @Test public void testOnlyDirectIntermediatesAreConsidered()
+  {
+    OWLInferredAxiomFilter filter = filter(dataFactory.getOWLSubClassOfAxiom(a, b),
+      dataFactory.getOWLSubClassOfAxiom(b, c), dataFactory.getOWLSubClassOfAxiom(c, d));
+
+    assertFalse(isFiltered(filter, dataFactory.getOWLSubClassOfAxiom(a, d)));
+  }
+
+  @Test public void testTopBottomAndEndpointsAreNotIntermediates()
+  {
+    OWLInferredAxiomFilter filter = filter(dataFactory.getOWLSubClassOfAxiom(a, dataFactory.getOWLThing()),
+      dataFactory.getOWLSubClassOfAxiom(dataFactory.getOWLThing(), c),
+      dataFactory.getOWLSubClassOfAxiom(dataFactory.getOWLNothing(), c), dataFactory.getOWLSubClassOfAxiom(a, a),
+      dataFactory.getOWLSubClassOfAxiom(c, c), dataFactory.getOWLSubClassOfAxiom(a, c));
+
+    assertFalse(isFiltered(filter, dataFactory.getOWLSubClassOfAxiom(a, c)));
+  }
+
+  @Test public void testSubObjectPropertyAxiomWithIntermediatePropertyIsFiltered()
+  {
+    OWLObjectProperty p = dataFactory.getOWLObjectProperty(iri("p"));
+    OWLObjectProperty q = dataFactory.getOWLObjectProperty(iri("q"));
+    OWLObjectProperty r = dataFactory.getOWLObjectProperty(iri("r"));
+    OWLInferredAxiomFilter filter = filter(dataFactory.getOWLSubObjectPropertyOfAxiom(p, q),
+      dataFactory.getOWLSubObjectPropertyOfAxiom(q, r));
+
+    assertTrue(isFiltered(filter, dataFactory.getOWLSubObjectPropertyOfAxiom(p, r)));
+    assertTrue(
+      isFiltered(filter, dataFactory.getOWLSubObjectPropertyOfAxiom(p, dataFactory.getOWLTopObjectProperty())));
+    assertFalse(isFiltered(filter, dataFactory.getOWLSubObjectPropertyOfAxiom(p, q)));
+    assertFalse(isFiltered(filter, dataFactory.getOWLSubObjectPropertyOfAxiom(r, p)));
+  }
+
+  @Test public void testSubDataPropertyAxiomWithIntermediatePropertyIsFiltered()
+  {
+    OWLDataProperty p = dataFactory.getOWLDataProperty(iri("p"));
+    OWLDataProperty q = dataFactory.getOWLDataProperty(iri("q"));
+    OWLDataProperty r = dataFactory.getOWLDataProperty(iri("r"));
+    OWLInferredAxiomFilter filter = filter(dataFactory.getOWLSubDataPropertyOfAxiom(p, q),
+      dataFactory.getOWLSubDataPropertyOfAxiom(q, r));
+
+    assertTrue(isFiltered(filter, dataFactory.getOWLSubDataPropertyOfAxiom(p, r)));
+    assertTrue(isFiltered(filter, dataFactory.getOWLSubDataPropertyOfAxiom(dataFactory.getOWLBottomDataProperty(), p)));
+    assertFalse(isFiltered(filter, dataFactory.getOWLSubDataPropertyOfAxiom(p, q)));
+  }
+
+  @Test public void testHierarchiesAreIndexedSeparately()
+  {
+    OWLObjectProperty p = dataFactory.getOWLObjectProperty(iri("A"));
+    OWLObjectProperty q = dataFactory.getOWLObjectProperty(iri("B"));
+    OWLObjectProperty r = dataFactory.getOWLObjectProperty(iri("C"));
+    OWLInferredAxiomFilter filter = filter(dataFactory.getOWLSubObjectPropertyOfAxiom(p, q),
+      dataFactory.getOWLSubObjectPropertyOfAxiom(q, r));
+
+    assertFalse(isFiltered(filter, dataFactory.getOWLSubClassOfAxiom(a, c))); // Same IRIs as the properties
+  }
+
+  private OWLInferredAxiomFilter filter(OWLAxiom... axioms)
+  {
+    Set<OWLAxiom> axiomSet = new HashSet<>(Arrays.asList(axioms));
+
+    return new OWLInferredAxiomFilter(axiomSet);
+  }
+
+  private static boolean isFiltered(OWLInferredAxiomFilter filter, OWLAxiom axiom)
+  {
+    return axiom.accept(filter);
+  }
+
+  private OWLClass owlClass(String name)
+  {
+    return dataFactory.getOWLClass(iri(name));
+  }
+
+  private static IRI iri(String name)
+  {
+    return IRI.create(NAMESPACE + name);
+  }
+}
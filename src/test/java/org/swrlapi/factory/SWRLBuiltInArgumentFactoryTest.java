@@ -6,12 +6,24 @@ import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.swrlapi.builtins.arguments.SWRLClassBuiltInArgument;
+import org.swrlapi.builtins.arguments.SWRLLiteralBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLObjectDictionary;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 /**
  * @see SWRLBuiltInArgumentFactory
@@ -22,6 +34,7 @@ public class SWRLBuiltInArgumentFactoryTest
   private static final String TestNamespace = "http://example.org#";
 
   private IRIResolver iriResolver;
+  private OWLObjectDictionary dictionary;
   private SWRLBuiltInArgumentFactory builtInArgumentFactory;
   private OWLDataFactory dataFactory;
 
@@ -30,7 +43,8 @@ public class SWRLBuiltInArgumentFactoryTest
     OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
     dataFactory = ontologyManager.getOWLDataFactory();
     iriResolver = SWRLAPIFactory.createIRIResolver();
-    builtInArgumentFactory = SWRLAPIFactory.createSWRLBuiltInArgumentFactory(iriResolver);
+    dictionary = SWRLAPIFactory.createOWLObjectDictionary();
+    builtInArgumentFactory = SWRLAPIFactory.createSWRLBuiltInArgumentFactory(iriResolver, dictionary);
 
     iriResolver.setPrefix(TestPrefix, TestNamespace);
   }
@@ -43,4 +57,78 @@ public class SWRLBuiltInArgumentFactoryTest
 
     assertEquals(classIRI, classBuiltInArgument.getIRI());
   }
+
+  @Test public void testGetID()
+  {
+    OWLClass cls1 = this.dataFactory.getOWLClass(IRI.create(TestNamespace + "AClass"));
+    OWLClass cls2 = this.dataFactory.getOWLClass(IRI.create(TestNamespace + "AnotherClass"));
+    int classID = this.builtInArgumentFactory.getClassBuiltInArgument(cls1).getID();
+    int literalID = this.builtInArgumentFactory.getLiteralBuiltInArgument(23).getID();
+
+    assertNotEquals(OWLObjectDictionary.UNKNOWN_ID, classID);
+    assertEquals(this.dictionary.lookUpID(cls1.getIRI()), classID);
+    assertEquals(classID, this.builtInArgumentFactory.getClassBuiltInArgument(cls1).getID());
+    assertNotEquals(classID, this.builtInArgumentFactory.getClassBuiltInArgument(cls2).getID());
+
+    assertNotEquals(OWLObjectDictionary.UNKNOWN_ID, literalID);
+    assertEquals(this.dictionary.lookUpID(this.dataFactory.getOWLLiteral(23)), literalID);
+    assertEquals(literalID, this.builtInArgumentFactory.getLiteralBuiltInArgument(23).getID());
+    assertNotEquals(literalID, this.builtInArgumentFactory.getLiteralBuiltInArgument(24).getID());
+  }
+
+  @Test public void testGetIDAfterDeserialization() throws IOException, ClassNotFoundException
+  {
+    OWLClass cls = this.dataFactory.getOWLClass(IRI.create(TestNamespace + "AClass"));
+    SWRLClassBuiltInArgument classBuiltInArgument = this.builtInArgumentFactory.getClassBuiltInArgument(cls);
+    SWRLLiteralBuiltInArgument literalBuiltInArgument = this.builtInArgumentFactory.getLiteralBuiltInArgument(23);
+
+    classBuiltInArgument.getID();
+    literalBuiltInArgument.getID();
+
+    SWRLClassBuiltInArgument deserializedClassBuiltInArgument = roundTrip(classBuiltInArgument);
+    SWRLLiteralBuiltInArgument deserializedLiteralBuiltInArgument = roundTrip(literalBuiltInArgument);
+
+    assertEquals(classBuiltInArgument, deserializedClassBuiltInArgument);
+    assertEquals(OWLObjectDictionary.UNKNOWN_ID, deserializedClassBuiltInArgument.getID());
+    assertEquals(literalBuiltInArgument, deserializedLiteralBuiltInArgument);
+    assertEquals(OWLObjectDictionary.UNKNOWN_ID, deserializedLiteralBuiltInArgument.getID());
+  }
+
+  @Test public void testIDsAreStableAcrossProcessing() throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology = ontologyManager.createOntology();
+    OWLClass cls1 = this.dataFactory.getOWLClass(IRI.create(TestNamespace + "AClass"));
+    OWLClass cls2 = this.dataFactory.getOWLClass(IRI.create(TestNamespace + "AnotherClass"));
+
+    ontologyManager.addAxiom(ontology, this.dataFactory.getOWLDeclarationAxiom(cls1));
+
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+    SWRLBuiltInArgumentFactory factory = swrlapiOWLOntology.getSWRLAPIOWLDataFactory()
+      .getSWRLBuiltInArgumentFactory();
+    int classID = factory.getClassBuiltInArgument(cls1).getID();
+    int literalID = factory.getLiteralBuiltInArgument("a literal").getID();
+
+    assertEquals(swrlapiOWLOntology.getOWLObjectDictionary().lookUpID(cls1.getIRI()), classID);
+
+    ontologyManager.addAxiom(ontology, this.dataFactory.getOWLDeclarationAxiom(cls2));
+    swrlapiOWLOntology.processOntology();
+
+    assertEquals(classID, factory.getClassBuiltInArgument(cls1).getID());
+    assertEquals(literalID, factory.getLiteralBuiltInArgument("a literal").getID());
+    assertEquals(classID, swrlapiOWLOntology.getOWLObjectDictionary().lookUpID(cls1.getIRI()));
+    assertNotEquals(classID, factory.getClassBuiltInArgument(cls2).getID());
+  }
+
+  @SuppressWarnings("unchecked") private static <T> T roundTrip(T object) throws IOException, ClassNotFoundException
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (T)in.readObject();
+    }
+  }
 }
@@ -738,4 +738,49 @@ public class SWRLParserTest extends IntegrationTestBase
 
     swrlapiOWLOntology.createSWRLRule("r1", "Person(?p) ^ hasID(?p, \"p7ID\") -> hasFirstName(?p, \"Angela\")");
   }
+
+  @Test public void TestInteractiveParseOfEditedRule() throws OWLOntologyCreationException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(HAS_ID), Declaration(HAS_FIRST_NAME));
+
+    SWRLParser incrementalParser = swrlapiOWLOntology.createSWRLParser();
+    String ruleText = "Person(?p) ^ hasID(?p, \"p7ID\") -> hasFirstName(?p, \"Angela\")";
+    String[] editedRuleTexts = { "Person(?p) ^ hasID(?x, \"p7ID\") -> hasFirstName(?p, \"Angela\")",
+      "Person(?p) ^ hasID(?p, \"p7ID\") ^ ^ -> hasFirstName(?p, \"Angela\")",
+      "Person(?p) ^ hasID(?p, \"p7ID\") -> hasFirstName(?q, \"Angela\")", "Person(?p) ^ hasID(?p, 3.",
+      "Person(?p) ^ hasID(?p, 3.5)", "Person(?p) ^ hasIDs(?p, 3.5)", "Person(?p) ^ - > Person(?p)" };
+
+    for (int i = 0; i <= ruleText.length(); i++) // Typed a character at a time
+      assertInteractiveParseResult(swrlapiOWLOntology.createSWRLParser(), incrementalParser, ruleText.substring(0, i));
+    for (int i = ruleText.length(); i >= 0; i--) // Deleted a character at a time
+      assertInteractiveParseResult(swrlapiOWLOntology.createSWRLParser(), incrementalParser, ruleText.substring(0, i));
+    for (String editedRuleText : editedRuleTexts) {
+      assertInteractiveParseResult(swrlapiOWLOntology.createSWRLParser(), incrementalParser, editedRuleText);
+      assertInteractiveParseResult(swrlapiOWLOntology.createSWRLParser(), incrementalParser, ruleText);
+    }
+  }
+
+  private void assertInteractiveParseResult(SWRLParser parser, SWRLParser incrementalParser, String ruleText)
+  {
+    String expected, actual;
+
+    try {
+      parser.parseSWRLRule(ruleText, true, "", "");
+      expected = "ok";
+    } catch (SWRLParseException e) {
+      expected = e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    try {
+      incrementalParser.parseSWRLRuleInteractively(ruleText);
+      actual = "ok";
+    } catch (SWRLParseException e) {
+      actual = e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    assertEquals(ruleText, expected, actual);
+  }
 }
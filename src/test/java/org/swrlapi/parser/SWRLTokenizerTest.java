@@ -0,0 +1,180 @@
+package org.swrlapi.parser;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see SWRLTokenizer
+ */
+public class SWRLTokenizerTest
+{
+  @Test public void TestQuotedString() throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer("\"Fred\" \"\"", false);
+
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.STRING, "Fred");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.STRING, "");
+    assertFalse(tokenizer.hasMoreTokens());
+  }
+
+  @Test public void TestQuotedStringWithEscapes() throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer("\"a\\\"b\\\\c\\td\\101\" ^", false);
+
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.STRING, "a\"b\\c\tdA");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.AND, "^");
+    assertFalse(tokenizer.hasMoreTokens());
+  }
+
+  @Test public void TestNumbers() throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer("34 -34 3.5 -3.5", false);
+
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.INT, "34");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.INT, "-34");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.FLOAT, "3.5");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.FLOAT, "-3.5");
+    assertFalse(tokenizer.hasMoreTokens());
+  }
+
+  @Test public void TestMinusIsImplicationOrSign() throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer("Person(?p) -> Male(-1)", false);
+
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.SHORTNAME, "Person");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.LPAREN, "(");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.QUESTION, "?");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.SHORTNAME, "p");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.RPAREN, ")");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.IMP, "->");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.SHORTNAME, "Male");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.LPAREN, "(");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.INT, "-1");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.RPAREN, ")");
+    assertFalse(tokenizer.hasMoreTokens());
+  }
+
+  @Test public void TestMinusWithoutNumber()
+  {
+    assertParseException("- x", false);
+    assertIncompleteRuleException("-");
+  }
+
+  @Test public void TestIncompleteFloat()
+  {
+    assertParseException("3. x", false);
+    assertIncompleteRuleException("3.");
+  }
+
+  @Test public void TestTypedLiteral() throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer("\"34\"^^xsd:int ^ \"x\"", false);
+
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.STRING, "34");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.TYPE_QUAL, "^^");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.SHORTNAME, "xsd:int");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.AND, "^");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.STRING, "x");
+    assertFalse(tokenizer.hasMoreTokens());
+  }
+
+  @Test public void TestVariables() throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer("?x, ? y", false);
+
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.QUESTION, "?");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.SHORTNAME, "x");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.COMMA, ",");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.QUESTION, "?");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.SHORTNAME, "y");
+    assertFalse(tokenizer.hasMoreTokens());
+
+    tokenizer.addVariable("x");
+    assertTrue(tokenizer.hasVariable("x"));
+
+    tokenizer.reset("?x", false);
+    assertFalse(tokenizer.hasVariable("x"));
+  }
+
+  @Test public void TestPrefixedNamesAndIRIs() throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer("swrlb:add :Person has_part-of <urn:example/a#b>", false);
+
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.SHORTNAME, "swrlb:add");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.SHORTNAME, ":Person");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.SHORTNAME, "has_part-of");
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.IRI, "urn:example/a#b");
+    assertFalse(tokenizer.hasMoreTokens());
+  }
+
+  @Test public void TestUnterminatedString()
+  {
+    assertParseException("hasName(?p, \"Fred", false);
+    assertIncompleteRuleException("hasName(?p, \"Fred");
+    assertIncompleteRuleException("hasName(?p, \"Fred\\\"");
+  }
+
+  @Test public void TestStringUnterminatedAtEndOfLine()
+  {
+    assertParseException("hasName(?p, \"Fred\n\") ->", false);
+    assertParseException("hasName(?p, \"Fred\n\") ->", true);
+  }
+
+  @Test public void TestReset() throws SWRLParseException
+  {
+    String longValue = String.join(" ", Collections.nCopies(20, "long"));
+    SWRLTokenizer tokenizer = new SWRLTokenizer("\"" + longValue + "\"", false);
+
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.STRING, longValue); // Longer than the initial buffer
+
+    tokenizer.reset("short", true);
+
+    assertTrue(tokenizer.isInteractiveParseOnly());
+    assertToken(tokenizer, SWRLToken.SWRLTokenType.SHORTNAME, "short");
+    assertFalse(tokenizer.hasMoreTokens());
+  }
+
+  private void assertToken(SWRLTokenizer tokenizer, SWRLToken.SWRLTokenType tokenType, String value)
+    throws SWRLParseException
+  {
+    SWRLToken token = tokenizer.getToken("Expecting " + tokenType.getName());
+
+    assertEquals(tokenType, token.getTokenType());
+    assertEquals(value, token.getValue());
+  }
+
+  private void assertParseException(String input, boolean interactiveParseOnly)
+  {
+    try {
+      skipAllTokens(new SWRLTokenizer(input, interactiveParseOnly));
+      fail("Expecting a parse exception for " + input);
+    } catch (SWRLParseException e) {
+      assertThat(e, not(instanceOf(SWRLIncompleteRuleException.class)));
+    }
+  }
+
+  private void assertIncompleteRuleException(String input)
+  {
+    try {
+      skipAllTokens(new SWRLTokenizer(input, true));
+      fail("Expecting an incomplete rule exception for " + input);
+    } catch (SWRLParseException e) {
+      assertThat(e, instanceOf(SWRLIncompleteRuleException.class));
+    }
+  }
+
+  private void skipAllTokens(SWRLTokenizer tokenizer) throws SWRLParseException
+  {
+    while (tokenizer.hasMoreTokens())
+      tokenizer.skipToken();
+  }
+}
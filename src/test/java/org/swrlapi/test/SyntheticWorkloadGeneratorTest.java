@@ -0,0 +1,53 @@
+package org.swrlapi.test;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see SyntheticWorkloadGenerator
+ */
+public class SyntheticWorkloadGeneratorTest
+{
+  @Test public void testWorkloadIsDeterministic() throws OWLOntologyCreationException
+  {
+    SyntheticWorkloadGenerator.Parameters parameters = new SyntheticWorkloadGenerator.Parameters()
+      .setNumberOfIndividuals(50).setNumberOfRules(10).setNumberOfQueries(8);
+    SyntheticWorkloadGenerator generator1 = new SyntheticWorkloadGenerator(parameters);
+    SyntheticWorkloadGenerator generator2 = new SyntheticWorkloadGenerator(parameters);
+
+    assertEquals(generator1.createOntology().getAxioms(), generator2.createOntology().getAxioms());
+    assertEquals(generator1.createSWRLRules(), generator2.createSWRLRules());
+    assertEquals(generator1.createSQWRLQueries(), generator2.createSQWRLQueries());
+  }
+
+  @Test public void testOntologySize() throws OWLOntologyCreationException
+  {
+    SyntheticWorkloadGenerator generator = new SyntheticWorkloadGenerator(
+      new SyntheticWorkloadGenerator.Parameters().setNumberOfClasses(5).setNumberOfIndividuals(20)
+        .setObjectPropertyFanOut(0).setDataPropertyFanOut(0));
+    OWLOntology ontology = generator.createOntology();
+
+    assertEquals(generator.getNumberOfAxioms(), ontology.getAxiomCount());
+    assertEquals(5, ontology.getClassesInSignature().size());
+    assertEquals(20, ontology.getIndividualsInSignature().size());
+  }
+
+  @Test public void testRulesAndQueriesParse()
+    throws OWLOntologyCreationException, SWRLParseException, SQWRLException
+  {
+    SyntheticWorkloadGenerator.Parameters parameters = new SyntheticWorkloadGenerator.Parameters()
+      .setNumberOfIndividuals(50).setNumberOfRules(20).setRuleBodyLength(3).setBuiltInsPerRule(2)
+      .setNumberOfQueries(8);
+    SWRLAPIOWLOntology swrlapiOWLOntology = new SyntheticWorkloadGenerator(parameters).createSWRLAPIOWLOntology();
+
+    assertEquals(8, swrlapiOWLOntology.getSQWRLQueryNames().size());
+    assertTrue(swrlapiOWLOntology.getNumberOfSWRLRules() >= 20);
+  }
+}
@@ -0,0 +1,303 @@
+package org.swrlapi.ui.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.core.SWRLRuleEngine;
+import org.swrlapi.core.SWRLRuleRenderer;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.ui.view.SWRLAPIView;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see SWRLRulesAndSQWRLQueriesTableModel
+ */
+public class SWRLRulesAndSQWRLQueriesTableModelTest
+{
+  private static final String NAMESPACE = "http://example.org#";
+
+  private OWLDataFactory dataFactory;
+  private SWRLAPIOWLOntology swrlapiOWLOntology;
+  private Map<String, SWRLAPIRule> engineRules; // The rules the engine reports, keyed by name
+  private SWRLRulesAndSQWRLQueriesTableModel tableModel;
+  private List<String> events;
+  private Set<Boolean> renderedOnEventDispatchThread; // Whether each rendering was on the event dispatch thread
+
+  @Before public void setUp() throws OWLOntologyCreationException, SQWRLException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+
+    this.dataFactory = ontology.getOWLOntologyManager().getOWLDataFactory();
+    for (String className : Arrays.asList("A", "B", "C"))
+      ontology.getOWLOntologyManager().addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(owlClass(className)));
+
+    this.swrlapiOWLOntology = SWRLAPIFactory.createSWRLAPIOntology(ontology);
+    this.engineRules = new HashMap<>();
+    this.tableModel = new SWRLRulesAndSQWRLQueriesTableModel(createSWRLRuleEngine());
+    this.events = new ArrayList<>();
+    this.renderedOnEventDispatchThread = ConcurrentHashMap.newKeySet();
+    this.tableModel.addTableModelListener(e -> events.add(describe(e)));
+  }
+
+  @Test public void testInitialRowsAreOrderedByName() throws InterruptedException, InvocationTargetException
+  {
+    setEngineRules(rule("c", "A", "B"), rule("a", "A", "B"), rule("b", "A", "B"));
+    setView();
+
+    assertEquals(Arrays.asList("a", "b", "c"), getRowNames());
+    assertEquals(Collections.singletonList("insert 0-2"), events);
+  }
+
+  @Test public void testUpdateRuleModelsMergesRows() throws InterruptedException, InvocationTargetException
+  {
+    setEngineRules(rule("a", "A", "B"), rule("c", "A", "B"), rule("d", "A", "B"));
+    setView();
+    events.clear();
+
+    setEngineRules(rule("a", "A", "C"), rule("b", "A", "B"), rule("d", "A", "B"));
+    update(tableModel::updateView);
+
+    assertEquals(Arrays.asList("a", "b", "d"), getRowNames());
+    assertEquals(Arrays.asList("update 0-0", "insert 1-1", "delete 2-2"), events);
+  }
+
+  @Test public void testUpdateModelAppliesRuleChanges() throws InterruptedException, InvocationTargetException
+  {
+    setEngineRules(rule("a", "A", "B"), rule("c", "A", "B"), rule("d", "A", "B"));
+    setView();
+    events.clear();
+
+    Map<String, SWRLAPIRule> previous = new HashMap<>(engineRules);
+    setEngineRules(rule("a", "A", "C"), rule("b", "A", "B"), rule("d", "A", "B"));
+    update(() -> tableModel.updateModel(SWRLAPIFactory.createSWRLRuleChanges(previous, engineRules, false)));
+
+    assertEquals(Arrays.asList("a", "b", "d"), getRowNames());
+    assertEquals(Arrays.asList("delete 1-1", "insert 1-1", "update 0-0"), events);
+    assertEquals(render(engineRules.get("a")), tableModel.getSWRLRuleTextByIndex(0));
+  }
+
+  @Test public void testUpdatesPreserveActiveFlag() throws InterruptedException, InvocationTargetException
+  {
+    setEngineRules(rule("a", "A", "B"), rule("b", "A", "B"));
+    setView();
+    update(() -> tableModel.setValueAt(false, 0, SWRLRulesAndSQWRLQueriesTableModel.ACTIVE_COLUMN));
+
+    Map<String, SWRLAPIRule> previous = new HashMap<>(engineRules);
+    setEngineRules(rule("a", "A", "C"), rule("b", "A", "C"));
+    update(() -> tableModel.updateModel(SWRLAPIFactory.createSWRLRuleChanges(previous, engineRules, false)));
+
+    assertEquals(render(engineRules.get("a")), tableModel.getSWRLRuleTextByIndex(0));
+    assertFalse((Boolean)tableModel.getValueAt(0, SWRLRulesAndSQWRLQueriesTableModel.ACTIVE_COLUMN));
+    assertTrue((Boolean)tableModel.getValueAt(1, SWRLRulesAndSQWRLQueriesTableModel.ACTIVE_COLUMN));
+
+    setEngineRules(rule("a", "B", "C"), rule("b", "A", "C"));
+    update(tableModel::updateView);
+
+    assertEquals(render(engineRules.get("a")), tableModel.getSWRLRuleTextByIndex(0));
+    assertFalse((Boolean)tableModel.getValueAt(0, SWRLRulesAndSQWRLQueriesTableModel.ACTIVE_COLUMN));
+  }
+
+  @Test public void testPrefixChangeUpdatesAllRows() throws InterruptedException, InvocationTargetException
+  {
+    setEngineRules(rule("a", "A", "B"), rule("b", "A", "C"));
+    setView();
+    events.clear();
+
+    String previousText = tableModel.getSWRLRuleTextByIndex(0);
+    swrlapiOWLOntology.getIRIResolver().setPrefix("ex:", NAMESPACE);
+    update(() -> tableModel.updateModel(SWRLAPIFactory.createSWRLRuleChanges(engineRules, engineRules, true)));
+
+    assertEquals(new HashSet<>(Arrays.asList("update 0-0", "update 1-1")), new HashSet<>(events));
+    assertFalse(previousText.equals(tableModel.getSWRLRuleTextByIndex(0)));
+    assertTrue(tableModel.getSWRLRuleTextByIndex(0).contains("ex:A"));
+    assertTrue(tableModel.getSWRLRuleTextByIndex(1).contains("ex:C"));
+  }
+
+  @Test public void testRulesAreRenderedOffTheEventDispatchThread()
+    throws InterruptedException, InvocationTargetException
+  {
+    setEngineRules(rule("a", "A", "B"), rule("b", "A", "C"));
+    setView();
+
+    assertEquals(Collections.singleton(false), renderedOnEventDispatchThread);
+  }
+
+  @Test public void testUpdatesAreAppliedInOrder() throws InterruptedException, InvocationTargetException
+  {
+    setEngineRules(rule("a", "A", "B"), rule("b", "A", "B"));
+    setView();
+
+    update(() -> {
+      setEngineRules(rule("a", "A", "B"), rule("b", "A", "B"), rule("c", "A", "B"));
+      tableModel.updateView();
+
+      Map<String, SWRLAPIRule> previous = new HashMap<>(engineRules);
+      setEngineRules(rule("a", "A", "B"), rule("c", "A", "C"));
+      tableModel.updateModel(SWRLAPIFactory.createSWRLRuleChanges(previous, engineRules, false));
+    });
+
+    assertEquals(Arrays.asList("a", "c"), getRowNames());
+    assertEquals(render(engineRules.get("c")), tableModel.getSWRLRuleTextByIndex(1));
+  }
+
+  @Test public void testRenderingsForAReplacedEngineAreDiscarded()
+    throws InterruptedException, InvocationTargetException
+  {
+    setEngineRules(rule("a", "A", "B"));
+    setView();
+    events.clear();
+
+    update(() -> {
+      tableModel.updateView(); // Rendering the rules of the engine that is then replaced
+      setEngineRules(rule("b", "A", "B"));
+      tableModel.updateModel(createSWRLRuleEngine());
+    });
+
+    assertEquals(Collections.singletonList("b"), getRowNames());
+    assertEquals(Collections.singletonList("insert 0-0"), events);
+  }
+
+  private void setView() throws InterruptedException, InvocationTargetException
+  {
+    update(() -> tableModel.setView(new SWRLAPIView()
+    {
+      @Override public void initialize()
+      {
+      }
+
+      @Override public void update()
+      {
+      }
+    }));
+  }
+
+  /**
+   * Run an update on the event dispatch thread and wait until the rows have been updated with the rules it renders.
+   */
+  private void update(Runnable update) throws InterruptedException, InvocationTargetException
+  {
+    boolean[] hasPendingUpdates = { true };
+
+    SwingUtilities.invokeAndWait(update);
+
+    while (hasPendingUpdates[0]) {
+      SwingUtilities.invokeAndWait(() -> hasPendingUpdates[0] = tableModel.hasPendingUpdates());
+      if (hasPendingUpdates[0])
+        Thread.sleep(10);
+    }
+  }
+
+  private void setEngineRules(SWRLAPIRule... rules)
+  {
+    engineRules.clear();
+    for (SWRLAPIRule rule : rules)
+      engineRules.put(rule.getRuleName(), rule);
+  }
+
+  private List<String> getRowNames()
+  {
+    List<String> rowNames = new ArrayList<>();
+
+    for (int row = 0; row < tableModel.getRowCount(); row++)
+      rowNames.add(tableModel.getSWRLRuleNameByIndex(row));
+
+    return rowNames;
+  }
+
+  private String render(SWRLAPIRule rule)
+  {
+    return swrlapiOWLOntology.createSWRLRuleRenderer().renderSWRLRule(rule);
+  }
+
+  private SWRLAPIRule rule(String ruleName, String bodyClassName, String headClassName)
+  {
+    SWRLAtom bodyAtom = dataFactory
+      .getSWRLClassAtom(owlClass(bodyClassName), dataFactory.getSWRLVariable(IRI.create(NAMESPACE + "x")));
+    SWRLAtom headAtom = dataFactory
+      .getSWRLClassAtom(owlClass(headClassName), dataFactory.getSWRLVariable(IRI.create(NAMESPACE + "x")));
+
+    return SWRLAPIFactory
+      .createSWRLAPIRule(ruleName, Collections.singletonList(bodyAtom), Collections.singletonList(headAtom), "",
+        true);
+  }
+
+  private OWLClass owlClass(String name)
+  {
+    return dataFactory.getOWLClass(IRI.create(NAMESPACE + name));
+  }
+
+  // The table model only asks its engine for the current rules and a renderer
+  private SWRLRuleEngine createSWRLRuleEngine()
+  {
+    return (SWRLRuleEngine)Proxy
+      .newProxyInstance(SWRLRuleEngine.class.getClassLoader(), new Class<?>[] { SWRLRuleEngine.class },
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+          case "getSWRLRules":
+            return new HashSet<>(engineRules.values());
+          case "createSWRLRuleRenderer":
+            return createSWRLRuleRenderer();
+          case "toString":
+            return "SWRLRuleEngine stub";
+          default:
+            throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+
+  // Records the thread on which rules are rendered
+  private SWRLRuleRenderer createSWRLRuleRenderer()
+  {
+    SWRLRuleRenderer swrlRuleRenderer = swrlapiOWLOntology.createSWRLRuleRenderer();
+
+    return (SWRLRuleRenderer)Proxy
+      .newProxyInstance(SWRLRuleRenderer.class.getClassLoader(), new Class<?>[] { SWRLRuleRenderer.class },
+        (proxy, method, args) -> {
+          if (method.getName().equals("renderSWRLRule"))
+            renderedOnEventDispatchThread.add(SwingUtilities.isEventDispatchThread());
+          try {
+            return method.invoke(swrlRuleRenderer, args);
+          } catch (InvocationTargetException e) {
+            throw e.getCause();
+          }
+        });
+  }
+
+  private static String describe(TableModelEvent e)
+  {
+    switch (e.getType()) {
+    case TableModelEvent.INSERT:
+      return "insert " + e.getFirstRow() + "-" + e.getLastRow();
+    case TableModelEvent.DELETE:
+      return "delete " + e.getFirstRow() + "-" + e.getLastRow();
+    default:
+      return "update " + e.getFirstRow() + "-" + e.getLastRow();
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package org.swrlapi.ui.view.queries;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.swrlapi.core.IRIResolver;
+import org.swrlapi.factory.SQWRLResultValueFactory;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.sqwrl.SQWRLResult;
+import org.swrlapi.sqwrl.SQWRLResultManager;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.sqwrl.values.SQWRLResultValue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @see SQWRLResultView
+ */
+public class SQWRLResultViewTest
+{
+  private SQWRLResultValueFactory valueFactory;
+  private SQWRLResultManager resultManager;
+
+  @Before public void setUp() throws SQWRLException
+  {
+    IRIResolver iriResolver = SWRLAPIFactory.createIRIResolver();
+
+    this.valueFactory = SWRLAPIFactory.createSQWRLResultValueFactory(iriResolver);
+    this.resultManager = SWRLAPIFactory.createSQWRLResultManager(iriResolver);
+
+    resultManager.addColumn("name");
+    resultManager.addColumn("age");
+    resultManager.configured();
+  }
+
+  @Test public void testSnapshotCopiesResult() throws SQWRLException
+  {
+    SQWRLResultValue name = valueFactory.getLiteralValue("Fred");
+    SQWRLResultValue age = valueFactory.getLiteralValue(27);
+
+    addRow(name, age);
+    resultManager.prepared();
+
+    SQWRLResultView.SQWRLResultSnapshot snapshot = new SQWRLResultView.SQWRLResultSnapshot(resultManager);
+
+    assertEquals(2, snapshot.getNumberOfColumns());
+    assertEquals(1, snapshot.getNumberOfRows());
+    assertEquals("name", snapshot.getColumnName(0));
+    assertEquals("age", snapshot.getColumnName(1));
+    assertSame(name, snapshot.getValue(0, 0));
+    assertSame(age, snapshot.getValue(1, 0));
+  }
+
+  @Test public void testSnapshotIsUnaffectedByRerun() throws SQWRLException
+  {
+    List<List<SQWRLResultValue>> rows = new ArrayList<>();
+    rows.add(Arrays.asList(valueFactory.getLiteralValue("Fred"), valueFactory.getLiteralValue(27)));
+    SQWRLResult result = createSQWRLResult(rows);
+
+    SQWRLResultView.SQWRLResultSnapshot snapshot = new SQWRLResultView.SQWRLResultSnapshot(result);
+
+    rows.clear(); // As when the query is rerun while the snapshot is being saved
+
+    assertEquals(1, snapshot.getNumberOfRows());
+    assertEquals(valueFactory.getLiteralValue("Fred"), snapshot.getValue(0, 0));
+  }
+
+  @Test public void testWriteCSV() throws SQWRLException, IOException
+  {
+    SQWRLResultValue name = valueFactory.getLiteralValue("Fred");
+    SQWRLResultValue age = valueFactory.getLiteralValue(27);
+
+    addRow(name, age);
+    resultManager.prepared();
+
+    StringWriter writer = new StringWriter();
+    int numberOfRows = SQWRLResultView
+      .writeSQWRLResult(new SQWRLResultView.SQWRLResultSnapshot(resultManager), writer, false, () -> false,
+        progress -> {
+        });
+
+    assertEquals(1, numberOfRows);
+    assertEquals("name, age\n\"" + name + "\", " + age + "\n", writer.toString());
+  }
+
+  @Test public void testWriteTSV() throws SQWRLException, IOException
+  {
+    SQWRLResultValue name = valueFactory.getLiteralValue("Fred\tJones");
+    SQWRLResultValue age = valueFactory.getLiteralValue(27);
+
+    addRow(name, age);
+    resultManager.prepared();
+
+    StringWriter writer = new StringWriter();
+    SQWRLResultView.writeSQWRLResult(new SQWRLResultView.SQWRLResultSnapshot(resultManager), writer, true, () -> false,
+      progress -> {
+      });
+
+    assertEquals("name\tage\n" + name.toString().replace('\t', ' ') + "\t" + age + "\n", writer.toString());
+  }
+
+  @Test public void testWriteStopsWhenCancelled() throws SQWRLException, IOException
+  {
+    for (int i = 0; i < 3; i++)
+      addRow(valueFactory.getLiteralValue("p" + i), valueFactory.getLiteralValue(i));
+    resultManager.prepared();
+
+    StringWriter writer = new StringWriter();
+    List<Integer> progress = new ArrayList<>();
+    int[] numberOfCancellationChecks = { 0 };
+    int numberOfRows = SQWRLResultView
+      .writeSQWRLResult(new SQWRLResultView.SQWRLResultSnapshot(resultManager), writer, false,
+        () -> ++numberOfCancellationChecks[0] > 2, progress::add);
+
+    assertEquals(2, numberOfRows);
+    assertEquals(3, writer.toString().split("\n").length); // Header and two rows
+    assertEquals(Arrays.asList(0), progress);
+  }
+
+  private void addRow(SQWRLResultValue... values) throws SQWRLException
+  {
+    resultManager.openRow();
+    for (SQWRLResultValue value : values)
+      resultManager.addCell(value);
+    resultManager.closeRow();
+  }
+
+  // A result whose rows can be replaced after it has been read, as a rerun does
+  private SQWRLResult createSQWRLResult(List<List<SQWRLResultValue>> rows)
+  {
+    return (SQWRLResult)Proxy
+      .newProxyInstance(SQWRLResult.class.getClassLoader(), new Class<?>[] { SQWRLResult.class },
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+          case "getNumberOfColumns":
+            return 2;
+          case "getNumberOfRows":
+            return rows.size();
+          case "getColumnName":
+            return (Integer)args[0] == 0 ? "name" : "age";
+          case "getValue":
+            return rows.get((Integer)args[1]).get((Integer)args[0]);
+          default:
+            throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+}